@@ -12,12 +12,14 @@ import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
 import io.ssafy.mallook.domain.product.entity.Products;
 import io.ssafy.mallook.global.common.code.ErrorCode;
 import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import io.ssafy.mallook.global.util.UuidConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -37,36 +39,32 @@ public class CartServiceImpl implements CartService {
     @Override
     @Transactional
     public void insertProductInCart(UUID memberId, CartInsertReq cartInsertReq) {
+        // 외부(Mongo) 조회는 카트 row 를 건드리기 전에 끝낸다.
         Products product = productsRepository.findById(cartInsertReq.productId())
                 .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
-        Cart memberCart = cartRepository.findMyCartByMember(new Member(memberId)).orElse(new Cart());
+        Cart cart = findOrCreateCart(memberId);
+        int count = cartInsertReq.count();
+        int price = product.getPrice();
+        int fee = Objects.requireNonNullElse(cartInsertReq.fee(), 0);
+        // NULL 은 unique key 에서 서로 다른 값으로 취급되므로 '' 로 맞춰 같은 상품끼리 합친다
+        String size = Objects.requireNonNullElse(cartInsertReq.size(), "");
+        String color = Objects.requireNonNullElse(cartInsertReq.color(), "");
 
-        // 카트 내 총계 계산 (totalFee , totalPrice)
-        var totalPrice = memberCart.getTotalPrice() == null ? cartInsertReq.count() * product.getPrice() : cartInsertReq.count() * product.getPrice() + memberCart.getTotalPrice();
-        var totalFee = memberCart.getTotalFee() == null ? cartInsertReq.fee() : memberCart.getTotalFee() + cartInsertReq.fee();
-        var totalCnt = memberCart.getTotalCount() == null ? cartInsertReq.count() : memberCart.getTotalCount() + cartInsertReq.count();
-        ;
+        // 삭제된 동일 상품 row 가 있으면 재활성화, 없으면 담긴 상품과 합치거나 새로 저장
+        int restored = cartProductRepository.restoreDeletedProduct(cart.getId(), cartInsertReq.productId(),
+                size, color, count, price, fee, product.getName(), product.getImage());
+        if (restored == 1 || cartProductRepository.upsertProduct(cart.getId(), cartInsertReq.productId(),
+                size, color, count, price, fee, product.getName(), product.getImage()) == 1) {
+            // 카트 총계 증가 (단일 UPDATE)
+            cartRepository.addTotals(cart.getId(), (long) count * price, (long) fee, (long) count);
+            return;
+        }
 
-        // 카트 저장 및 수정
-        memberCart.setTotalPrice((long) totalPrice);
-        memberCart.setTotalFee(totalFee);
-        memberCart.setTotalCount((long) totalCnt);
-        memberCart.setMember(Member.builder().id(memberId).build());
-        Cart cart = cartRepository.save(memberCart);
-
-        // cartproduct 저장
-        CartProduct cartProduct = CartProduct.builder()
-                .cart(cart)
-                .product(cartInsertReq.productId())
-                .productCount(cartInsertReq.count())
-                .productPrice(cartInsertReq.price())
-                .productName(product.getName())
-                .productImage(product.getImage())
-                .productSize(cartInsertReq.size())
-                .productColor(cartInsertReq.color())
-                .productFee(cartInsertReq.fee())
-                .build();
-        cartProductRepository.save(cartProduct);
+        // 이미 담긴 상품이면 담을 때의 가격으로 수량만큼 더한다. upsert 가 row 를 잠그고 있어 가격이 바뀌지 않는다
+        CartProduct sameProduct = cartProductRepository.findSameProductInCart(
+                        cart.getId(), cartInsertReq.productId(), size, color)
+                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
+        cartRepository.addTotals(cart.getId(), (long) count * sameProduct.getProductPrice(), 0L, (long) count);
     }
 
     @Override
@@ -75,13 +73,16 @@ public class CartServiceImpl implements CartService {
         Cart cart = cartRepository.findMyCartByMember(new Member(memberId))
                 .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
         CartProduct cartProduct = cartProductRepository.findById(cartDeleteReq.cartProductId())
+                .filter(cp -> cp.getCart().getId().equals(cart.getId()))
                 .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
-        // 총계 계산
-        cart.setTotalCount(cart.getTotalCount() - cartProduct.getProductCount());
-        cart.setTotalFee(cart.getTotalFee() - cartProduct.getProductFee());
-        cart.setTotalPrice(cart.getTotalPrice() - cartProduct.getProductPrice());
-        cartRepository.save(cart);
-        cartProductRepository.deleteCartProduct(cartDeleteReq.cartProductId());
+        // 이미 다른 요청에서 삭제된 상품이면 총계를 다시 빼지 않는다.
+        if (cartProductRepository.deleteCartProduct(cartProduct.getId()) == 0) {
+            return;
+        }
+        cartRepository.addTotals(cart.getId(),
+                -(long) cartProduct.getProductCount() * cartProduct.getProductPrice(),
+                -(long) cartProduct.getProductFee(),
+                -(long) cartProduct.getProductCount());
     }
 
     @Override
@@ -92,4 +93,15 @@ public class CartServiceImpl implements CartService {
         cartRepository.deleteMyCart(memberId);
         cartProductRepository.deleteByCart(cart.getId());
     }
+
+    // 회원당 카트는 하나(uk_cart_member)이므로 없으면 upsert 로 만든 뒤 다시 읽는다
+    private Cart findOrCreateCart(UUID memberId) {
+        Member member = new Member(memberId);
+        return cartRepository.findMyCartByMember(member)
+                .orElseGet(() -> {
+                    cartRepository.insertOrRestore(UuidConverter.toBytes(memberId));
+                    return cartRepository.findMyCartByMember(member)
+                            .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
+                });
+    }
 }
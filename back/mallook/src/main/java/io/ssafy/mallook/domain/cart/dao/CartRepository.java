@@ -37,4 +37,33 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
                     where c.member.id = :memberId
                     """)
     void deleteMyCart(@Param("memberId") UUID memberId);
+
+    // 회원의 카트를 만든다. 동시에 만들어 uk_cart_member 에 걸리거나 삭제된 카트가 있으면 그 카트를 빈 카트로 되살린다.
+    // status 를 바꾸기 전 값으로 총계를 비워야 하므로 status 는 마지막에 바꾼다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+                insert into cart (member_id, total_price, total_fee, total_count, status, created_at, updated_at)
+                values (:memberId, 0, 0, 0, true, now(), now())
+                on duplicate key update total_price = if(status, total_price, 0),
+                    total_fee = if(status, total_fee, 0),
+                    total_count = if(status, total_count, 0),
+                    updated_at = if(status, updated_at, now()),
+                    status = true
+            """, nativeQuery = true)
+    int insertOrRestore(@Param("memberId") byte[] memberId);
+
+    // 총계는 읽고-수정-쓰기 대신 단일 UPDATE 문으로 증감시켜 동시 요청에도 값이 유실되지 않도록 한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            """
+                    update Cart c
+                    set c.totalPrice = c.totalPrice + :price,
+                        c.totalFee = c.totalFee + :fee,
+                        c.totalCount = c.totalCount + :count
+                    where c.id = :cartId
+                    """)
+    int addTotals(@Param("cartId") Long cartId,
+                  @Param("price") Long price,
+                  @Param("fee") Long fee,
+                  @Param("count") Long count);
 }
@@ -19,7 +19,8 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "cart")
+@Table(name = "cart",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cart_member", columnNames = "member_id"))
 @SQLRestriction("status=TRUE")
 public class Cart extends BaseEntity {
 
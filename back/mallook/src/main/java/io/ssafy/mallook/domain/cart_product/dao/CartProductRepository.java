@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
+
 public interface CartProductRepository extends JpaRepository<CartProduct, Long> {
 
     @Query("select max(cp.id) from CartProduct cp where cp.cart = :cart")
@@ -14,20 +16,64 @@ public interface CartProductRepository extends JpaRepository<CartProduct, Long>
 
     @Query(
             """
-                    select COALESCE(sum(cp.productCount), 0)
+                    select cp
                     from CartProduct cp
-                    join cp.cart c
-                    where c.id = :cartId and cp.product = :productId
+                    where cp.cart.id = :cartId
+                        and cp.product = :productId
+                        and cp.productSize = :size
+                        and cp.productColor = :color
                     """
     )
-    Long CountSameProductInCart(@Param("cartId") Long cartId, @Param("productId") String productId);
+    Optional<CartProduct> findSameProductInCart(@Param("cartId") Long cartId,
+                                                @Param("productId") String productId,
+                                                @Param("size") String size,
+                                                @Param("color") String color);
+
+    // 같은 상품/사이즈/색상이 이미 담겨 있으면 수량만 더하고, 없으면 새로 담는다. 새로 담으면 1, 수량을 더하면 2 를 반환한다.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+                insert into cart_product (cart_id, product_id, product_count, product_price, product_fee,
+                    product_name, product_image, product_size, product_color, status, created_at, updated_at)
+                values (:cartId, :productId, :count, :price, :fee, :name, :image, :size, :color, true, now(), now())
+                on duplicate key update product_count = product_count + values(product_count), updated_at = now()
+            """, nativeQuery = true)
+    int upsertProduct(@Param("cartId") Long cartId,
+                      @Param("productId") String productId,
+                      @Param("size") String size,
+                      @Param("color") String color,
+                      @Param("count") Integer count,
+                      @Param("price") Integer price,
+                      @Param("fee") Integer fee,
+                      @Param("name") String name,
+                      @Param("image") String image);
+
+    // 삭제(status=false)된 동일 상품 row 를 재활성화한다. @SQLRestriction 을 피하기 위해 native query 를 사용한다.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+                update cart_product
+                set product_count = :count, product_price = :price, product_fee = :fee,
+                    product_name = :name, product_image = :image,
+                    status = true, updated_at = now()
+                where cart_id = :cartId and product_id = :productId
+                    and product_size = :size and product_color = :color
+                    and status = false
+            """, nativeQuery = true)
+    int restoreDeletedProduct(@Param("cartId") Long cartId,
+                              @Param("productId") String productId,
+                              @Param("size") String size,
+                              @Param("color") String color,
+                              @Param("count") Integer count,
+                              @Param("price") Integer price,
+                              @Param("fee") Integer fee,
+                              @Param("name") String name,
+                              @Param("image") String image);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
                 update CartProduct cp set cp.status = false
                 where cp.id = :cartProductId and cp.status = true
             """)
-    void deleteCartProduct(@Param("cartProductId") Long cartProductId);
+    int deleteCartProduct(@Param("cartProductId") Long cartProductId);
 
     @Query(
             """
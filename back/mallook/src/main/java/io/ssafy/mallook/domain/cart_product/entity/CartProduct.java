@@ -16,7 +16,10 @@ import org.hibernate.annotations.SQLRestriction;
 @EqualsAndHashCode(callSuper = true)
 @Entity
 @SQLRestriction("status=true")
-@Table(name = "cart_product")
+@Table(name = "cart_product",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_cart_product_line",
+                columnNames = {"cart_id", "product_id", "product_size", "product_color", "status"}))
 public class CartProduct extends BaseEntity {
 
     @Id
@@ -47,11 +50,12 @@ public class CartProduct extends BaseEntity {
     @Column(name = "product_image")
     private String productImage;
 
-    @NotBlank
+    // 사이즈/색상이 없는 상품은 '' 로 저장해야 uk_cart_product_line 으로 같은 상품끼리 합쳐진다
+    @NotNull
     @Column(name = "product_size")
     private String productSize;
 
-    @NotBlank
+    @NotNull
     @Column(name = "product_color")
     private String productColor;
 
@@ -0,0 +1,34 @@
+package io.ssafy.mallook.domain.chatgpt.prompt;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * GPT 를 쓸 수 없을 때 키워드로 스크립트 문장을 만든다.
+ * Prompt 처럼 맨 앞 키워드를 반드시 넣고 "코디가 당신에게 어울려요" 로 끝낸다.
+ */
+public class SentenceTemplate {
+
+    private static final List<String> WITH_ONE = List.of(
+            "%s 무드를 살린 코디가 당신에게 어울려요",
+            "%s 느낌이 물씬 나는 코디가 당신에게 어울려요",
+            "은은하게 %s 분위기를 더한 코디가 당신에게 어울려요");
+    private static final List<String> WITH_TWO = List.of(
+            "%s 무드에 %s 포인트를 더한 코디가 당신에게 어울려요",
+            "%s 느낌을 %s 스타일로 풀어낸 코디가 당신에게 어울려요",
+            "%s 분위기와 %s 감성이 어우러진 코디가 당신에게 어울려요");
+    private static final String WITHOUT_KEYWORD = "오늘의 기분에 맞춘 코디가 당신에게 어울려요";
+
+    public static String generate(List<String> keywords) {
+        if (keywords.isEmpty()) {
+            return WITHOUT_KEYWORD;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (keywords.size() == 1) {
+            return String.format(WITH_ONE.get(random.nextInt(WITH_ONE.size())), keywords.get(0));
+        }
+        // 맨 앞 키워드와 나머지 중 하나를 쓴다
+        String other = keywords.get(1 + random.nextInt(keywords.size() - 1));
+        return String.format(WITH_TWO.get(random.nextInt(WITH_TWO.size())), keywords.get(0), other);
+    }
+}
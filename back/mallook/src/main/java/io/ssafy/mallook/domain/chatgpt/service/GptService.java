@@ -9,12 +9,20 @@ import com.theokanning.openai.service.OpenAiService;
 import io.ssafy.mallook.domain.chatgpt.dto.request.QuestionDto;
 import io.ssafy.mallook.domain.chatgpt.dto.response.GptResponseDto;
 import io.ssafy.mallook.domain.chatgpt.prompt.Prompt;
+import io.reactivex.Flowable;
+import io.ssafy.mallook.global.common.code.ErrorCode;
 import io.ssafy.mallook.global.config.ChatGPTConfig;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -25,15 +33,17 @@ public class GptService {
     private final ObjectMapper objectMapper;
 
     public ChatCompletionResult generated(List<ChatMessage> chatMessages) {
-        ChatCompletionRequest build = ChatCompletionRequest.builder()
+        return openAiService.createChatCompletion(buildRequest(chatMessages));
+    }
+
+    private ChatCompletionRequest buildRequest(List<ChatMessage> chatMessages) {
+        return ChatCompletionRequest.builder()
                 .messages(chatMessages)
                 .model(ChatGPTConfig.MODEL)
                 .maxTokens(ChatGPTConfig.MAX_TOKEN)
                 .temperature(ChatGPTConfig.TEMPERATURE)
                 .topP(ChatGPTConfig.TOP_P)
                 .build();
-
-        return openAiService.createChatCompletion(build);
     }
 
     public List<ChatMessage> generatedQuestionAndAnswerMessage(QuestionDto questionDto) {
@@ -52,4 +62,35 @@ public class GptService {
                 .answer(gptAnswer)
                 .build();
     }
+
+    /**
+     * 스트리밍 API 로 질문하고, 받은 토큰을 도착하는 대로 onToken 에 넘긴다.
+     * 응답이 끝날 때까지 호출한 스레드에서 기다린 뒤 전체 답변을 반환한다.
+     * 토큰이 계속 오더라도 deadline 안에 답변이 끝나지 않으면 스트림을 끊고 SCRIPT_SENTENCE_TIMEOUT 을 던진다.
+     */
+    public GptResponseDto streamQuestion(QuestionDto questionDto, Duration deadline, Consumer<String> onToken) {
+        StringBuilder answer = new StringBuilder();
+        AtomicBoolean expired = new AtomicBoolean(false);
+        openAiService.streamChatCompletion(buildRequest(generatedQuestionAndAnswerMessage(questionDto)))
+                .takeUntil(Flowable.timer(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                        .doOnNext(tick -> expired.set(true)))
+                .blockingForEach(chunk -> {
+                    if (chunk.getChoices().isEmpty() || Objects.isNull(chunk.getChoices().get(0).getMessage())) {
+                        return;
+                    }
+                    String token = chunk.getChoices().get(0).getMessage().getContent();
+                    // 첫 chunk 는 role 만, 마지막 chunk 는 finish_reason 만 담겨 있다
+                    if (Objects.isNull(token) || token.isEmpty()) {
+                        return;
+                    }
+                    answer.append(token);
+                    onToken.accept(token);
+                });
+        if (expired.get()) {
+            throw new BaseExceptionHandler(ErrorCode.SCRIPT_SENTENCE_TIMEOUT);
+        }
+        return GptResponseDto.builder()
+                .answer(answer.toString())
+                .build();
+    }
 }
@@ -1,9 +1,12 @@
 package io.ssafy.mallook.domain.coupon.api;
 
 import io.ssafy.mallook.domain.coupon.application.CouponService;
+import io.ssafy.mallook.domain.coupon.application.CouponStockBroadcaster;
 import io.ssafy.mallook.domain.coupon.dto.request.CouponDeleteReq;
+import io.ssafy.mallook.domain.coupon.dto.request.CouponGrantReq;
 import io.ssafy.mallook.domain.coupon.dto.request.CouponInsertReq;
 import io.ssafy.mallook.domain.coupon.dto.request.CouponReq;
+import io.ssafy.mallook.domain.coupon.dto.response.CouponClaimStatsRes;
 import io.ssafy.mallook.domain.coupon.dto.response.CouponRes;
 import io.ssafy.mallook.domain.coupon.dto.response.MemberCouponRes;
 import io.ssafy.mallook.domain.member_coupon.application.MemberCouponService;
@@ -14,6 +17,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -21,10 +26,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Objects;
 
@@ -36,6 +43,7 @@ import java.util.Objects;
 public class CouponController {
     private final CouponService couponService;
     private final MemberCouponService memberCouponService;
+    private final CouponStockBroadcaster couponStockBroadcaster;
 
     @Operation(summary = "전체 쿠폰 리스트 조회",
             responses = {
@@ -81,7 +89,7 @@ public class CouponController {
     @Operation(summary = "선착순 쿠폰 등록",
             responses = {
                     @ApiResponse(responseCode = "200", description = "선착순 쿠폰 등록 성공"),
-                    @ApiResponse(responseCode = "404", description = "선착순 쿠폰 등록 실패")
+                    @ApiResponse(responseCode = "409", description = "쿠폰 소진 또는 중복 발급")
             })
     @PostMapping("/event")
     public ResponseEntity<BaseResponse<String>> getEventCoupon(
@@ -94,6 +102,50 @@ public class CouponController {
         );
     }
 
+    @Operation(summary = "선착순 쿠폰 재고 실시간 조회",
+            description = "재고가 바뀔 때마다 stock 이벤트로 남은 수량을 전달하고, 소진되면 연결을 종료한다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "재고 구독 성공")
+            })
+    @GetMapping(value = "/{couponId}/stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCouponStock(@PathVariable Long couponId) {
+        return couponStockBroadcaster.subscribe(couponId);
+    }
+
+    @Operation(summary = "선착순 쿠폰 발급 회원 저장소 사용량 조회",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "사용량 조회 성공"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+            })
+    @GetMapping("/{couponId}/claims/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<CouponClaimStatsRes>> getClaimStats(
+            @PathVariable Long couponId,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(10000) Integer samples) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                couponService.getClaimStats(couponId, samples)
+        );
+    }
+
+    @Operation(summary = "등급별 쿠폰 일괄 지급 요청",
+            description = "요청은 큐에 쌓이고 배치 서버가 순서대로 지급한다. 응답으로 지급 요청 id 를 반환한다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "지급 요청 성공"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 쿠폰")
+            })
+    @PostMapping("/{couponId}/grants")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<String>> requestCouponGrant(
+            @PathVariable Long couponId,
+            @Valid @NotNull @RequestBody CouponGrantReq couponGrantReq) {
+        return BaseResponse.success(
+                SuccessCode.INSERT_SUCCESS,
+                couponService.requestGrant(couponId, couponGrantReq.level())
+        );
+    }
+
     @Operation(summary = "내 쿠폰 등록",
             responses = {
                     @ApiResponse(responseCode = "200", description = "쿠폰 등록 성공"),
@@ -120,7 +172,7 @@ public class CouponController {
     public ResponseEntity<BaseResponse<String>> deleteMyCoupon(
             @AuthenticationPrincipal UserSecurityDTO userSecurityDTO,
             @Valid @NotNull @RequestBody CouponDeleteReq couponDeleteReq) {
-        memberCouponService.deleteMyCoupon(couponDeleteReq.memberCouponList());
+        memberCouponService.deleteMyCoupon(userSecurityDTO.getId(), couponDeleteReq.memberCouponList());
         return BaseResponse.success(
                 SuccessCode.DELETE_SUCCESS,
                 "쿠폰 삭제 완료"
@@ -0,0 +1,129 @@
+package io.ssafy.mallook.domain.coupon.application;
+
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponBulkRepository;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponIssueDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 선착순 쿠폰 발급 stream 을 consumer group 으로 읽어 member_coupon 에 일괄 저장한다.
+ * 저장에 성공한 메시지만 ack 하고, 실패하면 다음 주기에 pending 메시지부터 다시 처리한다.
+ * 종료된 consumer 가 ack 하지 못한 메시지는 claim-idle-ms 가 지나면 다른 consumer 가 가져와 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponIssueConsumer {
+    private final CouponRedisDao couponRedisDao;
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
+    private final MemberCouponRedisDao memberCouponRedisDao;
+
+    @Value("${coupon.issue.consumer:${HOSTNAME:coupon-worker}}")
+    private String consumerName;
+    @Value("${coupon.issue.batch-size:500}")
+    private int batchSize;
+    @Value("${coupon.issue.claim-idle-ms:60000}")
+    private long claimIdleMillis;
+
+    // 재시작 또는 저장 실패 후에는 ack 되지 않은 메시지부터 처리
+    private volatile boolean pending = true;
+    private volatile boolean groupReady = false;
+
+    @PostConstruct
+    public void init() {
+        ensureGroup();
+    }
+
+    boolean ensureGroup() {
+        if (groupReady) {
+            return true;
+        }
+        try {
+            couponRedisDao.createIssueGroup();
+            groupReady = true;
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 consumer group 생성 실패, 다음 주기에 재시도합니다.", e);
+        }
+        return groupReady;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue.poll-interval-ms:200}")
+    public void drain() {
+        if (!ensureGroup()) {
+            return;
+        }
+        int processed;
+        do {
+            processed = drainOnce();
+        } while (processed == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue.claim-interval-ms:30000}")
+    public void reclaim() {
+        if (!ensureGroup()) {
+            return;
+        }
+        try {
+            int claimed = couponRedisDao.claimStaleIssues(consumerName, Duration.ofMillis(claimIdleMillis), batchSize);
+            if (claimed > 0) {
+                log.info("처리되지 않은 쿠폰 발급 메시지 {}개를 가져왔습니다.", claimed);
+                pending = true;
+            }
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 발급 pending 메시지 가져오기 실패", e);
+        }
+    }
+
+    int drainOnce() {
+        List<MapRecord<String, Object, Object>> records = couponRedisDao.readIssues(consumerName, batchSize, pending);
+        if (pending && records.isEmpty()) {
+            pending = false;
+            records = couponRedisDao.readIssues(consumerName, batchSize, false);
+        }
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        Set<MemberCouponIssueDto> issues = new LinkedHashSet<>();
+        List<RecordId> recordIds = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            recordIds.add(record.getId());
+            try {
+                issues.add(new MemberCouponIssueDto(
+                        UUID.fromString(String.valueOf(record.getValue().get(CouponRedisDao.FIELD_MEMBER_ID))),
+                        Long.valueOf(String.valueOf(record.getValue().get(CouponRedisDao.FIELD_COUPON_ID)))));
+            } catch (IllegalArgumentException e) {
+                // 잘못된 메시지는 재시도해도 저장할 수 없으므로 ack 한다
+                log.error("잘못된 쿠폰 발급 메시지 - id: {}, value: {}", record.getId(), record.getValue());
+            }
+        }
+
+        try {
+            int applied = memberCouponBulkRepository.insertIfAbsent(new ArrayList<>(issues));
+            log.info("쿠폰 발급 저장 - 메시지: {}개, 반영 row: {}개", records.size(), applied);
+        } catch (DataAccessException e) {
+            log.error("쿠폰 발급 일괄 저장 실패, pending 메시지를 다시 처리합니다.", e);
+            pending = true;
+            return 0;
+        }
+        memberCouponRedisDao.evictClaimedCouponIds(issues.stream().map(MemberCouponIssueDto::memberId).toList());
+        couponRedisDao.ackIssues(recordIds);
+        return records.size();
+    }
+}
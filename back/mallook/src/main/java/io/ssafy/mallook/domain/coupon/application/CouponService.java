@@ -1,7 +1,9 @@
 package io.ssafy.mallook.domain.coupon.application;
 
+import io.ssafy.mallook.domain.coupon.dto.response.CouponClaimStatsRes;
 import io.ssafy.mallook.domain.coupon.dto.response.CouponRes;
 import io.ssafy.mallook.domain.coupon.dto.response.MemberCouponRes;
+import io.ssafy.mallook.domain.grade.entity.Level;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -19,4 +21,8 @@ public interface CouponService {
     void saveNewCoupon();
 
     void decreaseCoupon(Long couponId, UUID memberId);
+
+    CouponClaimStatsRes getClaimStats(Long couponId, int samples);
+
+    String requestGrant(Long couponId, Level level);
 }
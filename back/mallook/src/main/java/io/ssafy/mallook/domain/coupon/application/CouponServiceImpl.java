@@ -1,17 +1,22 @@
 package io.ssafy.mallook.domain.coupon.application;
 
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
 import io.ssafy.mallook.domain.coupon.dao.CouponRepository;
+import io.ssafy.mallook.domain.coupon.dto.response.CouponClaimStatsRes;
 import io.ssafy.mallook.domain.coupon.dto.response.CouponRes;
 import io.ssafy.mallook.domain.coupon.dto.response.MemberCouponRes;
 import io.ssafy.mallook.domain.coupon.entity.Coupon;
 import io.ssafy.mallook.domain.coupon.entity.CouponType;
-import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.grade.entity.Level;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
 import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
-import io.ssafy.mallook.domain.member_coupon.entity.MemberCoupon;
+import io.ssafy.mallook.global.batch.dao.CouponGrantRedisDao;
+import io.ssafy.mallook.global.batch.dto.CouponGrantRequestDto;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -19,10 +24,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -31,32 +36,38 @@ import java.util.concurrent.TimeUnit;
 public class CouponServiceImpl implements CouponService {
     private final CouponRepository couponRepository;
     private final MemberCouponRepository memberCouponRepository;
-    private final RedissonClient redissonClient;
-    public static final Integer couponStock = 100;  //todo: redis에 있는 숫자로 판단? 아니면 따로
-    public static final Integer outOfStock = 0;
-    public static final String PURCHASED_COUPON_SET_KEY = "PURCHASED_COUPON_SET_KEY";
+    private final CouponRedisDao couponRedisDao;
+    private final MemberCouponRedisDao memberCouponRedisDao;
+    private final CouponGrantRedisDao couponGrantRedisDao;
+    public static final Integer couponStock = 100;
+    // 발급받은 쿠폰이 이보다 많으면 메모리에서 거르지 않고 NOT EXISTS 쿼리를 사용
+    private static final int CLAIMED_FILTER_LIMIT = 200;
 
     @Override
     public Slice<CouponRes> findCouponListFirst(Pageable pageable, UUID memberId) {
-        Long maxId = couponRepository.getMaxId();
-        if (Objects.isNull(maxId)) {
-            return new SliceImpl<>(List.of(), pageable, false);
-        }
-        return couponRepository.findCouponBy(pageable, maxId, memberId);
+        return findCouponList(pageable, Long.MAX_VALUE, memberId);
     }
 
     @Override
     public Slice<CouponRes> findCouponList(Pageable pageable, Long cursor, UUID memberId) {
-        return couponRepository.findCouponBy(pageable, cursor, memberId);
+        Set<Long> claimed = findClaimedCouponIds(memberId);
+        if (claimed.size() > CLAIMED_FILTER_LIMIT) {
+            return couponRepository.findCouponBy(pageable, cursor, memberId);
+        }
+        // 발급받은 쿠폰 수만큼 더 읽으면 걸러낸 뒤에도 한 페이지 + 다음 페이지 여부를 판단할 수 있다
+        int size = pageable.getPageSize();
+        List<CouponRes> available = couponRepository.findCouponsBefore(cursor,
+                        PageRequest.of(0, size + claimed.size() + 1))
+                .stream()
+                .filter(coupon -> !claimed.contains(coupon.id()))
+                .toList();
+        boolean hasNext = available.size() > size;
+        return new SliceImpl<>(hasNext ? available.subList(0, size) : available, pageable, hasNext);
     }
 
     @Override
     public Slice<MemberCouponRes> findMyCouponListFirst(Pageable pageable, UUID memberId) {
-        Long maxId = memberCouponRepository.getMaxId(memberId);
-        if (Objects.isNull(maxId)) {
-            return new SliceImpl<>(List.of(), pageable, false);
-        }
-        return couponRepository.findAllByMemberId(pageable, memberId, maxId + 1);
+        return couponRepository.findAllByMemberId(pageable, memberId, Long.MAX_VALUE);
     }
 
     @Override
@@ -76,69 +87,49 @@ public class CouponServiceImpl implements CouponService {
                 .stock(couponStock)
                 .build();
         couponRepository.save(coupon);
-        // couponId랑 stock을 redis에 저장해줘야할듯
+        couponRedisDao.initStock(coupon.getId(), coupon.getStock(), coupon.getExpiredTime());
     }
 
-    public Integer availableCoupons(String key) {
-        var stock = redissonClient.getBucket(key).get();
-        if (Objects.isNull(stock)) {
-            return 0;
+    @Override
+    public void decreaseCoupon(Long couponId, UUID memberId) {
+        // 중복 발급 확인, 재고 차감, 저장 큐 적재를 Lua 스크립트 한 번으로 처리해 락 없이 선착순을 보장
+        // member_coupon 저장은 CouponIssueConsumer 가 stream 을 읽어 일괄로 처리한다
+        long result = couponRedisDao.issue(couponId, memberId);
+        if (result == CouponRedisDao.DUPLICATE) {
+            throw new BaseExceptionHandler(ErrorCode.DUPLICATE_COUPON);
         }
-
-        return (int)stock;
+        if (result == CouponRedisDao.SOLD_OUT) {
+            throw new BaseExceptionHandler(ErrorCode.SOLD_OUT_COUPON);
+        }
+        memberCouponRedisDao.addClaimedCouponId(memberId, couponId);
     }
 
-    public void setCouponStock(String key, Integer quantity) {
-        redissonClient.getBucket(key).set(quantity);
+    private Set<Long> findClaimedCouponIds(UUID memberId) {
+        return memberCouponRedisDao.getClaimedCouponIds(memberId)
+                .orElseGet(() -> {
+                    Set<Long> claimed = new HashSet<>(memberCouponRepository.findCouponIdsByMemberId(memberId));
+                    memberCouponRedisDao.saveClaimedCouponIds(memberId, claimed);
+                    return claimed;
+                });
     }
 
-    // 이미 구매한 사용자인지 확인
-    private boolean userDuplicate(UUID memberId) {
-        return redissonClient.getSet(PURCHASED_COUPON_SET_KEY).contains(memberId.toString());
+    @Override
+    public CouponClaimStatsRes getClaimStats(Long couponId, int samples) {
+        return couponRedisDao.getClaimStats(couponId, samples);
     }
 
     @Override
-    @Transactional
-    public void decreaseCoupon(Long couponId, UUID memberId) {
-        // 같은 쿠폰이 재고보다 많이 발급되지 않도록
-        // 한 사람 당 한번만 등록 가능
-        boolean usingLock;
-        Long waitTime = 1L;
-        Long leaseTime = 3L;
-        String keyName = "couponKey" + couponId.toString();
-        final RLock lock = redissonClient.getLock(keyName);
-        final String thread = Thread.currentThread().getName();
-        try {
-            // trylock을 기준으로 구독 시작
-            usingLock = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
-            // lock 이 걸려있다면 return
-            if (!usingLock) {
-                return;
-            }
-            if (userDuplicate(memberId)) {
-                return;
-            }
-            // 재고 소진이라면 return
-            final int currentStock = availableCoupons(keyName);
-            if (currentStock > outOfStock) {
-                log.info("{} - 쿠폰 모두 소진 (수량 : {}개)", thread, currentStock);
-                return;
-            }
-            log.info("쿠폰 발급 중 : {} - 현재 잔여 쿠폰 {} (수량 : {}개)", thread, keyName, currentStock);
-            setCouponStock(keyName, currentStock - 1);
-            memberCouponRepository.save(MemberCoupon.builder()
-                    .coupon(Coupon.builder().id(couponId).build())
-                    .member(Member.builder().id(memberId).build())
-                    .build());
-            redissonClient.getSet(PURCHASED_COUPON_SET_KEY).add(memberId.toString());
-        } catch (InterruptedException e) {
-            // thread가 인터럽트 된 경우
-            Thread.currentThread().interrupt();
-        } finally {
-            // 락 해제
-            if (lock.isLocked()) {
-                lock.unlock();
-            }
+    public String requestGrant(Long couponId, Level level) {
+        if (!couponRepository.existsById(couponId)) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_COUPON);
         }
+        // 실제 지급은 배치 서버가 큐에서 꺼내 couponGrantJob 으로 처리한다
+        String requestId = UUID.randomUUID().toString();
+        couponGrantRedisDao.enqueue(CouponGrantRequestDto.builder()
+                .requestId(requestId)
+                .couponId(couponId)
+                .level(level)
+                .build());
+        return requestId;
     }
 }
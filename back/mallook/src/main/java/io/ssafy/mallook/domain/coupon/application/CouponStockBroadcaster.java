@@ -0,0 +1,121 @@
+package io.ssafy.mallook.domain.coupon.application;
+
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 선착순 쿠폰 재고 변경을 SSE 로 전달한다.
+ * 노드마다 구독자가 있는 쿠폰에 대해서만 Redis 채널을 하나씩 구독하고,
+ * 받은 재고는 최신 값만 남겨 두었다가 flush 주기마다 한 번씩 전송한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponStockBroadcaster {
+    private static final String EVENT_NAME = "stock";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final CouponRedisDao couponRedisDao;
+    private final ThreadPoolTaskExecutor couponStockSender;
+    private final Map<Long, StockChannel> channels = new ConcurrentHashMap<>();
+
+    @Value("${coupon.stock.emitter-timeout-ms:1800000}")
+    private long emitterTimeout;
+
+    public SseEmitter subscribe(Long couponId) {
+        return register(couponId, new SseEmitter(emitterTimeout));
+    }
+
+    SseEmitter register(Long couponId, SseEmitter emitter) {
+        StockChannel channel = channels.compute(couponId, (id, current) -> {
+            StockChannel target = current != null ? current : openChannel(id);
+            target.emitters.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unregister(couponId, emitter));
+        emitter.onTimeout(() -> unregister(couponId, emitter));
+        emitter.onError(e -> unregister(couponId, emitter));
+
+        int stock = couponRedisDao.getStock(couponId);
+        channel.latest.compareAndSet(StockChannel.UNKNOWN, stock);
+        send(couponId, emitter, stock);
+        return emitter;
+    }
+
+    void unregister(Long couponId, SseEmitter emitter) {
+        channels.computeIfPresent(couponId, (id, channel) -> {
+            channel.emitters.remove(emitter);
+            if (!channel.emitters.isEmpty()) {
+                return channel;
+            }
+            listenerContainer.removeMessageListener(channel.listener);
+            return null;
+        });
+    }
+
+    @Scheduled(fixedRateString = "${coupon.stock.flush-interval-ms:200}")
+    public void flush() {
+        channels.forEach((couponId, channel) -> {
+            if (!channel.dirty.compareAndSet(true, false)) {
+                return;
+            }
+            int stock = channel.latest.get();
+            for (SseEmitter emitter : channel.emitters) {
+                couponStockSender.execute(() -> send(couponId, emitter, stock));
+            }
+        });
+    }
+
+    private StockChannel openChannel(Long couponId) {
+        StockChannel channel = new StockChannel();
+        channel.listener = (message, pattern) -> {
+            try {
+                channel.latest.set(Integer.parseInt(new String(message.getBody(), StandardCharsets.UTF_8)));
+                channel.dirty.set(true);
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 쿠폰 재고 메시지 - couponId: {}", couponId);
+            }
+        };
+        listenerContainer.addMessageListener(channel.listener, new ChannelTopic(CouponRedisDao.STOCK_CHANNEL + couponId));
+        return channel;
+    }
+
+    private void send(Long couponId, SseEmitter emitter, int stock) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(stock));
+            // 재고가 소진되면 더 보낼 값이 없으므로 연결을 닫는다
+            if (stock <= 0) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            unregister(couponId, emitter);
+        }
+    }
+
+    private static class StockChannel {
+        private static final int UNKNOWN = Integer.MIN_VALUE;
+
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+        private final AtomicInteger latest = new AtomicInteger(UNKNOWN);
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
+        private MessageListener listener;
+    }
+}
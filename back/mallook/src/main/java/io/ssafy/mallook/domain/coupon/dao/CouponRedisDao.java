@@ -0,0 +1,225 @@
+package io.ssafy.mallook.domain.coupon.dao;
+
+import io.ssafy.mallook.domain.coupon.dto.response.CouponClaimStatsRes;
+import io.ssafy.mallook.global.util.UuidConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CouponRedisDao {
+    private final StringRedisTemplate redisTemplate;
+    private static final String COUPON_STOCK = "coupon-stock:";
+    private static final String COUPON_CLAIMS = "coupon-claims:";
+    public static final String STOCK_CHANNEL = "coupon-stock-channel:";
+    // 발급 회원 set 을 쿠폰마다 나눠 하나의 key 가 지나치게 커지지 않도록 한다
+    public static final int CLAIM_SHARDS = 16;
+    public static final String ISSUE_STREAM = "coupon-issue-stream";
+    public static final String ISSUE_GROUP = "coupon-issue-workers";
+    public static final String FIELD_COUPON_ID = "couponId";
+    public static final String FIELD_MEMBER_ID = "memberId";
+
+    public static final long ISSUED = 1L;
+    public static final long SOLD_OUT = 0L;
+    public static final long DUPLICATE = -1L;
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    // 중복 확인, 재고 차감, 발급 회원 기록, 저장 큐 적재를 한 번의 왕복으로 원자적으로 처리
+    // 차감된 재고는 STOCK_CHANNEL 로 발행한다
+    // KEYS[1]: 재고, KEYS[2]: 발급 회원 set 샤드, KEYS[3]: 발급 stream
+    // ARGV[1]: 회원 id (16 byte), ARGV[2]: 쿠폰 id, ARGV[3]: 회원 id (문자열), ARGV[4]: 재고 채널 (STOCK_CHANNEL + 쿠폰 id)
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return -1
+            end
+            local stock = tonumber(redis.call('GET', KEYS[1]))
+            if stock == nil or stock <= 0 then
+                return 0
+            end
+            redis.call('PUBLISH', ARGV[4], redis.call('DECR', KEYS[1]))
+            redis.call('SADD', KEYS[2], ARGV[1])
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl > 0 then
+                redis.call('PEXPIRE', KEYS[2], ttl)
+            end
+            redis.call('XADD', KEYS[3], '*', 'couponId', ARGV[2], 'memberId', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 모든 샤드의 발급 회원 수와 메모리 사용량 합계
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_STATS_SCRIPT = new DefaultRedisScript<>("""
+            local count = 0
+            local bytes = 0
+            for i = 1, #KEYS do
+                count = count + redis.call('SCARD', KEYS[i])
+                local usage = redis.call('MEMORY', 'USAGE', KEYS[i])
+                if usage then
+                    bytes = bytes + usage
+                end
+            end
+            return {count, bytes}
+            """, List.class);
+
+    public long issue(Long couponId, UUID memberId) {
+        Long result = redisTemplate.execute(ISSUE_SCRIPT, RedisSerializer.byteArray(), LONG_SERIALIZER,
+                List.of(COUPON_STOCK + couponId, claimKey(couponId, memberId), ISSUE_STREAM),
+                UuidConverter.toBytes(memberId), toBytes(couponId.toString()), toBytes(memberId.toString()),
+                toBytes(STOCK_CHANNEL + couponId));
+        return Objects.isNull(result) ? SOLD_OUT : result;
+    }
+
+    public boolean isClaimed(Long couponId, UUID memberId) {
+        return Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.setCommands().sIsMember(toBytes(claimKey(couponId, memberId)), UuidConverter.toBytes(memberId))));
+    }
+
+    /**
+     * 발급 회원 수, 메모리 사용량과 임의 회원 samples 명에 대한 평균 조회 지연을 측정한다.
+     */
+    public CouponClaimStatsRes getClaimStats(Long couponId, int samples) {
+        List<?> stats = redisTemplate.execute(CLAIM_STATS_SCRIPT, claimKeys(couponId));
+        long claimCount = Objects.isNull(stats) ? 0L : ((Number) stats.get(0)).longValue();
+        long memoryBytes = Objects.isNull(stats) ? 0L : ((Number) stats.get(1)).longValue();
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < samples; i++) {
+            isClaimed(couponId, UUID.randomUUID());
+        }
+        double avgLookupMicros = samples == 0 ? 0D : (System.nanoTime() - begin) / 1_000D / samples;
+
+        return CouponClaimStatsRes.builder()
+                .couponId(couponId)
+                .shardCount(CLAIM_SHARDS)
+                .claimCount(claimCount)
+                .memoryBytes(memoryBytes)
+                .bytesPerClaim(claimCount == 0 ? 0D : (double) memoryBytes / claimCount)
+                .lookupSamples(samples)
+                .avgLookupMicros(avgLookupMicros)
+                .build();
+    }
+
+    public static String claimKey(Long couponId, UUID memberId) {
+        int shard = Math.floorMod(memberId.hashCode(), CLAIM_SHARDS);
+        return COUPON_CLAIMS + couponId + ":" + shard;
+    }
+
+    public static List<String> claimKeys(Long couponId) {
+        List<String> keys = new ArrayList<>(CLAIM_SHARDS);
+        for (int shard = 0; shard < CLAIM_SHARDS; shard++) {
+            keys.add(COUPON_CLAIMS + couponId + ":" + shard);
+        }
+        return keys;
+    }
+
+    public void initStock(Long couponId, int stock, LocalDateTime expiredTime) {
+        Date expireAt = Date.from(expiredTime.atZone(ZoneId.systemDefault()).toInstant());
+        redisTemplate.opsForValue().set(COUPON_STOCK + couponId, String.valueOf(stock));
+        redisTemplate.expireAt(COUPON_STOCK + couponId, expireAt);
+        redisTemplate.convertAndSend(STOCK_CHANNEL + couponId, String.valueOf(stock));
+    }
+
+    public int getStock(Long couponId) {
+        String stock = redisTemplate.opsForValue().get(COUPON_STOCK + couponId);
+        return Objects.isNull(stock) ? 0 : Integer.parseInt(stock);
+    }
+
+    // 만료된 쿠폰의 재고와 발급 회원 set 을 지운다
+    public void purge(Long couponId) {
+        List<String> keys = new ArrayList<>(claimKeys(couponId));
+        keys.add(COUPON_STOCK + couponId);
+        redisTemplate.delete(keys);
+    }
+
+    public void createIssueGroup() {
+        try {
+            redisTemplate.opsForStream().createGroup(ISSUE_STREAM, ReadOffset.from("0"), ISSUE_GROUP);
+        } catch (RedisSystemException e) {
+            // 이미 그룹이 있으면 BUSYGROUP 에러가 발생한다. 그 밖의 에러는 호출한 쪽에서 재시도한다
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+            log.debug("쿠폰 발급 consumer group 이 이미 존재합니다: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isBusyGroup(Throwable e) {
+        for (Throwable cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (Objects.nonNull(cause.getMessage()) && cause.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 다른 consumer 가 읽고 minIdle 이상 ack 하지 못한 메시지를 consumer 의 pending 으로 가져온다.
+     * 가져온 메시지 수를 반환하며, 가져온 메시지는 readIssues(consumer, count, true) 로 읽는다.
+     */
+    public int claimStaleIssues(String consumer, Duration minIdle, int count) {
+        PendingMessages pendingMessages = redisTemplate.opsForStream()
+                .pending(ISSUE_STREAM, ISSUE_GROUP, Range.unbounded(), count);
+        RecordId[] staleIds = pendingMessages.stream()
+                .filter(message -> !consumer.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length == 0) {
+            return 0;
+        }
+        // XCLAIM 은 그 사이 다른 consumer 가 가져간 메시지를 min-idle-time 으로 다시 걸러낸다
+        return redisTemplate.opsForStream().claim(ISSUE_STREAM, ISSUE_GROUP, consumer, minIdle, staleIds).size();
+    }
+
+    /**
+     * pending 이 true 이면 이 consumer 가 읽고 ack 하지 못한 메시지를, 아니면 새 메시지를 읽는다.
+     */
+    public List<MapRecord<String, Object, Object>> readIssues(String consumer, int count, boolean pending) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(ISSUE_GROUP, consumer),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(ISSUE_STREAM, pending ? ReadOffset.from("0") : ReadOffset.lastConsumed()));
+        return Objects.isNull(records) ? List.of() : records;
+    }
+
+    public void ackIssues(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(ISSUE_STREAM, ISSUE_GROUP, ids);
+        redisTemplate.opsForStream().delete(ISSUE_STREAM, ids);
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -9,20 +9,35 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
+    // 내가 발급받은 쿠폰을 제외한 쿠폰 목록. (member_id, coupon_id) unique key 로 NOT EXISTS 를 확인한다.
     @Query("""
              SELECT new io.ssafy.mallook.domain.coupon.dto.response.CouponRes(
                  c.id, c.name, function('DATE_FORMAT', c.createdAt, '%Y-%m-%d %H:%m:%s'), function('DATE_FORMAT', c.expiredTime, '%Y-%m-%d %H:%m:%s'), c.type
              )
              FROM Coupon c
-             left join MemberCoupon mc
-             on c.id = mc.coupon.id
-             WHERE (mc.member.id != :memberId or mc.member is null) and c.id < :cursor
+             WHERE c.id < :cursor
+             AND NOT EXISTS (
+                 SELECT 1 FROM MemberCoupon mc
+                 WHERE mc.member.id = :memberId AND mc.coupon.id = c.id
+             )
             """)
     Slice<CouponRes> findCouponBy(Pageable pageable, @Param("cursor") Long cursor, @Param("memberId") UUID memberId);
+
+    @Query("""
+             SELECT new io.ssafy.mallook.domain.coupon.dto.response.CouponRes(
+                 c.id, c.name, function('DATE_FORMAT', c.createdAt, '%Y-%m-%d %H:%m:%s'), function('DATE_FORMAT', c.expiredTime, '%Y-%m-%d %H:%m:%s'), c.type
+             )
+             FROM Coupon c
+             WHERE c.id < :cursor
+             ORDER BY c.id DESC
+            """)
+    List<CouponRes> findCouponsBefore(@Param("cursor") Long cursor, Pageable pageable);
+
     @Query("""
                 SELECT new io.ssafy.mallook.domain.coupon.dto.response.MemberCouponRes(
                         mc.id, c.name, c.type, c.amount, FUNCTION('DATE_FORMAT', c.expiredTime, '%Y-%m-%d %H:%m:%s')
@@ -33,7 +48,5 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
             """)
     Slice<MemberCouponRes> findAllByMemberId(Pageable pageable, @Param("memberId") UUID memberId, @Param("cursor") Long cursor);
 
-    @Query("select max(c.id) from Coupon c")
-    Long getMaxId();
     Long countBy();
 }
@@ -0,0 +1,13 @@
+package io.ssafy.mallook.domain.coupon.dto.request;
+
+import io.ssafy.mallook.domain.grade.entity.Level;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "등급별 쿠폰 지급 요청 DTO")
+public record CouponGrantReq(
+        @Schema(description = "쿠폰을 지급할 회원 등급")
+        @NotNull
+        Level level
+) {
+}
@@ -0,0 +1,24 @@
+package io.ssafy.mallook.domain.coupon.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "선착순 쿠폰 발급 회원 저장소 사용량")
+@Builder
+public record CouponClaimStatsRes(
+        @Schema(description = "쿠폰 id")
+        Long couponId,
+        @Schema(description = "샤드 개수")
+        Integer shardCount,
+        @Schema(description = "발급 회원 수")
+        Long claimCount,
+        @Schema(description = "Redis 메모리 사용량 (byte)")
+        Long memoryBytes,
+        @Schema(description = "발급 1건당 메모리 사용량 (byte)")
+        Double bytesPerClaim,
+        @Schema(description = "조회 지연 측정 횟수")
+        Integer lookupSamples,
+        @Schema(description = "평균 조회 지연 (마이크로초)")
+        Double avgLookupMicros
+) {
+}
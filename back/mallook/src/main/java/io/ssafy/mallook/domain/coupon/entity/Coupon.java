@@ -16,7 +16,9 @@ import java.util.List;
 @Setter
 @Builder
 @Entity
-@Table(name = "coupon")
+@Table(name = "coupon", indexes = {
+        @Index(name = "idx_coupon_status_expired_time", columnList = "status, expired_time")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @SQLRestriction("status=TRUE")
@@ -38,7 +40,7 @@ public class Coupon extends BaseEntity {
 
     @NotNull
     @Column(name = "expired_time")
-    private LocalDateTime expiredTime;  //todo: expiredtime  되면 쿠폰 삭제하기
+    private LocalDateTime expiredTime;  // 만료되면 couponExpiryJob 이 soft delete
 
     private Integer stock;
 
@@ -0,0 +1,37 @@
+package io.ssafy.mallook.domain.grade.dao;
+
+import io.ssafy.mallook.domain.grade.entity.Level;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+@RequiredArgsConstructor
+public class GradeRedisDao {
+
+    private final StringRedisTemplate redisTemplate;
+    private static final String MEMBER_GRADE = "member-grade:";
+    private static final long GRADE_TIMEOUT_MINUTES = 60L;
+
+    public Optional<Level> getLevel(UUID memberId) {
+        String level = redisTemplate.opsForValue().get(MEMBER_GRADE + memberId);
+        return Optional.ofNullable(level).map(Level::valueOf);
+    }
+
+    public void saveLevel(UUID memberId, Level level) {
+        redisTemplate.opsForValue().set(MEMBER_GRADE + memberId, level.name(), GRADE_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    }
+
+    // 등급이 바뀐 회원들의 캐시를 한 번의 DEL 로 지운다
+    public void deleteLevels(Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(memberIds.stream().map(memberId -> MEMBER_GRADE + memberId).toList());
+    }
+}
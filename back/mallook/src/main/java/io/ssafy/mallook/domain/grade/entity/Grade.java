@@ -14,7 +14,9 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "grade")
+@Table(name = "grade", indexes = {
+        @Index(name = "idx_grade_level_id", columnList = "level, id")
+})
 @SQLRestriction("status=TRUE")
 public class Grade extends BaseEntity {
 
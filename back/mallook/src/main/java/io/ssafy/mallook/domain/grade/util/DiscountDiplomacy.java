@@ -1,8 +1,8 @@
 package io.ssafy.mallook.domain.grade.util;
 
-import io.ssafy.mallook.domain.member.entity.Member;
+import java.util.UUID;
 
 public interface DiscountDiplomacy {
-    Long discount(Member member);
+    Long discount(UUID memberId);
 
 }
@@ -1,26 +1,35 @@
 package io.ssafy.mallook.domain.grade.util;
 
+import io.ssafy.mallook.domain.grade.dao.GradeRedisDao;
 import io.ssafy.mallook.domain.grade.dao.GradeRepository;
 import io.ssafy.mallook.domain.grade.entity.Grade;
 import io.ssafy.mallook.domain.member.entity.Member;
-import io.ssafy.mallook.global.common.code.ErrorCode;
-import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
+/**
+ * 회원 등급별 할인율(%)을 반환한다.
+ * 등급은 주 1회 배치로만 바뀌므로 Redis 에 캐싱된 Level 을 우선 사용한다.
+ */
+@Component
 @RequiredArgsConstructor
 public class RateDiscountDiplomacy implements DiscountDiplomacy {
 
     final private GradeRepository gradeRepository;
+    final private GradeRedisDao gradeRedisDao;
 
     @Override
-    public Long discount(Member member) {
-        Grade memberGrade = gradeRepository.findByMember(member)
-                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
-        return switch (memberGrade.getLevel()) {
-            case LEVEL1, LEVEL2 -> 1L;
-            case LEVEL3, LEVEL4 -> 2L;
-            case LEVEL5, LEVEL6 -> 3L;
-            case LEVEL7 -> 4L;
-        };
+    public Long discount(UUID memberId) {
+        return gradeRedisDao.getLevel(memberId)
+                .or(() -> gradeRepository.findByMember(new Member(memberId))
+                        .map(Grade::getLevel)
+                        .map(level -> {
+                            gradeRedisDao.saveLevel(memberId, level);
+                            return level;
+                        }))
+                .map(level -> level.discountRate)
+                .orElse(0L);
     }
 }
@@ -0,0 +1,54 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartCardRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 좋아요 목록의 카드를 캐시에서 한 번에 읽고, 없는 카드만 loader 로 만들어 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HeartCardService {
+
+    private final HeartCardRedisDao heartCardRedisDao;
+
+    /**
+     * loader 는 캐시에 없는 대상 id 목록을 받아 카드를 만든다. 삭제된 대상은 결과에서 빠진다.
+     */
+    public <T> Map<Long, T> getCards(HeartTarget target, List<Long> targetIds, Class<T> type,
+                                     Function<List<Long>, Map<Long, T>> loader) {
+        Map<Long, T> cards = heartCardRedisDao.getCards(target, targetIds, type);
+        List<Long> missingIds = targetIds.stream()
+                .filter(targetId -> !cards.containsKey(targetId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            Map<Long, T> loaded = loader.apply(missingIds);
+            heartCardRedisDao.saveCards(target, loaded);
+            cards.putAll(loaded);
+        }
+        return cards;
+    }
+
+    // 커밋된 뒤에 지워야 지우는 사이에 삭제 전 카드가 다시 캐시되지 않는다
+    public void evictAfterCommit(HeartTarget target, Collection<Long> targetIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            heartCardRedisDao.evict(target, targetIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                heartCardRedisDao.evict(target, targetIds);
+            }
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartJdbcDao;
+import io.ssafy.mallook.domain.heart.dao.HeartRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartCountChangedEvent;
+import io.ssafy.mallook.domain.heart.dto.HeartDeltaBatchDto;
+import io.ssafy.mallook.domain.heart.dto.HeartEventDto;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 에 모인 좋아요 수 증감과 좋아요 내역을 DB 에 write-behind 로 반영한다.
+ * 증감은 대상별로 합산된 값만 batch update 하므로 인기 있는 대상도 주기마다 한 번만 갱신된다.
+ * DB 반영이 끝난 뒤에 Redis 에서 지우므로 실패하면 다음 주기에 같은 값을 다시 반영한다.
+ * 증감 묶음의 id 를 같은 트랜잭션에 기록해, 반영은 됐지만 Redis 에서 지우지 못한 묶음은 다시 더하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeartFlushService {
+
+    private static final int EVENT_BATCH_SIZE = 1000;
+    private static final long APPLIED_BATCH_RETENTION_DAYS = 1L;
+
+    private final HeartRedisDao heartRedisDao;
+    private final HeartJdbcDao heartJdbcDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void flush() {
+        for (HeartTarget target : HeartTarget.values()) {
+            flushEvents(target);
+            flushDeltas(target);
+        }
+        heartJdbcDao.deleteAppliedBefore(LocalDateTime.now().minusDays(APPLIED_BATCH_RETENTION_DAYS));
+    }
+
+    void flushDeltas(HeartTarget target) {
+        Optional<HeartDeltaBatchDto> drained = heartRedisDao.drainDeltas(target);
+        if (drained.isEmpty()) {
+            return;
+        }
+        HeartDeltaBatchDto batch = drained.get();
+        // 반영한 뒤 Redis 에서 지우기 전에 실패했던 묶음이면 다시 더하지 않고 지우기만 한다
+        Boolean applied = transactionTemplate.execute(status -> {
+            if (heartJdbcDao.markApplied(batch.batchId()) == 0) {
+                return false;
+            }
+            heartJdbcDao.addHeartCounts(target, batch.deltas());
+            return true;
+        });
+        if (!Boolean.TRUE.equals(applied)) {
+            log.warn("이미 반영한 좋아요 수 묶음 - {}: {}", target, batch.batchId());
+        } else if (!batch.deltas().isEmpty()) {
+            eventPublisher.publishEvent(new HeartCountChangedEvent(target, batch.deltas()));
+            log.info("좋아요 수 반영 - {}: {}건", target, batch.deltas().size());
+        }
+        heartRedisDao.completeDeltas(target);
+    }
+
+    void flushEvents(HeartTarget target) {
+        List<String> events;
+        do {
+            events = heartRedisDao.peekEvents(target, EVENT_BATCH_SIZE);
+            if (events.isEmpty()) {
+                return;
+            }
+            // 같은 회원, 대상에 대한 이벤트는 마지막 것만 반영하면 된다
+            Map<String, HeartEventDto> latest = new LinkedHashMap<>();
+            for (String event : events) {
+                try {
+                    HeartEventDto heart = HeartEventDto.parse(event);
+                    latest.remove(key(heart.memberId(), heart.targetId()));
+                    latest.put(key(heart.memberId(), heart.targetId()), heart);
+                } catch (IllegalArgumentException e) {
+                    log.error("잘못된 좋아요 이벤트 - {}: {}", target, event);
+                }
+            }
+            List<HeartEventDto> likes = new ArrayList<>();
+            List<HeartEventDto> unlikes = new ArrayList<>();
+            latest.values().forEach(heart -> (heart.isLike() ? likes : unlikes).add(heart));
+
+            Integer inserted = transactionTemplate.execute(status -> {
+                heartJdbcDao.delete(target, unlikes);
+                return heartJdbcDao.insertIgnore(target, likes);
+            });
+            heartRedisDao.removeEvents(target, events.size());
+            log.info("좋아요 내역 반영 - {}: 이벤트 {}개, 추가 {}개, 삭제 {}개",
+                    target, events.size(), Objects.requireNonNullElse(inserted, 0), unlikes.size());
+        } while (events.size() == EVENT_BATCH_SIZE);
+    }
+
+    private String key(UUID memberId, Long targetId) {
+        return memberId + ":" + targetId;
+    }
+}
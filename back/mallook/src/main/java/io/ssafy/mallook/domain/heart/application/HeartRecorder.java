@@ -0,0 +1,78 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
+import io.ssafy.mallook.domain.heart.script_heart.dao.ScriptHeartRepository;
+import io.ssafy.mallook.domain.heart.style_heart.dao.StyleHeartRepository;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 좋아요/취소를 Redis 에만 기록한다. 좋아요 수와 좋아요 내역은 {@link HeartFlushService} 가 DB 에 반영한다.
+ * 회원의 좋아요 timeline 이 Redis 에 없을 때만 DB 에서 읽어 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HeartRecorder {
+
+    private final HeartRedisDao heartRedisDao;
+    private final StyleHeartRepository styleHeartRepository;
+    private final ScriptHeartRepository scriptHeartRepository;
+
+    public void like(HeartTarget target, UUID memberId, Long targetId) {
+        long result = heartRedisDao.like(target, memberId, targetId);
+        if (result == HeartRedisDao.NOT_LOADED) {
+            load(target, memberId);
+            result = heartRedisDao.like(target, memberId, targetId);
+        }
+        if (result != HeartRedisDao.APPLIED) {
+            throw new BaseExceptionHandler(ErrorCode.DUPLICATE_LIKE);
+        }
+    }
+
+    public void unlike(HeartTarget target, UUID memberId, Long targetId) {
+        long result = heartRedisDao.unlike(target, memberId, targetId);
+        if (result == HeartRedisDao.NOT_LOADED) {
+            load(target, memberId);
+            result = heartRedisDao.unlike(target, memberId, targetId);
+        }
+        if (result != HeartRedisDao.APPLIED) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_LIKE);
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 좋아요도 포함해 확인한다
+    public boolean isLiked(HeartTarget target, UUID memberId, Long targetId) {
+        long result = heartRedisDao.isLiked(target, memberId, targetId);
+        if (result == HeartRedisDao.NOT_LOADED) {
+            load(target, memberId);
+            result = heartRedisDao.isLiked(target, memberId, targetId);
+        }
+        return result == HeartRedisDao.APPLIED;
+    }
+
+    /**
+     * 마지막으로 받은 항목의 좋아요 시각(cursor, epoch millis)과 대상 id(cursorId) 다음으로 좋아요한 대상을 최근 순으로 count 개 반환한다.
+     */
+    public List<HeartTimelineDto> getTimeline(HeartTarget target, UUID memberId, long cursor, Long cursorId, int count) {
+        return heartRedisDao.getTimeline(target, memberId, cursor, cursorId, count)
+                .orElseGet(() -> {
+                    load(target, memberId);
+                    return heartRedisDao.getTimeline(target, memberId, cursor, cursorId, count).orElse(List.of());
+                });
+    }
+
+    private void load(HeartTarget target, UUID memberId) {
+        List<HeartTimelineDto> timeline = switch (target) {
+            case STYLE -> styleHeartRepository.findStyleTimelineByMemberId(memberId);
+            case SCRIPT -> scriptHeartRepository.findScriptTimelineByMemberId(memberId);
+        };
+        heartRedisDao.loadLiked(target, memberId, timeline);
+    }
+}
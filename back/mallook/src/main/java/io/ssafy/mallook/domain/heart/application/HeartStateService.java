@@ -0,0 +1,51 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.script_heart.dao.ScriptHeartRepository;
+import io.ssafy.mallook.domain.heart.style_heart.dao.StyleHeartRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 목록에 포함된 대상 중 회원이 좋아요한 대상을 한 번에 찾는다.
+ * 회원 좋아요 set 이 Redis 에 있으면 그것으로, 없거나 Redis 를 쓸 수 없으면 IN 쿼리 한 번으로 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeartStateService {
+
+    private final HeartRedisDao heartRedisDao;
+    private final StyleHeartRepository styleHeartRepository;
+    private final ScriptHeartRepository scriptHeartRepository;
+
+    public Set<Long> findLikedIds(HeartTarget target, UUID memberId, List<Long> targetIds) {
+        if (Objects.isNull(memberId) || targetIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            Optional<Set<Long>> liked = heartRedisDao.findLiked(target, memberId, targetIds);
+            if (liked.isPresent()) {
+                return liked.get();
+            }
+        } catch (DataAccessException e) {
+            log.warn("좋아요 여부 Redis 조회 실패, DB 에서 조회합니다: {}", e.getMessage());
+        }
+        // 회원 set 이 없다는 것은 최근 좋아요 변경이 없다는 뜻이므로 DB 값이 최신이다
+        List<Long> liked = switch (target) {
+            case STYLE -> styleHeartRepository.findStyleIdsByMemberIdAndStyleIdIn(memberId, targetIds);
+            case SCRIPT -> scriptHeartRepository.findScriptIdsByMemberIdAndScriptIdIn(memberId, targetIds);
+        };
+        return new HashSet<>(liked);
+    }
+}
@@ -0,0 +1,33 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartTrendRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 최근 좋아요 증감을 감쇠 가중치로 합산한 인기 순위를 제공한다.
+ * 순위는 {@link #refresh()} 가 주기적으로 다시 만들며, 전체 테이블을 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HeartTrendService {
+
+    public static final int MAX_TRENDING_SIZE = 100;
+
+    private final HeartTrendRedisDao heartTrendRedisDao;
+
+    public void refresh() {
+        Instant now = Instant.now();
+        for (HeartTarget target : HeartTarget.values()) {
+            heartTrendRedisDao.refresh(target, now);
+        }
+    }
+
+    public List<Long> getTrendingIds(HeartTarget target, int size) {
+        return heartTrendRedisDao.getTopIds(target, Math.min(Math.max(size, 1), MAX_TRENDING_SIZE));
+    }
+}
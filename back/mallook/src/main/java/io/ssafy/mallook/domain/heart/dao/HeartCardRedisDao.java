@@ -0,0 +1,74 @@
+package io.ssafy.mallook.domain.heart.dao;
+
+import com.google.gson.Gson;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 목록에 보여줄 스타일/스크립트 카드를 대상별로 캐시한다.
+ * 좋아요 수는 TTL 동안 갱신되지 않을 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeartCardRedisDao {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Gson gson;
+    private static final String HEART_CARD = "heart-card:";
+    private static final long CARD_TIMEOUT_SECONDS = TimeUnit.MINUTES.toSeconds(10);
+
+    /**
+     * 한 번의 MGET 으로 카드를 읽는다. 캐시에 없는 대상은 결과에서 빠진다.
+     */
+    public <T> Map<Long, T> getCards(HeartTarget target, List<Long> targetIds, Class<T> type) {
+        Map<Long, T> cards = new HashMap<>();
+        if (targetIds.isEmpty()) {
+            return cards;
+        }
+        List<String> values = redisTemplate.opsForValue()
+                .multiGet(targetIds.stream().map(targetId -> cardKey(target, targetId)).toList());
+        if (Objects.isNull(values)) {
+            return cards;
+        }
+        for (int i = 0; i < targetIds.size(); i++) {
+            if (Objects.nonNull(values.get(i))) {
+                cards.put(targetIds.get(i), gson.fromJson(values.get(i), type));
+            }
+        }
+        return cards;
+    }
+
+    public void saveCards(HeartTarget target, Map<Long, ?> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            cards.forEach((targetId, card) ->
+                    stringConnection.setEx(cardKey(target, targetId), CARD_TIMEOUT_SECONDS, gson.toJson(card)));
+            return null;
+        });
+    }
+
+    public void evict(HeartTarget target, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(targetIds.stream().map(targetId -> cardKey(target, targetId)).toList());
+    }
+
+    private String cardKey(HeartTarget target, Long targetId) {
+        return HEART_CARD + target.table() + ":" + targetId;
+    }
+}
@@ -0,0 +1,77 @@
+package io.ssafy.mallook.domain.heart.dao;
+
+import io.ssafy.mallook.domain.heart.dto.HeartEventDto;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.global.util.UuidConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Redis 에 모인 좋아요 수 증감과 좋아요 내역을 batch 로 DB 에 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeartJdbcDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 대상 row 를 id 순서로 갱신해 동시에 다른 갱신이 있어도 교착 상태가 생기지 않도록 한다
+    public void addHeartCounts(HeartTarget target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        new TreeMap<>(deltas).forEach((targetId, delta) -> args.add(new Object[]{delta, targetId}));
+        jdbcTemplate.batchUpdate("update " + target.table()
+                + " set heart_count = heart_count + ? where id = ?", args);
+    }
+
+    // 이미 반영한 묶음이면 0 을 반환한다. 증감을 더하는 트랜잭션 안에서 불러야 한다
+    public int markApplied(String batchId) {
+        return jdbcTemplate.update("insert ignore into heart_flush_batch (batch_id, applied_at) values (?, ?)",
+                batchId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public int deleteAppliedBefore(LocalDateTime appliedAt) {
+        return jdbcTemplate.update("delete from heart_flush_batch where applied_at < ?", Timestamp.valueOf(appliedAt));
+    }
+
+    // (member_id, 대상 id) unique key 로 같은 이벤트를 다시 반영해도 한 row 만 남는다
+    public int insertIgnore(HeartTarget target, List<HeartEventDto> likes) {
+        if (likes.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(likes.size() * 4);
+        for (HeartEventDto like : likes) {
+            args.add(UuidConverter.toBytes(like.memberId()));
+            args.add(like.targetId());
+            args.add(now);
+            args.add(now);
+        }
+        String sql = "insert ignore into " + target.heartTable()
+                + " (member_id, " + target.targetColumn() + ", status, created_at, updated_at) values "
+                + String.join(", ", Collections.nCopies(likes.size(), "(?, ?, true, ?, ?)"));
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    public void delete(HeartTarget target, List<HeartEventDto> unlikes) {
+        if (unlikes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = unlikes.stream()
+                .map(unlike -> new Object[]{UuidConverter.toBytes(unlike.memberId()), unlike.targetId()})
+                .toList();
+        jdbcTemplate.batchUpdate("delete from " + target.heartTable()
+                + " where member_id = ? and " + target.targetColumn() + " = ?", args);
+    }
+}
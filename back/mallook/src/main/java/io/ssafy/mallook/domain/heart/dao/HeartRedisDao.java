@@ -0,0 +1,244 @@
+package io.ssafy.mallook.domain.heart.dao;
+
+import io.ssafy.mallook.domain.heart.dto.HeartDeltaBatchDto;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 좋아요 timeline, 대상별 좋아요 수 증감(delta), DB 에 반영할 좋아요 이벤트를 관리한다.
+ * delta 와 이벤트는 {@link io.ssafy.mallook.domain.heart.application.HeartFlushService} 가 주기적으로 DB 에 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeartRedisDao {
+    private final StringRedisTemplate redisTemplate;
+    private static final String MEMBER_LIKED = "member-liked-timeline-";
+    private static final String HEART_DELTA = "heart-delta:";
+    private static final String HEART_EVENTS = "heart-events:";
+    private static final String FLUSHING = ":flushing";
+    // 대상 id 와 겹치지 않는 반영용 delta hash 의 묶음 id field
+    private static final String BATCH_ID_FIELD = "batch";
+    private static final long LIKED_TIMEOUT_SECONDS = TimeUnit.DAYS.toSeconds(1);
+    // 좋아요한 대상이 없는 회원도 key 가 존재하도록 넣어 두는 값 (대상 id 는 1부터, 좋아요 시각은 0 보다 크다)
+    private static final String EMPTY_MARKER = "0";
+    private static final double EMPTY_MARKER_SCORE = 0D;
+
+    public static final long APPLIED = 1L;
+    public static final long UNCHANGED = 0L;
+    public static final long NOT_LOADED = -2L;
+
+    // 반영용 key 가 없으면 현재 delta 를 옮기고, 묶음 id 가 없으면 넣는다. 반영할 key 가 없으면 0 을 반환한다
+    // KEYS[1]: delta hash, KEYS[2]: 반영용 delta hash, ARGV[1]: 묶음 id field, ARGV[2]: 새 묶음 id
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return 0
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 회원 좋아요 timeline 변경, 대상 delta 증감, 이벤트 적재, 인기 구간 점수 증감을 한 번의 왕복으로 원자적으로 처리
+    // 회원 timeline 이 없으면 DB 에서 채운 뒤 다시 호출해야 하므로 -2 를 반환한다
+    // KEYS[1]: 회원 좋아요 timeline (score = 좋아요 시각), KEYS[2]: delta hash, KEYS[3]: 이벤트 list, KEYS[4]: 현재 인기 구간 sorted set
+    // ARGV[1]: 대상 id, ARGV[2]: 1 (좋아요) 또는 -1 (취소), ARGV[3]: 회원 id, ARGV[4]: timeline TTL (초), ARGV[5]: 구간 TTL (초)
+    // ARGV[6]: 좋아요 시각 (epoch millis)
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -2
+            end
+            local changed
+            if ARGV[2] == '1' then
+                changed = redis.call('ZADD', KEYS[1], 'NX', ARGV[6], ARGV[1])
+            else
+                changed = redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            if changed == 0 then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('RPUSH', KEYS[3], ARGV[3] .. ':' .. ARGV[1] .. ':' .. ARGV[2])
+            redis.call('ZINCRBY', KEYS[4], ARGV[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[4], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // 회원 timeline 이 없으면 false, 있으면 대상마다 포함 여부(1/0)를 반환한다
+    // KEYS[1]: 회원 좋아요 timeline, ARGV: 대상 id 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LIKED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return false
+            end
+            local scores = redis.call('ZMSCORE', KEYS[1], unpack(ARGV))
+            local flags = {}
+            for i = 1, #ARGV do
+                flags[i] = scores[i] and 1 or 0
+            end
+            return flags
+            """, List.class);
+
+    // 회원 timeline 이 없으면 false, 있으면 좋아요 시각이 cursor 이하인 대상을 최근 순으로 [id, 시각, ...] 으로 반환한다
+    // 시각이 cursor 와 같은 대상에는 이미 받은 대상이 섞여 있으므로 그 수만큼 더 읽는다
+    // KEYS[1]: 회원 좋아요 timeline, ARGV[1]: cursor (좋아요 시각), ARGV[2]: count
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TIMELINE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return false
+            end
+            local same = redis.call('ZCOUNT', KEYS[1], ARGV[1], ARGV[1])
+            return redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], '(0', 'WITHSCORES', 'LIMIT', 0, tonumber(ARGV[2]) + same)
+            """, List.class);
+
+    public long like(HeartTarget target, UUID memberId, Long targetId) {
+        return toggle(target, memberId, targetId, 1);
+    }
+
+    public long unlike(HeartTarget target, UUID memberId, Long targetId) {
+        return toggle(target, memberId, targetId, -1);
+    }
+
+    private long toggle(HeartTarget target, UUID memberId, Long targetId, int delta) {
+        String bucketKey = HeartTrendRedisDao.bucketKey(target, HeartTrendRedisDao.bucketOf(Instant.now()));
+        Long result = redisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(likedKey(target, memberId), HEART_DELTA + target.table(), HEART_EVENTS + target.table(), bucketKey),
+                String.valueOf(targetId), String.valueOf(delta), memberId.toString(), String.valueOf(LIKED_TIMEOUT_SECONDS),
+                String.valueOf(HeartTrendRedisDao.BUCKET_TTL_SECONDS), String.valueOf(System.currentTimeMillis()));
+        return Objects.isNull(result) ? NOT_LOADED : result;
+    }
+
+    /**
+     * 회원 timeline 이 없으면 NOT_LOADED, 있으면 좋아요 여부를 APPLIED / UNCHANGED 로 반환한다.
+     */
+    public long isLiked(HeartTarget target, UUID memberId, Long targetId) {
+        String key = likedKey(target, memberId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return NOT_LOADED;
+        }
+        return Objects.nonNull(redisTemplate.opsForZSet().score(key, String.valueOf(targetId))) ? APPLIED : UNCHANGED;
+    }
+
+    /**
+     * 대상 중 회원이 좋아요한 id 를 한 번의 왕복으로 찾는다. 회원 timeline 이 없으면 empty 를 반환한다.
+     */
+    public Optional<Set<Long>> findLiked(HeartTarget target, UUID memberId, List<Long> targetIds) {
+        List<?> flags = redisTemplate.execute(LIKED_SCRIPT, List.of(likedKey(target, memberId)),
+                targetIds.stream().map(String::valueOf).toArray());
+        if (Objects.isNull(flags)) {
+            return Optional.empty();
+        }
+        Set<Long> liked = new HashSet<>();
+        for (int i = 0; i < targetIds.size(); i++) {
+            if (((Number) flags.get(i)).longValue() == 1L) {
+                liked.add(targetIds.get(i));
+            }
+        }
+        return Optional.of(liked);
+    }
+
+    /**
+     * (cursor, cursorId) 항목 다음으로 좋아요한 대상을 최근 순으로 count 개 반환한다. 회원 timeline 이 없으면 empty 를 반환한다.
+     * 같은 시각(ms)에 좋아요한 대상을 건너뛰지 않도록 시각이 cursor 와 같은 대상까지 읽은 뒤 이미 받은 대상을 거른다.
+     * cursorId 가 없으면 시각이 cursor 보다 이른 대상만 반환한다.
+     */
+    public Optional<List<HeartTimelineDto>> getTimeline(HeartTarget target, UUID memberId, long cursor, Long cursorId,
+                                                        int count) {
+        List<?> rows = redisTemplate.execute(TIMELINE_SCRIPT, List.of(likedKey(target, memberId)),
+                String.valueOf(cursor), String.valueOf(count));
+        if (Objects.isNull(rows)) {
+            return Optional.empty();
+        }
+        return Optional.of(toTimeline(rows, cursor, cursorId, count));
+    }
+
+    // Redis 는 시각이 같은 대상을 id 문자열의 역순으로 주므로, cursorId 이상인 대상은 이전 페이지에서 받은 것이다
+    static List<HeartTimelineDto> toTimeline(List<?> rows, long cursor, Long cursorId, int count) {
+        String after = Objects.isNull(cursorId) ? null : String.valueOf(cursorId);
+        List<HeartTimelineDto> timeline = new ArrayList<>(count);
+        for (int i = 0; i + 1 < rows.size() && timeline.size() < count; i += 2) {
+            String member = String.valueOf(rows.get(i));
+            long likedAt = (long) Double.parseDouble(String.valueOf(rows.get(i + 1)));
+            if (likedAt == cursor && (Objects.isNull(after) || member.compareTo(after) >= 0)) {
+                continue;
+            }
+            timeline.add(new HeartTimelineDto(Long.valueOf(member), likedAt));
+        }
+        return timeline;
+    }
+
+    // ZADD NX 로 채우므로 그 사이 기록된 좋아요 시각을 덮어쓰지 않는다
+    public void loadLiked(HeartTarget target, UUID memberId, Collection<HeartTimelineDto> timeline) {
+        String key = likedKey(target, memberId);
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(TypedTuple.of(EMPTY_MARKER, EMPTY_MARKER_SCORE));
+        timeline.forEach(heart -> tuples.add(TypedTuple.of(String.valueOf(heart.targetId()), heart.likedAt().doubleValue())));
+        redisTemplate.opsForZSet().addIfAbsent(key, tuples);
+        redisTemplate.expire(key, LIKED_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 반영 중이던 delta 가 남아 있으면 그것을, 없으면 현재 delta 를 반영용 key 로 옮겨 반환한다.
+     * 옮긴 뒤 들어오는 증감은 새 delta 에 쌓이므로 반영 중에도 좋아요가 막히지 않는다.
+     * 옮길 때 반영용 key 에 묶음 id 를 함께 넣으므로, 다시 읽어도 같은 묶음 id 가 나온다.
+     */
+    public Optional<HeartDeltaBatchDto> drainDeltas(HeartTarget target) {
+        String flushingKey = HEART_DELTA + target.table() + FLUSHING;
+        Long drained = redisTemplate.execute(DRAIN_SCRIPT, List.of(HEART_DELTA + target.table(), flushingKey),
+                BATCH_ID_FIELD, UUID.randomUUID().toString());
+        if (!Objects.equals(drained, 1L)) {
+            return Optional.empty();
+        }
+        String batchId = null;
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(flushingKey).entrySet()) {
+            if (BATCH_ID_FIELD.equals(entry.getKey())) {
+                batchId = String.valueOf(entry.getValue());
+                continue;
+            }
+            long value = Long.parseLong(String.valueOf(entry.getValue()));
+            if (value != 0) {
+                deltas.put(Long.valueOf(String.valueOf(entry.getKey())), value);
+            }
+        }
+        return Optional.of(new HeartDeltaBatchDto(batchId, deltas));
+    }
+
+    public void completeDeltas(HeartTarget target) {
+        redisTemplate.delete(HEART_DELTA + target.table() + FLUSHING);
+    }
+
+    public List<String> peekEvents(HeartTarget target, int count) {
+        List<String> events = redisTemplate.opsForList().range(HEART_EVENTS + target.table(), 0, count - 1);
+        return Objects.isNull(events) ? List.of() : events;
+    }
+
+    public void removeEvents(HeartTarget target, int count) {
+        redisTemplate.opsForList().trim(HEART_EVENTS + target.table(), count, -1);
+    }
+
+    private String likedKey(HeartTarget target, UUID memberId) {
+        return MEMBER_LIKED + target.table() + "s:" + memberId;
+    }
+}
@@ -0,0 +1,94 @@
+package io.ssafy.mallook.domain.heart.dao;
+
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 증감을 5분 단위 sorted set 에 나눠 쌓고, 최근 구간을 감쇠 가중치로 합쳐 인기 순위를 만든다.
+ * 구간 key 는 좋아요 스크립트가 {@link HeartRedisDao} 에서 함께 증가시킨다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeartTrendRedisDao {
+    private final StringRedisTemplate redisTemplate;
+    private static final String HEART_TREND = "heart-trend:";
+    private static final String BUCKET = ":bucket:";
+    private static final String BUILDING = ":building";
+    public static final long BUCKET_SECONDS = 300L;
+    // 6시간 동안의 구간을 합친다
+    public static final int WINDOW_BUCKETS = 72;
+    // 구간 key 는 합산 범위를 벗어날 때까지만 남긴다
+    public static final long BUCKET_TTL_SECONDS = BUCKET_SECONDS * (WINDOW_BUCKETS + 1);
+    private static final Duration HALF_LIFE = Duration.ofHours(1);
+    // 합산 결과에서 남길 최대 대상 수
+    private static final int MAX_RANKED = 1000;
+    private static final long RANKING_TIMEOUT_MINUTES = 10L;
+
+    public static long bucketOf(Instant now) {
+        return now.getEpochSecond() / BUCKET_SECONDS;
+    }
+
+    public static String bucketKey(HeartTarget target, long bucket) {
+        return HEART_TREND + target.table() + BUCKET + bucket;
+    }
+
+    // 구간이 오래될수록 반감기에 따라 가중치를 줄인다 (현재 구간 = 1)
+    static double[] decayWeights() {
+        double[] weights = new double[WINDOW_BUCKETS];
+        double halfLifeBuckets = (double) HALF_LIFE.toSeconds() / BUCKET_SECONDS;
+        for (int age = 0; age < WINDOW_BUCKETS; age++) {
+            weights[age] = Math.pow(0.5, age / halfLifeBuckets);
+        }
+        return weights;
+    }
+
+    /**
+     * 최근 구간을 합쳐 순위를 다시 만든다. 임시 key 에 만든 뒤 RENAME 하므로 조회하는 쪽은 항상 완성된 순위를 본다.
+     */
+    public void refresh(HeartTarget target, Instant now) {
+        long current = bucketOf(now);
+        List<String> keys = new ArrayList<>(WINDOW_BUCKETS);
+        for (int age = 0; age < WINDOW_BUCKETS; age++) {
+            keys.add(bucketKey(target, current - age));
+        }
+        String rankingKey = rankingKey(target);
+        String buildingKey = rankingKey + BUILDING;
+
+        Long size = redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), buildingKey,
+                Aggregate.SUM, Weights.of(decayWeights()));
+        if (Objects.isNull(size) || size == 0) {
+            redisTemplate.delete(rankingKey);
+            return;
+        }
+        // 좋아요보다 취소가 많은 대상은 순위에서 뺀다
+        redisTemplate.opsForZSet().removeRangeByScore(buildingKey, Double.NEGATIVE_INFINITY, 0);
+        redisTemplate.opsForZSet().removeRange(buildingKey, 0, -(MAX_RANKED + 1));
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(buildingKey))) {
+            redisTemplate.rename(buildingKey, rankingKey);
+            redisTemplate.expire(rankingKey, RANKING_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        } else {
+            redisTemplate.delete(rankingKey);
+        }
+    }
+
+    public List<Long> getTopIds(HeartTarget target, int count) {
+        Set<String> ids = redisTemplate.opsForZSet().reverseRange(rankingKey(target), 0, count - 1);
+        return Objects.isNull(ids) ? List.of() : ids.stream().map(Long::valueOf).toList();
+    }
+
+    private String rankingKey(HeartTarget target) {
+        return HEART_TREND + target.table();
+    }
+}
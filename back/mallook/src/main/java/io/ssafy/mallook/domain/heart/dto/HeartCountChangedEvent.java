@@ -0,0 +1,9 @@
+package io.ssafy.mallook.domain.heart.dto;
+
+import java.util.Map;
+
+/**
+ * 좋아요 수 증감이 DB 에 반영된 뒤 발행한다. deltas 는 대상 id 별 증감이다.
+ */
+public record HeartCountChangedEvent(HeartTarget target, Map<Long, Long> deltas) {
+}
@@ -0,0 +1,9 @@
+package io.ssafy.mallook.domain.heart.dto;
+
+import java.util.Map;
+
+/**
+ * 한 번에 DB 에 반영할 대상별 좋아요 수 증감. batchId 로 같은 묶음을 두 번 반영하지 않는다.
+ */
+public record HeartDeltaBatchDto(String batchId, Map<Long, Long> deltas) {
+}
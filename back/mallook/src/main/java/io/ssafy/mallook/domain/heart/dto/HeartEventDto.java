@@ -0,0 +1,21 @@
+package io.ssafy.mallook.domain.heart.dto;
+
+import java.util.UUID;
+
+/**
+ * Redis 에 쌓인 좋아요/취소 이벤트. "회원 id:대상 id:1 또는 -1" 형식으로 저장된다.
+ */
+public record HeartEventDto(UUID memberId, Long targetId, int delta) {
+
+    public static HeartEventDto parse(String value) {
+        String[] tokens = value.split(":");
+        if (tokens.length != 3) {
+            throw new IllegalArgumentException("잘못된 좋아요 이벤트: " + value);
+        }
+        return new HeartEventDto(UUID.fromString(tokens[0]), Long.valueOf(tokens[1]), Integer.parseInt(tokens[2]));
+    }
+
+    public boolean isLike() {
+        return delta > 0;
+    }
+}
@@ -0,0 +1,27 @@
+package io.ssafy.mallook.domain.heart.dto;
+
+/**
+ * 좋아요 대상. Redis key 와 write-behind 로 갱신할 테이블 이름을 함께 가진다.
+ */
+public enum HeartTarget {
+    STYLE("style"),
+    SCRIPT("script");
+
+    private final String table;
+
+    HeartTarget(String table) {
+        this.table = table;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String heartTable() {
+        return table + "_heart";
+    }
+
+    public String targetColumn() {
+        return table + "_id";
+    }
+}
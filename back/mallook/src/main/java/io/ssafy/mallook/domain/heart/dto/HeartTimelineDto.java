@@ -0,0 +1,17 @@
+package io.ssafy.mallook.domain.heart.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * 회원이 좋아요한 대상과 좋아요한 시각 (epoch millis).
+ */
+public record HeartTimelineDto(Long targetId, Long likedAt) {
+
+    // 좋아요 내역 테이블에서 읽을 때 사용한다. 시각이 없으면 가장 오래된 좋아요로 본다
+    public HeartTimelineDto(Long targetId, LocalDateTime createdAt) {
+        this(targetId, Objects.isNull(createdAt) ? 1L
+                : createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,32 @@
+package io.ssafy.mallook.domain.heart.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영한 좋아요 수 증감 묶음. 증감을 더하는 트랜잭션에서 함께 기록해, Redis 에서 지우기 전에 실패한 묶음을 다시 더하지 않게 한다.
+ * {@link io.ssafy.mallook.domain.heart.dao.HeartJdbcDao} 로만 읽고 쓴다.
+ */
+@Getter
+@Entity
+@Table(name = "heart_flush_batch",
+        indexes = @Index(name = "idx_heart_flush_batch_applied_at", columnList = "applied_at"))
+@AllArgsConstructor
+@NoArgsConstructor
+public class HeartFlushBatch {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+}
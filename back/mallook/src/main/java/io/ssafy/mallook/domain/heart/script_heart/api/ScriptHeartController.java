@@ -31,14 +31,15 @@ public class ScriptHeartController {
             @PageableDefault(size = 20,
                     sort = "createdAt",
                     direction = Sort.Direction.DESC) Pageable pageable,
-            @RequestParam(required = false) Long cursor) {
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Long cursorId) {
         UUID id = principal.getId();
-        Long maxHeartId = scriptHeartService.findMaxHeartId();
-        cursor = (cursor != null) ? cursor : (maxHeartId != null ? maxHeartId : Long.MAX_VALUE);
+        // cursor 는 마지막으로 받은 항목의 likedAt, cursorId 는 그 항목의 id 이다
+        cursor = (cursor != null) ? cursor : Long.MAX_VALUE;
 
         return BaseResponse.success(
                 SuccessCode.SELECT_SUCCESS,
-                scriptHeartService.getLikeScriptList(cursor, id, pageable)
+                scriptHeartService.getLikeScriptList(cursor, cursorId, id, pageable)
         );
     }
 
@@ -9,7 +9,7 @@ import java.util.UUID;
 
 public interface ScriptHeartService {
 
-    Slice<ScriptListDto> getLikeScriptList(Long cursor, UUID id, Pageable pageable);
+    Slice<ScriptListDto> getLikeScriptList(Long cursor, Long cursorId, UUID id, Pageable pageable);
 
     void likeScript(UUID id, LikeDto likeDto);
 
@@ -1,11 +1,11 @@
 package io.ssafy.mallook.domain.heart.script_heart.application;
 
+import io.ssafy.mallook.domain.heart.application.HeartCardService;
+import io.ssafy.mallook.domain.heart.application.HeartRecorder;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
 import io.ssafy.mallook.domain.heart.dto.request.LikeDto;
 import io.ssafy.mallook.domain.heart.script_heart.dao.ScriptHeartRepository;
-import io.ssafy.mallook.domain.heart.script_heart.entity.ScriptHeart;
-import io.ssafy.mallook.domain.member.dao.MemberRepository;
-import io.ssafy.mallook.domain.member.entity.Member;
-import io.ssafy.mallook.domain.script.application.ScriptService;
 import io.ssafy.mallook.domain.script.dao.ScriptRepository;
 import io.ssafy.mallook.domain.script.dto.response.ScriptListDto;
 import io.ssafy.mallook.domain.script.entity.Script;
@@ -14,12 +14,17 @@ import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static io.ssafy.mallook.domain.script.dto.response.ScriptListDto.toDto;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @RequiredArgsConstructor
@@ -27,46 +32,43 @@ import static io.ssafy.mallook.domain.script.dto.response.ScriptListDto.toDto;
 public class ScriptHeartServiceImpl implements ScriptHeartService {
 
     private final ScriptHeartRepository scriptHeartRepository;
-    private final MemberRepository memberRepository;
     private final ScriptRepository scriptRepository;
-    private final ScriptService scriptService;
+    private final HeartRecorder heartRecorder;
+    private final HeartCardService heartCardService;
 
+    // cursor 는 좋아요한 시각 (epoch millis), cursorId 는 그 대상 id 이다
     @Override
-    public Slice<ScriptListDto> getLikeScriptList(Long cursor, UUID id, Pageable pageable) {
-        Member proxyMember = memberRepository.getReferenceById(id);
+    public Slice<ScriptListDto> getLikeScriptList(Long cursor, Long cursorId, UUID id, Pageable pageable) {
+        List<HeartTimelineDto> timeline = heartRecorder.getTimeline(HeartTarget.SCRIPT, id, cursor, cursorId, pageable.getPageSize() + 1);
+        boolean hasNext = timeline.size() > pageable.getPageSize();
+        List<HeartTimelineDto> hearts = hasNext ? timeline.subList(0, pageable.getPageSize()) : timeline;
 
-        return scriptHeartRepository.findByIdLessThanAndMemberOrderByIdDesc(cursor + 1, proxyMember, pageable)
-                .map(ScriptHeart::getScript)
-                .map(script -> {
-                    String imgUrl = scriptService.findFirstScriptImage(script);
-                    return toDto(script, imgUrl);
-                });
+        Map<Long, ScriptListDto> cards = heartCardService.getCards(HeartTarget.SCRIPT,
+                hearts.stream().map(HeartTimelineDto::targetId).toList(), ScriptListDto.class,
+                missingIds -> scriptRepository.findAllById(missingIds).stream()
+                        .collect(toMap(Script::getId, script -> toDto(script, script.getImageUrl()))));
+        // 삭제된 스크립트는 건너뛴다
+        List<ScriptListDto> content = hearts.stream()
+                .filter(heart -> cards.containsKey(heart.targetId()))
+                .map(heart -> cards.get(heart.targetId()).withLikedAt(heart.likedAt()))
+                .toList();
+        return new SliceImpl<>(content, pageable, hasNext);
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void likeScript(UUID id, LikeDto likeDto) {
-        Member proxyMember = memberRepository.getReferenceById(id);
-        Script proxyScript = scriptRepository.getReferenceById(likeDto.targetId());
-        proxyScript.like();
-        scriptHeartRepository.findByMemberAndScript(proxyMember, proxyScript)
-                .ifPresent(like -> {
-                    throw new BaseExceptionHandler(ErrorCode.DUPLICATE_LIKE);
-                });
-
-        scriptHeartRepository.save(likeDto.toEntity(proxyMember, proxyScript));
+        // 없는 스크립트의 좋아요는 flush 때 조용히 버려지므로 기록하기 전에 막는다
+        if (!scriptRepository.existsById(likeDto.targetId())) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_SCRIPT);
+        }
+        heartRecorder.like(HeartTarget.SCRIPT, id, likeDto.targetId());
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void unlikeScript(UUID id, LikeDto likeDto) {
-        Member proxyMember = memberRepository.getReferenceById(id);
-        Script proxyScript = scriptRepository.getReferenceById(likeDto.targetId());
-        proxyScript.unlike();
-        ScriptHeart heart = scriptHeartRepository.findByMemberAndScript(proxyMember, proxyScript)
-                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_LIKE));
-
-        scriptHeartRepository.deleteById(heart.getId());
+        heartRecorder.unlike(HeartTarget.SCRIPT, id, likeDto.targetId());
     }
 
     @Override
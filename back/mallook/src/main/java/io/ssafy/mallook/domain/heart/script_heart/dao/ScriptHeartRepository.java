@@ -1,5 +1,6 @@
 package io.ssafy.mallook.domain.heart.script_heart.dao;
 
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
 import io.ssafy.mallook.domain.heart.script_heart.entity.ScriptHeart;
 import io.ssafy.mallook.domain.member.entity.Member;
 import io.ssafy.mallook.domain.script.entity.Script;
@@ -8,9 +9,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface ScriptHeartRepository extends JpaRepository<ScriptHeart, Long> {
@@ -19,6 +24,15 @@ public interface ScriptHeartRepository extends JpaRepository<ScriptHeart, Long>
 
     Optional<ScriptHeart> findByMemberAndScript(Member member, Script script);
 
+    @Query("""
+            select new io.ssafy.mallook.domain.heart.dto.HeartTimelineDto(h.script.id, h.createdAt)
+            from ScriptHeart h where h.member.id = :memberId
+            """)
+    List<HeartTimelineDto> findScriptTimelineByMemberId(@Param("memberId") UUID memberId);
+
+    @Query("select h.script.id from ScriptHeart h where h.member.id = :memberId and h.script.id in :scriptIds")
+    List<Long> findScriptIdsByMemberIdAndScriptIdIn(@Param("memberId") UUID memberId, @Param("scriptIds") Collection<Long> scriptIds);
+
     @Query("SELECT max (h.id) from ScriptHeart h")
     Long findMaxHeartId();
 }
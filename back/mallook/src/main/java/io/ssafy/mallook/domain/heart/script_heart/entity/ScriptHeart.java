@@ -13,7 +13,10 @@ import lombok.NoArgsConstructor;
 @Getter
 @Builder
 @Entity
-@Table(name = "script_heart")
+@Table(name = "script_heart",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_script_heart_member_script",
+                columnNames = {"member_id", "script_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 public class ScriptHeart extends BaseEntity {
@@ -9,7 +9,7 @@ import java.util.UUID;
 
 public interface StyleHeartService {
 
-    Slice<StyleListRes> getLikeStyleList(Long cursor, UUID id, Pageable pageable);
+    Slice<StyleListRes> getLikeStyleList(Long cursor, Long cursorId, UUID id, Pageable pageable);
 
     void likeStyle(UUID id, LikeDto likeDto);
 
@@ -1,11 +1,11 @@
 package io.ssafy.mallook.domain.heart.style_heart.application;
 
+import io.ssafy.mallook.domain.heart.application.HeartCardService;
+import io.ssafy.mallook.domain.heart.application.HeartRecorder;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
 import io.ssafy.mallook.domain.heart.dto.request.LikeDto;
 import io.ssafy.mallook.domain.heart.style_heart.dao.StyleHeartRepository;
-import io.ssafy.mallook.domain.heart.style_heart.entity.StyleHeart;
-import io.ssafy.mallook.domain.member.dao.MemberRepository;
-import io.ssafy.mallook.domain.member.entity.Member;
-import io.ssafy.mallook.domain.script.dao.ScriptRepository;
 import io.ssafy.mallook.domain.style.dao.StyleRepository;
 import io.ssafy.mallook.domain.style.dto.response.StyleListRes;
 import io.ssafy.mallook.domain.style.entity.Style;
@@ -14,54 +14,60 @@ import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static java.util.stream.Collectors.toMap;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StyleHeartServiceImpl implements StyleHeartService {
 
     private final StyleHeartRepository styleHeartRepository;
-    private final MemberRepository memberRepository;
-    private final ScriptRepository scriptRepository;
     private final StyleRepository styleRepository;
+    private final HeartRecorder heartRecorder;
+    private final HeartCardService heartCardService;
 
+    // cursor 는 좋아요한 시각 (epoch millis), cursorId 는 그 대상 id 이다
     @Override
-    public Slice<StyleListRes> getLikeStyleList(Long cursor, UUID id, Pageable pageable) {
-        Member proxyMember = memberRepository.getReferenceById(id);
+    public Slice<StyleListRes> getLikeStyleList(Long cursor, Long cursorId, UUID id, Pageable pageable) {
+        List<HeartTimelineDto> timeline = heartRecorder.getTimeline(HeartTarget.STYLE, id, cursor, cursorId, pageable.getPageSize() + 1);
+        boolean hasNext = timeline.size() > pageable.getPageSize();
+        List<HeartTimelineDto> hearts = hasNext ? timeline.subList(0, pageable.getPageSize()) : timeline;
 
-        return styleHeartRepository.findByIdLessThanAndMemberOrderByIdDesc(cursor + 1, proxyMember, pageable)
-                .map(StyleHeart::getStyle)
-                .map(StyleListRes::toDto);
+        Map<Long, StyleListRes> cards = heartCardService.getCards(HeartTarget.STYLE,
+                hearts.stream().map(HeartTimelineDto::targetId).toList(), StyleListRes.class,
+                missingIds -> styleRepository.findAllById(missingIds).stream()
+                        .collect(toMap(Style::getId, StyleListRes::toDto)));
+        // 삭제된 스타일은 건너뛴다
+        List<StyleListRes> content = hearts.stream()
+                .filter(heart -> cards.containsKey(heart.targetId()))
+                .map(heart -> cards.get(heart.targetId()).withLikedAt(heart.likedAt()))
+                .toList();
+        return new SliceImpl<>(content, pageable, hasNext);
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void likeStyle(UUID id, LikeDto likeDto) {
-        Member proxyMember = memberRepository.getReferenceById(id);
-        Style proxyStyle = styleRepository.getReferenceById(likeDto.targetId());
-        proxyStyle.like();
-        styleHeartRepository.findByMemberAndStyle(proxyMember, proxyStyle)
-                .ifPresent(style -> {
-                    throw new BaseExceptionHandler(ErrorCode.DUPLICATE_LIKE);
-                });
-
-        styleHeartRepository.save(likeDto.toEntity(proxyMember, proxyStyle));
+        // 없는 스타일의 좋아요는 flush 때 조용히 버려지므로 기록하기 전에 막는다
+        if (!styleRepository.existsById(likeDto.targetId())) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR);
+        }
+        heartRecorder.like(HeartTarget.STYLE, id, likeDto.targetId());
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void unlikeStyle(UUID id, LikeDto likeDto) {
-        Member proxyMember = memberRepository.getReferenceById(id);
-        Style proxyStyle = styleRepository.getReferenceById(likeDto.targetId());
-        proxyStyle.unlike();
-        StyleHeart heart = styleHeartRepository.findByMemberAndStyle(proxyMember, proxyStyle)
-                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_LIKE));
-
-        styleHeartRepository.deleteById(heart.getId());
+        heartRecorder.unlike(HeartTarget.STYLE, id, likeDto.targetId());
     }
 
     @Override
@@ -1,5 +1,6 @@
 package io.ssafy.mallook.domain.heart.style_heart.dao;
 
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
 import io.ssafy.mallook.domain.heart.style_heart.entity.StyleHeart;
 import io.ssafy.mallook.domain.member.entity.Member;
 import io.ssafy.mallook.domain.style.entity.Style;
@@ -7,9 +8,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface StyleHeartRepository extends JpaRepository<StyleHeart, Long> {
@@ -18,6 +23,15 @@ public interface StyleHeartRepository extends JpaRepository<StyleHeart, Long> {
 
     Optional<StyleHeart> findByMemberAndStyle(Member member, Style style);
 
+    @Query("""
+            select new io.ssafy.mallook.domain.heart.dto.HeartTimelineDto(h.style.id, h.createdAt)
+            from StyleHeart h where h.member.id = :memberId
+            """)
+    List<HeartTimelineDto> findStyleTimelineByMemberId(@Param("memberId") UUID memberId);
+
+    @Query("select h.style.id from StyleHeart h where h.member.id = :memberId and h.style.id in :styleIds")
+    List<Long> findStyleIdsByMemberIdAndStyleIdIn(@Param("memberId") UUID memberId, @Param("styleIds") Collection<Long> styleIds);
+
     @Query("SELECT max (h.id) from StyleHeart h")
     Long findMaxHeartId();
 }
@@ -13,7 +13,10 @@ import lombok.NoArgsConstructor;
 @Getter
 @Builder
 @Entity
-@Table(name = "style_heart")
+@Table(name = "style_heart",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_style_heart_member_style",
+                columnNames = {"member_id", "style_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 public class StyleHeart extends BaseEntity {
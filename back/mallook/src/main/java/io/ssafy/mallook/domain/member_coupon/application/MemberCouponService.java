@@ -6,5 +6,5 @@ import java.util.UUID;
 public interface MemberCouponService {
     void saveMyCoupon(UUID memberId, Long couponId);
 
-    void deleteMyCoupon(List<Long> memberCouponIdList);
+    void deleteMyCoupon(UUID memberId, List<Long> memberCouponIdList);
 }
@@ -2,9 +2,14 @@ package io.ssafy.mallook.domain.member_coupon.application;
 
 import io.ssafy.mallook.domain.coupon.entity.Coupon;
 import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponBulkRepository;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
 import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
 import io.ssafy.mallook.domain.member_coupon.entity.MemberCoupon;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,20 +21,35 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class MemberCouponServiceImpl implements MemberCouponService {
     private final MemberCouponRepository memberCouponRepository;
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
+    private final MemberCouponRedisDao memberCouponRedisDao;
 
     @Override
     @Transactional
     public void saveMyCoupon(UUID memberId, Long couponId) {
-        MemberCoupon myCoupon = MemberCoupon.builder()
-                .member(new Member(memberId))
-                .coupon(new Coupon(couponId))
-                .build();
-        memberCouponRepository.save(myCoupon);
+        if (memberCouponRepository.existsByMember_IdAndCoupon_Id(memberId, couponId)) {
+            throw new BaseExceptionHandler(ErrorCode.DUPLICATE_COUPON);
+        }
+        // (member_id, coupon_id) 는 unique 이므로 사용하거나 삭제한 쿠폰은 새로 만들지 않고 되살린다
+        if (memberCouponBulkRepository.restore(memberId, couponId) == 0) {
+            MemberCoupon myCoupon = MemberCoupon.builder()
+                    .member(new Member(memberId))
+                    .coupon(new Coupon(couponId))
+                    .build();
+            try {
+                memberCouponRepository.save(myCoupon);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 쿠폰을 동시에 등록한 경우
+                throw new BaseExceptionHandler(ErrorCode.DUPLICATE_COUPON);
+            }
+        }
+        memberCouponRedisDao.evictClaimedCouponIds(List.of(memberId));
     }
 
     @Override
     @Transactional
-    public void deleteMyCoupon(List<Long> memberCouponIdList) {
+    public void deleteMyCoupon(UUID memberId, List<Long> memberCouponIdList) {
         memberCouponRepository.deleteMyCoupon(memberCouponIdList);
+        memberCouponRedisDao.evictClaimedCouponIds(List.of(memberId));
     }
 }
@@ -0,0 +1,58 @@
+package io.ssafy.mallook.domain.member_coupon.dao;
+
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponIssueDto;
+import io.ssafy.mallook.global.util.UuidConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 발급된 쿠폰을 multi-row insert 로 한 번에 저장한다.
+ * (member_id, coupon_id) unique key 로 같은 발급을 다시 저장해도 한 row 만 남는다.
+ * 이미 row 가 있으면 사용했거나 만료되어 status 가 false 여도 그대로 두고,
+ * 되살리는 것은 회원이 다시 등록할 때 부르는 restore 만 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberCouponBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새로 넣은 row 수를 반환한다. 이미 있는 row 는 바꾸지 않으므로 MySQL 이 0 으로 센다.
+     * 처리했지만 ack 하지 못한 발급 메시지를 다시 저장해도, 그 사이 사용한 쿠폰이 되살아나지 않는다.
+     */
+    public int insertIfAbsent(List<MemberCouponIssueDto> issues) {
+        if (issues.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(issues.size() * 4);
+        for (MemberCouponIssueDto issue : issues) {
+            // Member 의 UUID 는 binary(16) 으로 저장된다
+            args.add(UuidConverter.toBytes(issue.memberId()));
+            args.add(issue.couponId());
+            args.add(now);
+            args.add(now);
+        }
+        // insert ignore 는 외래 키 오류까지 경고로 바꾸므로 중복일 때만 아무것도 바꾸지 않게 한다
+        String sql = "insert into member_coupon (member_id, coupon_id, status, created_at, updated_at) values "
+                + String.join(", ", Collections.nCopies(issues.size(), "(?, ?, true, ?, ?)"))
+                + " on duplicate key update id = id";
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    // status 가 false 인 row 만 되살리고, 되살린 row 수를 반환한다
+    public int restore(UUID memberId, Long couponId) {
+        return jdbcTemplate.update(
+                "update member_coupon set status = true, updated_at = ? where member_id = ? and coupon_id = ? and status = false",
+                Timestamp.valueOf(LocalDateTime.now()), UuidConverter.toBytes(memberId), couponId);
+    }
+}
@@ -0,0 +1,82 @@
+package io.ssafy.mallook.domain.member_coupon.dao;
+
+import com.google.gson.Gson;
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponTermsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberCouponRedisDao {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Gson gson;
+    private static final String MEMBER_COUPON_TERMS = "member-coupon-terms:";
+    private static final long TERMS_TIMEOUT_MINUTES = 10L;
+    private static final String MEMBER_CLAIMED_COUPONS = "member-claimed-coupons:";
+    private static final long CLAIMED_TIMEOUT_MINUTES = 30L;
+    // 발급받은 쿠폰이 없는 회원도 캐시하기 위한 값 (쿠폰 id 는 1부터 시작)
+    private static final String EMPTY_MARKER = "0";
+
+    public Optional<MemberCouponTermsDto> getTerms(UUID memberId, Long memberCouponId) {
+        String json = redisTemplate.opsForValue().get(termsKey(memberId, memberCouponId));
+        return Optional.ofNullable(json).map(value -> gson.fromJson(value, MemberCouponTermsDto.class));
+    }
+
+    public void saveTerms(UUID memberId, MemberCouponTermsDto terms) {
+        redisTemplate.opsForValue().set(termsKey(memberId, terms.memberCouponId()), gson.toJson(terms),
+                TERMS_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public void deleteTerms(UUID memberId, Long memberCouponId) {
+        redisTemplate.delete(termsKey(memberId, memberCouponId));
+    }
+
+    public Optional<Set<Long>> getClaimedCouponIds(UUID memberId) {
+        Set<String> members = redisTemplate.opsForSet().members(MEMBER_CLAIMED_COUPONS + memberId);
+        if (Objects.isNull(members) || members.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(members.stream()
+                .filter(member -> !EMPTY_MARKER.equals(member))
+                .map(Long::valueOf)
+                .collect(Collectors.toSet()));
+    }
+
+    public void saveClaimedCouponIds(UUID memberId, Collection<Long> couponIds) {
+        String key = MEMBER_CLAIMED_COUPONS + memberId;
+        String[] members = Stream.concat(Stream.of(EMPTY_MARKER), couponIds.stream().map(String::valueOf))
+                .toArray(String[]::new);
+        redisTemplate.opsForSet().add(key, members);
+        redisTemplate.expire(key, CLAIMED_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    }
+
+    // 캐시가 있을 때만 추가한다. 없으면 다음 조회 때 DB 에서 다시 채운다.
+    public void addClaimedCouponId(UUID memberId, Long couponId) {
+        String key = MEMBER_CLAIMED_COUPONS + memberId;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            redisTemplate.opsForSet().add(key, String.valueOf(couponId));
+        }
+    }
+
+    public void evictClaimedCouponIds(Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(memberIds.stream().map(memberId -> MEMBER_CLAIMED_COUPONS + memberId).toList());
+    }
+
+    private String termsKey(UUID memberId, Long memberCouponId) {
+        return MEMBER_COUPON_TERMS + memberId + ":" + memberCouponId;
+    }
+}
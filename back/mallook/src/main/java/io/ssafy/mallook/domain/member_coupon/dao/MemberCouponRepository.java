@@ -1,5 +1,6 @@
 package io.ssafy.mallook.domain.member_coupon.dao;
 
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponTermsDto;
 import io.ssafy.mallook.domain.member_coupon.entity.MemberCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -7,21 +8,41 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long> {
 
-    @Query("select max(mc.id) from MemberCoupon mc")
-    Long getMaxId(UUID memberId);
+    @Query("select mc.coupon.id from MemberCoupon mc where mc.member.id = :memberId")
+    List<Long> findCouponIdsByMemberId(@Param("memberId") UUID memberId);
 
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("""
             update MemberCoupon mc set mc.status = false
             where mc.id in :memberCouponList and mc.status = true
             """)
-    void deleteMyCoupon(@Param("memberCouponList") List<Long> memberCouponList);
+    int deleteMyCoupon(@Param("memberCouponList") List<Long> memberCouponList);
 
+    // 주문에 쓸 쿠폰은 요청한 회원의 것일 때만 사용 처리한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update MemberCoupon mc set mc.status = false
+            where mc.id = :memberCouponId and mc.member.id = :memberId and mc.status = true
+            """)
+    int useMyCoupon(@Param("memberId") UUID memberId, @Param("memberCouponId") Long memberCouponId);
 
+    @Query("""
+            select new io.ssafy.mallook.domain.member_coupon.dto.MemberCouponTermsDto(
+                mc.id, c.id, c.type, c.amount, c.expiredTime
+            )
+            from MemberCoupon mc
+            join mc.coupon c
+            where mc.id = :memberCouponId and mc.member.id = :memberId
+            """)
+    Optional<MemberCouponTermsDto> findTerms(@Param("memberId") UUID memberId,
+                                             @Param("memberCouponId") Long memberCouponId);
 
     boolean existsByIdAndMember_Id(Long id, UUID memberId);
+
+    boolean existsByMember_IdAndCoupon_Id(UUID memberId, Long couponId);
 }
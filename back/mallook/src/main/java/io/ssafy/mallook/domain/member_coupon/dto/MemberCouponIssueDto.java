@@ -0,0 +1,9 @@
+package io.ssafy.mallook.domain.member_coupon.dto;
+
+import java.util.UUID;
+
+public record MemberCouponIssueDto(
+        UUID memberId,
+        Long couponId
+) {
+}
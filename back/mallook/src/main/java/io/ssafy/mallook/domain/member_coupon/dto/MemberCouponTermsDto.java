@@ -0,0 +1,35 @@
+package io.ssafy.mallook.domain.member_coupon.dto;
+
+import io.ssafy.mallook.domain.coupon.entity.CouponType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 회원이 보유한 쿠폰의 할인 조건. 견적 계산 시 Redis 에 캐싱된다.
+ */
+@Builder
+public record MemberCouponTermsDto(
+        Long memberCouponId,
+        Long couponId,
+        CouponType type,
+        Long amount,
+        Long expiredAt
+) {
+    public MemberCouponTermsDto(Long memberCouponId, Long couponId, CouponType type, Long amount, LocalDateTime expiredTime) {
+        this(memberCouponId, couponId, type, amount,
+                expiredTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public boolean isExpired(long now) {
+        return expiredAt < now;
+    }
+
+    public long discount(long price) {
+        return switch (type) {
+            case MONEY -> Math.min(amount, price);
+            case RATIO -> price * amount / 100;
+        };
+    }
+}
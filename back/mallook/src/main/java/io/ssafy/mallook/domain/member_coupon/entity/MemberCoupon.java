@@ -17,7 +17,11 @@ import org.hibernate.annotations.SQLRestriction;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "member_coupon")
+@Table(name = "member_coupon",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_member_coupon_member_coupon",
+                columnNames = {"member_id", "coupon_id"}),
+        indexes = @Index(name = "idx_member_coupon_coupon_status", columnList = "coupon_id, status"))
 @SQLRestriction("status=TRUE")
 public class MemberCoupon extends BaseEntity {
     @Id
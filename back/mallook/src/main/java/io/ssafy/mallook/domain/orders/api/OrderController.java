@@ -1,12 +1,16 @@
 package io.ssafy.mallook.domain.orders.api;
 
+import io.ssafy.mallook.domain.orders.application.OrderQuoteService;
 import io.ssafy.mallook.domain.orders.application.OrderService;
 import io.ssafy.mallook.domain.orders.dto.request.OrderCreateDto;
 import io.ssafy.mallook.domain.orders.dto.request.OrderDeleteDto;
 import io.ssafy.mallook.domain.orders.dto.request.OrderDirectInsertReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderDirectQuoteReq;
 import io.ssafy.mallook.domain.orders.dto.request.OrderInsertReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderQuoteReq;
 import io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto;
 import io.ssafy.mallook.domain.orders.dto.response.OrderListDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
 import io.ssafy.mallook.global.common.BaseResponse;
 import io.ssafy.mallook.global.common.code.SuccessCode;
 import io.ssafy.mallook.global.security.user.UserSecurityDTO;
@@ -35,6 +39,7 @@ import static java.util.Objects.isNull;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderQuoteService orderQuoteService;
 
     @Operation(summary = "주문 정보 리스트 조회",
             responses = {
@@ -49,7 +54,7 @@ public class OrderController {
                      direction = Sort.Direction.DESC) Pageable pageable,
              @RequestParam(required = false) Long cursor) {
         UUID id = principal.getId();
-        cursor = !isNull(cursor) ? cursor : orderService.findMaxOrderId();
+        cursor = !isNull(cursor) ? cursor : Long.MAX_VALUE;
 
         return BaseResponse.success(
                 SuccessCode.SELECT_SUCCESS,
@@ -99,6 +104,36 @@ public class OrderController {
         );
     }
 
+    @Operation(summary = "장바구니 견적 조회",
+            description = "현재 상품 가격, 쿠폰, 등급 할인을 적용한 서명된 견적을 반환합니다. 주문 시 그대로 전달하면 재계산 없이 사용됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "견적 조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "견적 조회 실패")
+            })
+    @PostMapping("/quote")
+    public ResponseEntity<BaseResponse<OrderQuoteRes>> quoteOrder(@AuthenticationPrincipal UserSecurityDTO principal,
+                                                                 @RequestBody @Valid OrderQuoteReq quoteReq) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                orderQuoteService.quote(principal.getId(), quoteReq)
+        );
+    }
+
+    @Operation(summary = "직접 구매 견적 조회",
+            description = "상품 하나를 바로 구매할 때의 서명된 견적을 반환합니다. 직접 주문 시 그대로 전달하면 재계산 없이 사용됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "견적 조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "견적 조회 실패")
+            })
+    @PostMapping("/quote/direct")
+    public ResponseEntity<BaseResponse<OrderQuoteRes>> quoteDirectOrder(@AuthenticationPrincipal UserSecurityDTO principal,
+                                                                       @RequestBody @Valid OrderDirectQuoteReq quoteReq) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                orderQuoteService.quoteDirect(principal.getId(), quoteReq)
+        );
+    }
+
     @Operation(summary = "직접 주문 요청",
             responses = {
                     @ApiResponse(responseCode = "200", description = "직접 주문 성공"),
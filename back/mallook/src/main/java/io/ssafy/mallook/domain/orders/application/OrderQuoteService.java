@@ -0,0 +1,15 @@
+package io.ssafy.mallook.domain.orders.application;
+
+import io.ssafy.mallook.domain.orders.dto.request.OrderDirectQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
+
+import java.util.UUID;
+
+public interface OrderQuoteService {
+    OrderQuoteRes quote(UUID memberId, OrderQuoteReq quoteReq);
+
+    OrderQuoteRes quoteDirect(UUID memberId, OrderDirectQuoteReq quoteReq);
+
+    OrderQuoteRes verify(UUID memberId, OrderQuoteRes quote);
+}
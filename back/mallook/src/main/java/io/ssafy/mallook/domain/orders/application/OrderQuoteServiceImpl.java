@@ -0,0 +1,175 @@
+package io.ssafy.mallook.domain.orders.application;
+
+import io.ssafy.mallook.domain.cart.dao.CartRepository;
+import io.ssafy.mallook.domain.cart.dto.response.CartDetailRes;
+import io.ssafy.mallook.domain.grade.util.DiscountDiplomacy;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponTermsDto;
+import io.ssafy.mallook.domain.orders.dto.request.OrderDirectQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteLineDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
+import io.ssafy.mallook.domain.product.entity.Products;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import io.ssafy.mallook.global.util.HmacSigner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Log4j2
+public class OrderQuoteServiceImpl implements OrderQuoteService {
+
+    private static final long QUOTE_VALID_MILLIS = 10 * 60 * 1000L;
+
+    private final CartRepository cartRepository;
+    private final ProductsRepository productsRepository;
+    private final MemberCouponRepository memberCouponRepository;
+    private final MemberCouponRedisDao memberCouponRedisDao;
+    private final DiscountDiplomacy discountDiplomacy;
+    private final HmacSigner hmacSigner;
+
+    @Override
+    public OrderQuoteRes quote(UUID memberId, OrderQuoteReq quoteReq) {
+        List<CartDetailRes> cartProducts = findCartProducts(memberId, quoteReq.cartProductList());
+
+        // 현재 상품 가격은 한 번의 $in 조회로 가져온다
+        Set<String> productIds = cartProducts.stream()
+                .map(CartDetailRes::productId)
+                .collect(Collectors.toSet());
+        Map<String, Products> products = productsRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(product -> product.getId().toHexString(), Function.identity()));
+
+        List<OrderQuoteLineDto> lines = cartProducts.stream()
+                .map(cartProduct -> toLine(cartProduct, products.get(cartProduct.productId())))
+                .toList();
+        return sign(memberId, quoteReq.memberCouponId(), lines);
+    }
+
+    // 장바구니를 거치지 않는 상품 하나의 견적. 상품 줄의 cartProductId 는 null 이다
+    @Override
+    public OrderQuoteRes quoteDirect(UUID memberId, OrderDirectQuoteReq quoteReq) {
+        Products product = productsRepository.findById(quoteReq.productId())
+                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_PRODUCT));
+        OrderQuoteLineDto line = OrderQuoteLineDto.builder()
+                .productId(quoteReq.productId())
+                .price(product.getPrice())
+                .count(quoteReq.count())
+                .fee(Objects.requireNonNullElse(product.getFee(), 0))
+                .build();
+        return sign(memberId, quoteReq.memberCouponId(), List.of(line));
+    }
+
+    private OrderQuoteRes sign(UUID memberId, Long memberCouponId, List<OrderQuoteLineDto> lines) {
+        long subtotalPrice = lines.stream().mapToLong(line -> (long) line.price() * line.count()).sum();
+        long totalFee = lines.stream().mapToLong(OrderQuoteLineDto::fee).sum();
+        long totalCount = lines.stream().mapToLong(OrderQuoteLineDto::count).sum();
+
+        // 쿠폰 할인 후 남은 금액에 등급 할인율 적용
+        long couponDiscount = isNull(memberCouponId)
+                ? 0L
+                : findCouponTerms(memberId, memberCouponId).discount(subtotalPrice);
+        long gradeDiscount = (subtotalPrice - couponDiscount) * discountDiplomacy.discount(memberId) / 100;
+
+        OrderQuoteRes quote = OrderQuoteRes.builder()
+                .lines(lines)
+                .memberCouponId(memberCouponId)
+                .subtotalPrice(subtotalPrice)
+                .couponDiscount(couponDiscount)
+                .gradeDiscount(gradeDiscount)
+                .totalPrice(subtotalPrice - couponDiscount - gradeDiscount)
+                .totalFee(totalFee)
+                .totalCount(totalCount)
+                .expiresAt(System.currentTimeMillis() + QUOTE_VALID_MILLIS)
+                .build();
+        return quote.toBuilder()
+                .signature(hmacSigner.sign(payload(memberId, quote)))
+                .build();
+    }
+
+    @Override
+    public OrderQuoteRes verify(UUID memberId, OrderQuoteRes quote) {
+        if (isNull(quote.lines()) || quote.lines().isEmpty()
+                || !hmacSigner.verify(payload(memberId, quote), quote.signature())) {
+            throw new BaseExceptionHandler(ErrorCode.INVALID_ORDER_QUOTE);
+        }
+        if (quote.expiresAt() < System.currentTimeMillis()) {
+            throw new BaseExceptionHandler(ErrorCode.EXPIRED_ORDER_QUOTE);
+        }
+        return quote;
+    }
+
+    private List<CartDetailRes> findCartProducts(UUID memberId, List<Long> cartProductIdList) {
+        List<CartDetailRes> cartProducts = cartRepository.findProductsInCart(memberId);
+        if (nonNull(cartProductIdList)) {
+            Set<Long> requested = new HashSet<>(cartProductIdList);
+            cartProducts = cartProducts.stream()
+                    .filter(cartProduct -> requested.contains(cartProduct.cartProductId()))
+                    .toList();
+            if (cartProducts.size() != requested.size()) {
+                throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR);
+            }
+        }
+        if (cartProducts.isEmpty()) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR);
+        }
+        return cartProducts;
+    }
+
+    private OrderQuoteLineDto toLine(CartDetailRes cartProduct, Products product) {
+        if (isNull(product)) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_PRODUCT);
+        }
+        int fee = nonNull(product.getFee()) ? product.getFee() : Objects.requireNonNullElse(cartProduct.fee(), 0);
+        return OrderQuoteLineDto.builder()
+                .cartProductId(cartProduct.cartProductId())
+                .productId(cartProduct.productId())
+                .price(product.getPrice())
+                .count(cartProduct.count())
+                .fee(fee)
+                .build();
+    }
+
+    private MemberCouponTermsDto findCouponTerms(UUID memberId, Long memberCouponId) {
+        MemberCouponTermsDto terms = memberCouponRedisDao.getTerms(memberId, memberCouponId)
+                .orElseGet(() -> {
+                    MemberCouponTermsDto found = memberCouponRepository.findTerms(memberId, memberCouponId)
+                            .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_COUPON));
+                    memberCouponRedisDao.saveTerms(memberId, found);
+                    return found;
+                });
+        if (terms.isExpired(System.currentTimeMillis())) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_COUPON);
+        }
+        return terms;
+    }
+
+    private String payload(UUID memberId, OrderQuoteRes quote) {
+        StringJoiner joiner = new StringJoiner("|")
+                .add(String.valueOf(memberId))
+                .add(String.valueOf(quote.memberCouponId()))
+                .add(String.valueOf(quote.subtotalPrice()))
+                .add(String.valueOf(quote.couponDiscount()))
+                .add(String.valueOf(quote.gradeDiscount()))
+                .add(String.valueOf(quote.totalPrice()))
+                .add(String.valueOf(quote.totalFee()))
+                .add(String.valueOf(quote.totalCount()))
+                .add(String.valueOf(quote.expiresAt()));
+        quote.lines().forEach(line -> joiner.add(line.cartProductId() + ":" + line.productId() + ":"
+                + line.price() + ":" + line.count() + ":" + line.fee()));
+        return joiner.toString();
+    }
+}
@@ -4,17 +4,23 @@ import io.ssafy.mallook.domain.cart.dao.CartRepository;
 import io.ssafy.mallook.domain.cart.entity.Cart;
 import io.ssafy.mallook.domain.cart_product.dao.CartProductRepository;
 import io.ssafy.mallook.domain.cart_product.entity.CartProduct;
-import io.ssafy.mallook.domain.coupon.entity.Coupon;
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
 import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
 import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.domain.orders.dao.OrderHistoryRepository;
 import io.ssafy.mallook.domain.orders.dao.OrderRepository;
 import io.ssafy.mallook.domain.orders.dto.request.OrderCreateDto;
 import io.ssafy.mallook.domain.orders.dto.request.OrderDeleteDto;
 import io.ssafy.mallook.domain.orders.dto.request.OrderDirectInsertReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderDirectQuoteReq;
 import io.ssafy.mallook.domain.orders.dto.request.OrderInsertReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.request.ProductHistoryDto;
 import io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto;
 import io.ssafy.mallook.domain.orders.dto.response.OrderListDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteLineDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
 import io.ssafy.mallook.domain.orders.entity.Orders;
 import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
 import io.ssafy.mallook.domain.product.entity.Products;
@@ -24,14 +30,18 @@ import io.ssafy.mallook.global.common.code.ErrorCode;
 import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,25 +50,26 @@ import java.util.UUID;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
     private final MemberRepository memberRepository;
     private final ProductHistoryRepository productHistoryRepository;
     private final ProductsRepository productsRepository;
     private final CartProductRepository cartProductRepository;
     private final CartRepository cartRepository;
     private final MemberCouponRepository memberCouponRepository;
+    private final MemberCouponRedisDao memberCouponRedisDao;
+    private final OrderQuoteService orderQuoteService;
 
     @Override
     public Slice<OrderListDto> getOrderList(Long cursor, UUID id, Pageable pageable) {
-        Member proxyMember = memberRepository.getReferenceById(id);
-        return orderRepository.findByIdLessThanAndMemberOrderByIdDesc(cursor, proxyMember, pageable)
-                .map(OrderListDto::toDto);
+        // keyset 페이징이므로 offset/sort 없이 크기만 사용
+        return orderHistoryRepository.findOrderList(id, cursor, PageRequest.of(0, pageable.getPageSize()));
     }
 
     @Override
     public OrderDetailDto getOrderDetail(Long id) {
-        return orderRepository.findById(id)
-                .map(OrderDetailDto::toDto)
-                .orElseThrow();
+        return orderHistoryRepository.findOrderDetail(id)
+                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
     }
 
     @Override
@@ -72,33 +83,36 @@ public class OrderServiceImpl implements OrderService {
     @Transactional
     public void insertDirectOrder(UUID id, OrderDirectInsertReq orderDirectInsertReq) {
         Member proxyMember = memberRepository.getReferenceById(id);
+        ProductHistoryDto productInfo = orderDirectInsertReq.products();
+
+        // 장바구니 주문과 같이 서명된 견적이 있으면 그대로 사용하고, 없으면 서버에서 견적 계산 (클라이언트 총액은 신뢰하지 않음)
+        OrderQuoteRes quote = Objects.nonNull(orderDirectInsertReq.quote())
+                ? orderQuoteService.verify(id, orderDirectInsertReq.quote())
+                : orderQuoteService.quoteDirect(id, new OrderDirectQuoteReq(
+                        orderDirectInsertReq.memberCouponId(), productInfo.productId(), productInfo.count()));
+        OrderQuoteLineDto line = quote.lines().get(0);
+        if (quote.lines().size() != 1
+                || Objects.nonNull(line.cartProductId())
+                || !line.productId().equals(productInfo.productId())
+                || !line.count().equals(productInfo.count())) {
+            throw new BaseExceptionHandler(ErrorCode.INVALID_ORDER_QUOTE);
+        }
+
+        useCoupon(id, quote.memberCouponId());
+
         // order 저장
-        var order = Orders.builder()
-                .totalFee(orderDirectInsertReq.totalFee())
-                .totalCount(orderDirectInsertReq.totalCount())
-                .totalPrice(orderDirectInsertReq.totalPrice())
+        var orderResult = orderRepository.save(Orders.builder()
+                .totalFee(quote.totalFee())
+                .totalCount(quote.totalCount())
+                .totalPrice(quote.totalPrice())
                 .member(proxyMember)
-                .build();
-        // 쿠폰 적용
-        if (Objects.nonNull(orderDirectInsertReq.memberCouponId())) {
-            Coupon memberCoupon = memberCouponRepository.findById(orderDirectInsertReq.memberCouponId())
-                    .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR)).getCoupon();
-            var type = memberCoupon.getType();
-            switch (type) {
-                case MONEY -> order.setTotalPrice(orderDirectInsertReq.totalPrice() - memberCoupon.getAmount());
-                case RATIO -> order.setTotalPrice(orderDirectInsertReq.totalPrice() * memberCoupon.getAmount() / 100);
-            }
-
-            memberCouponRepository.deleteMyCoupon(List.of(orderDirectInsertReq.memberCouponId()));
-        }
-        var orderResult = orderRepository.save(order);
-        // producthistory 저장, 장바구니 삭제
-        var productInfo = orderDirectInsertReq.products();
-        Products product = productsRepository.findById(productInfo.productId())
+                .build());
+        // producthistory 저장
+        Products product = productsRepository.findById(line.productId())
                 .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
         productHistoryRepository.save(ProductHistory.builder()
-                .productCount(productInfo.count())
-                .productPrice(product.getPrice())
+                .productCount(line.count())
+                .productPrice(line.price())
                 .productName(product.getName())
                 .productImage(product.getImage())
                 .productSize(productInfo.size())
@@ -112,52 +126,76 @@ public class OrderServiceImpl implements OrderService {
     public void insertOrder(UUID id, OrderInsertReq orderInsertReq) {
         Member proxyMember = memberRepository.getReferenceById(id);
 
+        // 서명된 견적이 있으면 재계산 없이 사용, 없으면 서버에서 견적 계산 (클라이언트 총액은 신뢰하지 않음)
+        OrderQuoteRes quote = Objects.nonNull(orderInsertReq.quote())
+                ? orderQuoteService.verify(id, orderInsertReq.quote())
+                : orderQuoteService.quote(id, new OrderQuoteReq(orderInsertReq.memberCouponId(), orderInsertReq.cartProductList()));
+
+        // 직접 구매 견적은 장바구니 상품이 없으므로 장바구니 주문에 쓸 수 없다
+        if (quote.lines().stream().anyMatch(line -> Objects.isNull(line.cartProductId()))) {
+            throw new BaseExceptionHandler(ErrorCode.INVALID_ORDER_QUOTE);
+        }
+
+        useCoupon(id, quote.memberCouponId());
+
         // order 저장
-        var order = Orders.builder()
-                .totalFee(orderInsertReq.totalFee())
-                .totalCount(orderInsertReq.totalCount())
-                .totalPrice(orderInsertReq.totalPrice())
+        var orderResult = orderRepository.save(Orders.builder()
+                .totalFee(quote.totalFee())
+                .totalCount(quote.totalCount())
+                .totalPrice(quote.totalPrice())
                 .member(proxyMember)
-                .build();
-
-        // 쿠폰 적용
-        if (Objects.nonNull(orderInsertReq.memberCouponId())) {
-            Coupon memberCoupon = memberCouponRepository.findById(orderInsertReq.memberCouponId())
-                    .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR)).getCoupon();
-            var type = memberCoupon.getType();
-            switch (type) {
-                case MONEY -> order.setTotalPrice(orderInsertReq.totalPrice() - memberCoupon.getAmount());
-                case RATIO -> order.setTotalPrice(orderInsertReq.totalPrice() * memberCoupon.getAmount() / 100);
-            }
+                .build());
 
-            memberCouponRepository.deleteMyCoupon(List.of(orderInsertReq.memberCouponId()));
+        Cart cart = cartRepository.findMyCartByMember(proxyMember)
+                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
+        Map<Long, OrderQuoteLineDto> quoteLines = quote.lines().stream()
+                .collect(Collectors.toMap(OrderQuoteLineDto::cartProductId, Function.identity()));
+        List<CartProduct> cartProducts = cartProductRepository.findAllById(quoteLines.keySet());
+        if (cartProducts.size() != quoteLines.size()) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR);
         }
-        var orderResult = orderRepository.save(order);
 
-        // producthistory 저장
-        orderInsertReq.cartProductList().forEach((cartProductId) -> {
-            CartProduct cartProduct = cartProductRepository.findById(cartProductId)
-                    .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
+        // producthistory 저장, 장바구니 상품 삭제
+        long removedPrice = 0L;
+        long removedFee = 0L;
+        long removedCount = 0L;
+        for (CartProduct cartProduct : cartProducts) {
+            OrderQuoteLineDto line = quoteLines.get(cartProduct.getId());
+            if (!cartProduct.getCart().getId().equals(cart.getId())
+                    || !cartProduct.getProductCount().equals(line.count())) {
+                throw new BaseExceptionHandler(ErrorCode.INVALID_ORDER_QUOTE);
+            }
+            // 동시에 같은 상품을 주문한 경우 먼저 삭제한 요청만 주문된다.
+            if (cartProductRepository.deleteCartProduct(cartProduct.getId()) == 0) {
+                throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR);
+            }
             productHistoryRepository.save(ProductHistory.builder()
-                    .productCount(cartProduct.getProductCount())
-                    .productPrice(cartProduct.getProductPrice())
+                    .productCount(line.count())
+                    .productPrice(line.price())
                     .productName(cartProduct.getProductName())
                     .productImage(cartProduct.getProductImage())
                     .productSize(cartProduct.getProductSize())
                     .productColor(cartProduct.getProductColor())
                     .orders(orderResult)
                     .build());
-            // cartProduct 삭제
-            cartProductRepository.deleteCartProduct(cartProductId);
-        });
+            removedPrice += (long) cartProduct.getProductCount() * cartProduct.getProductPrice();
+            removedFee += cartProduct.getProductFee();
+            removedCount += cartProduct.getProductCount();
+        }
 
-        Cart cart = cartRepository.findMyCartByMember(proxyMember)
-                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
-        // cart 업데이트..
-        cart.setTotalCount(cart.getTotalCount() - orderInsertReq.totalCount());
-        cart.setTotalFee(cart.getTotalFee() - orderInsertReq.totalFee());
-        cart.setTotalPrice(cart.getTotalPrice() - orderInsertReq.totalPrice());
-        cartRepository.save(cart);
+        // cart 업데이트 (단일 UPDATE)
+        cartRepository.addTotals(cart.getId(), -removedPrice, -removedFee, -removedCount);
+    }
+
+    // 요청한 회원이 가진, 아직 쓰지 않은 쿠폰만 사용 처리한다
+    private void useCoupon(UUID memberId, Long memberCouponId) {
+        if (Objects.isNull(memberCouponId)) {
+            return;
+        }
+        if (memberCouponRepository.useMyCoupon(memberId, memberCouponId) == 0) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_COUPON);
+        }
+        memberCouponRedisDao.deleteTerms(memberId, memberCouponId);
     }
 
     @Override
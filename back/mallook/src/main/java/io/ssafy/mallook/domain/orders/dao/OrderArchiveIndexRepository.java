@@ -0,0 +1,15 @@
+package io.ssafy.mallook.domain.orders.dao;
+
+import io.ssafy.mallook.domain.orders.entity.OrderArchiveIndex;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderArchiveIndexRepository extends JpaRepository<OrderArchiveIndex, Long> {
+
+    List<OrderArchiveIndex> findByMemberIdAndOrderIdLessThanOrderByOrderIdDesc(UUID memberId, Long orderId, Pageable pageable);
+
+    boolean existsByOrderIdAndMemberId(Long orderId, UUID memberId);
+}
@@ -0,0 +1,103 @@
+package io.ssafy.mallook.domain.orders.dao;
+
+import io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderListDto;
+import io.ssafy.mallook.domain.orders.entity.OrderArchiveIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static io.ssafy.mallook.global.batch.dao.ArchiveJdbcDao.archiveTable;
+
+/**
+ * 주문 내역 조회용 저장소. hot 테이블(orders)을 먼저 읽고,
+ * hot 테이블의 마지막 페이지를 넘어선 커서에 대해서만 월별 아카이브 테이블을 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderHistoryRepository {
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveIndexRepository orderArchiveIndexRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private static final RowMapper<OrderListDto> ORDER_LIST_MAPPER = (rs, rowNum) -> OrderListDto.builder()
+            .id(rs.getLong("id"))
+            .price(rs.getLong("total_price"))
+            .fee(rs.getLong("total_fee"))
+            .quantity(rs.getLong("total_count"))
+            .image(rs.getString("product_image"))
+            .productName(rs.getString("product_name"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime().toString())
+            .build();
+
+    public Slice<OrderListDto> findOrderList(UUID memberId, Long cursor, Pageable pageable) {
+        int size = pageable.getPageSize();
+        Slice<OrderListDto> hot = orderRepository.findOrderList(memberId, cursor, PageRequest.of(0, size));
+        if (hot.hasNext()) {
+            return hot;
+        }
+
+        List<OrderListDto> content = new ArrayList<>(hot.getContent());
+        Long archiveCursor = content.isEmpty() ? cursor : content.get(content.size() - 1).id();
+        content.addAll(findArchivedOrderList(memberId, archiveCursor, size - content.size() + 1));
+
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
+    }
+
+    public Optional<OrderDetailDto> findOrderDetail(Long orderId) {
+        return orderRepository.findOrderDetail(orderId)
+                .or(() -> orderArchiveIndexRepository.findById(orderId)
+                        .flatMap(index -> jdbcTemplate.query(
+                                "select total_price, total_count, total_fee from "
+                                        + archiveTable("orders", index.getArchiveMonth()) + " where id = :id",
+                                Map.of("id", orderId),
+                                (rs, rowNum) -> OrderDetailDto.builder()
+                                        .totalPrice(rs.getLong("total_price"))
+                                        .totalCount(rs.getLong("total_count"))
+                                        .totalFee(rs.getLong("total_fee"))
+                                        .build()
+                        ).stream().findFirst()));
+    }
+
+    public boolean existsByIdAndMemberId(Long orderId, UUID memberId) {
+        return orderRepository.existsByIdAndMember_Id(orderId, memberId)
+                || orderArchiveIndexRepository.existsByOrderIdAndMemberId(orderId, memberId);
+    }
+
+    private List<OrderListDto> findArchivedOrderList(UUID memberId, Long cursor, int limit) {
+        List<OrderArchiveIndex> indexList = orderArchiveIndexRepository
+                .findByMemberIdAndOrderIdLessThanOrderByOrderIdDesc(memberId, cursor, PageRequest.of(0, limit));
+        if (indexList.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, List<Long>> idsByMonth = indexList.stream()
+                .collect(Collectors.groupingBy(OrderArchiveIndex::getArchiveMonth,
+                        Collectors.mapping(OrderArchiveIndex::getOrderId, Collectors.toList())));
+        List<OrderListDto> result = new ArrayList<>();
+        idsByMonth.forEach((month, ids) -> {
+            String orders = archiveTable("orders", month);
+            String productHistory = archiveTable("product_history", month);
+            result.addAll(jdbcTemplate.query(
+                    "select o.id, o.total_price, o.total_fee, o.total_count, o.created_at, ph.product_image, ph.product_name"
+                            + " from " + orders + " o"
+                            + " left join " + productHistory + " ph"
+                            + " on ph.id = (select min(p2.id) from " + productHistory + " p2 where p2.orders_id = o.id)"
+                            + " where o.id in (:ids)",
+                    Map.of("ids", ids),
+                    ORDER_LIST_MAPPER));
+        });
+        result.sort(Comparator.comparing(OrderListDto::id).reversed());
+        return result;
+    }
+}
@@ -1,6 +1,8 @@
 package io.ssafy.mallook.domain.orders.dao;
 
 import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderListDto;
 import io.ssafy.mallook.domain.orders.entity.Orders;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -11,12 +13,40 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Orders, Long> {
 
     Slice<Orders> findByIdLessThanAndMemberOrderByIdDesc(Long id, Member member, Pageable pageable);
 
+    @Query("""
+            select new io.ssafy.mallook.domain.orders.dto.response.OrderListDto(
+                o.id, o.totalPrice, o.totalFee, o.totalCount, ph.productImage, ph.productName, o.createdAt
+            )
+            from Orders o
+            left join ProductHistory ph
+                on ph.orders.id = o.id
+                and ph.id = (select min(ph2.id) from ProductHistory ph2 where ph2.orders.id = o.id)
+            where o.member.id = :memberId and o.id < :cursor
+            order by o.id desc
+            """)
+    Slice<OrderListDto> findOrderList(@Param("memberId") UUID memberId,
+                                      @Param("cursor") Long cursor,
+                                      Pageable pageable);
+
+    @Query("""
+            select new io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto(
+                o.totalPrice, o.totalCount, o.totalFee
+            )
+            from Orders o
+            where o.id = :id
+            """)
+    Optional<OrderDetailDto> findOrderDetail(@Param("id") Long id);
+
+    boolean existsByIdAndMember_Id(Long id, UUID memberId);
+
     Long countByMember(Member member);
 
     @Modifying(clearAutomatically = true)
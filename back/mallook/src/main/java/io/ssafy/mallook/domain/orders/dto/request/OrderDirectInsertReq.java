@@ -1,18 +1,21 @@
 package io.ssafy.mallook.domain.orders.dto.request;
 
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "직접 구매 요청 시 요청 DTO")
 public record OrderDirectInsertReq(
-        @Schema(description = "총액")
+        @Schema(description = "총액 (서버에서 다시 계산하므로 사용하지 않음)")
         Long totalPrice,
-        @Schema(description = "배송비")
+        @Schema(description = "배송비 (서버에서 다시 계산하므로 사용하지 않음)")
         Long totalFee,
         @Schema(description = "사용할 쿠폰 id")
         Long memberCouponId,
-        @Schema(description = "개수")
+        @Schema(description = "개수 (서버에서 다시 계산하므로 사용하지 않음)")
         Long totalCount,
         @Schema(description = "상품 정보")
-        ProductHistoryDto products
+        ProductHistoryDto products,
+        @Schema(description = "직접 구매 견적 API 로 받은 서명된 견적. 있으면 재계산 없이 그대로 사용")
+        OrderQuoteRes quote
 ) {
 }
@@ -0,0 +1,20 @@
+package io.ssafy.mallook.domain.orders.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "직접 구매 견적 요청 DTO")
+public record OrderDirectQuoteReq(
+        @Schema(description = "사용할 쿠폰 id")
+        Long memberCouponId,
+        @NotBlank
+        @Schema(description = "상품 id")
+        String productId,
+        @NotNull
+        @Min(1)
+        @Schema(description = "상품 개수")
+        Integer count
+) {
+}
@@ -1,23 +1,26 @@
 package io.ssafy.mallook.domain.orders.dto.request;
 
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
 
 @Schema(description = "장바구니에서 상품 구매 시 요청 DTO")
 public record OrderInsertReq(
-        @Schema(description = "총액")
+        @Schema(description = "총액 (서버에서 다시 계산하므로 사용하지 않음)")
         Long totalPrice,
-        @Schema(description = "배송비")
+        @Schema(description = "배송비 (서버에서 다시 계산하므로 사용하지 않음)")
         Long totalFee,
-        @Schema(description = "총 개수")
+        @Schema(description = "총 개수 (서버에서 다시 계산하므로 사용하지 않음)")
         Long totalCount,
         @Schema(description = "장바구니 id")
         Long cartId,
         @Schema(description = "사용할 쿠폰 id")
         Long memberCouponId,
         @Schema(description = "장바구니 내 상품 번호 리스트")
-        List<Long> cartProductList
+        List<Long> cartProductList,
+        @Schema(description = "견적 API 로 받은 서명된 견적. 있으면 재계산 없이 그대로 사용")
+        OrderQuoteRes quote
 ) {
 }
 
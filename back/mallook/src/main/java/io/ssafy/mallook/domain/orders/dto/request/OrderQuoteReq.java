@@ -0,0 +1,14 @@
+package io.ssafy.mallook.domain.orders.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "장바구니 견적 요청 DTO")
+public record OrderQuoteReq(
+        @Schema(description = "사용할 쿠폰 id")
+        Long memberCouponId,
+        @Schema(description = "견적 낼 장바구니 내 상품 번호 리스트 (없으면 장바구니 전체)")
+        List<Long> cartProductList
+) {
+}
@@ -4,6 +4,8 @@ import io.ssafy.mallook.domain.orders.entity.Orders;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
+import java.time.LocalDateTime;
+
 @Schema(description = "주문 리스트 조회시 응답 DTO")
 @Builder
 public record OrderListDto(
@@ -22,6 +24,11 @@ public record OrderListDto(
         @Schema(description = "주문일")
         String createdAt) {
 
+    public OrderListDto(Long id, Long price, Long fee, Long quantity, String image, String productName,
+                        LocalDateTime createdAt) {
+        this(id, price, fee, quantity, image, productName, createdAt.toString());
+    }
+
     public static OrderListDto toDto(Orders order) {
         return OrderListDto.builder()
                 .id(order.getId())
@@ -0,0 +1,20 @@
+package io.ssafy.mallook.domain.orders.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "견적 내 상품별 금액 DTO")
+@Builder
+public record OrderQuoteLineDto(
+        @Schema(description = "장바구니 내 상품 id")
+        Long cartProductId,
+        @Schema(description = "상품 id")
+        String productId,
+        @Schema(description = "현재 상품 단가")
+        Integer price,
+        @Schema(description = "상품 개수")
+        Integer count,
+        @Schema(description = "배송료")
+        Integer fee
+) {
+}
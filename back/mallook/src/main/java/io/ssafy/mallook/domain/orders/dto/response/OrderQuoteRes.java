@@ -0,0 +1,32 @@
+package io.ssafy.mallook.domain.orders.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Schema(description = "장바구니 견적 응답 DTO. 주문 시 그대로 전달하면 재계산 없이 사용된다.")
+@Builder(toBuilder = true)
+public record OrderQuoteRes(
+        @Schema(description = "상품별 금액")
+        List<OrderQuoteLineDto> lines,
+        @Schema(description = "사용할 쿠폰 id")
+        Long memberCouponId,
+        @Schema(description = "상품 금액 합계")
+        Long subtotalPrice,
+        @Schema(description = "쿠폰 할인 금액")
+        Long couponDiscount,
+        @Schema(description = "등급 할인 금액")
+        Long gradeDiscount,
+        @Schema(description = "결제 금액 (배송비 제외)")
+        Long totalPrice,
+        @Schema(description = "배송비")
+        Long totalFee,
+        @Schema(description = "총 개수")
+        Long totalCount,
+        @Schema(description = "견적 만료 시각 (epoch millis)")
+        Long expiresAt,
+        @Schema(description = "견적 서명")
+        String signature
+) {
+}
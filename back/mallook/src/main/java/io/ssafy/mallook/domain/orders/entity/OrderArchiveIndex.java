@@ -0,0 +1,34 @@
+package io.ssafy.mallook.domain.orders.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 아카이브 테이블(orders_archive_yyyyMM)로 옮겨진 주문의 위치.
+ * 회원별 주문 내역 조회 시 어느 월 테이블을 읽어야 하는지 찾는 용도로만 사용한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "orders_archive_index", indexes = {
+        @Index(name = "idx_orders_archive_index_member_order", columnList = "member_id, order_id")
+})
+public class OrderArchiveIndex {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id", nullable = false)
+    private UUID memberId;
+
+    @Column(name = "archive_month", nullable = false, length = 6)
+    private String archiveMonth;
+}
@@ -18,7 +18,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @SQLRestriction("status = true")
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_member_status_id", columnList = "member_id, status, id")
+})
 @EqualsAndHashCode(callSuper = true)
 public class Orders extends BaseEntity {
 
@@ -22,6 +22,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -183,4 +184,18 @@ public class ProductController {
                 result
         );
     }
+
+    @Operation(summary = "상품 카탈로그 버전 갱신",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "카탈로그 버전 갱신 성공"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+            })
+    @PostMapping("/catalog-version")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<Long>> refreshCatalogVersion() {
+        return BaseResponse.success(
+                SuccessCode.UPDATE_SUCCESS,
+                productService.refreshCatalogVersion()
+        );
+    }
 }
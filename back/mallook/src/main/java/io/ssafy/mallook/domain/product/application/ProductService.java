@@ -32,4 +32,6 @@ public interface ProductService {
     String getLastMongoProductsId();
 
     ProductPageRes getRecommendedProducts(String subCategory);
+
+    Long refreshCatalogVersion();
 }
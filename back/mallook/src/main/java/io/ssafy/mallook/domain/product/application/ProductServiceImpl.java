@@ -1,5 +1,6 @@
 package io.ssafy.mallook.domain.product.application;
 
+import io.ssafy.mallook.domain.product.dao.CatalogVersionRedisDao;
 import io.ssafy.mallook.domain.product.dao.jpa.ProductCustomRepository;
 import io.ssafy.mallook.domain.product.dao.jpa.ProductRepository;
 import io.ssafy.mallook.domain.product.dao.mongo.ProductsCustomRepository;
@@ -32,6 +33,7 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductsRepository mongoProductsRepository;
     private final ProductsCustomRepository productsCustomRepository;
+    private final CatalogVersionRedisDao catalogVersionRedisDao;
 
     @Override
     public Slice<ProductListDto> getProductList(Long cursor, Pageable pageable, MainCategory mainCategory, SubCategory subCategory) {
@@ -101,4 +103,10 @@ public class ProductServiceImpl implements ProductService {
         var result = productsCustomRepository.getProductsWithManyReviews(pageable.getPageNumber(), pageable.getPageSize());
         return new ProductPageRes(result.getContent(), result.getNumber(), result.getTotalPages());
     }
+
+    // 상품 적재가 끝난 뒤 호출해 상품 목록 캐시를 모두 새로 읽게 한다
+    @Override
+    public Long refreshCatalogVersion() {
+        return catalogVersionRedisDao.increase();
+    }
 }
@@ -0,0 +1,28 @@
+package io.ssafy.mallook.domain.product.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Objects;
+
+/**
+ * 상품 카탈로그 버전. 상품을 적재한 뒤 올리면 상품 목록을 담은 캐시의 key 가 모두 바뀐다.
+ * 적재 도구는 API 대신 같은 key 를 직접 INCR 해도 된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionRedisDao {
+    private final StringRedisTemplate redisTemplate;
+    private static final String CATALOG_VERSION = "product-catalog-version";
+
+    public long getVersion() {
+        String version = redisTemplate.opsForValue().get(CATALOG_VERSION);
+        return Objects.isNull(version) ? 0L : Long.parseLong(version);
+    }
+
+    public long increase() {
+        Long version = redisTemplate.opsForValue().increment(CATALOG_VERSION);
+        return Objects.isNull(version) ? 0L : version;
+    }
+}
@@ -31,4 +31,6 @@ public interface ProductsCustomRepository {
     Page<ProductImgRes> getProductImg(Pageable pageable, String mainCategory, String subCategory);
 
     List<Products> findByKeywordsWithLimit(List<String> keywords);
+
+    List<ProductsListDto> findRankedByKeywords(List<String> keywords, String beforeId, int limit);
 }
@@ -182,4 +182,18 @@ public class ProductsCustomRepositoryImpl implements ProductsCustomRepository {
         Query query = new Query(Criteria.where("keywords").in(keywords)).limit(5);
         return mongoTemplate.find(query, Products.class);
     }
+
+    // 키워드가 하나라도 맞는 상품을 최신순으로 읽는다. beforeId 가 있으면 그보다 오래된 상품부터 읽는다
+    @Override
+    public List<ProductsListDto> findRankedByKeywords(List<String> keywords, String beforeId, int limit) {
+        Query query = new Query(Criteria.where("keywords").in(keywords))
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(limit);
+        if (!isNull(beforeId)) {
+            query.addCriteria(Criteria.where("_id").lt(new ObjectId(beforeId)));
+        }
+        return mongoTemplate.find(query, Products.class).stream()
+                .map(ProductsListDto::toDto)
+                .toList();
+    }
 }
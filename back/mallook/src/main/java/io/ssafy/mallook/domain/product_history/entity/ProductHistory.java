@@ -13,7 +13,9 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "product_history")
+@Table(name = "product_history", indexes = {
+        @Index(name = "idx_product_history_orders_id", columnList = "orders_id, id")
+})
 public class ProductHistory extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,11 +1,12 @@
 package io.ssafy.mallook.domain.script.api;
 
-import io.ssafy.mallook.domain.product.application.ProductService;
 import io.ssafy.mallook.domain.product.dto.response.ProductsPageRes;
+import io.ssafy.mallook.domain.script.application.ScriptJobService;
 import io.ssafy.mallook.domain.script.application.ScriptService;
 import io.ssafy.mallook.domain.script.dto.request.ScriptCreatDto;
 import io.ssafy.mallook.domain.script.dto.request.ScriptDeleteListDto;
 import io.ssafy.mallook.domain.script.dto.response.ScriptDetailDto;
+import io.ssafy.mallook.domain.script.dto.response.ScriptJobRes;
 import io.ssafy.mallook.domain.script.dto.response.ScriptListDto;
 import io.ssafy.mallook.domain.script.dto.response.ScriptProductDto;
 import io.ssafy.mallook.global.common.BaseResponse;
@@ -21,10 +22,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Objects;
@@ -40,7 +43,7 @@ import static java.util.Objects.isNull;
 public class ScriptController {
 
     private final ScriptService scriptService;
-    private final ProductService productService;
+    private final ScriptJobService scriptJobService;
 
     @Operation(
             summary = "전체 스크립트 목록 조회",
@@ -51,6 +54,7 @@ public class ScriptController {
     )
     @GetMapping("/all")
     public ResponseEntity<BaseResponse<Slice<ScriptListDto>>> getScriptList(
+            @AuthenticationPrincipal UserSecurityDTO principal,
             @PageableDefault(size = 20,
                     sort = "id",
                     direction = Sort.Direction.DESC) Pageable pageable,
@@ -59,7 +63,7 @@ public class ScriptController {
 
         return BaseResponse.success(
                 SuccessCode.SELECT_SUCCESS,
-                scriptService.getScriptList(cursor, pageable)
+                scriptService.getScriptList(cursor, pageable, isNull(principal) ? null : principal.getId())
         );
     }
 
@@ -115,7 +119,7 @@ public class ScriptController {
     @GetMapping("/{scriptId}/product-list")
     public ResponseEntity<BaseResponse<List<ScriptProductDto>>> getScriptRecommend(
             @PathVariable Long scriptId,
-            @PageableDefault(size = 7,
+            @PageableDefault(size = 6,
                     sort = "id",
                     direction = Sort.Direction.DESC) Pageable pageable
     ) {
@@ -140,12 +144,24 @@ public class ScriptController {
                     sort = "id",
                     direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        cursor = !isNull(cursor) ? cursor : productService.getLastMongoProductsId();
-        String finalCursor = cursor;
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                scriptService.getRecommendProductDetail(scriptId, cursor, pageable)
+        );
+    }
 
+    @Operation(
+            summary = "인기 스크립트 목록 조회",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "인기 스크립트 목록 조회 성공")
+            }
+    )
+    @GetMapping("/trending")
+    public ResponseEntity<BaseResponse<List<ScriptListDto>>> getTrendingScripts(
+            @RequestParam(defaultValue = "20") int size) {
         return BaseResponse.success(
                 SuccessCode.SELECT_SUCCESS,
-                scriptService.getRecommendProductDetail(scriptId, finalCursor, pageable)
+                scriptService.getTrendingScripts(size)
         );
     }
 
@@ -174,24 +190,51 @@ public class ScriptController {
     }
 
     @Operation(
-            summary = "스크립트 생성",
+            summary = "스크립트 생성 요청",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "스크립트 생성 성공"),
-                    @ApiResponse(responseCode = "404", description = "스크립트 생성 실패")
+                    @ApiResponse(responseCode = "200", description = "스크립트 생성 요청 성공"),
+                    @ApiResponse(responseCode = "429", description = "스크립트 생성 요청 초과")
             }
     )
     @PostMapping
     public ResponseEntity<BaseResponse<String>> createScript(@AuthenticationPrincipal UserSecurityDTO principal,
                                                              @RequestBody @Valid ScriptCreatDto scriptCreateDto) {
         UUID id = principal.getId();
-        scriptService.createScript(scriptCreateDto, id);
-
         return BaseResponse.success(
                 SuccessCode.INSERT_SUCCESS,
-                "스크립트가 생성되었습니다."
+                scriptJobService.submit(id, scriptCreateDto)
         );
     }
 
+    @Operation(
+            summary = "스크립트 생성 작업 조회",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "스크립트 생성 작업 조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "스크립트 생성 작업 조회 실패")
+            }
+    )
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BaseResponse<ScriptJobRes>> getScriptJob(@AuthenticationPrincipal UserSecurityDTO principal,
+                                                                   @PathVariable String jobId) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                scriptJobService.getJob(principal.getId(), jobId)
+        );
+    }
+
+    @Operation(
+            summary = "스크립트 생성 과정 구독(토큰 스트리밍)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "스크립트 생성 완료 구독 성공"),
+                    @ApiResponse(responseCode = "404", description = "스크립트 생성 작업 조회 실패")
+            }
+    )
+    @GetMapping(value = "/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeScriptJob(@AuthenticationPrincipal UserSecurityDTO principal,
+                                         @PathVariable String jobId) {
+        return scriptJobService.subscribe(principal.getId(), jobId);
+    }
+
     @Operation(
             summary = "스크립트 삭제",
             responses = {
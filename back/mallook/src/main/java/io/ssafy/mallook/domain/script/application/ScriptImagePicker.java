@@ -0,0 +1,38 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsCustomRepository;
+import io.ssafy.mallook.domain.product.entity.Products;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 스크립트 키워드에 맞는 상품 이미지를 골라 대표 이미지와 대체 이미지로 쓴다.
+ * 스크립트를 만들 때와 이미지가 없는 스크립트를 채우는 batch 에서만 Mongo 를 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScriptImagePicker {
+
+    private final ProductsCustomRepository productsCustomRepository;
+
+    /**
+     * 섞은 순서의 이미지 목록을 반환한다. 맞는 상품이 없으면 빈 목록을 반환한다.
+     */
+    public List<String> pick(List<String> keywords) {
+        if (Objects.isNull(keywords) || keywords.isEmpty()) {
+            return List.of();
+        }
+        List<String> images = new ArrayList<>(productsCustomRepository.findByKeywordsWithLimit(keywords).stream()
+                .map(Products::getImage)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+        Collections.shuffle(images);
+        return images;
+    }
+}
@@ -0,0 +1,237 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.script.dao.ScriptJobRedisDao;
+import io.ssafy.mallook.domain.script.dto.ScriptJobDto;
+import io.ssafy.mallook.domain.script.dto.response.ScriptJobRes;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 스크립트 생성 작업의 토큰과 완료를 SSE 로 전달한다.
+ * 노드마다 구독자가 있는 작업에 대해서만 토큰 채널을 하나씩 구독한다.
+ * 구독 전에 생성된 내용은 한 번에 보내고, 그 뒤 토큰은 시작 위치 순서대로 이어서 보낸다.
+ * 받다 만 내용이 대체 문장으로 바뀌면 reset 이벤트로 문장 전체를 보내고, 그 뒤 토큰은 보내지 않는다.
+ * 완료 이벤트(job)를 보내면 연결을 닫으며, 최종 스크립트는 이벤트의 scriptId 로 조회한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ScriptJobBroadcaster {
+
+    private static final String TOKEN_EVENT = "token";
+    private static final String JOB_EVENT = "job";
+    private static final String RESET_EVENT = "reset";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ScriptJobRedisDao scriptJobRedisDao;
+    private final Map<String, JobChannel> channels = new ConcurrentHashMap<>();
+    private MessageListener doneListener;
+
+    @Value("${script.job.emitter-timeout-ms:120000}")
+    private long emitterTimeout;
+
+    @PostConstruct
+    public void init() {
+        doneListener = (message, pattern) -> onDone(new String(message.getBody(), StandardCharsets.UTF_8));
+        listenerContainer.addMessageListener(doneListener, new ChannelTopic(ScriptJobRedisDao.DONE_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        listenerContainer.removeMessageListener(doneListener);
+    }
+
+    public SseEmitter subscribe(ScriptJobDto job) {
+        return register(job, new SseEmitter(emitterTimeout));
+    }
+
+    SseEmitter register(ScriptJobDto job, SseEmitter emitter) {
+        String jobId = job.jobId();
+        if (job.status().isFinished()) {
+            sendJob(emitter, job);
+            return emitter;
+        }
+        Subscriber subscriber = new Subscriber(emitter);
+        channels.compute(jobId, (id, current) -> {
+            JobChannel target = current != null ? current : openChannel(id);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> unregister(jobId, subscriber));
+        emitter.onTimeout(() -> unregister(jobId, subscriber));
+        emitter.onError(e -> unregister(jobId, subscriber));
+
+        // 토큰 채널을 구독한 뒤에 읽어야 그 사이에 생성된 토큰을 놓치지 않는다
+        Optional<String> resetContent = scriptJobRedisDao.getResetContent(jobId);
+        if (resetContent.isPresent()) {
+            synchronized (subscriber) {
+                reset(jobId, subscriber, resetContent.get());
+            }
+        } else {
+            catchUp(jobId, subscriber, scriptJobRedisDao.getContent(jobId));
+        }
+        // 등록하는 사이에 끝난 작업은 완료 알림을 놓쳤을 수 있으므로 다시 확인한다
+        scriptJobRedisDao.find(jobId)
+                .filter(current -> current.status().isFinished())
+                .ifPresent(current -> finish(jobId, subscriber, current));
+        return emitter;
+    }
+
+    void unregister(String jobId, Subscriber subscriber) {
+        channels.computeIfPresent(jobId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            if (!channel.subscribers.isEmpty()) {
+                return channel;
+            }
+            listenerContainer.removeMessageListener(channel.listener);
+            return null;
+        });
+    }
+
+    private JobChannel openChannel(String jobId) {
+        JobChannel channel = new JobChannel();
+        channel.listener = (message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = 0;
+            while (separator < body.length() && Character.isDigit(body.charAt(separator))) {
+                separator++;
+            }
+            try {
+                long start = Long.parseLong(body.substring(0, separator));
+                Chunk chunk = new Chunk(body.substring(separator + 1),
+                        body.charAt(separator) == ScriptJobRedisDao.RESET_SEPARATOR);
+                channel.subscribers.forEach(subscriber -> relay(jobId, subscriber, start, chunk));
+            } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                log.warn("잘못된 스크립트 토큰 메시지 - jobId: {}", jobId);
+            }
+        };
+        listenerContainer.addMessageListener(channel.listener, new ChannelTopic(ScriptJobRedisDao.TOKEN_CHANNEL + jobId));
+        return channel;
+    }
+
+    private void onDone(String jobId) {
+        JobChannel channel = channels.get(jobId);
+        if (Objects.isNull(channel)) {
+            return;
+        }
+        scriptJobRedisDao.find(jobId)
+                .ifPresent(job -> channel.subscribers.forEach(subscriber -> finish(jobId, subscriber, job)));
+    }
+
+    private void catchUp(String jobId, Subscriber subscriber, String content) {
+        synchronized (subscriber) {
+            subscriber.sent = content.getBytes(StandardCharsets.UTF_8).length;
+            if (!content.isEmpty()) {
+                sendToken(jobId, subscriber, content);
+            }
+            drain(jobId, subscriber);
+        }
+    }
+
+    // 메시지는 도착 순서가 보장되지 않으므로 이어지는 위치의 토큰만 보내고 나머지는 기다린다
+    private void relay(String jobId, Subscriber subscriber, long start, Chunk chunk) {
+        synchronized (subscriber) {
+            if (subscriber.caughtUp() && start < subscriber.sent) {
+                return;
+            }
+            subscriber.pending.put(start, chunk);
+            if (subscriber.caughtUp()) {
+                drain(jobId, subscriber);
+            }
+        }
+    }
+
+    private void drain(String jobId, Subscriber subscriber) {
+        subscriber.pending.headMap(subscriber.sent).clear();
+        Chunk chunk;
+        while ((chunk = subscriber.pending.remove(subscriber.sent)) != null) {
+            if (chunk.reset()) {
+                reset(jobId, subscriber, chunk.text());
+                return;
+            }
+            sendToken(jobId, subscriber, chunk.text());
+            subscriber.sent += chunk.text().getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+
+    // 대체 문장을 보낸 뒤에는 늦게 도착한 토큰을 모두 버린다
+    private void reset(String jobId, Subscriber subscriber, String sentence) {
+        subscriber.sent = Subscriber.RESET;
+        subscriber.pending.clear();
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(RESET_EVENT).data(sentence));
+        } catch (IOException | IllegalStateException e) {
+            unregister(jobId, subscriber);
+        }
+    }
+
+    private void sendToken(String jobId, Subscriber subscriber, String token) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(TOKEN_EVENT).data(token));
+        } catch (IOException | IllegalStateException e) {
+            unregister(jobId, subscriber);
+        }
+    }
+
+    private void finish(String jobId, Subscriber subscriber, ScriptJobDto job) {
+        synchronized (subscriber) {
+            sendJob(subscriber.emitter, job);
+        }
+        unregister(jobId, subscriber);
+    }
+
+    private void sendJob(SseEmitter emitter, ScriptJobDto job) {
+        try {
+            emitter.send(SseEmitter.event().name(JOB_EVENT).data(ScriptJobRes.toDto(job)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("스크립트 작업 완료 전송 실패 - jobId: {}", job.jobId());
+        }
+    }
+
+    private static class JobChannel {
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        private MessageListener listener;
+    }
+
+    // 토큰 또는 받다 만 내용을 바꿀 대체 문장
+    private record Chunk(String text, boolean reset) {
+    }
+
+    static class Subscriber {
+        private static final long NOT_CAUGHT_UP = -1;
+        private static final long RESET = Long.MAX_VALUE;
+
+        private final SseEmitter emitter;
+        // 이 구독자에게 보낸 내용의 byte 길이, 대체 문장을 보냈으면 RESET
+        private long sent = NOT_CAUGHT_UP;
+        // 시작 위치별로 아직 보내지 못한 토큰
+        private final TreeMap<Long, Chunk> pending = new TreeMap<>();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private boolean caughtUp() {
+            return sent != NOT_CAUGHT_UP;
+        }
+    }
+}
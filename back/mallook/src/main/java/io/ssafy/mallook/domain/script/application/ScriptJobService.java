@@ -0,0 +1,130 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.script.dao.ScriptJobRedisDao;
+import io.ssafy.mallook.domain.script.dto.ScriptJobDto;
+import io.ssafy.mallook.domain.script.dto.ScriptJobStatus;
+import io.ssafy.mallook.domain.script.dto.request.ScriptCreatDto;
+import io.ssafy.mallook.domain.script.dto.request.ScriptDeleteListDto;
+import io.ssafy.mallook.domain.script.dto.response.ScriptJobRes;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 스크립트 생성을 작업으로 받아 GPT 호출을 요청 스레드와 트랜잭션 밖에서 처리한다.
+ * scriptJobExecutor 로 작업자 수와 대기열 크기를 제한해, 대기열이 가득 차면 기다리게 하지 않고 바로 TOO_MANY_SCRIPT_JOBS 로 거절한다.
+ * 문장은 ScriptSentencePool 에서 받고, GPT 를 부르면 스트리밍으로 받아 토큰마다 기록한다. 스크립트는 응답이 끝난 뒤에 저장한다.
+ * 결과는 작업 조회로 확인하거나 SSE 로 생성되는 토큰과 함께 받는다.
+ * 대기 중이거나 실행 중인 작업은 script.job.heartbeat-interval-ms 마다 heartbeat 를 남기고,
+ * 노드가 죽어 script.job.stale-after-ms 동안 heartbeat 가 없는 작업은 조회하거나 구독할 때 실패로 바꾼다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ScriptJobService {
+
+    private final ScriptSentencePool scriptSentencePool;
+    private final ScriptService scriptService;
+    private final ScriptImagePicker scriptImagePicker;
+    private final ScriptJobRedisDao scriptJobRedisDao;
+    private final ScriptJobBroadcaster scriptJobBroadcaster;
+    private final ThreadPoolTaskExecutor scriptJobExecutor;
+    // 이 노드가 맡아 아직 끝나지 않은 작업
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+
+    // 기본값은 GPT 호출 제한 시간(chatgpt.timeout-seconds)의 두 배
+    @Value("${script.job.stale-after-ms:120000}")
+    private long staleAfterMillis;
+
+    /**
+     * 작업을 기록하고 대기열에 넣은 뒤 작업 id 를 반환한다.
+     */
+    public String submit(UUID memberId, ScriptCreatDto scriptCreateDto) {
+        String jobId = UUID.randomUUID().toString();
+        scriptJobRedisDao.create(jobId, memberId);
+        activeJobs.add(jobId);
+        try {
+            scriptJobExecutor.execute(() -> run(jobId, memberId, scriptCreateDto));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(jobId);
+            scriptJobRedisDao.delete(jobId);
+            throw new BaseExceptionHandler(ErrorCode.TOO_MANY_SCRIPT_JOBS);
+        }
+        return jobId;
+    }
+
+    public ScriptJobRes getJob(UUID memberId, String jobId) {
+        return ScriptJobRes.toDto(findJob(memberId, jobId));
+    }
+
+    /**
+     * 생성되는 토큰과 완료 결과를 SSE 로 받는다.
+     */
+    public SseEmitter subscribe(UUID memberId, String jobId) {
+        return scriptJobBroadcaster.subscribe(findJob(memberId, jobId));
+    }
+
+    @Scheduled(fixedDelayString = "${script.job.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        if (activeJobs.isEmpty()) {
+            return;
+        }
+        try {
+            scriptJobRedisDao.heartbeat(Set.copyOf(activeJobs));
+        } catch (RuntimeException e) {
+            log.warn("스크립트 작업 heartbeat 실패: jobs={}", activeJobs.size(), e);
+        }
+    }
+
+    void run(String jobId, UUID memberId, ScriptCreatDto scriptCreateDto) {
+        try {
+            if (!scriptJobRedisDao.start(jobId)) {
+                log.warn("대기 중에 실패로 바뀐 스크립트 작업은 실행하지 않음: jobId={}", jobId);
+                return;
+            }
+            String content = scriptSentencePool.generate(scriptCreateDto.keywordsList(),
+                    token -> scriptJobRedisDao.appendToken(jobId, token),
+                    sentence -> scriptJobRedisDao.resetContent(jobId, sentence));
+            List<String> images = scriptImagePicker.pick(scriptCreateDto.keywordsList());
+            // 생성하는 동안 실패로 바뀐 작업은 회원이 이미 실패로 받았으므로 스크립트를 저장하지 않는다
+            if (!scriptJobRedisDao.isRunning(jobId)) {
+                log.warn("실행 중에 실패로 바뀐 스크립트 작업은 저장하지 않음: jobId={}", jobId);
+                return;
+            }
+            Long scriptId = scriptService.saveScript(memberId, scriptCreateDto, content, images);
+            if (!scriptJobRedisDao.complete(jobId, scriptId)) {
+                log.warn("저장 직후 실패로 바뀐 스크립트 작업의 스크립트를 지움: jobId={}, scriptId={}", jobId, scriptId);
+                scriptService.deleteScript(new ScriptDeleteListDto(List.of(scriptId)));
+            }
+        } catch (RuntimeException e) {
+            log.error("스크립트 생성 실패: jobId={}", jobId, e);
+            scriptJobRedisDao.fail(jobId);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    private ScriptJobDto findJob(UUID memberId, String jobId) {
+        ScriptJobDto job = scriptJobRedisDao.find(jobId)
+                .filter(found -> found.memberId().equals(memberId))
+                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_SCRIPT_JOB));
+        if (!job.status().isFinished()
+                && scriptJobRedisDao.failIfStale(jobId, System.currentTimeMillis() - staleAfterMillis)) {
+            log.warn("heartbeat 가 끊긴 스크립트 작업을 실패로 처리: jobId={}", jobId);
+            return new ScriptJobDto(jobId, memberId, ScriptJobStatus.FAILED, null);
+        }
+        return job;
+    }
+}
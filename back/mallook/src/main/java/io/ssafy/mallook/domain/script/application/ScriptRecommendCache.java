@@ -0,0 +1,121 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.product.dao.CatalogVersionRedisDao;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsCustomRepository;
+import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
+import io.ssafy.mallook.domain.script.dao.ScriptRecommendRedisDao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스크립트 키워드 조합별 추천 상품 목록(최신순, 최대 MAX_RANKED 개)을 노드 메모리와 Redis 두 단계로 캐시한다.
+ * 키워드는 앞뒤 공백을 지우고 중복을 뺀 뒤 정렬해 key 로 쓰므로, 같은 조합의 스크립트는 같은 목록을 함께 쓴다.
+ * 한 노드에서 같은 key 를 동시에 놓치면 한 요청만 Mongo 를 조회하고 나머지는 그 결과를 기다린다.
+ * key 에 카탈로그 버전을 넣어, 버전이 오르면 VERSION_CHECK_MILLIS 안에 모든 노드가 새 목록을 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScriptRecommendCache {
+
+    public static final int MAX_RANKED = 240;
+    private static final int MAX_LOCAL_ENTRIES = 1000;
+    private static final long LOCAL_TTL_MILLIS = 60_000L;
+    private static final long VERSION_CHECK_MILLIS = 10_000L;
+
+    private final ProductsCustomRepository productsCustomRepository;
+    private final ScriptRecommendRedisDao scriptRecommendRedisDao;
+    private final CatalogVersionRedisDao catalogVersionRedisDao;
+    private final Map<String, LocalEntry> local = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                    return size() > MAX_LOCAL_ENTRIES;
+                }
+            });
+    private final Map<String, CompletableFuture<List<ProductsListDto>>> loading = new ConcurrentHashMap<>();
+    private volatile CatalogVersion catalogVersion;
+
+    public static List<String> normalize(List<String> keywords) {
+        if (Objects.isNull(keywords)) {
+            return List.of();
+        }
+        return keywords.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    public List<ProductsListDto> getRanked(List<String> keywords) {
+        List<String> normalized = normalize(keywords);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String key = currentCatalogVersion() + ":" + String.join(",", normalized);
+        long now = System.currentTimeMillis();
+        LocalEntry entry = local.get(key);
+        if (Objects.nonNull(entry) && entry.expiresAt() > now) {
+            return entry.products();
+        }
+
+        CompletableFuture<List<ProductsListDto>> mine = new CompletableFuture<>();
+        CompletableFuture<List<ProductsListDto>> running = loading.putIfAbsent(key, mine);
+        if (Objects.nonNull(running)) {
+            return await(running);
+        }
+        try {
+            List<ProductsListDto> products = scriptRecommendRedisDao.get(key).orElseGet(() -> {
+                List<ProductsListDto> loaded = productsCustomRepository.findRankedByKeywords(normalized, null, MAX_RANKED);
+                scriptRecommendRedisDao.save(key, loaded);
+                return loaded;
+            });
+            local.put(key, new LocalEntry(products, now + LOCAL_TTL_MILLIS));
+            mine.complete(products);
+            return products;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private List<ProductsListDto> await(CompletableFuture<List<ProductsListDto>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 요청마다 Redis 를 읽지 않도록 카탈로그 버전은 VERSION_CHECK_MILLIS 동안 노드에 둔다
+    private long currentCatalogVersion() {
+        long now = System.currentTimeMillis();
+        CatalogVersion cached = catalogVersion;
+        if (Objects.isNull(cached) || cached.checkedAt() + VERSION_CHECK_MILLIS <= now) {
+            cached = new CatalogVersion(catalogVersionRedisDao.getVersion(), now);
+            catalogVersion = cached;
+        }
+        return cached.version();
+    }
+
+    private record LocalEntry(List<ProductsListDto> products, long expiresAt) {
+    }
+
+    private record CatalogVersion(long version, long checkedAt) {
+    }
+}
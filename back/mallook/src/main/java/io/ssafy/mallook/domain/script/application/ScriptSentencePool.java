@@ -0,0 +1,179 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.chatgpt.dto.request.QuestionDto;
+import io.ssafy.mallook.domain.chatgpt.prompt.SentenceTemplate;
+import io.ssafy.mallook.domain.chatgpt.service.GptService;
+import io.ssafy.mallook.domain.script.dao.ScriptSentenceRedisDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 키워드 조합별로 GPT 가 만든 스크립트 문장을 POOL_SIZE 개까지 모아 두고 돌려 쓴다.
+ * 문장이 다 모인 조합은 GPT 를 부르지 않고 그중 하나를 고르며, 모이는 동안에는 GPT 로 만든 문장을 더한다.
+ * 문장 목록은 노드 메모리와 Redis 두 단계로 캐시한다.
+ * GPT 호출이 실패하거나 script.sentence.deadline-ms 안에 답변을 끝내지 못하면 모인 문장 중 하나를, 하나도 없으면 SentenceTemplate 문장을 쓴다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ScriptSentencePool {
+
+    public static final int POOL_SIZE = 5;
+    static final int MAX_WARM_ATTEMPTS = POOL_SIZE * 2;
+    static final int MAX_DUPLICATES = 2;
+    private static final int MAX_LOCAL_ENTRIES = 1000;
+    private static final long LOCAL_TTL_MILLIS = 300_000L;
+
+    private final GptService gptService;
+    private final ScriptSentenceRedisDao scriptSentenceRedisDao;
+    private final Map<String, LocalEntry> local = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                    return size() > MAX_LOCAL_ENTRIES;
+                }
+            });
+
+    @Value("${script.sentence.deadline-ms:5000}")
+    private long deadlineMillis;
+
+    /**
+     * 앞뒤 공백을 지우고 중복을 뺀다.
+     * 프롬프트가 맨 앞 키워드를 반드시 넣게 하므로 첫 키워드는 자리를 지키고 나머지만 정렬한다.
+     */
+    public static List<String> normalize(List<String> keywords) {
+        if (Objects.isNull(keywords)) {
+            return List.of();
+        }
+        List<String> distinct = keywords.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .toList();
+        if (distinct.size() <= 1) {
+            return distinct;
+        }
+        return Stream.concat(Stream.of(distinct.get(0)), distinct.subList(1, distinct.size()).stream().sorted())
+                .toList();
+    }
+
+    /**
+     * 스크립트 문장을 만든다. GPT 를 부르면 받은 토큰을 onToken 에 넘기고, 모인 문장이나 템플릿을 쓰면 문장 전체를 한 번 넘긴다.
+     * GPT 가 deadlineMillis 안에 답변을 끝내지 못하거나 실패하면 대체 문장을 쓰며,
+     * 이미 넘긴 토큰이 있으면 대체 문장을 onReset 에 넘겨 받다 만 내용을 바꾸게 한다.
+     */
+    public String generate(List<String> keywords, Consumer<String> onToken, Consumer<String> onReset) {
+        List<String> normalized = normalize(keywords);
+        String key = String.join(",", normalized);
+        List<String> sentences = getSentences(key);
+        if (sentences.size() >= POOL_SIZE) {
+            String sentence = pick(sentences);
+            onToken.accept(sentence);
+            return sentence;
+        }
+
+        AtomicBoolean streamed = new AtomicBoolean(false);
+        try {
+            String answer = gptService.streamQuestion(question(normalized), Duration.ofMillis(deadlineMillis), token -> {
+                streamed.set(true);
+                onToken.accept(token);
+            }).answer();
+            add(key, sentences, answer);
+            return answer;
+        } catch (RuntimeException e) {
+            log.warn("GPT 문장 생성 실패, 대체 문장 사용: keywords={}", key, e);
+            String sentence = sentences.isEmpty() ? SentenceTemplate.generate(normalized) : pick(sentences);
+            if (streamed.get()) {
+                onReset.accept(sentence);
+            } else {
+                onToken.accept(sentence);
+            }
+            return sentence;
+        }
+    }
+
+    /**
+     * 키워드 조합의 문장을 채운다. 이미 있는 스크립트 문장을 먼저 넣고, 모자란 만큼 GPT 를 부른다.
+     * 한 조합에 GPT 를 MAX_WARM_ATTEMPTS 번, 전체 한도 maxCalls 번까지만 부르고,
+     * 이미 있는 문장이 MAX_DUPLICATES 번 나오거나 GPT 호출이 실패하면 이 조합은 그만 채운다.
+     * 부른 GPT 횟수를 반환한다.
+     */
+    public int warm(List<String> keywords, Collection<String> existing, int maxCalls) {
+        List<String> normalized = normalize(keywords);
+        String key = String.join(",", normalized);
+        existing.stream()
+                .filter(Objects::nonNull)
+                .filter(sentence -> !sentence.isBlank())
+                .forEach(sentence -> scriptSentenceRedisDao.add(key, sentence, POOL_SIZE));
+        int maxAttempts = Math.min(maxCalls, MAX_WARM_ATTEMPTS);
+        int calls = 0;
+        int duplicates = 0;
+        List<String> sentences = scriptSentenceRedisDao.getSentences(key);
+        while (sentences.size() < POOL_SIZE && calls < maxAttempts && duplicates < MAX_DUPLICATES) {
+            calls++;
+            String answer;
+            try {
+                answer = gptService.askQuestion(question(normalized)).answer();
+            } catch (RuntimeException e) {
+                log.warn("GPT 문장 미리 채우기 실패, 다음 조합으로 넘어감: keywords={}", key, e);
+                break;
+            }
+            if (answer.isBlank() || sentences.contains(answer)) {
+                duplicates++;
+                continue;
+            }
+            scriptSentenceRedisDao.add(key, answer, POOL_SIZE);
+            sentences = scriptSentenceRedisDao.getSentences(key);
+        }
+        local.remove(key);
+        return calls;
+    }
+
+    private List<String> getSentences(String key) {
+        long now = System.currentTimeMillis();
+        LocalEntry entry = local.get(key);
+        if (Objects.nonNull(entry) && entry.expiresAt() > now) {
+            return entry.sentences();
+        }
+        List<String> sentences = scriptSentenceRedisDao.getSentences(key);
+        local.put(key, new LocalEntry(sentences, now + LOCAL_TTL_MILLIS));
+        return sentences;
+    }
+
+    private void add(String key, List<String> sentences, String sentence) {
+        if (sentence.isBlank() || sentences.contains(sentence)) {
+            return;
+        }
+        scriptSentenceRedisDao.add(key, sentence, POOL_SIZE);
+        // 다음 요청이 새 문장까지 보도록 노드의 목록을 다시 읽게 한다
+        local.remove(key);
+    }
+
+    private QuestionDto question(List<String> normalized) {
+        return QuestionDto.builder()
+                .content(String.join(", ", normalized))
+                .build();
+    }
+
+    private String pick(List<String> sentences) {
+        return sentences.get(ThreadLocalRandom.current().nextInt(sentences.size()));
+    }
+
+    private record LocalEntry(List<String> sentences, long expiresAt) {
+    }
+}
@@ -6,7 +6,6 @@ import io.ssafy.mallook.domain.script.dto.request.ScriptDeleteListDto;
 import io.ssafy.mallook.domain.script.dto.response.ScriptDetailDto;
 import io.ssafy.mallook.domain.script.dto.response.ScriptListDto;
 import io.ssafy.mallook.domain.script.dto.response.ScriptProductDto;
-import io.ssafy.mallook.domain.script.entity.Script;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -19,7 +18,9 @@ public interface ScriptService {
 
     Slice<ScriptListDto> getScriptList(Long cursor, UUID id, Pageable pageable);
 
-    Slice<ScriptListDto> getScriptList(Long cursor, Pageable pageable);
+    Slice<ScriptListDto> getScriptList(Long cursor, Pageable pageable, UUID memberId);
+
+    List<ScriptListDto> getTrendingScripts(int size);
 
     List<ScriptProductDto> getRecommendProductById(Long scriptId, Pageable pageable);
 
@@ -31,9 +32,7 @@ public interface ScriptService {
 
     ScriptDetailDto getScriptDetail(UUID memberId, Long scriptId);
 
-    void createScript(ScriptCreatDto scriptCreateDto, UUID id);
+    Long saveScript(UUID memberId, ScriptCreatDto scriptCreateDto, String content, List<String> images);
 
     void deleteScript(ScriptDeleteListDto scriptDeleteListDto);
-
-    String findFirstScriptImage(Script script);
 }
@@ -1,16 +1,15 @@
 package io.ssafy.mallook.domain.script.application;
 
-import io.ssafy.mallook.domain.chatgpt.dto.request.QuestionDto;
-import io.ssafy.mallook.domain.chatgpt.dto.response.GptResponseDto;
-import io.ssafy.mallook.domain.chatgpt.service.GptService;
-import io.ssafy.mallook.domain.heart.script_heart.dao.ScriptHeartRepository;
+import io.ssafy.mallook.domain.heart.application.HeartCardService;
+import io.ssafy.mallook.domain.heart.application.HeartRecorder;
+import io.ssafy.mallook.domain.heart.application.HeartStateService;
+import io.ssafy.mallook.domain.heart.application.HeartTrendService;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
 import io.ssafy.mallook.domain.member.entity.Member;
 import io.ssafy.mallook.domain.product.dao.mongo.ProductsCustomRepository;
-import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
-import io.ssafy.mallook.domain.product.dto.request.ProductHotKeywordDto;
+import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
 import io.ssafy.mallook.domain.product.dto.response.ProductsPageRes;
-import io.ssafy.mallook.domain.product.entity.Products;
 import io.ssafy.mallook.domain.script.dao.ScriptRepository;
 import io.ssafy.mallook.domain.script.dto.request.ScriptCreatDto;
 import io.ssafy.mallook.domain.script.dto.request.ScriptDeleteListDto;
@@ -21,20 +20,25 @@ import io.ssafy.mallook.domain.script.entity.Script;
 import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import static io.ssafy.mallook.domain.script.dto.response.ScriptDetailDto.toDto;
 import static io.ssafy.mallook.domain.script.dto.response.ScriptDetailDto.toDtoNotLogin;
 import static io.ssafy.mallook.domain.script.dto.response.ScriptListDto.toDto;
+import static io.ssafy.mallook.global.common.code.ErrorCode.INVALID_PRODUCT_CURSOR;
 import static io.ssafy.mallook.global.common.code.ErrorCode.NOT_FOUND_SCRIPT;
-import static java.util.stream.Collectors.toList;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @RequiredArgsConstructor
@@ -44,10 +48,12 @@ public class ScriptServiceImpl implements ScriptService {
 
     private final MemberRepository memberRepository;
     private final ScriptRepository scriptRepository;
-    private final ProductsRepository mongoProductsRepository;
     private final ProductsCustomRepository productsCustomRepository;
-    private final ScriptHeartRepository scriptHeartRepository;
-    private final GptService gptService;
+    private final HeartRecorder heartRecorder;
+    private final HeartTrendService heartTrendService;
+    private final HeartStateService heartStateService;
+    private final HeartCardService heartCardService;
+    private final ScriptRecommendCache scriptRecommendCache;
 
     @Override
     public Long getMaxScriptId() {
@@ -57,54 +63,86 @@ public class ScriptServiceImpl implements ScriptService {
     @Override
     public Slice<ScriptListDto> getScriptList(Long cursor, UUID id, Pageable pageable) {
         Member proxyMember = memberRepository.getReferenceById(id);
-        return scriptRepository.findByIdLessThanAndMemberOrderByIdDesc(cursor, proxyMember, pageable)
-                .map(script -> {
-                    String imgUrl = this.findFirstScriptImage(script);
-                    return toDto(script, imgUrl);
-                });
+        return toListDtoSlice(scriptRepository.findByIdLessThanAndMemberOrderByIdDesc(cursor, proxyMember, pageable), id);
     }
 
     @Override
-    public Slice<ScriptListDto> getScriptList(Long cursor, Pageable pageable) {
-        return scriptRepository.findByIdLessThanOrderByIdDesc(cursor, pageable)
-                .map(script -> {
-                    String imgUrl = findFirstScriptImage(script);
-                    return toDto(script, imgUrl);
-                });
+    public Slice<ScriptListDto> getScriptList(Long cursor, Pageable pageable, UUID memberId) {
+        return toListDtoSlice(scriptRepository.findByIdLessThanOrderByIdDesc(cursor, pageable), memberId);
+    }
+
+    // 페이지의 좋아요 여부를 한 번에 조회해 각 스크립트에 넣는다
+    private Slice<ScriptListDto> toListDtoSlice(Slice<Script> scripts, UUID memberId) {
+        Set<Long> likedIds = heartStateService.findLikedIds(HeartTarget.SCRIPT, memberId,
+                scripts.getContent().stream().map(Script::getId).toList());
+        return scripts.map(script -> toDto(script, script.getImageUrl(), likedIds.contains(script.getId())));
     }
 
     @Override
-    public List<ScriptProductDto> getRecommendProductById(Long scriptId, Pageable pageable) {
-        Script proxyScript = scriptRepository.getReferenceById(scriptId);
-        List<String> scriptKeyword = proxyScript.getKeywordList();
-        ProductHotKeywordDto productHotKeywordDto = ProductHotKeywordDto.builder()
-                .hotKeywordList(scriptKeyword)
-                .build();
-        String cursor = mongoProductsRepository.findFirstByOrderById().getId().toString();
+    public List<ScriptListDto> getTrendingScripts(int size) {
+        List<Long> trendingIds = heartTrendService.getTrendingIds(HeartTarget.SCRIPT, size);
+        Map<Long, Script> scripts = scriptRepository.findAllById(trendingIds).stream()
+                .collect(toMap(Script::getId, script -> script));
+        // 순위 순서를 유지하고, 삭제된 스크립트는 건너뛴다
+        return trendingIds.stream()
+                .map(scripts::get)
+                .filter(Objects::nonNull)
+                .map(script -> toDto(script, script.getImageUrl()))
+                .toList();
+    }
 
-        return productsCustomRepository.findByKeywordList(productHotKeywordDto.hotKeywordList(), cursor, pageable).content()
-                .stream()
+    @Override
+    public List<ScriptProductDto> getRecommendProductById(Long scriptId, Pageable pageable) {
+        return scriptRecommendCache.getRanked(findScript(scriptId).getKeywordList()).stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
                 .map(ScriptProductDto::toScriptProductDto)
-                .collect(toList());
+                .toList();
     }
 
+    /**
+     * 캐시된 추천 목록에서 cursor (이전 페이지 마지막 상품 id) 다음부터 읽는다.
+     * 캐시 범위를 넘어선 페이지만 Mongo 에서 읽는다.
+     */
     @Override
     public ProductsPageRes getRecommendProductDetail(Long scriptId, String cursor, Pageable pageable) {
-        Script proxyScript = scriptRepository.getReferenceById(scriptId);
-        List<String> scriptKeyword = proxyScript.getKeywordList();
-        ProductHotKeywordDto productHotKeywordDto = ProductHotKeywordDto.builder()
-                .hotKeywordList(scriptKeyword)
+        // cursor 는 상품 id 이므로 ObjectId 로 바꿀 수 없는 값은 Mongo 를 읽기 전에 거절한다
+        if (!isNull(cursor) && !ObjectId.isValid(cursor)) {
+            throw new BaseExceptionHandler(INVALID_PRODUCT_CURSOR);
+        }
+        Script script = findScript(scriptId);
+        List<ProductsListDto> ranked = scriptRecommendCache.getRanked(script.getKeywordList());
+        int size = pageable.getPageSize();
+        // 최신순이므로 cursor 보다 id 가 작은 첫 상품부터 읽는다
+        int start = isNull(cursor) ? 0 : (int) ranked.stream().takeWhile(product -> product.id().compareTo(cursor) >= 0).count();
+        boolean truncated = ranked.size() == ScriptRecommendCache.MAX_RANKED;
+        if (start == ranked.size() && truncated) {
+            List<ProductsListDto> products = productsCustomRepository.findRankedByKeywords(
+                    ScriptRecommendCache.normalize(script.getKeywordList()), cursor, size + 1);
+            return toPageRes(products, size, false);
+        }
+        List<ProductsListDto> products = ranked.subList(start, Math.min(start + size + 1, ranked.size()));
+        return toPageRes(products, size, truncated && start + size >= ranked.size());
+    }
+
+    // size 보다 하나 더 읽어 다음 페이지가 있는지 확인한다
+    private ProductsPageRes toPageRes(List<ProductsListDto> products, int size, boolean moreOutsideCache) {
+        List<ProductsListDto> content = products.subList(0, Math.min(size, products.size()));
+        boolean hasNext = !content.isEmpty() && (products.size() > size || moreOutsideCache);
+        return ProductsPageRes.builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).id() : null)
                 .build();
+    }
 
-        return productsCustomRepository.findByKeywordList(productHotKeywordDto.hotKeywordList(), cursor, pageable);
+    private Script findScript(Long scriptId) {
+        return scriptRepository.findById(scriptId)
+                .orElseThrow(() -> new BaseExceptionHandler(NOT_FOUND_SCRIPT));
     }
 
     public ScriptDetailDto getScriptDetail(Long scriptId) {
         return scriptRepository.findById(scriptId)
-                .map(script -> {
-                    String imgUrl = findFirstScriptImage(script);
-                    return toDtoNotLogin(script, imgUrl);
-                })
+                .map(script -> toDtoNotLogin(script, script.pickImageUrl()))
                 .orElseThrow(() -> new BaseExceptionHandler(NOT_FOUND_SCRIPT));
     }
 
@@ -112,38 +150,25 @@ public class ScriptServiceImpl implements ScriptService {
     public ScriptListDto getLatestScript(UUID id) {
         Member proxyMember = memberRepository.getReferenceById(id);
         return scriptRepository.findTopByMemberOrderByIdDesc(proxyMember)
-                .map(script -> {
-                    String imgUrl = findFirstScriptImage(script);
-                    return toDto(script, imgUrl);
-                })
+                .map(script -> toDto(script, script.getImageUrl()))
                 .orElseThrow(() -> new BaseExceptionHandler(NOT_FOUND_SCRIPT));
     }
 
     @Override
     public ScriptDetailDto getScriptDetail(UUID memberId, Long scriptId) {
-        Member proxyMember = memberRepository.getReferenceById(memberId);
-        Script proxyScript = scriptRepository.getReferenceById(scriptId);
-        boolean hasLike = scriptHeartRepository.findByMemberAndScript(proxyMember, proxyScript).isPresent();
+        boolean hasLike = heartRecorder.isLiked(HeartTarget.SCRIPT, memberId, scriptId);
         return scriptRepository.findById(scriptId)
-                .map(script -> {
-                    String imgUrl = findFirstScriptImage(script);
-                    return toDto(script, hasLike, imgUrl);
-                })
+                .map(script -> toDto(script, hasLike, script.pickImageUrl()))
                 .orElseThrow(() -> new BaseExceptionHandler(NOT_FOUND_SCRIPT));
     }
 
     @Override
     @Transactional
-    public void createScript(ScriptCreatDto scriptCreateDto, UUID id) {
-        Member proxyMember = memberRepository.getReferenceById(id);
-        // ChatGPT에 질문 전달
-        String scriptContent = String.join(", ", scriptCreateDto.keywordsList());
-        QuestionDto questionDto = QuestionDto.builder()
-                .content(scriptContent)
-                .build();
-        GptResponseDto gptResponseDto = gptService.askQuestion(questionDto);
-        Script script = scriptCreateDto.toEntity(proxyMember, gptResponseDto.answer());
-        scriptRepository.save(script);
+    public Long saveScript(UUID memberId, ScriptCreatDto scriptCreateDto, String content, List<String> images) {
+        Member proxyMember = memberRepository.getReferenceById(memberId);
+        Script script = scriptCreateDto.toEntity(proxyMember, content);
+        script.updateImages(images);
+        return scriptRepository.save(script).getId();
     }
 
     @Override
@@ -151,13 +176,6 @@ public class ScriptServiceImpl implements ScriptService {
     public void deleteScript(ScriptDeleteListDto scriptDeleteListDto) {
         log.info(scriptDeleteListDto.toString());
         scriptRepository.deleteScript(scriptDeleteListDto.toDeleteList());
-    }
-
-    @Override
-    public String findFirstScriptImage(Script script) {
-        List<String> scriptKeyword = script.getKeywordList();
-        List<Products> keywordsIn = productsCustomRepository.findByKeywordsWithLimit(scriptKeyword);
-        Collections.shuffle(keywordsIn);
-        return keywordsIn.get(0).getImage();
+        heartCardService.evictAfterCommit(HeartTarget.SCRIPT, scriptDeleteListDto.toDeleteList());
     }
 }
@@ -0,0 +1,201 @@
+package io.ssafy.mallook.domain.script.dao;
+
+import io.ssafy.mallook.domain.script.dto.ScriptJobDto;
+import io.ssafy.mallook.domain.script.dto.ScriptJobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스크립트 생성 작업을 작업마다 hash 하나로 기록한다.
+ * 작업이 끝나면 DONE_CHANNEL 로 작업 id 를 알려, 어느 노드에서 구독하고 있어도 결과를 받을 수 있게 한다.
+ * 생성 중인 내용은 토큰마다 이어 붙이고 TOKEN_CHANNEL + 작업 id 로 "시작 위치:토큰" 을 알린다.
+ * 시작 위치는 이어 붙이기 전 내용의 byte 길이라서, 구독자는 중복되거나 순서가 바뀐 토큰을 걸러낼 수 있다.
+ * 받다 만 내용을 대체 문장으로 바꿀 때는 같은 채널로 "내용 끝 위치!문장" 을 알린다.
+ * 작업을 맡은 노드는 끝날 때까지 heartbeat_at 을 갱신하며, 갱신이 끊긴 작업은 읽는 쪽에서 실패로 바꾼다.
+ * 상태는 PENDING → RUNNING → DONE/FAILED 로만 바뀌므로, 실패로 바뀐 작업을 늦게 끝난 노드가 덮어쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScriptJobRedisDao {
+
+    public static final String DONE_CHANNEL = "script-job-done";
+    public static final String TOKEN_CHANNEL = "script-job-token:";
+    public static final char TOKEN_SEPARATOR = ':';
+    public static final char RESET_SEPARATOR = '!';
+    private final StringRedisTemplate redisTemplate;
+    private static final String SCRIPT_JOB = "script-job:";
+    private static final String SCRIPT_JOB_CONTENT = "script-job-content:";
+    private static final String SCRIPT_JOB_RESET = "script-job-reset:";
+    private static final String MEMBER_ID = "member_id";
+    private static final String STATUS = "status";
+    private static final String SCRIPT_ID = "script_id";
+    private static final String HEARTBEAT_AT = "heartbeat_at";
+    private static final long JOB_TIMEOUT_HOURS = 24L;
+
+    // 끝나지 않은 작업의 heartbeat_at 이 기준 시각보다 오래됐으면 실패로 바꾸고 1 을 반환한다
+    // KEYS[1]: 작업 hash, ARGV[1]: 기준 시각 (epoch millis)
+    private static final RedisScript<Long> FAIL_STALE_SCRIPT = new DefaultRedisScript<>("""
+            local status = redis.call('HGET', KEYS[1], 'status')
+            if status ~= 'PENDING' and status ~= 'RUNNING' then
+                return 0
+            end
+            local heartbeat = tonumber(redis.call('HGET', KEYS[1], 'heartbeat_at') or '0')
+            if heartbeat >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', 'FAILED')
+            return 1
+            """, Long.class);
+
+    // 상태가 ARGV[1] 일 때만 ARGV[2] 로 바꾸고 나머지 ARGV 를 field, value 순서로 함께 기록한 뒤 1 을 반환한다
+    // KEYS[1]: 작업 hash, ARGV[1]: 현재 상태, ARGV[2]: 바꿀 상태, ARGV[3..]: field, value
+    private static final RedisScript<Long> TRANSITION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[2])
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    public void create(String jobId, UUID memberId) {
+        String key = SCRIPT_JOB + jobId;
+        hash().putAll(key, Map.of(MEMBER_ID, memberId.toString(), STATUS, ScriptJobStatus.PENDING.name(),
+                HEARTBEAT_AT, String.valueOf(System.currentTimeMillis())));
+        redisTemplate.expire(key, JOB_TIMEOUT_HOURS, TimeUnit.HOURS);
+    }
+
+    // 노드가 맡고 있는 작업의 heartbeat_at 을 한 번의 왕복으로 갱신한다
+    public void heartbeat(Collection<String> jobIds) {
+        String now = String.valueOf(System.currentTimeMillis());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            jobIds.forEach(jobId -> stringConnection.hSet(SCRIPT_JOB + jobId, HEARTBEAT_AT, now));
+            return null;
+        });
+    }
+
+    // 대기 중인 작업만 시작한다. 대기 중에 실패로 바뀐 작업이면 false 를 반환한다
+    public boolean start(String jobId) {
+        return transition(jobId, ScriptJobStatus.PENDING, ScriptJobStatus.RUNNING);
+    }
+
+    public boolean isRunning(String jobId) {
+        return ScriptJobStatus.RUNNING.name().equals(hash().get(SCRIPT_JOB + jobId, STATUS));
+    }
+
+    public void appendToken(String jobId, String token) {
+        String key = SCRIPT_JOB_CONTENT + jobId;
+        long length = token.getBytes(StandardCharsets.UTF_8).length;
+        Long end = redisTemplate.opsForValue().append(key, token);
+        if (Objects.isNull(end)) {
+            return;
+        }
+        // 처음 이어 붙일 때만 만료 시간을 건다
+        if (end == length) {
+            redisTemplate.expire(key, JOB_TIMEOUT_HOURS, TimeUnit.HOURS);
+        }
+        redisTemplate.convertAndSend(TOKEN_CHANNEL + jobId, (end - length) + String.valueOf(TOKEN_SEPARATOR) + token);
+    }
+
+    /**
+     * 받다 만 내용을 sentence 로 바꾼다. 더 이상 토큰을 이어 붙이지 않을 때만 부른다.
+     * 내용 끝 위치와 함께 알리므로 구독자는 그때까지의 토큰을 보낸 뒤에 내용을 바꾼다.
+     */
+    public void resetContent(String jobId, String sentence) {
+        Long end = redisTemplate.opsForValue().size(SCRIPT_JOB_CONTENT + jobId);
+        redisTemplate.opsForValue().set(SCRIPT_JOB_RESET + jobId, sentence, JOB_TIMEOUT_HOURS, TimeUnit.HOURS);
+        redisTemplate.convertAndSend(TOKEN_CHANNEL + jobId,
+                Objects.requireNonNullElse(end, 0L) + String.valueOf(RESET_SEPARATOR) + sentence);
+    }
+
+    public Optional<String> getResetContent(String jobId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(SCRIPT_JOB_RESET + jobId));
+    }
+
+    public String getContent(String jobId) {
+        String content = redisTemplate.opsForValue().get(SCRIPT_JOB_CONTENT + jobId);
+        return Objects.isNull(content) ? "" : content;
+    }
+
+    // 실행 중인 작업만 완료로 바꾼다. 그 사이 실패로 바뀐 작업이면 false 를 반환한다
+    public boolean complete(String jobId, Long scriptId) {
+        if (!transition(jobId, ScriptJobStatus.RUNNING, ScriptJobStatus.DONE, SCRIPT_ID, scriptId.toString())) {
+            return false;
+        }
+        clearAndNotify(jobId);
+        return true;
+    }
+
+    public boolean fail(String jobId) {
+        if (!transition(jobId, ScriptJobStatus.RUNNING, ScriptJobStatus.FAILED)) {
+            return false;
+        }
+        clearAndNotify(jobId);
+        return true;
+    }
+
+    /**
+     * heartbeatBefore 이후로 heartbeat 가 없는 끝나지 않은 작업을 실패로 바꾼다.
+     * 작업을 맡은 노드가 죽으면 작업이 끝나지 않으므로, 조회하거나 구독하는 쪽에서 불러 기다림을 끝낸다.
+     */
+    public boolean failIfStale(String jobId, long heartbeatBefore) {
+        Long failed = redisTemplate.execute(FAIL_STALE_SCRIPT, List.of(SCRIPT_JOB + jobId), String.valueOf(heartbeatBefore));
+        if (!Objects.equals(failed, 1L)) {
+            return false;
+        }
+        clearAndNotify(jobId);
+        return true;
+    }
+
+    // 대기열에 넣지 못한 작업은 기록을 남기지 않는다
+    public void delete(String jobId) {
+        redisTemplate.delete(SCRIPT_JOB + jobId);
+    }
+
+    public Optional<ScriptJobDto> find(String jobId) {
+        Map<String, String> fields = hash().entries(SCRIPT_JOB + jobId);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        String scriptId = fields.get(SCRIPT_ID);
+        return Optional.of(new ScriptJobDto(jobId,
+                UUID.fromString(fields.get(MEMBER_ID)),
+                ScriptJobStatus.valueOf(fields.get(STATUS)),
+                Objects.isNull(scriptId) ? null : Long.valueOf(scriptId)));
+    }
+
+    private boolean transition(String jobId, ScriptJobStatus from, ScriptJobStatus to, String... fields) {
+        List<String> args = new ArrayList<>(List.of(from.name(), to.name()));
+        args.addAll(List.of(fields));
+        Long changed = redisTemplate.execute(TRANSITION_SCRIPT, List.of(SCRIPT_JOB + jobId), args.toArray());
+        return Objects.equals(changed, 1L);
+    }
+
+    private void clearAndNotify(String jobId) {
+        redisTemplate.delete(List.of(SCRIPT_JOB_CONTENT + jobId, SCRIPT_JOB_RESET + jobId));
+        redisTemplate.convertAndSend(DONE_CHANNEL, jobId);
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+}
@@ -0,0 +1,38 @@
+package io.ssafy.mallook.domain.script.dao;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 조합별 추천 상품 목록을 노드끼리 공유한다. key 에 카탈로그 버전이 들어가므로 이전 버전은 TTL 로 사라진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScriptRecommendRedisDao {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Gson gson;
+    private static final String SCRIPT_RECOMMEND = "script-recommend:";
+    private static final long RECOMMEND_TIMEOUT_MINUTES = 30L;
+    private static final Type PRODUCT_LIST = TypeToken.getParameterized(List.class, ProductsListDto.class).getType();
+
+    public Optional<List<ProductsListDto>> get(String key) {
+        String value = redisTemplate.opsForValue().get(SCRIPT_RECOMMEND + key);
+        return Objects.isNull(value) ? Optional.empty() : Optional.of(gson.fromJson(value, PRODUCT_LIST));
+    }
+
+    public void save(String key, List<ProductsListDto> products) {
+        redisTemplate.opsForValue().set(SCRIPT_RECOMMEND + key, gson.toJson(products, PRODUCT_LIST),
+                RECOMMEND_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    }
+}
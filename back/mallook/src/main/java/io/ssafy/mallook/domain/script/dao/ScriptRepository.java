@@ -2,6 +2,7 @@ package io.ssafy.mallook.domain.script.dao;
 
 import io.ssafy.mallook.domain.member.entity.Member;
 import io.ssafy.mallook.domain.script.entity.Script;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,14 +26,12 @@ public interface ScriptRepository extends JpaRepository<Script, Long> {
 
     Optional<Script> findTopByMemberOrderByIdDesc(Member member);
 
-    @Query("SELECT s FROM Script s ORDER BY s.totalLike DESC limit 50")
-    List<Script> findTop50ScriptsOrderByTotalLikeDesc();
+    List<Script> findByIdGreaterThanAndImageUrlIsNullOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT s FROM Script s ORDER BY s.heartCount DESC limit 50")
+    List<Script> findTop50ScriptsOrderByHeartCountDesc();
 
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("update Script s set s.status = false where s.id in :deleteList and s.status = true ")
     void deleteScript(@Param("deleteList") List<Long> deleteList);
-
-    @Modifying
-    @Query("UPDATE Script s SET s.totalLike = 0")
-    void resetAllTotalLike();
 }
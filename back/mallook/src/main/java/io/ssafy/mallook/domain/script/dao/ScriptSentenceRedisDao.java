@@ -0,0 +1,38 @@
+package io.ssafy.mallook.domain.script.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 조합별로 GPT 가 만든 스크립트 문장을 set 에 모아 노드끼리 공유한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScriptSentenceRedisDao {
+
+    private final StringRedisTemplate redisTemplate;
+    private static final String SCRIPT_SENTENCE = "script-sentence:";
+    private static final long SENTENCE_TIMEOUT_DAYS = 7L;
+
+    public List<String> getSentences(String key) {
+        Set<String> sentences = redisTemplate.opsForSet().members(SCRIPT_SENTENCE + key);
+        return Objects.isNull(sentences) ? List.of() : List.copyOf(sentences);
+    }
+
+    // 동시에 추가하면 maxSize 를 조금 넘을 수 있지만 문장 몇 개가 더 남을 뿐이다
+    public void add(String key, String sentence, int maxSize) {
+        String redisKey = SCRIPT_SENTENCE + key;
+        Long size = redisTemplate.opsForSet().size(redisKey);
+        if (Objects.nonNull(size) && size >= maxSize) {
+            return;
+        }
+        redisTemplate.opsForSet().add(redisKey, sentence);
+        redisTemplate.expire(redisKey, SENTENCE_TIMEOUT_DAYS, TimeUnit.DAYS);
+    }
+}
@@ -0,0 +1,9 @@
+package io.ssafy.mallook.domain.script.dto;
+
+import java.util.UUID;
+
+/**
+ * Redis 에 기록된 스크립트 생성 작업. 완료되기 전에는 scriptId 가 null 이다.
+ */
+public record ScriptJobDto(String jobId, UUID memberId, ScriptJobStatus status, Long scriptId) {
+}
@@ -0,0 +1,12 @@
+package io.ssafy.mallook.domain.script.dto;
+
+public enum ScriptJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
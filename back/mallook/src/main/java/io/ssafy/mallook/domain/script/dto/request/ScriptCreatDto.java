@@ -20,7 +20,6 @@ public record ScriptCreatDto(
                 .name(scriptContent)
                 .member(member)
                 .heartCount(0)
-                .totalLike(0)
                 .keywordList(keywordsList)
                 .build();
     }
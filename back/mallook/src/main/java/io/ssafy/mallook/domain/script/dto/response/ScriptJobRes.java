@@ -0,0 +1,19 @@
+package io.ssafy.mallook.domain.script.dto.response;
+
+import io.ssafy.mallook.domain.script.dto.ScriptJobDto;
+import io.ssafy.mallook.domain.script.dto.ScriptJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "스크립트 생성 작업 조회시 응답 DTO")
+public record ScriptJobRes(
+        @Schema(description = "작업 id")
+        String jobId,
+        @Schema(description = "작업 상태 (PENDING, RUNNING, DONE, FAILED)")
+        ScriptJobStatus status,
+        @Schema(description = "생성된 스크립트 id, 완료 전에는 null")
+        Long scriptId
+) {
+    public static ScriptJobRes toDto(ScriptJobDto job) {
+        return new ScriptJobRes(job.jobId(), job.status(), job.scriptId());
+    }
+}
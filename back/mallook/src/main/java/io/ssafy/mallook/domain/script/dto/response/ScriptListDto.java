@@ -19,9 +19,17 @@ public record ScriptListDto(
         String imageUrl,
 
         @Schema(description = "멤버 등급")
-        String memberGrade
+        String memberGrade,
+        @Schema(description = "로그인한 회원의 좋아요 여부")
+        Boolean liked,
+        @Schema(description = "좋아요한 시각 (epoch millis), 좋아요 목록의 다음 cursor")
+        Long likedAt
 ) {
     public static ScriptListDto toDto(Script script, String imageUrl) {
+        return toDto(script, imageUrl, null);
+    }
+
+    public static ScriptListDto toDto(Script script, String imageUrl, Boolean liked) {
         return ScriptListDto.builder()
                 .id(script.getId())
                 .name(script.getName())
@@ -29,6 +37,11 @@ public record ScriptListDto(
                 .heartCount(script.getHeartCount())
                 .imageUrl(imageUrl)
                 .memberGrade(script.getMember().getGrade().getLevel().toString())
+                .liked(liked)
                 .build();
     }
+
+    public ScriptListDto withLikedAt(Long likedAt) {
+        return new ScriptListDto(id, name, heartCount, nickname, imageUrl, memberGrade, true, likedAt);
+    }
 }
@@ -13,14 +13,14 @@ import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Getter
 @Builder
 @Entity
-@Table(name = "script", indexes = {
-        @Index(name = "idx_script_total_like", columnList = "total_like")
-})
+@Table(name = "script")
 @AllArgsConstructor
 @NoArgsConstructor
 @SQLRestriction("status = TRUE")
@@ -42,29 +42,39 @@ public class Script extends BaseEntity {
     @Column(name = "heart_count")
     private Integer heartCount;
 
-    @NotNull
-    @Column(name = "total_like")
-    private Integer totalLike;
-
     @Builder.Default
     @ElementCollection
     private List<String> keywordList = new ArrayList<>();
 
+    // 생성할 때 키워드로 한 번 골라 둔 대표 이미지, 맞는 상품이 없으면 null
+    @Column(name = "image_url")
+    private String imageUrl;
+
+    @Builder.Default
+    @ElementCollection
+    private List<String> alternateImageList = new ArrayList<>();
+
     public boolean isWrittenByTargetMember(UUID memberId) {
         return this.member.getId().equals(memberId);
     }
 
-    public void like() {
-        this.heartCount++;
-        this.totalLike++;
-    }
-
-    public void unlike() {
-        this.heartCount--;
-        this.totalLike--;
+    /**
+     * 첫 번째 이미지를 대표 이미지로, 나머지를 대체 이미지로 저장한다.
+     */
+    public void updateImages(List<String> images) {
+        this.imageUrl = images.isEmpty() ? null : images.get(0);
+        this.alternateImageList.clear();
+        if (images.size() > 1) {
+            this.alternateImageList.addAll(images.subList(1, images.size()));
+        }
     }
 
-    public void resetTotalLike() {
-        this.totalLike = 0;
+    // 상세 화면에서 볼 때마다 대표 이미지와 대체 이미지 중 하나를 보여준다
+    public String pickImageUrl() {
+        if (Objects.isNull(imageUrl) || alternateImageList.isEmpty()) {
+            return imageUrl;
+        }
+        int index = ThreadLocalRandom.current().nextInt(alternateImageList.size() + 1);
+        return index == 0 ? imageUrl : alternateImageList.get(index - 1);
     }
 }
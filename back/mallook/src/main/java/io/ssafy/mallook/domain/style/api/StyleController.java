@@ -5,6 +5,7 @@ import io.ssafy.mallook.domain.style.application.StyleService;
 import io.ssafy.mallook.domain.style.dto.request.StyleDeleteReq;
 import io.ssafy.mallook.domain.style.dto.request.StyleInsertReq;
 import io.ssafy.mallook.domain.style.dto.response.StyleDetailRes;
+import io.ssafy.mallook.domain.style.dto.response.StyleListRes;
 import io.ssafy.mallook.domain.style.dto.response.StyleRes;
 import io.ssafy.mallook.domain.style.dto.response.StyledWorldCupDto;
 import io.ssafy.mallook.global.common.BaseResponse;
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/styles")
@@ -49,8 +51,9 @@ public class StyleController {
             @AuthenticationPrincipal UserSecurityDTO userSecurityDTO,
             @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC, page = 0) Pageable pageable,
             @RequestParam(required = false) Long cursor) {
-        var result = Objects.nonNull(cursor) ? styleService.findStyleList(pageable, cursor)
-                : styleService.findStyleListFirst(pageable);
+        UUID memberId = Objects.isNull(userSecurityDTO) ? null : userSecurityDTO.getId();
+        var result = Objects.nonNull(cursor) ? styleService.findStyleList(pageable, cursor, memberId)
+                : styleService.findStyleListFirst(pageable, memberId);
         return BaseResponse.success(
                 SuccessCode.SELECT_SUCCESS,
                 result
@@ -73,6 +76,37 @@ public class StyleController {
         );
     }
 
+    @Operation(
+            summary = "인기 코디 목록 조회",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "인기 코디 목록 조회 성공")
+            }
+    )
+    @GetMapping("/trending")
+    public ResponseEntity<BaseResponse<List<StyleListRes>>> getTrendingStyles(
+            @RequestParam(defaultValue = "20") int size) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                styleService.getTrendingStyles(size)
+        );
+    }
+
+    @Operation(
+            summary = "유사 코디 목록 조회",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "유사 코디 목록 조회 성공")
+            }
+    )
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<BaseResponse<List<StyleListRes>>> getSimilarStyles(
+            @PathVariable("id") Long id,
+            @RequestParam(defaultValue = "10") int size) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                styleService.getSimilarStyles(id, size)
+        );
+    }
+
     @Operation(
             summary = "코디 상세 조회",
             responses = {
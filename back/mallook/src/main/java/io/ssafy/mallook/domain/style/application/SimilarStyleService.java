@@ -0,0 +1,98 @@
+package io.ssafy.mallook.domain.style.application;
+
+import io.ssafy.mallook.domain.style.dao.StyleVectorRedisDao;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleVectorRepository;
+import io.ssafy.mallook.domain.style.entity.StyleVector;
+import io.ssafy.mallook.global.util.HnswIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * 스타일 벡터로 만든 HNSW 인덱스를 노드 메모리에 두고 유사 스타일을 찾는다.
+ * batch 가 새 버전을 저장하면 별도 스레드에서 새 인덱스를 만든 뒤 한 번에 교체하고,
+ * 만드는 동안과 실패했을 때는 이전 인덱스로 계속 검색한다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class SimilarStyleService {
+
+    public static final int MAX_SIMILAR_SIZE = 50;
+    private static final int MAX_LINKS = 16;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int EF_SEARCH = 64;
+
+    private final StyleVectorRepository styleVectorRepository;
+    private final StyleVectorRedisDao styleVectorRedisDao;
+    private final ThreadPoolTaskExecutor styleIndexBuilder;
+    private final AtomicReference<LoadedIndex> loaded = new AtomicReference<>();
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${style.similar.refresh-interval-ms:60000}")
+    public void refresh() {
+        Optional<Long> version = styleVectorRedisDao.getVersion();
+        LoadedIndex current = loaded.get();
+        if (version.isEmpty() || (Objects.nonNull(current) && current.version() == version.get())) {
+            return;
+        }
+        if (building.compareAndSet(false, true)) {
+            try {
+                styleIndexBuilder.execute(() -> load(version.get()));
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 새로 만들지 않고 다음 기동 때 만든다
+                building.set(false);
+            }
+        }
+    }
+
+    /**
+     * 기준 스타일과 가까운 순서로 스타일 id 를 최대 size 개 반환한다.
+     * 인덱스가 아직 없거나 기준 스타일이 인덱스에 없으면 빈 목록을 반환한다.
+     */
+    public List<Long> findSimilarIds(Long styleId, int size) {
+        LoadedIndex current = loaded.get();
+        if (Objects.isNull(current)) {
+            return List.of();
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SIMILAR_SIZE);
+        return current.index().vectorOf(styleId)
+                .map(vector -> current.index().search(vector, limit + 1, Math.max(EF_SEARCH, limit + 1)).stream()
+                        .map(HnswIndex.Result::id)
+                        .filter(id -> !id.equals(styleId))
+                        .limit(limit)
+                        .toList())
+                .orElse(List.of());
+    }
+
+    void load(long version) {
+        try {
+            long startedAt = System.currentTimeMillis();
+            int capacity = Math.toIntExact(styleVectorRepository.countByVersion(version));
+            HnswIndex index = new HnswIndex(StyleEmbedder.DIMENSION, capacity, MAX_LINKS, EF_CONSTRUCTION, version);
+            try (Stream<StyleVector> vectors = styleVectorRepository.findByVersion(version)) {
+                vectors.forEach(vector -> index.add(vector.getStyleId(), vector.toFloatArray()));
+            }
+            loaded.set(new LoadedIndex(version, index));
+            log.info("유사 스타일 인덱스 교체: version={}, size={}, {}ms",
+                    version, index.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("유사 스타일 인덱스 생성 실패, 이전 인덱스를 유지합니다: version={}", version, e);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    private record LoadedIndex(long version, HnswIndex index) {
+    }
+}
@@ -0,0 +1,167 @@
+package io.ssafy.mallook.domain.style.application;
+
+import io.ssafy.mallook.domain.heart.dto.HeartCountChangedEvent;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
+import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
+import io.ssafy.mallook.domain.product.entity.Products;
+import io.ssafy.mallook.domain.style.dao.StyleRepository;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleCardRepository;
+import io.ssafy.mallook.domain.style.dto.StyleChangedEvent;
+import io.ssafy.mallook.domain.style.dto.response.StyledWorldCupDto;
+import io.ssafy.mallook.domain.style.entity.Style;
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+import io.ssafy.mallook.domain.style_product.dao.StyleProductRepository;
+import io.ssafy.mallook.domain.style_product.entity.StyleProduct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 스타일 변경과 좋아요 수 반영을 스타일 카드(style_cards)에 옮긴다.
+ * 실패해도 원래 요청은 이미 커밋되었으므로 로그만 남기고, 다음 재생성 batch 가 맞춘다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class StyleCardProjector {
+
+    private final StyleRepository styleRepository;
+    private final StyleProductRepository styleProductRepository;
+    private final ProductsRepository productsRepository;
+    private final StyleCardRepository styleCardRepository;
+    private static final int WORLD_CUP_KEYWORDS = 5;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStyleChanged(StyleChangedEvent event) {
+        try {
+            List<Style> styles = styleRepository.findByIdIn(event.styleIds());
+            styleCardRepository.upsertAll(toCards(styles, LocalDateTime.now()));
+            // 삭제되어 조회되지 않는 스타일은 카드도 지운다
+            Set<Long> removedIds = new HashSet<>(event.styleIds());
+            styles.forEach(style -> removedIds.remove(style.getId()));
+            styleCardRepository.deleteByIdIn(removedIds);
+        } catch (RuntimeException e) {
+            log.error("스타일 카드 갱신 실패: {}", event.styleIds(), e);
+        }
+    }
+
+    @EventListener
+    public void onHeartCountChanged(HeartCountChangedEvent event) {
+        if (event.target() != HeartTarget.STYLE) {
+            return;
+        }
+        try {
+            styleCardRepository.incrementHeartCounts(event.deltas());
+        } catch (RuntimeException e) {
+            log.error("스타일 카드 좋아요 수 갱신 실패: {}건", event.deltas().size(), e);
+        }
+    }
+
+    /**
+     * 스타일 목록의 상품을 style_product 한 번, 상품 컬렉션 한 번으로 읽어 카드를 만든다.
+     */
+    public List<StyleCard> toCards(List<Style> styles, LocalDateTime projectedAt) {
+        Map<Long, List<Products>> productsByStyle = loadProducts(styles);
+        return styles.stream()
+                .map(style -> toCard(style, productsByStyle.getOrDefault(style.getId(), List.of()), projectedAt))
+                .toList();
+    }
+
+    /**
+     * 월드컵 카드를 만든다. 키워드는 스타일에 담긴 상품 순서대로 중복 없이 WORLD_CUP_KEYWORDS 개까지 담는다.
+     */
+    public List<StyledWorldCupDto> toWorldCupCards(List<Style> styles) {
+        Map<Long, List<Products>> productsByStyle = loadProducts(styles);
+        return styles.stream()
+                .map(style -> StyledWorldCupDto.builder()
+                        .id(style.getId())
+                        .name(style.getName())
+                        .heartCount(style.getHeartCount())
+                        .memberNickname(style.getMember().getNickname())
+                        .imageUrl(style.getImgUrl())
+                        .keywordList(productsByStyle.getOrDefault(style.getId(), List.of()).stream()
+                                .map(Products::getKeywords)
+                                .filter(Objects::nonNull)
+                                .flatMap(List::stream)
+                                .distinct()
+                                .limit(WORLD_CUP_KEYWORDS)
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    // 스타일별 상품을 담긴 순서대로 반환한다. 없어진 상품은 뺀다
+    private Map<Long, List<Products>> loadProducts(List<Style> styles) {
+        if (styles.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<String>> productIdsByStyle = styleProductRepository
+                .findByStyleIdIn(styles.stream().map(Style::getId).toList()).stream()
+                .collect(groupingBy(styleProduct -> styleProduct.getStyle().getId(),
+                        mapping(StyleProduct::getProducts, toList())));
+        Set<String> productIds = new HashSet<>();
+        productIdsByStyle.values().forEach(productIds::addAll);
+        Map<String, Products> products = productsRepository.findAllById(productIds).stream()
+                .collect(toMap(product -> product.getId().toString(), product -> product));
+
+        Map<Long, List<Products>> productsByStyle = new HashMap<>();
+        productIdsByStyle.forEach((styleId, ids) -> productsByStyle.put(styleId, ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList()));
+        return productsByStyle;
+    }
+
+    public StyleCard toCard(Style style, List<Products> products, LocalDateTime projectedAt) {
+        return StyleCard.builder()
+                .id(style.getId())
+                .name(style.getName())
+                .heartCount(style.getHeartCount())
+                .memberNickname(style.getMember().getNickname())
+                .imgUrl(style.getImgUrl())
+                .products(products.stream().map(ProductsListDto::toDto).toList())
+                .features(toFeatures(products))
+                .projectedAt(projectedAt)
+                .build();
+    }
+
+    // 키워드는 k:, 카테고리는 c:, 브랜드는 b: 로 구분해 같은 단어라도 다른 토큰으로 센다
+    private List<String> toFeatures(List<Products> products) {
+        List<String> features = new ArrayList<>();
+        for (Products product : products) {
+            if (Objects.nonNull(product.getKeywords())) {
+                product.getKeywords().forEach(keyword -> features.add("k:" + keyword));
+            }
+            if (Objects.nonNull(product.getMainCategory())) {
+                features.add("c:" + product.getMainCategory());
+            }
+            if (Objects.nonNull(product.getSubCategory())) {
+                features.add("c:" + product.getMainCategory() + "/" + product.getSubCategory());
+            }
+            if (Objects.nonNull(product.getBrandName())) {
+                features.add("b:" + product.getBrandName());
+            }
+        }
+        return features;
+    }
+}
@@ -0,0 +1,76 @@
+package io.ssafy.mallook.domain.style.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 스타일 카드의 feature 토큰(상품 키워드/카테고리/브랜드)으로 유사 스타일 검색용 벡터를 만든다.
+ * 토큰별 TF-IDF 가중치를 해시로 DIMENSION 차원에 나눠 더하고 L2 정규화한다.
+ * 해시는 String.hashCode 만 쓰므로 어느 노드에서 만들어도 같은 벡터가 나온다.
+ */
+@Component
+public class StyleEmbedder {
+
+    public static final int DIMENSION = 128;
+
+    /**
+     * 토큰별로 몇 개의 스타일에 나왔는지 센다. 한 스타일에 여러 번 나와도 한 번으로 센다.
+     */
+    public void countDocumentFrequency(List<String> features, Map<String, Integer> documentFrequency) {
+        if (Objects.isNull(features)) {
+            return;
+        }
+        features.stream().distinct().forEach(feature -> documentFrequency.merge(feature, 1, Integer::sum));
+    }
+
+    /**
+     * feature 가 없으면 null 을 반환한다.
+     */
+    public float[] embed(List<String> features, Map<String, Integer> documentFrequency, long documentCount) {
+        if (Objects.isNull(features) || features.isEmpty()) {
+            return null;
+        }
+        Map<String, Integer> termFrequency = new HashMap<>();
+        features.forEach(feature -> termFrequency.merge(feature, 1, Integer::sum));
+
+        float[] vector = new float[DIMENSION];
+        termFrequency.forEach((feature, count) -> {
+            double tf = 1 + Math.log(count);
+            double idf = Math.log((1.0 + documentCount) / (1 + documentFrequency.getOrDefault(feature, 0))) + 1;
+            int hash = mix(feature.hashCode());
+            // 부호도 해시로 정해 충돌한 토큰끼리 한쪽으로 쌓이지 않게 한다
+            float sign = (hash & Integer.MIN_VALUE) == 0 ? 1f : -1f;
+            vector[Math.floorMod(hash, DIMENSION)] += (float) (sign * tf * idf);
+        });
+        return normalize(vector);
+    }
+
+    private float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    // 비슷한 문자열의 hashCode 가 이웃한 칸에 몰리지 않도록 비트를 섞는다
+    private int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
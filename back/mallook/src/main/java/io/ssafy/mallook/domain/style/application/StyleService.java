@@ -3,6 +3,7 @@ package io.ssafy.mallook.domain.style.application;
 import io.ssafy.mallook.domain.product.dto.response.ProductImgRes;
 import io.ssafy.mallook.domain.style.dto.request.StyleInsertReq;
 import io.ssafy.mallook.domain.style.dto.response.StyleDetailRes;
+import io.ssafy.mallook.domain.style.dto.response.StyleListRes;
 import io.ssafy.mallook.domain.style.dto.response.StyleRes;
 import io.ssafy.mallook.domain.style.dto.response.StyledWorldCupDto;
 import org.springframework.data.domain.Page;
@@ -13,12 +14,16 @@ import java.util.List;
 import java.util.UUID;
 
 public interface StyleService {
-    Slice<StyleRes> findStyleListFirst(Pageable pageable);
+    Slice<StyleRes> findStyleListFirst(Pageable pageable, UUID memberId);
 
-    Slice<StyleRes> findStyleList(Pageable pageable, Long cursor);
+    Slice<StyleRes> findStyleList(Pageable pageable, Long cursor, UUID memberId);
 
     List<StyledWorldCupDto> getWorldCupList();
 
+    List<StyleListRes> getTrendingStyles(int size);
+
+    List<StyleListRes> getSimilarStyles(Long id, int size);
+
     StyleDetailRes findStyleDetail(Long id);
 
     void saveStyle(UUID memberId, StyleInsertReq styleInsertRes);
@@ -1,87 +1,144 @@
 package io.ssafy.mallook.domain.style.application;
 
+import io.ssafy.mallook.domain.heart.application.HeartCardService;
+import io.ssafy.mallook.domain.heart.application.HeartStateService;
+import io.ssafy.mallook.domain.heart.application.HeartTrendService;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
 import io.ssafy.mallook.domain.member.entity.Member;
 import io.ssafy.mallook.domain.product.dao.mongo.ProductsCustomRepository;
 import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
 import io.ssafy.mallook.domain.product.dto.response.ProductImgRes;
-import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
+import io.ssafy.mallook.domain.product.entity.Products;
 import io.ssafy.mallook.domain.style.dao.StyleRepository;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleCardRepository;
+import io.ssafy.mallook.domain.style.dto.StyleChangedEvent;
 import io.ssafy.mallook.domain.style.dto.request.StyleInsertReq;
 import io.ssafy.mallook.domain.style.dto.response.StyleDetailRes;
+import io.ssafy.mallook.domain.style.dto.response.StyleListRes;
 import io.ssafy.mallook.domain.style.dto.response.StyleProductRes;
 import io.ssafy.mallook.domain.style.dto.response.StyleRes;
 import io.ssafy.mallook.domain.style.dto.response.StyledWorldCupDto;
 import io.ssafy.mallook.domain.style.entity.Style;
-import io.ssafy.mallook.domain.style_product.dao.StyleProductRepository;
-import io.ssafy.mallook.domain.style_product.entity.StyleProduct;
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+import io.ssafy.mallook.domain.style_product.dao.StyleProductJdbcDao;
 import io.ssafy.mallook.global.batch.dao.Top50RedisDao;
 import io.ssafy.mallook.global.common.code.ErrorCode;
 import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static io.ssafy.mallook.global.common.code.ErrorCode.NOT_FOUND_PRODUCT;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StyleServiceImpl implements StyleService {
 
+    private static final int WORLD_CUP_SIZE = 8;
+
     private final MemberRepository memberRepository;
     private final StyleRepository styleRepository;
-    private final StyleProductRepository styleProductRepository;
     private final ProductsRepository productsRepository;
     private final Top50RedisDao top50RedisDao;
     private final ProductsCustomRepository productsCustomRepository;
+    private final HeartTrendService heartTrendService;
+    private final SimilarStyleService similarStyleService;
+    private final HeartStateService heartStateService;
+    private final HeartCardService heartCardService;
+    private final StyleCardRepository styleCardRepository;
+    private final StyleCardProjector styleCardProjector;
+    private final StyleProductJdbcDao styleProductJdbcDao;
+    private final ApplicationEventPublisher eventPublisher;
+    // 카드는 upsert 와 오래된 카드 삭제로만 바뀌어 한 번 채워지면 다시 비지 않으므로, 채워진 것을 한 번 확인하면 더 세지 않는다
+    private volatile boolean styleCardsSeeded;
 
     @Override
-    public Slice<StyleRes> findStyleListFirst(Pageable pageable) {
-        Long maxId = styleRepository.findMaxId();
-        // Style 객체의 Slice를 조회
-        Slice<Style> styleSlice = styleRepository.findStylesByIdLessThan(pageable, maxId + 1);
-
-        // Style 객체를 StyleRes 객체로 변환
-        List<StyleRes> convertedList = styleSlice.getContent().stream()
-                .map(this::toResDto) // Style -> StyleRes 변환
-                .collect(toList());
-
-        // 변환된 List<StyleRes>를 사용하여 새로운 Slice<StyleRes> 생성
-        return new SliceImpl<>(convertedList, pageable, styleSlice.hasNext());
+    public Slice<StyleRes> findStyleListFirst(Pageable pageable, UUID memberId) {
+        return findStyleCards(pageable, Long.MAX_VALUE, memberId);
     }
 
     @Override
-    public Slice<StyleRes> findStyleList(Pageable pageable, Long cursor) {
-        // Style 객체의 Slice를 조회
-        Slice<Style> styleSlice = styleRepository.findStylesByIdLessThan(pageable, cursor + 1);
+    public Slice<StyleRes> findStyleList(Pageable pageable, Long cursor, UUID memberId) {
+        return findStyleCards(pageable, cursor + 1, memberId);
+    }
 
-        // Style 객체를 StyleRes 객체로 변환
-        List<StyleRes> convertedList = styleSlice.getContent().stream()
-                .map(this::toResDto) // Style -> StyleRes 변환
-                .collect(toList());
+    // 스타일 카드 컬렉션에서 id 역순으로 한 번에 읽는다
+    private Slice<StyleRes> findStyleCards(Pageable pageable, Long idLessThan, UUID memberId) {
+        Slice<StyleCard> cardSlice = styleCardRepository.findByIdLessThanOrderByIdDesc(idLessThan,
+                PageRequest.ofSize(pageable.getPageSize()));
+        if (!cardSlice.hasContent() && !isStyleCardsSeeded()) {
+            cardSlice = projectStyles(pageable, idLessThan);
+        } else if (cardSlice.hasContent()) {
+            styleCardsSeeded = true;
+        }
+        List<StyleRes> convertedList = toResDtoList(cardSlice.getContent(), memberId);
+        return new SliceImpl<>(convertedList, pageable, cardSlice.hasNext());
+    }
 
-        // 변환된 List<StyleRes>를 사용하여 새로운 Slice<StyleRes> 생성
-        return new SliceImpl<>(convertedList, pageable, styleSlice.hasNext());
+    private boolean isStyleCardsSeeded() {
+        if (!styleCardsSeeded && styleCardRepository.count() > 0) {
+            styleCardsSeeded = true;
+        }
+        return styleCardsSeeded;
     }
 
+    // 카드가 아직 채워지지 않았으면 DB 의 스타일을 읽어 그 자리에서 카드로 만든다
+    private Slice<StyleCard> projectStyles(Pageable pageable, Long idLessThan) {
+        Slice<Style> styleSlice = styleRepository.findStylesByIdLessThan(
+                PageRequest.of(0, pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id")), idLessThan);
+        List<StyleCard> cards = styleCardProjector.toCards(styleSlice.getContent(), LocalDateTime.now());
+        return new SliceImpl<>(cards, pageable, styleSlice.hasNext());
+    }
+
+    // 인기 스타일 batch 가 미리 만든 카드 중 8개를 고른다
     @Override
     public List<StyledWorldCupDto> getWorldCupList() {
-        List<Long> topStylePkList = top50RedisDao.getStylesDto().styleIdList();
-        List<Style> top50StyleList = styleRepository.findAllById(topStylePkList);
-        Collections.shuffle(top50StyleList);
+        return top50RedisDao.getRandomWorldCupCards(WORLD_CUP_SIZE);
+    }
 
-        return top50StyleList.stream()
-                .map(this::toDto)
-                .limit(8)
+    @Override
+    public List<StyleListRes> getTrendingStyles(int size) {
+        List<Long> trendingIds = heartTrendService.getTrendingIds(HeartTarget.STYLE, size);
+        Map<Long, Style> styles = styleRepository.findAllById(trendingIds).stream()
+                .collect(toMap(Style::getId, style -> style));
+        // 순위 순서를 유지하고, 삭제된 스타일은 건너뛴다
+        return trendingIds.stream()
+                .map(styles::get)
+                .filter(Objects::nonNull)
+                .map(StyleListRes::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<StyleListRes> getSimilarStyles(Long id, int size) {
+        List<Long> similarIds = similarStyleService.findSimilarIds(id, size);
+        Map<Long, StyleCard> cards = styleCardRepository.findAllById(similarIds).stream()
+                .collect(toMap(StyleCard::getId, card -> card));
+        // 가까운 순서를 유지하고, 인덱스를 만든 뒤 삭제된 스타일은 건너뛴다
+        return similarIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .map(card -> StyleListRes.builder()
+                        .id(card.getId())
+                        .name(card.getName())
+                        .imgUrl(card.getImgUrl())
+                        .build())
                 .toList();
     }
 
@@ -108,30 +165,45 @@ public class StyleServiceImpl implements StyleService {
                 .build();
     }
 
+    // 상품 확인 한 번, style insert 한 번, style_product insert 한 번으로 저장한다
     @Override
     @Transactional
     public void saveStyle(UUID memberId, StyleInsertReq styleInsertReq) {
-        Member proxyMember = memberRepository.getReferenceById(memberId);
-        Style style = Style.builder()
+        List<String> productIds = styleInsertReq.productIdList().stream().distinct().toList();
+        Map<String, Products> products = productsRepository.findAllById(productIds).stream()
+                .collect(toMap(product -> product.getId().toString(), product -> product));
+        if (products.size() != productIds.size()) {
+            throw new BaseExceptionHandler(NOT_FOUND_PRODUCT);
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
+        Style style = styleRepository.save(Style.builder()
                 .name(styleInsertReq.name())
                 .heartCount(0L)
-                .totalLike(0)
-                .member(proxyMember)
+                .member(member)
                 .imgUrl(styleInsertReq.imageUrl())
-                .build();
-        var st = styleRepository.save(style);
-        styleInsertReq.productIdList().forEach(ele ->
-                styleProductRepository.save(
-                        StyleProduct.builder()
-                                .style(st)
-                                .products(ele)
-                                .build()));
+                .build());
+        styleProductJdbcDao.insertAll(style.getId(), productIds);
+
+        // 커밋된 뒤에 바로 카드를 저장해 등록 직후 피드에 보이도록 한다
+        StyleCard card = styleCardProjector.toCard(style, productIds.stream()
+                .map(products::get)
+                .toList(), LocalDateTime.now());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                styleCardRepository.save(card);
+            }
+        });
     }
 
     @Override
     @Transactional
     public void DeleteStyle(UUID memberId, List<Long> styleIdList) {
         styleRepository.deleteMyStyle(memberId, styleIdList);
+        heartCardService.evictAfterCommit(HeartTarget.STYLE, styleIdList);
+        eventPublisher.publishEvent(new StyleChangedEvent(styleIdList));
     }
 
     @Override
@@ -139,42 +211,23 @@ public class StyleServiceImpl implements StyleService {
         return productsCustomRepository.getProductImg(pageable, mainCategory, subCategory);
     }
 
-    public StyledWorldCupDto toDto(Style style) {
-        return StyledWorldCupDto.builder()
-                .id(style.getId())
-                .name(style.getName())
-                .heartCount(style.getHeartCount())
-                .memberNickname(style.getMember().getNickname())
-                .imageUrl(style.getImgUrl())
-                .keywordList(style.getStyleProductList()
-                        .stream()
-                        .flatMap(ele -> productsRepository.findById(ele.getProducts())
-                                .map(product -> product.getKeywords().stream())
-                                .orElseThrow(() -> new BaseExceptionHandler(NOT_FOUND_PRODUCT)))
-                        .collect(toCollection(LinkedHashSet::new))
-                        .stream()
-                        .limit(5)
-                        .collect(toList()))
-                .build();
+    // 페이지의 좋아요 여부를 한 번에 조회해 각 스타일에 넣는다
+    private List<StyleRes> toResDtoList(List<StyleCard> cards, UUID memberId) {
+        Set<Long> likedIds = heartStateService.findLikedIds(HeartTarget.STYLE, memberId,
+                cards.stream().map(StyleCard::getId).toList());
+        return cards.stream()
+                .map(card -> toResDto(card, likedIds.contains(card.getId())))
+                .collect(toList());
     }
 
-    public StyleRes toResDto(Style style) {
-        List<ProductsListDto> productsListDtoList = new ArrayList<>();
-
-        for (StyleProduct styleProduct : style.getStyleProductList()) {
-            // StyleProduct의 product 필드로 MongoDB에서 Products 객체를 조회
-            productsRepository.findById(styleProduct.getProducts()).ifPresent(products -> {
-                // 조회된 Products 객체를 ProductsListDto로 변환하여 목록에 추가
-                productsListDtoList.add(ProductsListDto.toDto(products));
-            });
-        }
-
+    private StyleRes toResDto(StyleCard card, boolean liked) {
         return StyleRes.builder()
-                .id(style.getId())
-                .name(style.getName())
-                .heartCount(style.getHeartCount())
-                .memberNickname(style.getMember().getNickname())
-                .productsListDtoList(productsListDtoList)
+                .id(card.getId())
+                .name(card.getName())
+                .heartCount(card.getHeartCount())
+                .memberNickname(card.getMemberNickname())
+                .productsListDtoList(card.getProducts())
+                .liked(liked)
                 .build();
     }
 }
@@ -2,13 +2,16 @@ package io.ssafy.mallook.domain.style.dao;
 
 import io.ssafy.mallook.domain.style.dto.response.StyleRes;
 import io.ssafy.mallook.domain.style.entity.Style;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,11 +19,18 @@ public interface StyleRepository extends JpaRepository<Style, Long> {
     @Query("select max(s.id) from Style s")
     Long findMaxId();
 
-    @Query("SELECT s FROM Style s ORDER BY s.totalLike DESC limit 50")
-    List<Style> findTop50StylesOrderByTotalLikeDesc();
+    @Query("SELECT s FROM Style s ORDER BY s.heartCount DESC limit 50")
+    List<Style> findTop50StylesOrderByHeartCountDesc();
 
     Slice<Style> findStylesByIdLessThan(Pageable pageable, Long cursor);
 
+    // 스타일 카드를 만들 때 작성자를 함께 읽는다
+    @EntityGraph(attributePaths = "member")
+    List<Style> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "member")
+    List<Style> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit);
+
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(value = """
             update Style s
@@ -29,8 +39,4 @@ public interface StyleRepository extends JpaRepository<Style, Long> {
             """
     )
     void deleteMyStyle(@Param("memberId") UUID memberId, @Param("styleIdList") List<Long> styleIdList);
-
-    @Modifying
-    @Query("UPDATE Script s SET s.totalLike = 0")
-    void resetAllTotalLike();
 }
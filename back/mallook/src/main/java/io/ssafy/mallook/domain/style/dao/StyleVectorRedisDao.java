@@ -0,0 +1,27 @@
+package io.ssafy.mallook.domain.style.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 모두 저장된 최신 스타일 벡터 버전을 기록한다. API 노드는 버전이 바뀌면 인덱스를 다시 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StyleVectorRedisDao {
+    private final StringRedisTemplate redisTemplate;
+    private static final String STYLE_VECTOR_VERSION = "style-vector-version";
+
+    public void saveVersion(long version) {
+        redisTemplate.opsForValue().set(STYLE_VECTOR_VERSION, String.valueOf(version));
+    }
+
+    public Optional<Long> getVersion() {
+        String version = redisTemplate.opsForValue().get(STYLE_VECTOR_VERSION);
+        return Objects.isNull(version) ? Optional.empty() : Optional.of(Long.valueOf(version));
+    }
+}
@@ -0,0 +1,19 @@
+package io.ssafy.mallook.domain.style.dao.mongo;
+
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface StyleCardCustomRepository {
+
+    void upsertAll(List<StyleCard> cards);
+
+    void incrementHeartCounts(Map<Long, Long> deltas);
+
+    long deleteByIdIn(Collection<Long> ids);
+
+    long deleteProjectedBefore(LocalDateTime time);
+}
@@ -0,0 +1,61 @@
+package io.ssafy.mallook.domain.style.dao.mongo;
+
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class StyleCardCustomRepositoryImpl implements StyleCardCustomRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    // 한 번의 bulk 요청으로 카드를 통째로 교체하거나 추가한다
+    @Override
+    public void upsertAll(List<StyleCard> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StyleCard.class);
+        cards.forEach(card -> bulk.replaceOne(Query.query(Criteria.where("id").is(card.getId())), card,
+                FindAndReplaceOptions.options().upsert()));
+        bulk.execute();
+    }
+
+    // 카드가 아직 없는 스타일은 건너뛴다 (다음 재생성 때 DB 값으로 채워진다)
+    @Override
+    public void incrementHeartCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StyleCard.class);
+        deltas.forEach((styleId, delta) ->
+                bulk.updateOne(Query.query(Criteria.where("id").is(styleId)), new Update().inc("heartCount", delta)));
+        bulk.execute();
+    }
+
+    @Override
+    public long deleteByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0L;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), StyleCard.class).getDeletedCount();
+    }
+
+    @Override
+    public long deleteProjectedBefore(LocalDateTime time) {
+        return mongoTemplate.remove(Query.query(Criteria.where("projectedAt").lt(time)), StyleCard.class)
+                .getDeletedCount();
+    }
+}
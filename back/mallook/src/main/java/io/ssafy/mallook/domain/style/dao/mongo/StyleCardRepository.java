@@ -0,0 +1,17 @@
+package io.ssafy.mallook.domain.style.dao.mongo;
+
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface StyleCardRepository extends MongoRepository<StyleCard, Long>, StyleCardCustomRepository {
+
+    Slice<StyleCard> findByIdLessThanOrderByIdDesc(Long cursor, Pageable pageable);
+
+    Stream<StyleCard> streamAllBy();
+}
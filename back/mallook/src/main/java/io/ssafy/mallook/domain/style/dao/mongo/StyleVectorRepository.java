@@ -0,0 +1,17 @@
+package io.ssafy.mallook.domain.style.dao.mongo;
+
+import io.ssafy.mallook.domain.style.entity.StyleVector;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface StyleVectorRepository extends MongoRepository<StyleVector, String> {
+
+    Stream<StyleVector> findByVersion(Long version);
+
+    long countByVersion(Long version);
+
+    long deleteByVersionNot(Long version);
+}
@@ -0,0 +1,9 @@
+package io.ssafy.mallook.domain.style.dto;
+
+import java.util.List;
+
+/**
+ * 스타일이 삭제되었을 때 발행한다. 커밋된 뒤 스타일 카드가 지워진다.
+ */
+public record StyleChangedEvent(List<Long> styleIds) {
+}
@@ -12,8 +12,9 @@ public record StyleListRes(
         @Schema(description = "스타일 제목")
         String name,
         @Schema(description = "스타일 이미지")
-        String imgUrl
-
+        String imgUrl,
+        @Schema(description = "좋아요한 시각 (epoch millis), 좋아요 목록의 다음 cursor")
+        Long likedAt
 ) {
     public static StyleListRes toDto(Style style) {
         return StyleListRes.builder()
@@ -22,4 +23,8 @@ public record StyleListRes(
                 .imgUrl(style.getImgUrl())
                 .build();
     }
+
+    public StyleListRes withLikedAt(Long likedAt) {
+        return new StyleListRes(id, name, imgUrl, likedAt);
+    }
 }
@@ -18,6 +18,8 @@ public record StyleRes(
         @Schema(description = "스타일을 생성한 회원 닉네임")
         String memberNickname,
         @Schema(description = "스타일에 포함된 상품 정보")
-        List<ProductsListDto> productsListDtoList
+        List<ProductsListDto> productsListDtoList,
+        @Schema(description = "로그인한 회원의 좋아요 여부")
+        Boolean liked
 ) {
 }
@@ -18,9 +18,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "style", indexes = {
-        @Index(name = "idx_style_total_like", columnList = "total_like")
-})
+@Table(name = "style")
 @SQLRestriction("status=TRUE")
 public class Style extends BaseEntity {
 
@@ -39,27 +37,9 @@ public class Style extends BaseEntity {
     @NotNull
     private Long heartCount;
 
-    @NotNull
-    @Column(name = "total_like")
-    private Integer totalLike;
-
     private String imgUrl;
 
     @OneToMany(mappedBy = "style", cascade = CascadeType.ALL)
     @Builder.Default
     private List<StyleProduct> styleProductList = new ArrayList<>();
-
-    public void like() {
-        this.heartCount++;
-        this.totalLike++;
-    }
-
-    public void unlike() {
-        this.heartCount--;
-        this.totalLike--;
-    }
-
-    public void resetTotalLike() {
-        this.totalLike = 0;
-    }
 }
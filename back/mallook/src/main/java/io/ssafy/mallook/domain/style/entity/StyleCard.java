@@ -0,0 +1,40 @@
+package io.ssafy.mallook.domain.style.entity;
+
+import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스타일 피드용 읽기 모델. 스타일, 작성자, 포함된 상품 요약을 한 document 에 담는다.
+ * {@link io.ssafy.mallook.domain.style.application.StyleCardProjector} 가 갱신한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "style_cards")
+public class StyleCard {
+    // 스타일 id 를 그대로 사용한다
+    @Id
+    private Long id;
+    private String name;
+    @Field(name = "heart_count")
+    private Long heartCount;
+    @Field(name = "member_nickname")
+    private String memberNickname;
+    @Field(name = "img_url")
+    private String imgUrl;
+    private List<ProductsListDto> products;
+    // 유사 스타일 임베딩에 쓰는 상품 키워드/카테고리/브랜드 토큰
+    private List<String> features;
+    @Field(name = "projected_at")
+    private LocalDateTime projectedAt;
+}
@@ -0,0 +1,41 @@
+package io.ssafy.mallook.domain.style.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 유사 스타일 검색용 스타일 벡터. batch 가 버전마다 모두 새로 만들고, API 노드는 최신 버전만 읽어 인덱스를 만든다.
+ * 벡터는 float 배열을 그대로 binary 로 저장한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Document(collection = "style_vectors")
+public class StyleVector {
+    // "{version}:{styleId}"
+    @Id
+    private String id;
+    @Field(name = "style_id")
+    private Long styleId;
+    private Long version;
+    private byte[] vector;
+
+    public static StyleVector of(Long styleId, Long version, float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+        buffer.asFloatBuffer().put(vector);
+        return new StyleVector(version + ":" + styleId, styleId, version, buffer.array());
+    }
+
+    public float[] toFloatArray() {
+        float[] values = new float[vector.length / Float.BYTES];
+        ByteBuffer.wrap(vector).asFloatBuffer().get(values);
+        return values;
+    }
+}
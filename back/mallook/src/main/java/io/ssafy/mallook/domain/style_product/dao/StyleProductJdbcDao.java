@@ -0,0 +1,38 @@
+package io.ssafy.mallook.domain.style_product.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스타일에 포함된 상품을 한 번의 multi-row insert 로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StyleProductJdbcDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAll(Long styleId, List<String> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(productIds.size() * 4);
+        for (String productId : productIds) {
+            args.add(styleId);
+            args.add(productId);
+            args.add(now);
+            args.add(now);
+        }
+        String sql = "insert into style_product (style_id, product_id, status, created_at, updated_at) values "
+                + String.join(", ", Collections.nCopies(productIds.size(), "(?, ?, true, ?, ?)"));
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,7 @@ public interface StyleProductRepository extends JpaRepository<StyleProduct, Long
     void deleteMyStyleProduct(@Param("styleProductIdList") List<Long> styleProductIdList);
 
     Optional<StyleProduct> findByStyle_Id(Long styleId);
+
+    @Query("select sp from StyleProduct sp where sp.style.id in :styleIds")
+    List<StyleProduct> findByStyleIdIn(@Param("styleIds") Collection<Long> styleIds);
 }
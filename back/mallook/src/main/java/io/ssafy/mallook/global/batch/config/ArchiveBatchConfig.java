@@ -0,0 +1,105 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.ssafy.mallook.global.batch.dao.ArchiveJdbcDao;
+import io.ssafy.mallook.global.batch.dto.ArchiveCandidateDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 보관 기간이 지난 주문과 soft delete 된 row 를 월별 아카이브 테이블로 옮긴다.
+ * 한 번의 tasklet 실행이 한 chunk(한 트랜잭션)를 처리하고, 진행 위치(lastId)는 step ExecutionContext 에 남겨 재시작할 수 있다.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+public class ArchiveBatchConfig {
+
+    private final String JOB_NAME = "archiveJob";
+    private final int CHUNK_SIZE = 1000;
+    private final String LAST_ID = "lastId";
+    private final ArchiveJdbcDao archiveJdbcDao;
+
+    @Value("${archive.order-retention-months:24}")
+    private long orderRetentionMonths;
+
+    @Bean
+    public Job archiveJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(archiveOrdersStep(jobRepository, transactionManager))
+                .next(archiveSoftDeletedStep("product_history", jobRepository, transactionManager))
+                .next(archiveSoftDeletedStep("cart_product", jobRepository, transactionManager))
+                .next(archiveSoftDeletedStep("member_coupon", jobRepository, transactionManager))
+                .next(archiveSoftDeletedStep("style_product", jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_archiveOrdersStep")
+    public Step archiveOrdersStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_orders", jobRepository)
+                .tasklet(archiveTasklet(lastId -> archiveJdbcDao.findExpiredOrders(
+                                Timestamp.valueOf(LocalDateTime.now().minusMonths(orderRetentionMonths)), lastId, CHUNK_SIZE),
+                        List.of("orders", "product_history"),
+                        archiveJdbcDao::moveOrders), transactionManager)
+                .build();
+    }
+
+    private Step archiveSoftDeletedStep(String table, JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_" + table, jobRepository)
+                .tasklet(archiveTasklet(lastId -> archiveJdbcDao.findSoftDeleted(table, lastId, CHUNK_SIZE),
+                        List.of(table),
+                        (month, ids) -> archiveJdbcDao.moveRows(table, month, ids)), transactionManager)
+                .build();
+    }
+
+    private Tasklet archiveTasklet(Function<Long, List<ArchiveCandidateDto>> candidateReader,
+                                   List<String> tables,
+                                   MonthlyMover mover) {
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long lastId = context.getLong(LAST_ID, 0L);
+            List<ArchiveCandidateDto> candidates = candidateReader.apply(lastId);
+            if (candidates.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            Map<String, List<Long>> idsByMonth = candidates.stream()
+                    .collect(Collectors.groupingBy(ArchiveCandidateDto::archiveMonth, TreeMap::new,
+                            Collectors.mapping(ArchiveCandidateDto::id, Collectors.toList())));
+            // DDL 을 먼저 끝내고 DML 을 실행한다.
+            idsByMonth.keySet().forEach(month -> tables.forEach(table -> archiveJdbcDao.ensureArchiveTable(table, month)));
+            idsByMonth.forEach((month, ids) -> {
+                int moved = mover.move(month, ids);
+                contribution.incrementWriteCount(moved);
+            });
+
+            context.putLong(LAST_ID, candidates.get(candidates.size() - 1).id());
+            log.info("아카이브 이동 완료: lastId={}, count={}", context.getLong(LAST_ID), candidates.size());
+            return candidates.size() < CHUNK_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    @FunctionalInterface
+    private interface MonthlyMover {
+        int move(String month, List<Long> ids);
+    }
+}
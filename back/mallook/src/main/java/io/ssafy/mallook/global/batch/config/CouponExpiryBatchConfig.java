@@ -0,0 +1,96 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
+import io.ssafy.mallook.global.batch.dao.CouponExpiryJdbcDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료 시간이 지난 쿠폰과 그 발급 내역(member_coupon)을 soft delete 한다.
+ * 한 번의 tasklet 실행이 한 트랜잭션이며, 발급 내역을 CHUNK_SIZE 개씩 먼저 만료시키고 모두 끝나면 쿠폰을 만료시킨다.
+ * 진행 상태는 DB 의 status 로 남으므로 중간에 멈춰도 다시 실행하면 이어서 처리한다.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+public class CouponExpiryBatchConfig {
+
+    private final String JOB_NAME = "couponExpiryJob";
+    private final int CHUNK_SIZE = 1000;
+    private final int COUPON_BATCH_SIZE = 100;
+    private final String EXPIRED_COUPONS = "expiredCoupons";
+    private final String EXPIRED_MEMBER_COUPONS = "expiredMemberCoupons";
+    private final CouponExpiryJdbcDao couponExpiryJdbcDao;
+    private final CouponRedisDao couponRedisDao;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public Job couponExpiryJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(couponExpiryStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_expiryStep")
+    public Step couponExpiryStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_expiry", jobRepository)
+                .tasklet(couponExpiryTasklet(), transactionManager)
+                .build();
+    }
+
+    Tasklet couponExpiryTasklet() {
+        Counter couponCounter = meterRegistry.counter("coupon.expiry.rows", "table", "coupon");
+        Counter memberCouponCounter = meterRegistry.counter("coupon.expiry.rows", "table", "member_coupon");
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Long> couponIds = couponExpiryJdbcDao.findExpiredCouponIds(now, COUPON_BATCH_SIZE);
+            if (couponIds.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            List<Long> memberCouponIds = couponExpiryJdbcDao.findLiveMemberCouponIds(couponIds, CHUNK_SIZE);
+            if (!memberCouponIds.isEmpty()) {
+                int expired = couponExpiryJdbcDao.expireMemberCoupons(memberCouponIds, now);
+                contribution.incrementWriteCount(expired);
+                memberCouponCounter.increment(expired);
+                context.putLong(EXPIRED_MEMBER_COUPONS, context.getLong(EXPIRED_MEMBER_COUPONS, 0L) + expired);
+                return RepeatStatus.CONTINUABLE;
+            }
+
+            int expired = couponExpiryJdbcDao.expireCoupons(couponIds, now);
+            contribution.incrementWriteCount(expired);
+            couponCounter.increment(expired);
+            context.putLong(EXPIRED_COUPONS, context.getLong(EXPIRED_COUPONS, 0L) + expired);
+            // 커밋된 뒤에 Redis 의 재고와 발급 회원 set 을 지운다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    couponIds.forEach(couponRedisDao::purge);
+                }
+            });
+            log.info("쿠폰 만료 처리: coupons={}, memberCoupons={}",
+                    context.getLong(EXPIRED_COUPONS), context.getLong(EXPIRED_MEMBER_COUPONS, 0L));
+            return couponIds.size() < COUPON_BATCH_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+}
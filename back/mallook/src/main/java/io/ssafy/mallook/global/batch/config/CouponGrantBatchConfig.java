@@ -0,0 +1,152 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.ssafy.mallook.domain.grade.entity.Level;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponBulkRepository;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponIssueDto;
+import io.ssafy.mallook.global.batch.dao.CouponGrantJdbcDao;
+import io.ssafy.mallook.global.util.UuidConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 등급의 모든 회원에게 쿠폰을 지급한다.
+ * grade id 범위로 파티션을 나누고, 파티션마다 keyset 으로 회원을 읽어 member_coupon 에 multi-row insert 한다.
+ * member, coupon 은 잠금 없는 읽기만 하고, 이미 지급된 회원은 unique key 로 건너뛰므로 같은 파라미터로 재시작할 수 있다.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+public class CouponGrantBatchConfig {
+
+    private final String JOB_NAME = "couponGrantJob";
+    private final int CHUNK_SIZE = 1000;
+    private final String MIN_ID = "minId";
+    private final String MAX_ID = "maxId";
+    private final DataSource dataSource;
+    private final CouponGrantJdbcDao couponGrantJdbcDao;
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
+    private final MemberCouponRedisDao memberCouponRedisDao;
+
+    @Value("${coupon.grant.grid-size:8}")
+    private int gridSize;
+
+    @Bean
+    public Job couponGrantJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .validator(new DefaultJobParametersValidator(new String[]{"couponId", "level"}, new String[]{"requestId"}))
+                .start(couponGrantManagerStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_managerStep")
+    public Step couponGrantManagerStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_manager", jobRepository)
+                .partitioner(JOB_NAME + "_worker", couponGrantPartitioner(null))
+                .step(couponGrantWorkerStep(jobRepository, transactionManager))
+                .gridSize(gridSize)
+                .taskExecutor(couponGrantTaskExecutor())
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_workerStep")
+    public Step couponGrantWorkerStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_worker", jobRepository)
+                .<MemberCouponIssueDto, MemberCouponIssueDto>chunk(CHUNK_SIZE, transactionManager)
+                .reader(couponGrantReader(null, null, null, null))
+                .writer(couponGrantWriter())
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_partitioner")
+    @StepScope
+    public Partitioner couponGrantPartitioner(@Value("#{jobParameters['level']}") String level) {
+        return gridSize -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            couponGrantJdbcDao.findGradeIdRange(Level.valueOf(level)).ifPresent(range -> {
+                long span = (range[1] - range[0]) / gridSize + 1;
+                for (int i = 0; i < gridSize; i++) {
+                    long from = range[0] + span * i;
+                    if (from > range[1]) {
+                        break;
+                    }
+                    ExecutionContext context = new ExecutionContext();
+                    context.putLong(MIN_ID, from);
+                    context.putLong(MAX_ID, Math.min(from + span - 1, range[1]));
+                    partitions.put("partition" + i, context);
+                }
+            });
+            log.info("쿠폰 지급 파티션: level={}, partitions={}", level, partitions.size());
+            return partitions;
+        };
+    }
+
+    @Bean(JOB_NAME + "_reader")
+    @StepScope
+    public JdbcPagingItemReader<MemberCouponIssueDto> couponGrantReader(
+            @Value("#{jobParameters['couponId']}") Long couponId,
+            @Value("#{jobParameters['level']}") String level,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new JdbcPagingItemReaderBuilder<MemberCouponIssueDto>()
+                .name(JOB_NAME + "_reader")
+                .dataSource(dataSource)
+                .pageSize(CHUNK_SIZE)
+                .fetchSize(CHUNK_SIZE)
+                .selectClause("select g.id, g.member_id")
+                .fromClause("from grade g join member m on m.member_id = g.member_id")
+                .whereClause("where g.level = :level and g.status = true and m.status = true and g.id between :minId and :maxId")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .parameterValues(Map.of("level", level, "minId", minId, "maxId", maxId))
+                .rowMapper((rs, rowNum) -> new MemberCouponIssueDto(UuidConverter.fromBytes(rs.getBytes("member_id")), couponId))
+                .build();
+    }
+
+    private ItemWriter<MemberCouponIssueDto> couponGrantWriter() {
+        return chunk -> {
+            List<MemberCouponIssueDto> issues = new ArrayList<>(chunk.getItems());
+            // 지급은 보유하지 않은 회원에게만 한다. 이미 사용했거나 만료된 쿠폰은 되살리지 않는다
+            memberCouponBulkRepository.insertIfAbsent(issues);
+            // 커밋된 뒤에 캐시를 지워야 지우는 사이에 이전 값이 다시 캐시되지 않는다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberCouponRedisDao.evictClaimedCouponIds(issues.stream().map(MemberCouponIssueDto::memberId).toList());
+                }
+            });
+        };
+    }
+
+    private TaskExecutor couponGrantTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(JOB_NAME + "-");
+        executor.setConcurrencyLimit(gridSize);
+        return executor;
+    }
+}
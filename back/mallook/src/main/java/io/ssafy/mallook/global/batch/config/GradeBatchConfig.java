@@ -1,6 +1,7 @@
 package io.ssafy.mallook.global.batch.config;
 
 import io.ssafy.mallook.domain.coupon.dao.CouponRepository;
+import io.ssafy.mallook.domain.grade.dao.GradeRedisDao;
 import io.ssafy.mallook.domain.grade.dao.GradeRepository;
 import io.ssafy.mallook.domain.grade.entity.Level;
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
@@ -24,9 +25,14 @@ import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilde
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
 import static io.ssafy.mallook.global.common.code.ErrorCode.NOT_FOUND_ERROR;
 
@@ -39,6 +45,7 @@ public class GradeBatchConfig {
     private final EntityManagerFactory entityManagerFactory;
     private final MemberRepository memberRepository;
     private final GradeRepository gradeRepository;
+    private final GradeRedisDao gradeRedisDao;
     private final CouponRepository couponRepository;
     private final MemberCouponRepository memberCouponRepository;
 
@@ -120,11 +127,25 @@ public class GradeBatchConfig {
     }
 
     private ItemWriter<? super Member> changeMemberGradeData() {
-        return members -> members.forEach(member -> {
-            var grade = gradeRepository.findByMember(member)
-                    .orElseThrow(() -> new BaseExceptionHandler(NOT_FOUND_ERROR));
-            grade.setLevel(Level.getNextGrade(member.getExp()));
-            gradeRepository.save(grade);
-        });
+        return members -> {
+            List<UUID> memberIds = new ArrayList<>();
+            members.forEach(member -> {
+                var grade = gradeRepository.findByMember(member)
+                        .orElseThrow(() -> new BaseExceptionHandler(NOT_FOUND_ERROR));
+                Level level = Level.getNextGrade(member.getExp());
+                if (grade.getLevel() != level) {
+                    memberIds.add(member.getId());
+                }
+                grade.setLevel(level);
+                gradeRepository.save(grade);
+            });
+            // 커밋된 뒤에 캐시를 지워야 견적이 이전 등급의 할인율을 다시 캐시하지 않는다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    gradeRedisDao.deleteLevels(memberIds);
+                }
+            });
+        };
     }
 }
@@ -1,13 +1,15 @@
 package io.ssafy.mallook.global.batch.config;
 
+import io.ssafy.mallook.domain.heart.application.HeartTrendService;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
 import io.ssafy.mallook.domain.script.dao.ScriptRepository;
 import io.ssafy.mallook.domain.script.entity.Script;
+import io.ssafy.mallook.domain.style.application.StyleCardProjector;
 import io.ssafy.mallook.domain.style.dao.StyleRepository;
 import io.ssafy.mallook.domain.style.entity.Style;
 import io.ssafy.mallook.global.batch.dao.Top50RedisDao;
 import io.ssafy.mallook.global.batch.dto.TopScriptDto;
 import io.ssafy.mallook.global.batch.dto.TopStyleDto;
-import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.batch.core.Job;
@@ -17,38 +19,40 @@ import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * 인기 순위 상위 TOP_SIZE 개의 스타일, 스크립트 id 를 월드컵, 키워드 조회용으로 저장하고 스타일 월드컵 카드를 만든다.
+ * 순위는 {@link HeartTrendService} 가 최근 좋아요로 계속 갱신하므로 이 작업은 그 결과를 옮겨 담기만 한다.
+ */
 @Log4j2
 @Configuration
 @RequiredArgsConstructor
 public class HeartBatchConfig {
 
-    private final String JOB_NAME = "heartInitJob";
-    private final int CHUNK_SIZE = 1000;
+    private final int TOP_SIZE = 50;
+    private final long TOP_TIMEOUT_MINUTES = 15;
     private final StyleRepository styleRepository;
     private final ScriptRepository scriptRepository;
     private final Top50RedisDao top50RedisDao;
-    private final EntityManagerFactory entityManagerFactory;
+    private final HeartTrendService heartTrendService;
+    private final StyleCardProjector styleCardProjector;
 
     @Bean
-    public Job heartInitJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) throws Exception {
+    public Job heartInitJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new JobBuilder("heartInitJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .start(this.changeTopScriptStep(jobRepository, transactionManager))
-                .next(this.resetScriptTotalLikeStep(jobRepository, transactionManager))
                 .next(this.changeTopStyleStep(jobRepository, transactionManager))
-                .next(this.resetStyleTotalLikeStep(jobRepository, transactionManager))
                 .build();
     }
 
@@ -62,14 +66,13 @@ public class HeartBatchConfig {
     @Bean
     public Tasklet changeScriptTask() {
         return (contribution, chunkContext) -> {
-            List<Long> topScriptIdList = scriptRepository.findTop50ScriptsOrderByTotalLikeDesc()
-                    .stream()
-                    .map(Script::getId)
-                    .toList();
+            List<Long> topScriptIdList = fillUp(
+                    heartTrendService.getTrendingIds(HeartTarget.SCRIPT, TOP_SIZE),
+                    () -> scriptRepository.findTop50ScriptsOrderByHeartCountDesc().stream().map(Script::getId).toList());
             TopScriptDto scriptDto = TopScriptDto.builder()
                     .scriptIdList(topScriptIdList)
                     .build();
-            top50RedisDao.saveScripts(scriptDto, 35);
+            top50RedisDao.saveScripts(scriptDto, TOP_TIMEOUT_MINUTES);
 
             log.info("스크립트 초기화 작업 완료");
             return RepeatStatus.FINISHED;
@@ -86,83 +89,31 @@ public class HeartBatchConfig {
     @Bean
     public Tasklet changeStyleTask() {
         return (contribution, chunkContext) -> {
-            List<Long> topStyleIdList = styleRepository.findTop50StylesOrderByTotalLikeDesc()
-                    .stream()
-                    .map(Style::getId).toList();
+            List<Long> topStyleIdList = fillUp(
+                    heartTrendService.getTrendingIds(HeartTarget.STYLE, TOP_SIZE),
+                    () -> styleRepository.findTop50StylesOrderByHeartCountDesc().stream().map(Style::getId).toList());
             TopStyleDto styleDto = TopStyleDto.builder()
                     .styleIdList(topStyleIdList)
                     .build();
-            top50RedisDao.saveStyles(styleDto, 35);
+            top50RedisDao.saveStyles(styleDto, TOP_TIMEOUT_MINUTES);
+            // 월드컵 요청이 DB 를 읽지 않도록 카드를 미리 만들어 둔다
+            top50RedisDao.saveWorldCupCards(
+                    styleCardProjector.toWorldCupCards(styleRepository.findByIdIn(topStyleIdList)), TOP_TIMEOUT_MINUTES);
 
             log.info("스타일 초기화 작업 완료");
             return RepeatStatus.FINISHED;
         };
     }
 
-    @Bean
-    public Step resetScriptTotalLikeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) throws Exception {
-        return new StepBuilder("resetScriptTotalLikeStep", jobRepository)
-                .<Script, Script>chunk(CHUNK_SIZE, transactionManager)
-                .reader(loadScriptData())
-                .processor(scriptProcessor())
-                .writer(scriptWriter())
-                .build();
-    }
-
-    @Bean
-    public ItemReader<? extends Script> loadScriptData() throws Exception {
-        JpaPagingItemReader<Script> jpaPagingItemReader = new JpaPagingItemReaderBuilder<Script>()
-                .name(JOB_NAME + "_loadScriptData")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(CHUNK_SIZE)
-                .queryString("select s from Script s")
-                .build();
-        jpaPagingItemReader.afterPropertiesSet();
-        return jpaPagingItemReader;
-    }
-
-    @Bean
-    public ItemProcessor<? super Script, ? extends Script> scriptProcessor() {
-        return script -> {
-            script.resetTotalLike();
-            return script;
-        };
-    }
-
-    @Bean
-    public ItemWriter<? super Script> scriptWriter() {
-        return script -> script.forEach(log::info);
-    }
-
-    @Bean
-    public Step resetStyleTotalLikeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) throws Exception {
-        return new StepBuilder("resetStyleTotalLikeStep", jobRepository)
-                .<Style, Style>chunk(CHUNK_SIZE, transactionManager)
-                .reader(loadStyleData())
-                .processor(styleProcessor())
-                .writer(styleWriter())
-                .build();
-    }
-
-    private ItemReader<? extends Style> loadStyleData() throws Exception {
-        JpaPagingItemReader<Style> jpaPagingItemReader = new JpaPagingItemReaderBuilder<Style>()
-                .name(JOB_NAME + "_loadScriptData")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(CHUNK_SIZE)
-                .queryString("select s from Style s")
-                .build();
-        jpaPagingItemReader.afterPropertiesSet();
-        return jpaPagingItemReader;
-    }
-
-    private ItemProcessor<? super Style, ? extends Style> styleProcessor() {
-        return style -> {
-            style.resetTotalLike();
-            return style;
-        };
-    }
-
-    private ItemWriter<? super Style> styleWriter() {
-        return style -> style.forEach(log::info);
+    // 최근 좋아요가 적어 인기 순위가 TOP_SIZE 개보다 적을 때만 DB 에서 누적 좋아요 순으로 채운다
+    private List<Long> fillUp(List<Long> trendingIds, Supplier<List<Long>> fallbackIds) {
+        if (trendingIds.size() >= TOP_SIZE) {
+            return trendingIds;
+        }
+        Set<Long> ids = new LinkedHashSet<>(trendingIds);
+        fallbackIds.get().stream()
+                .takeWhile(id -> ids.size() < TOP_SIZE)
+                .forEach(ids::add);
+        return new ArrayList<>(ids);
     }
 }
@@ -0,0 +1,78 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.ssafy.mallook.domain.script.application.ScriptImagePicker;
+import io.ssafy.mallook.domain.script.dao.ScriptRepository;
+import io.ssafy.mallook.domain.script.entity.Script;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 대표 이미지가 없는 스크립트의 대표/대체 이미지를 키워드로 골라 채운다.
+ * 기존 스크립트를 한 번 채운 뒤에는, 생성할 때 맞는 상품이 없었던 스크립트만 다시 시도한다.
+ * 스크립트를 id 순서로 CHUNK_SIZE 개씩 읽고, 진행 위치(lastId)는 step ExecutionContext 에 남겨 재시작할 수 있다.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+public class ScriptImageBatchConfig {
+
+    private final String JOB_NAME = "scriptImageBackfillJob";
+    private final int CHUNK_SIZE = 200;
+    private final String LAST_ID = "lastId";
+    private final ScriptRepository scriptRepository;
+    private final ScriptImagePicker scriptImagePicker;
+
+    @Bean
+    public Job scriptImageBackfillJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(scriptImageBackfillStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_step")
+    public Step scriptImageBackfillStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_step", jobRepository)
+                .tasklet(backfillTasklet(), transactionManager)
+                .build();
+    }
+
+    // 변경한 스크립트는 chunk 마다 커밋될 때 반영된다
+    private Tasklet backfillTasklet() {
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long lastId = context.getLong(LAST_ID, 0L);
+            List<Script> scripts = scriptRepository.findByIdGreaterThanAndImageUrlIsNullOrderByIdAsc(lastId, Limit.of(CHUNK_SIZE));
+            if (scripts.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            int filled = 0;
+            for (Script script : scripts) {
+                script.updateImages(scriptImagePicker.pick(script.getKeywordList()));
+                if (Objects.nonNull(script.getImageUrl())) {
+                    filled++;
+                }
+            }
+            contribution.incrementWriteCount(filled);
+
+            context.putLong(LAST_ID, scripts.get(scripts.size() - 1).getId());
+            log.info("스크립트 대표 이미지 채우기: lastId={}, filled={}/{}", context.getLong(LAST_ID), filled, scripts.size());
+            return scripts.size() < CHUNK_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+}
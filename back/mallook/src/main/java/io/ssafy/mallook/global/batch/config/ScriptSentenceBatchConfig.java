@@ -0,0 +1,73 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.ssafy.mallook.domain.script.application.ScriptSentencePool;
+import io.ssafy.mallook.domain.script.dao.ScriptRepository;
+import io.ssafy.mallook.domain.script.entity.Script;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 상위 50개 스크립트의 키워드 조합마다 스크립트 문장을 미리 채운다.
+ * 상위 스크립트의 문장을 먼저 넣고, 모자란 만큼만 GPT 를 부르며 한 번에 MAX_GPT_CALLS 번을 넘기지 않는다.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+public class ScriptSentenceBatchConfig {
+
+    private final String JOB_NAME = "scriptSentenceWarmJob";
+    private final int MAX_GPT_CALLS = 100;
+    private final ScriptRepository scriptRepository;
+    private final ScriptSentencePool scriptSentencePool;
+
+    @Bean
+    public Job scriptSentenceWarmJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(scriptSentenceWarmStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_step")
+    public Step scriptSentenceWarmStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_step", jobRepository)
+                .tasklet(warmTasklet(), transactionManager)
+                .build();
+    }
+
+    private Tasklet warmTasklet() {
+        return (contribution, chunkContext) -> {
+            // 인기 순서를 유지해 GPT 호출 한도 안에서 인기 있는 조합부터 채운다
+            Map<List<String>, List<String>> sentencesByKeywords = new LinkedHashMap<>();
+            for (Script script : scriptRepository.findTop50ScriptsOrderByHeartCountDesc()) {
+                sentencesByKeywords.computeIfAbsent(ScriptSentencePool.normalize(script.getKeywordList()), key -> new ArrayList<>())
+                        .add(script.getName());
+            }
+
+            int calls = 0;
+            for (Map.Entry<List<String>, List<String>> entry : sentencesByKeywords.entrySet()) {
+                if (entry.getKey().isEmpty()) {
+                    continue;
+                }
+                calls += scriptSentencePool.warm(entry.getKey(), entry.getValue(), MAX_GPT_CALLS - calls);
+                contribution.incrementWriteCount(1);
+            }
+            log.info("스크립트 문장 미리 채우기: keywordSets={}, gptCalls={}", sentencesByKeywords.size(), calls);
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.ssafy.mallook.domain.style.application.StyleCardProjector;
+import io.ssafy.mallook.domain.style.dao.StyleRepository;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleCardRepository;
+import io.ssafy.mallook.domain.style.entity.Style;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.ExecutionContextPromotionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스타일 카드(style_cards)를 DB 의 스타일로 모두 다시 만든다.
+ * 스타일을 id 순서로 CHUNK_SIZE 개씩 읽어 카드를 교체하고, 진행 위치(lastId)는 step ExecutionContext 에 남겨 재시작할 수 있다.
+ * 마지막 step 에서 이번 재생성 시작 전에 만들어진 카드, 즉 더 이상 없는 스타일의 카드를 지운다.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+public class StyleCardBatchConfig {
+
+    private final String JOB_NAME = "styleCardRebuildJob";
+    private final int CHUNK_SIZE = 500;
+    private final String LAST_ID = "lastId";
+    private final String REBUILD_STARTED_AT = "rebuildStartedAt";
+    private final StyleRepository styleRepository;
+    private final StyleCardRepository styleCardRepository;
+    private final StyleCardProjector styleCardProjector;
+
+    @Bean
+    public Job styleCardRebuildJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(styleCardRebuildStep(jobRepository, transactionManager))
+                .next(styleCardSweepStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_rebuildStep")
+    public Step styleCardRebuildStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_rebuild", jobRepository)
+                .tasklet(rebuildTasklet(), transactionManager)
+                .listener(rebuildStartedAtPromotionListener())
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_sweepStep")
+    public Step styleCardSweepStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_sweep", jobRepository)
+                .tasklet(sweepTasklet(), transactionManager)
+                .build();
+    }
+
+    // 재생성을 처음 시작한 시각을 sweep step 으로 넘긴다
+    private ExecutionContextPromotionListener rebuildStartedAtPromotionListener() {
+        ExecutionContextPromotionListener listener = new ExecutionContextPromotionListener();
+        listener.setKeys(new String[]{REBUILD_STARTED_AT});
+        return listener;
+    }
+
+    private Tasklet rebuildTasklet() {
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            // 재시작해도 처음 시작한 시각을 기준으로 지운다
+            if (!context.containsKey(REBUILD_STARTED_AT)) {
+                context.putString(REBUILD_STARTED_AT, LocalDateTime.now().toString());
+            }
+            long lastId = context.getLong(LAST_ID, 0L);
+            List<Style> styles = styleRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(CHUNK_SIZE));
+            if (styles.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            styleCardRepository.upsertAll(styleCardProjector.toCards(styles, LocalDateTime.now()));
+            contribution.incrementWriteCount(styles.size());
+
+            context.putLong(LAST_ID, styles.get(styles.size() - 1).getId());
+            log.info("스타일 카드 재생성: lastId={}, count={}", context.getLong(LAST_ID), styles.size());
+            return styles.size() < CHUNK_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    private Tasklet sweepTasklet() {
+        return (contribution, chunkContext) -> {
+            ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+            LocalDateTime startedAt = LocalDateTime.parse(jobContext.getString(REBUILD_STARTED_AT));
+            long deleted = styleCardRepository.deleteProjectedBefore(startedAt);
+            log.info("삭제된 스타일 카드 정리: {}개", deleted);
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.ssafy.mallook.domain.style.application.StyleEmbedder;
+import io.ssafy.mallook.domain.style.dao.StyleVectorRedisDao;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleCardRepository;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleVectorRepository;
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+import io.ssafy.mallook.domain.style.entity.StyleVector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 스타일 카드(style_cards)의 feature 로 유사 스타일 검색용 벡터를 새 버전으로 모두 만든다.
+ * 첫 번째로 읽으며 토큰별 문서 빈도를 세고, 두 번째로 읽으며 벡터를 CHUNK_SIZE 개씩 저장한다.
+ * 모두 저장한 뒤에만 Redis 의 버전을 바꾸므로 API 노드는 중간까지 저장된 버전을 읽지 않는다.
+ * 이전 버전과 실패한 실행이 남긴 벡터는 마지막에 지운다.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+public class StyleVectorBatchConfig {
+
+    private final String JOB_NAME = "styleVectorJob";
+    private final int CHUNK_SIZE = 1000;
+    private final StyleCardRepository styleCardRepository;
+    private final StyleVectorRepository styleVectorRepository;
+    private final StyleVectorRedisDao styleVectorRedisDao;
+    private final StyleEmbedder styleEmbedder;
+
+    @Bean
+    public Job styleVectorJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(styleVectorStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean(JOB_NAME + "_step")
+    public Step styleVectorStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(JOB_NAME + "_step", jobRepository)
+                .tasklet(styleVectorTasklet(), transactionManager)
+                .build();
+    }
+
+    private Tasklet styleVectorTasklet() {
+        return (contribution, chunkContext) -> {
+            long version = System.currentTimeMillis();
+
+            Map<String, Integer> documentFrequency = new HashMap<>();
+            long documentCount = 0;
+            try (Stream<StyleCard> cards = styleCardRepository.streamAllBy()) {
+                for (StyleCard card : (Iterable<StyleCard>) cards::iterator) {
+                    styleEmbedder.countDocumentFrequency(card.getFeatures(), documentFrequency);
+                    documentCount++;
+                }
+            }
+
+            long saved = 0;
+            List<StyleVector> chunk = new ArrayList<>(CHUNK_SIZE);
+            try (Stream<StyleCard> cards = styleCardRepository.streamAllBy()) {
+                for (StyleCard card : (Iterable<StyleCard>) cards::iterator) {
+                    float[] vector = styleEmbedder.embed(card.getFeatures(), documentFrequency, documentCount);
+                    if (Objects.isNull(vector)) {
+                        continue;
+                    }
+                    chunk.add(StyleVector.of(card.getId(), version, vector));
+                    if (chunk.size() == CHUNK_SIZE) {
+                        styleVectorRepository.insert(chunk);
+                        saved += chunk.size();
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                styleVectorRepository.insert(chunk);
+                saved += chunk.size();
+            }
+            contribution.incrementWriteCount(saved);
+
+            styleVectorRedisDao.saveVersion(version);
+            long deleted = styleVectorRepository.deleteByVersionNot(version);
+            log.info("스타일 벡터 생성: version={}, styles={}, vectors={}, 이전 벡터 삭제={}",
+                    version, documentCount, saved, deleted);
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package io.ssafy.mallook.global.batch.dao;
+
+import io.ssafy.mallook.global.batch.dto.ArchiveCandidateDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * hot 테이블의 row 를 월별 아카이브 테이블({table}_archive_yyyyMM)로 옮긴다.
+ * 테이블 이름은 ARCHIVE_TABLES 에 등록된 값만 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveJdbcDao {
+
+    /**
+     * 아카이브 테이블의 컬럼 목록. hot 테이블에 컬럼이 추가되어도 이미 만들어진 월 테이블과 어긋나지 않도록
+     * select * 대신 이 목록만 옮긴다. 엔티티에 컬럼을 추가하면 여기에도 추가하고 기존 월 테이블에 alter 해야 한다.
+     */
+    public static final Map<String, String> ARCHIVE_COLUMNS = Map.of(
+            "orders", "id, member_id, total_price, total_fee, total_count, status, created_at, updated_at",
+            "product_history", "id, orders_id, product_count, product_price, product_name, product_image,"
+                    + " product_size, product_color, status, created_at, updated_at",
+            "cart_product", "id, cart_id, product_id, product_count, product_price, product_name, product_image,"
+                    + " product_size, product_color, product_fee, shoppingmall_id, status, created_at, updated_at",
+            "member_coupon", "id, member_id, coupon_id, status, created_at, updated_at",
+            "style_product", "id, style_id, product_id, status, created_at, updated_at");
+    public static final Set<String> ARCHIVE_TABLES = ARCHIVE_COLUMNS.keySet();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Set<String> createdTables = ConcurrentHashMap.newKeySet();
+
+    public List<ArchiveCandidateDto> findSoftDeleted(String table, long lastId, int limit) {
+        return jdbcTemplate.query(
+                "select id, created_at from " + checked(table)
+                        + " where id > :lastId and status = false order by id limit :limit",
+                Map.of("lastId", lastId, "limit", limit),
+                (rs, rowNum) -> new ArchiveCandidateDto(rs.getLong("id"), toLocalDateTime(rs.getTimestamp("created_at"))));
+    }
+
+    public List<ArchiveCandidateDto> findExpiredOrders(Timestamp horizon, long lastId, int limit) {
+        return jdbcTemplate.query("""
+                        select id, created_at from orders
+                        where id > :lastId and (status = false or created_at < :horizon)
+                        order by id limit :limit
+                        """,
+                Map.of("lastId", lastId, "horizon", horizon, "limit", limit),
+                (rs, rowNum) -> new ArchiveCandidateDto(rs.getLong("id"), toLocalDateTime(rs.getTimestamp("created_at"))));
+    }
+
+    /**
+     * DDL 은 MySQL 에서 암묵적 commit 을 일으키므로 chunk 의 DML 보다 먼저 호출해야 한다.
+     */
+    public void ensureArchiveTable(String table, String month) {
+        String archiveTable = archiveTable(table, month);
+        if (createdTables.contains(archiveTable)) {
+            return;
+        }
+        jdbcTemplate.getJdbcTemplate().execute("create table if not exists " + archiveTable
+                + " (primary key (id)) select " + columns(table) + " from " + table + " where 1 = 0");
+        createdTables.add(archiveTable);
+    }
+
+    public int moveRows(String table, String month, List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update(copySql(table, month, "id in (:ids)"), params);
+        return jdbcTemplate.update("delete from " + table + " where id in (:ids)", params);
+    }
+
+    /**
+     * 주문은 상품 내역과 함께 같은 월 테이블로 옮기고, 조회용 인덱스(orders_archive_index)를 남긴다.
+     */
+    public int moveOrders(String month, List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("month", month);
+        jdbcTemplate.update("""
+                insert into orders_archive_index (order_id, member_id, archive_month)
+                select id, member_id, :month from orders where id in (:ids) and status = true
+                """, params);
+        jdbcTemplate.update(copySql("product_history", month, "orders_id in (:ids)"), params);
+        jdbcTemplate.update("delete from product_history where orders_id in (:ids)", params);
+        jdbcTemplate.update(copySql("orders", month, "id in (:ids)"), params);
+        return jdbcTemplate.update("delete from orders where id in (:ids)", params);
+    }
+
+    public static String archiveTable(String table, String month) {
+        if (!month.matches("\\d{6}")) {
+            throw new IllegalArgumentException("invalid archive month: " + month);
+        }
+        return checked(table) + "_archive_" + month;
+    }
+
+    static String copySql(String table, String month, String condition) {
+        String columns = columns(table);
+        return "insert into " + archiveTable(table, month) + " (" + columns + ")"
+                + " select " + columns + " from " + table + " where " + condition;
+    }
+
+    private static String columns(String table) {
+        return ARCHIVE_COLUMNS.get(checked(table));
+    }
+
+    private static String checked(String table) {
+        if (!ARCHIVE_TABLES.contains(table)) {
+            throw new IllegalArgumentException("not an archive table: " + table);
+        }
+        return table;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,55 @@
+package io.ssafy.mallook.global.batch.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 만료된 쿠폰과 발급 내역을 id 목록 단위로 soft delete 한다.
+ * 한 번에 갱신하는 row 수를 제한해 잠금을 오래 잡지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponExpiryJdbcDao {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findExpiredCouponIds(Timestamp now, int limit) {
+        return jdbcTemplate.queryForList("""
+                        select id from coupon
+                        where status = true and expired_time < :now
+                        order by id limit :limit
+                        """,
+                Map.of("now", now, "limit", limit), Long.class);
+    }
+
+    public List<Long> findLiveMemberCouponIds(List<Long> couponIds, int limit) {
+        return jdbcTemplate.queryForList("""
+                        select id from member_coupon
+                        where coupon_id in (:couponIds) and status = true
+                        order by id limit :limit
+                        """,
+                Map.of("couponIds", couponIds, "limit", limit), Long.class);
+    }
+
+    public int expireMemberCoupons(List<Long> ids, Timestamp now) {
+        return jdbcTemplate.update("""
+                        update member_coupon set status = false, updated_at = :now
+                        where id in (:ids) and status = true
+                        """,
+                new MapSqlParameterSource("ids", ids).addValue("now", now));
+    }
+
+    public int expireCoupons(List<Long> ids, Timestamp now) {
+        return jdbcTemplate.update("""
+                        update coupon set status = false, updated_at = :now
+                        where id in (:ids) and status = true
+                        """,
+                new MapSqlParameterSource("ids", ids).addValue("now", now));
+    }
+}
@@ -0,0 +1,31 @@
+package io.ssafy.mallook.global.batch.dao;
+
+import io.ssafy.mallook.domain.grade.entity.Level;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponGrantJdbcDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 등급에 해당하는 grade row 의 id 범위. 파티션을 나누는 기준으로 사용한다.
+     */
+    public Optional<long[]> findGradeIdRange(Level level) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("""
+                        select min(id) as min_id, max(id) as max_id
+                        from grade
+                        where level = ? and status = true
+                        """,
+                (rs, rowNum) -> {
+                    long minId = rs.getLong("min_id");
+                    return rs.wasNull() ? null : new long[]{minId, rs.getLong("max_id")};
+                },
+                level.name()));
+    }
+}
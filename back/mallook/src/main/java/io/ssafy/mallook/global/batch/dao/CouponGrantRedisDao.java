@@ -0,0 +1,41 @@
+package io.ssafy.mallook.global.batch.dao;
+
+import com.google.gson.Gson;
+import io.ssafy.mallook.global.batch.dto.CouponGrantRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 등급별 쿠폰 지급 요청 큐.
+ * 배치 서버가 꺼낸 요청은 작업이 끝날 때까지 처리 중 목록에 남아 있어, 실패하면 같은 파라미터로 재시작된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponGrantRedisDao {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Gson gson;
+    private static final String GRANT_QUEUE = "coupon-grant-requests";
+    private static final String GRANT_PROCESSING = "coupon-grant-processing";
+
+    public void enqueue(CouponGrantRequestDto request) {
+        redisTemplate.opsForList().leftPush(GRANT_QUEUE, gson.toJson(request));
+    }
+
+    // 처리 중인 요청이 남아 있으면 그것부터 다시 실행한다
+    public Optional<CouponGrantRequestDto> next() {
+        String json = redisTemplate.opsForList().index(GRANT_PROCESSING, -1);
+        if (Objects.isNull(json)) {
+            json = redisTemplate.opsForList().rightPopAndLeftPush(GRANT_QUEUE, GRANT_PROCESSING);
+        }
+        return Optional.ofNullable(json).map(value -> gson.fromJson(value, CouponGrantRequestDto.class));
+    }
+
+    public void complete(CouponGrantRequestDto request) {
+        redisTemplate.opsForList().remove(GRANT_PROCESSING, 1, gson.toJson(request));
+    }
+}
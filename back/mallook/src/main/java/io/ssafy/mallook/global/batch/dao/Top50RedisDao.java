@@ -1,13 +1,18 @@
 package io.ssafy.mallook.global.batch.dao;
 
 import com.google.gson.Gson;
+import io.ssafy.mallook.domain.style.dto.response.StyledWorldCupDto;
 import io.ssafy.mallook.global.batch.dto.TopScriptDto;
 import io.ssafy.mallook.global.batch.dto.TopStyleDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -17,6 +22,8 @@ public class Top50RedisDao {
     private final Gson gson;
     private static final String TOP_SCRIPTS_HEART = "top-50-scripts:";
     private static final String TOP_STYLES_HEART = "top-50-styles:";
+    private static final String WORLD_CUP_CARDS = "world-cup-cards";
+    private static final String BUILDING = ":building";
 
     public void saveScripts(TopScriptDto topScriptDto, long timeout) {
         String jsonList = gson.toJson(topScriptDto);
@@ -37,4 +44,31 @@ public class Top50RedisDao {
         String jsonList = redisTemplate.opsForValue().get("top-50-styles:");
         return gson.fromJson(jsonList, TopStyleDto.class);
     }
+
+    /**
+     * 월드컵 카드를 스타일 id 를 field 로 하는 hash 에 저장한다.
+     * 임시 key 에 만든 뒤 RENAME 하므로 조회하는 쪽은 항상 완성된 카드 묶음을 본다.
+     */
+    public void saveWorldCupCards(List<StyledWorldCupDto> cards, long timeout) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        String buildingKey = WORLD_CUP_CARDS + BUILDING;
+        redisTemplate.delete(buildingKey);
+        redisTemplate.opsForHash().putAll(buildingKey, cards.stream()
+                .collect(Collectors.toMap(card -> String.valueOf(card.id()), gson::toJson)));
+        redisTemplate.rename(buildingKey, WORLD_CUP_CARDS);
+        redisTemplate.expire(WORLD_CUP_CARDS, timeout, TimeUnit.MINUTES);
+    }
+
+    // HRANDFIELD 한 번으로 서로 다른 카드 count 개를 고른다
+    public List<StyledWorldCupDto> getRandomWorldCupCards(int count) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().randomEntries(WORLD_CUP_CARDS, count);
+        if (Objects.isNull(entries)) {
+            return List.of();
+        }
+        return entries.values().stream()
+                .map(json -> gson.fromJson(String.valueOf(json), StyledWorldCupDto.class))
+                .toList();
+    }
 }
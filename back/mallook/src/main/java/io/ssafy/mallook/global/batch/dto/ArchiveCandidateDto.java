@@ -0,0 +1,15 @@
+package io.ssafy.mallook.global.batch.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public record ArchiveCandidateDto(
+        Long id,
+        LocalDateTime createdAt
+) {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    public String archiveMonth() {
+        return createdAt == null ? "000000" : createdAt.format(MONTH_FORMAT);
+    }
+}
@@ -0,0 +1,12 @@
+package io.ssafy.mallook.global.batch.dto;
+
+import io.ssafy.mallook.domain.grade.entity.Level;
+import lombok.Builder;
+
+@Builder
+public record CouponGrantRequestDto(
+        String requestId,
+        Long couponId,
+        Level level
+) {
+}
@@ -1,9 +1,14 @@
 package io.ssafy.mallook.global.batch.scheduler;
 
+import io.ssafy.mallook.domain.heart.application.HeartFlushService;
+import io.ssafy.mallook.domain.heart.application.HeartTrendService;
+import io.ssafy.mallook.global.batch.dao.CouponGrantRedisDao;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
 import org.springframework.batch.core.configuration.JobRegistry;
@@ -29,6 +34,9 @@ public class BatchScheduler {
     private String serverRole;
     private final JobLauncher jobLauncher;
     private final JobRegistry jobRegistry;
+    private final CouponGrantRedisDao couponGrantRedisDao;
+    private final HeartFlushService heartFlushService;
+    private final HeartTrendService heartTrendService;
 
     //    @Scheduled(cron = "* * * * * *")
     @Scheduled(cron = "0 0 0 * * 1")
@@ -47,7 +55,7 @@ public class BatchScheduler {
     }
 
     //    @Scheduled(cron = "* * * * * *")
-    @Scheduled(cron = "0 0/30 * * * *") // 매 30분마다 실행
+    @Scheduled(cron = "30 0/5 * * * *") // 5분마다 인기 순위 상위 50개 저장
     @SchedulerLock(name = "heartSchedule", lockAtLeastFor = "50s", lockAtMostFor = "10m")
     public void runSecondJob() {
         String time = LocalDateTime.now().toString();
@@ -61,4 +69,132 @@ public class BatchScheduler {
             throw new RuntimeException(e);
         }
     }
+
+    @Scheduled(cron = "0 0 4 * * *") // 매일 새벽 4시
+    @SchedulerLock(name = "archiveSchedule", lockAtLeastFor = "50s", lockAtMostFor = "3h")
+    public void runArchiveJob() {
+        String time = LocalDateTime.now().toString();
+
+        try {
+            Job job = jobRegistry.getJob("archiveJob");
+            JobParametersBuilder jobParameter = new JobParametersBuilder().addString("time", time);
+            jobLauncher.run(job, jobParameter.toJobParameters());
+        } catch (NoSuchJobException | JobRestartException | JobParametersInvalidException |
+                 JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분
+    @SchedulerLock(name = "styleCardRebuildSchedule", lockAtLeastFor = "50s", lockAtMostFor = "1h")
+    public void runStyleCardRebuildJob() {
+        String time = LocalDateTime.now().toString();
+
+        try {
+            Job job = jobRegistry.getJob("styleCardRebuildJob");
+            JobParametersBuilder jobParameter = new JobParametersBuilder().addString("time", time);
+            jobLauncher.run(job, jobParameter.toJobParameters());
+        } catch (NoSuchJobException | JobRestartException | JobParametersInvalidException |
+                 JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Scheduled(cron = "0 45 4 * * *") // 매일 새벽 4시 45분
+    @SchedulerLock(name = "scriptImageBackfillSchedule", lockAtLeastFor = "50s", lockAtMostFor = "1h")
+    public void runScriptImageBackfillJob() {
+        String time = LocalDateTime.now().toString();
+
+        try {
+            Job job = jobRegistry.getJob("scriptImageBackfillJob");
+            JobParametersBuilder jobParameter = new JobParametersBuilder().addString("time", time);
+            jobLauncher.run(job, jobParameter.toJobParameters());
+        } catch (NoSuchJobException | JobRestartException | JobParametersInvalidException |
+                 JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Scheduled(cron = "0 0 5 * * *") // 매일 새벽 5시, 스타일 카드 재생성 이후
+    @SchedulerLock(name = "styleVectorSchedule", lockAtLeastFor = "50s", lockAtMostFor = "1h")
+    public void runStyleVectorJob() {
+        String time = LocalDateTime.now().toString();
+
+        try {
+            Job job = jobRegistry.getJob("styleVectorJob");
+            JobParametersBuilder jobParameter = new JobParametersBuilder().addString("time", time);
+            jobLauncher.run(job, jobParameter.toJobParameters());
+        } catch (NoSuchJobException | JobRestartException | JobParametersInvalidException |
+                 JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 5 * * *") // 매일 새벽 5시 30분
+    @SchedulerLock(name = "scriptSentenceWarmSchedule", lockAtLeastFor = "50s", lockAtMostFor = "1h")
+    public void runScriptSentenceWarmJob() {
+        String time = LocalDateTime.now().toString();
+
+        try {
+            Job job = jobRegistry.getJob("scriptSentenceWarmJob");
+            JobParametersBuilder jobParameter = new JobParametersBuilder().addString("time", time);
+            jobLauncher.run(job, jobParameter.toJobParameters());
+        } catch (NoSuchJobException | JobRestartException | JobParametersInvalidException |
+                 JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Scheduled(cron = "0 10 * * * *") // 매시 10분
+    @SchedulerLock(name = "couponExpirySchedule", lockAtLeastFor = "50s", lockAtMostFor = "1h")
+    public void runCouponExpiryJob() {
+        String time = LocalDateTime.now().toString();
+
+        try {
+            Job job = jobRegistry.getJob("couponExpiryJob");
+            JobParametersBuilder jobParameter = new JobParametersBuilder().addString("time", time);
+            jobLauncher.run(job, jobParameter.toJobParameters());
+        } catch (NoSuchJobException | JobRestartException | JobParametersInvalidException |
+                 JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Scheduled(cron = "0 * * * * *") // 매 분마다 지급 요청 확인
+    @SchedulerLock(name = "couponGrantSchedule", lockAtLeastFor = "10s", lockAtMostFor = "1h")
+    public void runCouponGrantJob() {
+        couponGrantRedisDao.next().ifPresent(request -> {
+            try {
+                Job job = jobRegistry.getJob("couponGrantJob");
+                // 같은 요청은 같은 파라미터로 실행되므로 실패한 작업은 이어서 재시작된다
+                JobParametersBuilder jobParameter = new JobParametersBuilder()
+                        .addString("requestId", request.requestId())
+                        .addLong("couponId", request.couponId())
+                        .addString("level", request.level().name());
+                JobExecution execution = jobLauncher.run(job, jobParameter.toJobParameters());
+                if (execution.getStatus() == BatchStatus.COMPLETED) {
+                    couponGrantRedisDao.complete(request);
+                } else {
+                    log.warn("쿠폰 지급 작업 미완료, 다음 주기에 재시작합니다: {} ({})", request, execution.getStatus());
+                }
+            } catch (JobInstanceAlreadyCompleteException e) {
+                couponGrantRedisDao.complete(request);
+            } catch (NoSuchJobException | JobRestartException | JobParametersInvalidException |
+                     JobExecutionAlreadyRunningException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "*/10 * * * * *") // 10초마다 좋아요 반영
+    @SchedulerLock(name = "heartFlushSchedule", lockAtLeastFor = "5s", lockAtMostFor = "5m")
+    public void runHeartFlush() {
+        heartFlushService.flush();
+    }
+
+    @Scheduled(cron = "0 * * * * *") // 매 분마다 인기 순위 갱신
+    @SchedulerLock(name = "heartTrendSchedule", lockAtLeastFor = "10s", lockAtMostFor = "5m")
+    public void runHeartTrendRefresh() {
+        heartTrendService.refresh();
+    }
 }
@@ -0,0 +1,49 @@
+package io.ssafy.mallook.global.batch.scheduler;
+
+import io.ssafy.mallook.domain.style.dao.mongo.StyleCardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배포 직후 스타일 카드 컬렉션이 비어 있으면 styleCardRebuildJob 을 한 번 돌려 채운다.
+ * 새벽 재생성과 같은 lock 을 잡으므로 여러 노드가 함께 떠도 한 노드만 채운다.
+ * 채우는 동안 피드는 DB 의 스타일을 읽어 카드로 만들어 보여준다.
+ * 재생성은 끝날 때까지 기동을 붙잡으므로 API 노드가 아닌 batch 노드에서만 돌린다.
+ */
+@Log4j2
+@Component
+@Profile("batch")
+@RequiredArgsConstructor
+public class StyleCardSeedRunner implements ApplicationRunner {
+
+    private final JobLauncher jobLauncher;
+    private final Job styleCardRebuildJob;
+    private final StyleCardRepository styleCardRepository;
+
+    @Override
+    @SchedulerLock(name = "styleCardRebuildSchedule", lockAtLeastFor = "50s", lockAtMostFor = "1h")
+    public void run(ApplicationArguments args) {
+        if (styleCardRepository.count() > 0) {
+            return;
+        }
+        log.info("스타일 카드가 비어 있어 재생성합니다");
+        try {
+            jobLauncher.run(styleCardRebuildJob, new JobParametersBuilder()
+                    .addString("time", LocalDateTime.now().toString())
+                    .toJobParameters());
+        } catch (Exception e) {
+            // 피드는 DB 로 대신 읽으므로 기동은 막지 않고 새벽 재생성에 맡긴다
+            log.error("스타일 카드 초기 재생성 실패", e);
+        }
+    }
+}
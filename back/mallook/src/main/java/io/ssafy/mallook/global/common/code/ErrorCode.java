@@ -80,6 +80,12 @@ public enum ErrorCode {
     // 스크립트 에러(CODE: 300)
     // 스크립트가 존재하지 않음
     NOT_FOUND_SCRIPT(404, "B300", "존재하지 않는 스크립트입니다."),
+    // 스크립트 생성 작업이 존재하지 않음
+    NOT_FOUND_SCRIPT_JOB(404, "B301", "존재하지 않는 스크립트 생성 작업입니다."),
+    // 스크립트 생성 대기열이 가득 참
+    TOO_MANY_SCRIPT_JOBS(429, "B302", "스크립트 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    // 스크립트 문장 생성이 제한 시간 안에 끝나지 않음
+    SCRIPT_SENTENCE_TIMEOUT(504, "B303", "스크립트 문장 생성 시간이 초과되었습니다."),
 
     // 좋아요 에러(CODE: 400)
     // 좋아요 중복
@@ -88,7 +94,23 @@ public enum ErrorCode {
 
     // 상품 에러(CODE: 500)
     // 상품이 존재하지 않음
-    NOT_FOUND_PRODUCT(404, "B500", "상품을 찾을 수 없습니다.")
+    NOT_FOUND_PRODUCT(404, "B500", "상품을 찾을 수 없습니다."),
+    // 상품 목록 cursor 가 ObjectId 형식이 아님
+    INVALID_PRODUCT_CURSOR(400, "B501", "유효하지 않은 상품 cursor 입니다."),
+
+    // 주문 에러(CODE: 600)
+    // 견적 서명 불일치
+    INVALID_ORDER_QUOTE(400, "B600", "유효하지 않은 견적입니다."),
+    // 견적 유효 시간 만료
+    EXPIRED_ORDER_QUOTE(400, "B601", "만료된 견적입니다."),
+
+    // 쿠폰 에러(CODE: 800)
+    // 쿠폰이 존재하지 않거나 이미 사용됨
+    NOT_FOUND_COUPON(404, "B800", "사용할 수 없는 쿠폰입니다."),
+    // 선착순 쿠폰 재고 소진
+    SOLD_OUT_COUPON(409, "B801", "쿠폰이 모두 소진되었습니다."),
+    // 이미 발급받은 쿠폰
+    DUPLICATE_COUPON(409, "B802", "이미 발급받은 쿠폰입니다.")
     ; // End
 
     /**
@@ -1,10 +1,13 @@
 package io.ssafy.mallook.global.config;
 
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import retrofit2.Retrofit;
 
 import java.time.Duration;
 
@@ -18,6 +21,10 @@ public class ChatGPTConfig {
 
     @Value("${chatgpt.api-key}")
     private String token;
+    @Value("${chatgpt.base-url:https://api.openai.com/}")
+    private String baseUrl;
+    @Value("${chatgpt.timeout-seconds:60}")
+    private long timeoutSeconds;
 
     @Bean
     public RestTemplate restTemplate() {
@@ -26,6 +33,16 @@ public class ChatGPTConfig {
 
     @Bean
     public OpenAiService openAiService() {
-        return new OpenAiService(token, Duration.ofSeconds(60));
+        return openAiService(token, baseUrl, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    // 테스트에서 로컬 서버로 요청을 보낼 수 있도록 주소를 바꿀 수 있게 한다
+    public static OpenAiService openAiService(String token, String baseUrl, Duration timeout) {
+        OkHttpClient client = OpenAiService.defaultClient(token, timeout);
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, OpenAiService.defaultObjectMapper())
+                .newBuilder()
+                .baseUrl(baseUrl)
+                .build();
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
     }
 }
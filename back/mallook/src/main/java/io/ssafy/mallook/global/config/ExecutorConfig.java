@@ -0,0 +1,50 @@
+package io.ssafy.mallook.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 요청이나 스케줄러 스레드 밖에서 일을 처리하는 스레드 풀.
+ * 종료할 때는 받은 일을 마칠 때까지 정해진 시간만큼 기다린다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${script.job.workers:4}")
+    private int scriptJobWorkers;
+    @Value("${script.job.queue-capacity:50}")
+    private int scriptJobQueueCapacity;
+
+    // 대기열이 가득 차면 TaskRejectedException 으로 바로 거절한다
+    @Bean
+    public ThreadPoolTaskExecutor scriptJobExecutor() {
+        return executor("script-job-", scriptJobWorkers, scriptJobQueueCapacity, 30);
+    }
+
+    // 재고 변경을 SSE 로 보내는 일이 flush 스케줄러 스레드를 잡지 않도록 따로 보낸다
+    @Bean
+    public ThreadPoolTaskExecutor couponStockSender() {
+        return executor("coupon-stock-", 4, Integer.MAX_VALUE, 5);
+    }
+
+    // 유사 스타일 인덱스 생성이 스케줄러 스레드를 오래 잡지 않도록 따로 만든다. 한 번에 하나만 만든다
+    @Bean
+    public ThreadPoolTaskExecutor styleIndexBuilder() {
+        return executor("style-index-", 1, 1, 10);
+    }
+
+    // 테스트에서 같은 설정의 풀을 직접 만들 수 있게 한다. 빈이 아니면 initialize() 를 불러야 한다
+    public static ThreadPoolTaskExecutor executor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                                  int awaitTerminationSeconds) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        return executor;
+    }
+}
@@ -1,6 +1,7 @@
 package io.ssafy.mallook.global.util;
 
 import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.domain.orders.dao.OrderHistoryRepository;
 import io.ssafy.mallook.domain.orders.dao.OrderRepository;
 import io.ssafy.mallook.domain.orders.dto.request.OrderDeleteDto;
 import io.ssafy.mallook.domain.script.dao.ScriptRepository;
@@ -24,6 +25,7 @@ public class AuthService {
     private final ScriptRepository scriptRepository;
     private final MemberCouponRepository memberCouponRepository;
     private final OrderRepository orderRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
 
     public boolean authorizeToReadScriptDetail(UUID memberId, Long scriptId) {
         log.info("내가 쓴 글인지 확인 시작");
@@ -33,8 +35,7 @@ public class AuthService {
     }
 
     public boolean authorizeToReadOrderDetail(UUID memberId, Long orderId) {
-        return orderRepository.findById(orderId)
-                .orElseThrow().isCreateByTargetMember(memberId);
+        return orderHistoryRepository.existsByIdAndMemberId(orderId, memberId);
     }
 
     public boolean authorizeToDeleteScript(UUID memberId, ScriptDeleteListDto scriptDeleteListDto) {
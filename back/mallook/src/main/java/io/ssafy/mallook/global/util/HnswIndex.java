@@ -0,0 +1,265 @@
+package io.ssafy.mallook.global.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * HNSW (Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스.
+ * 벡터는 L2 정규화되어 있다고 보고 내적(코사인 유사도)이 클수록 가깝다고 본다.
+ * 한 스레드에서 모두 추가한 뒤에는 바뀌지 않으므로, 안전하게 공개한 뒤에는 여러 스레드에서 동시에 검색해도 된다.
+ */
+public class HnswIndex {
+
+    private final int dimension;
+    private final int maxLinks;
+    private final int maxLinksLayer0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final long[] ids;
+    private final float[][] vectors;
+    // links[node][layer][0] 은 이웃 수, 그 뒤가 이웃 node 번호
+    private final int[][][] links;
+    private final Map<Long, Integer> nodeById;
+    private int size;
+    private int entryPoint = -1;
+    private int maxLayer = -1;
+
+    public HnswIndex(int dimension, int capacity, int maxLinks, int efConstruction, long seed) {
+        this.dimension = dimension;
+        this.maxLinks = maxLinks;
+        this.maxLinksLayer0 = maxLinks * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(maxLinks);
+        this.random = new Random(seed);
+        this.ids = new long[capacity];
+        this.vectors = new float[capacity][];
+        this.links = new int[capacity][][];
+        this.nodeById = new HashMap<>(capacity * 2);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public Optional<float[]> vectorOf(long id) {
+        Integer node = nodeById.get(id);
+        return Optional.ofNullable(node).map(value -> vectors[value]);
+    }
+
+    public void add(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length);
+        }
+        if (size == ids.length) {
+            throw new IllegalStateException("인덱스 용량을 초과했습니다: " + size);
+        }
+        if (nodeById.containsKey(id)) {
+            throw new IllegalArgumentException("이미 추가된 id 입니다: " + id);
+        }
+        int node = size++;
+        int layer = randomLayer();
+        ids[node] = id;
+        vectors[node] = vector;
+        links[node] = new int[layer + 1][];
+        for (int l = 0; l <= layer; l++) {
+            links[node][l] = new int[capacityOf(l) + 1];
+        }
+        nodeById.put(id, node);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLayer = layer;
+            return;
+        }
+        int current = entryPoint;
+        for (int l = maxLayer; l > layer; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+        for (int l = Math.min(layer, maxLayer); l >= 0; l--) {
+            List<Candidate> found = sortedBestFirst(searchLayer(vector, current, efConstruction, l));
+            List<Candidate> selected = selectNeighbors(found, maxLinks);
+            for (Candidate neighbor : selected) {
+                connect(node, neighbor.node(), l);
+                connect(neighbor.node(), node, l);
+            }
+            current = found.get(0).node();
+        }
+        if (layer > maxLayer) {
+            maxLayer = layer;
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * query 와 가장 가까운 k 개를 유사도가 큰 순서로 반환한다. ef 가 클수록 정확하지만 느리다.
+     */
+    public List<Result> search(float[] query, int k, int ef) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        int current = entryPoint;
+        for (int l = maxLayer; l > 0; l--) {
+            current = greedyClosest(query, current, l);
+        }
+        List<Candidate> found = sortedBestFirst(searchLayer(query, current, Math.max(ef, k), 0));
+        List<Result> results = new ArrayList<>(Math.min(k, found.size()));
+        for (int i = 0; i < Math.min(k, found.size()); i++) {
+            results.add(new Result(ids[found.get(i).node()], found.get(i).similarity()));
+        }
+        return results;
+    }
+
+    public static double similarity(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private int randomLayer() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private int capacityOf(int layer) {
+        return layer == 0 ? maxLinksLayer0 : maxLinks;
+    }
+
+    // 상위 층에서는 더 가까운 이웃이 없을 때까지 한 칸씩 이동한다
+    private int greedyClosest(float[] query, int start, int layer) {
+        int current = start;
+        double best = similarity(query, vectors[current]);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] neighbors = links[current][layer];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                double value = similarity(query, vectors[neighbors[i]]);
+                if (value > best) {
+                    best = value;
+                    current = neighbors[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 반환하는 queue 는 가장 먼 후보가 먼저 나온다
+    private PriorityQueue<Candidate> searchLayer(float[] query, int entry, int ef, int layer) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity).reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+        Candidate start = new Candidate(entry, similarity(query, vectors[entry]));
+        visited.set(entry);
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity() < results.peek().similarity()) {
+                break;
+            }
+            int[] neighbors = links[candidate.node()][layer];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double value = similarity(query, vectors[neighbor]);
+                if (results.size() < ef || value > results.peek().similarity()) {
+                    Candidate next = new Candidate(neighbor, value);
+                    candidates.add(next);
+                    results.add(next);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    // 이웃이 가득 차면 기존 이웃과 새 이웃 중에서 다시 고른다
+    private void connect(int from, int to, int layer) {
+        int[] neighbors = links[from][layer];
+        int count = neighbors[0];
+        if (count < neighbors.length - 1) {
+            neighbors[count + 1] = to;
+            neighbors[0] = count + 1;
+            return;
+        }
+        List<Candidate> candidates = new ArrayList<>(count + 1);
+        double farthest = Double.MAX_VALUE;
+        for (int i = 1; i <= count; i++) {
+            double value = similarity(vectors[from], vectors[neighbors[i]]);
+            farthest = Math.min(farthest, value);
+            candidates.add(new Candidate(neighbors[i], value));
+        }
+        double value = similarity(vectors[from], vectors[to]);
+        // 기존 이웃보다 모두 멀면 다시 고를 필요가 없다
+        if (value <= farthest) {
+            return;
+        }
+        candidates.add(new Candidate(to, value));
+        candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+        List<Candidate> selected = selectNeighbors(candidates, count);
+        for (int i = 0; i < selected.size(); i++) {
+            neighbors[i + 1] = selected.get(i).node();
+        }
+        neighbors[0] = selected.size();
+    }
+
+    /**
+     * 가까운 후보부터, 이미 고른 이웃보다 기준 벡터에 더 가까운 후보만 고른다.
+     * 한 방향에 몰린 이웃 대신 여러 방향의 이웃을 남겨 군집이 많은 데이터에서도 검색이 군집 사이를 건너갈 수 있다.
+     * 그렇게 고른 수가 모자라면 남은 후보를 가까운 순서로 채운다.
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> bestFirst, int count) {
+        List<Candidate> selected = new ArrayList<>(count);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : bestFirst) {
+            if (selected.size() >= count) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (similarity(vectors[candidate.node()], vectors[chosen.node()]) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            (diverse ? selected : pruned).add(candidate);
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < count; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private List<Candidate> sortedBestFirst(PriorityQueue<Candidate> queue) {
+        List<Candidate> sorted = new ArrayList<>(queue);
+        sorted.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+        return sorted;
+    }
+
+    private record Candidate(int node, double similarity) {
+    }
+
+    public record Result(long id, double similarity) {
+    }
+}
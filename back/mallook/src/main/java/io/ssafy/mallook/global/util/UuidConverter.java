@@ -0,0 +1,25 @@
+package io.ssafy.mallook.global.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID 를 문자열(36 byte) 대신 16 byte 로 저장할 때 사용한다.
+ */
+public final class UuidConverter {
+
+    private UuidConverter() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
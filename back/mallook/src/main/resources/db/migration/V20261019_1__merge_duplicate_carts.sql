@@ -0,0 +1,39 @@
+-- 회원마다 카트가 여러 개 있으면 uk_cart_member 를 걸 수 없으므로, 제약을 걸기 전에 한 번 돌려 카트를 합친다.
+-- 합친 뒤 같은 상품 줄이 겹칠 수 있으므로 이어서 V20261019_2 를 돌린다.
+
+-- 살아 있는 카트 중 가장 먼저 만든 카트를 남긴다. 모두 삭제된 회원은 마지막 카트를 남긴다
+create temporary table cart_merge as
+select member_id, ifnull(min(case when status = true then id end), max(id)) as keep_id
+from cart
+group by member_id
+having count(*) > 1;
+
+update cart_product cp
+    join cart c on cp.cart_id = c.id
+    join cart_merge m on c.member_id = m.member_id
+set cp.cart_id = m.keep_id, cp.updated_at = now()
+where c.id <> m.keep_id;
+
+delete c
+from cart c
+    join cart_merge m on c.member_id = m.member_id
+where c.id <> m.keep_id;
+
+-- 남긴 카트의 총계를 옮겨 온 줄까지 포함해 다시 계산한다
+update cart c
+    left join (select cart_id,
+                      sum(product_count * product_price) as total_price,
+                      sum(product_fee) as total_fee,
+                      sum(product_count) as total_count
+               from cart_product
+               where status = true
+               group by cart_id) t on c.id = t.cart_id
+set c.total_price = ifnull(t.total_price, 0),
+    c.total_fee = ifnull(t.total_fee, 0),
+    c.total_count = ifnull(t.total_count, 0)
+where c.id in (select keep_id from cart_merge);
+
+drop temporary table cart_merge;
+
+alter table cart
+    add constraint uk_cart_member unique (member_id);
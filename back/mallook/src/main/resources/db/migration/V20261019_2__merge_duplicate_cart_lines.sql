@@ -0,0 +1,58 @@
+-- 같은 카트에 같은 상품/사이즈/색상 줄이 여러 개 있으면 uk_cart_product_line 을 걸 수 없으므로,
+-- 제약을 걸기 전에 한 번 돌려 줄을 합친다. 카트 합치기(V20261019_1)를 먼저 돌려야 한다.
+
+-- 사이즈/색상이 없는 줄은 '' 로 저장해야 같은 줄로 합쳐진다
+update cart_product set product_size = '' where product_size is null;
+update cart_product set product_color = '' where product_color is null;
+
+-- 담긴 줄이 겹치면 가장 먼저 담은 줄에 수량을 합치고 나머지는 지운다
+create temporary table cart_product_merge as
+select min(id) as keep_id, cart_id, product_id, product_size, product_color, sum(product_count) as product_count
+from cart_product
+where status = true
+group by cart_id, product_id, product_size, product_color
+having count(*) > 1;
+
+update cart_product cp
+    join cart_product_merge m on cp.id = m.keep_id
+set cp.product_count = m.product_count, cp.updated_at = now();
+
+delete cp
+from cart_product cp
+    join cart_product_merge m
+        on cp.cart_id = m.cart_id and cp.product_id = m.product_id
+        and cp.product_size = m.product_size and cp.product_color = m.product_color
+where cp.status = true and cp.id <> m.keep_id;
+
+-- 삭제된 줄은 restoreDeletedProduct 가 한 줄만 되살리므로 마지막 줄만 남긴다
+create temporary table cart_product_deleted_keep as
+select max(id) as keep_id, cart_id, product_id, product_size, product_color
+from cart_product
+where status = false
+group by cart_id, product_id, product_size, product_color
+having count(*) > 1;
+
+delete cp
+from cart_product cp
+    join cart_product_deleted_keep k
+        on cp.cart_id = k.cart_id and cp.product_id = k.product_id
+        and cp.product_size = k.product_size and cp.product_color = k.product_color
+where cp.status = false and cp.id <> k.keep_id;
+
+-- 줄을 합친 카트는 줄마다 가격이 달랐을 수 있으므로 남은 줄로 총계를 다시 계산한다
+update cart c
+    join (select cart_id,
+                 sum(product_count * product_price) as total_price,
+                 sum(product_fee) as total_fee,
+                 sum(product_count) as total_count
+          from cart_product
+          where status = true
+          group by cart_id) t on c.id = t.cart_id
+set c.total_price = t.total_price, c.total_fee = t.total_fee, c.total_count = t.total_count
+where c.id in (select cart_id from cart_product_merge);
+
+drop temporary table cart_product_merge;
+drop temporary table cart_product_deleted_keep;
+
+alter table cart_product
+    add constraint uk_cart_product_line unique (cart_id, product_id, product_size, product_color, status);
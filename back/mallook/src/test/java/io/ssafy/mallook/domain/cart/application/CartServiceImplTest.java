@@ -0,0 +1,104 @@
+package io.ssafy.mallook.domain.cart.application;
+
+import io.ssafy.mallook.domain.cart.dao.CartRepository;
+import io.ssafy.mallook.domain.cart.dto.request.CartInsertReq;
+import io.ssafy.mallook.domain.cart.entity.Cart;
+import io.ssafy.mallook.domain.cart_product.dao.CartProductRepository;
+import io.ssafy.mallook.domain.cart_product.entity.CartProduct;
+import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
+import io.ssafy.mallook.domain.product.entity.Products;
+import io.ssafy.mallook.global.util.UuidConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartServiceImplTest {
+
+    @Mock
+    private CartRepository cartRepository;
+    @Mock
+    private CartProductRepository cartProductRepository;
+    @Mock
+    private ProductsRepository productsRepository;
+
+    @InjectMocks
+    private CartServiceImpl cartService;
+
+    private final UUID memberId = UUID.randomUUID();
+    private final String productId = "6604f5dd5fc901aa6386394d";
+    private final Cart cart = Cart.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        Products product = mock(Products.class);
+        given(product.getPrice()).willReturn(1000);
+        given(product.getName()).willReturn("셔츠");
+        given(product.getImage()).willReturn("img");
+        given(productsRepository.findById(productId)).willReturn(Optional.of(product));
+    }
+
+    @Test
+    @DisplayName("처음 담는 상품은 upsert 로 새로 담고, 사이즈와 색상이 없으면 '' 로 저장한다")
+    void insertNewProduct() {
+        given(cartRepository.findMyCartByMember(any(Member.class))).willReturn(Optional.of(cart));
+        given(cartProductRepository.upsertProduct(1L, productId, "", "", 2, 1000, 300, "셔츠", "img")).willReturn(1);
+
+        cartService.insertProductInCart(memberId, new CartInsertReq(productId, 2, null, 1000, null, 300));
+
+        verify(cartProductRepository).restoreDeletedProduct(1L, productId, "", "", 2, 1000, 300, "셔츠", "img");
+        verify(cartRepository).addTotals(1L, 2000L, 300L, 2L);
+        verify(cartProductRepository, never()).findSameProductInCart(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 담긴 상품은 upsert 로 수량을 더하고, 담을 때의 가격으로 총계를 늘린다")
+    void insertSameProduct() {
+        given(cartRepository.findMyCartByMember(any(Member.class))).willReturn(Optional.of(cart));
+        given(cartProductRepository.upsertProduct(1L, productId, "s", "red", 2, 1000, 300, "셔츠", "img")).willReturn(2);
+        given(cartProductRepository.findSameProductInCart(1L, productId, "s", "red"))
+                .willReturn(Optional.of(CartProduct.builder().productPrice(900).build()));
+
+        cartService.insertProductInCart(memberId, new CartInsertReq(productId, 2, "s", 1000, "red", 300));
+
+        verify(cartRepository).addTotals(1L, 1800L, 0L, 2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 같은 상품이 있으면 되살리고 upsert 하지 않는다")
+    void insertDeletedProduct() {
+        given(cartRepository.findMyCartByMember(any(Member.class))).willReturn(Optional.of(cart));
+        given(cartProductRepository.restoreDeletedProduct(1L, productId, "s", "red", 2, 1000, 0, "셔츠", "img"))
+                .willReturn(1);
+
+        cartService.insertProductInCart(memberId, new CartInsertReq(productId, 2, "s", 1000, "red", null));
+
+        verify(cartProductRepository, never()).upsertProduct(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(cartRepository).addTotals(1L, 2000L, 0L, 2L);
+    }
+
+    @Test
+    @DisplayName("카트가 없으면 upsert 로 만들고, 동시에 만들어진 카트가 있어도 그 카트를 다시 읽어 담는다")
+    void insertWithoutCart() {
+        given(cartRepository.findMyCartByMember(any(Member.class))).willReturn(Optional.empty(), Optional.of(cart));
+        given(cartProductRepository.upsertProduct(1L, productId, "s", "red", 1, 1000, 0, "셔츠", "img")).willReturn(1);
+
+        cartService.insertProductInCart(memberId, new CartInsertReq(productId, 1, "s", 1000, "red", null));
+
+        verify(cartRepository).insertOrRestore(UuidConverter.toBytes(memberId));
+        verify(cartRepository, never()).save(any());
+        verify(cartRepository).addTotals(1L, 1000L, 0L, 1L);
+    }
+}
@@ -0,0 +1,177 @@
+package io.ssafy.mallook.domain.cart.dao;
+
+import io.ssafy.mallook.domain.cart.entity.Cart;
+import io.ssafy.mallook.domain.member.dao.MemberRepository;
+import io.ssafy.mallook.domain.member.entity.Member;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles(profiles = "test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Log4j2
+class CartTotalsConcurrencyTest {
+
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Autowired
+    CartRepository cartRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Member member;
+    private Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        member = transactionTemplate.execute(status -> memberRepository.save(Member.builder()
+                .nickname("동시성테스트")
+                .build()));
+        cart = transactionTemplate.execute(status -> cartRepository.save(Cart.builder()
+                .member(member)
+                .totalPrice(0L)
+                .totalFee(0L)
+                .totalCount(0L)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            cartRepository.deleteById(cart.getId());
+            memberRepository.deleteById(member.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 카트의 총계를 동시에 변경해도 유실되는 값이 없다")
+    void addTotalsConcurrentlyTest() throws Exception {
+        int threadCount = 16;
+        long elapsed = hammer(Collections.nCopies(threadCount, cart.getId()));
+
+        int operations = threadCount * OPERATIONS_PER_THREAD;
+        Cart result = cartRepository.findById(cart.getId()).orElseThrow();
+        // 짝수 번째 작업은 담기(+), 홀수 번째 작업은 빼기(-)의 절반만큼 수행
+        long expectedCount = (long) threadCount * expectedPerThread(1L);
+        assertThat(result.getTotalCount()).isEqualTo(expectedCount);
+        assertThat(result.getTotalPrice()).isEqualTo(expectedCount * 1000L);
+        assertThat(result.getTotalFee()).isEqualTo(expectedCount * 100L);
+        log.info("threads={}, operations={}, elapsed={}ms, throughput={} ops/s",
+                threadCount, operations, elapsed, operations * 1000L / Math.max(elapsed, 1L));
+    }
+
+    /**
+     * 한 카트의 갱신은 row lock 으로 직렬화되므로 처리량은 서로 다른 카트 사이에서만 늘어난다.
+     * 스레드마다 자기 카트를 갱신해 1/4/16 스레드의 처리량을 비교한다. 코어 수보다 많은 스레드는 더 늘지 않을 수 있어
+     * 4, 16 스레드 모두 1 스레드보다 1.5배 이상인지만 확인한다. 시간에 기대므로 ./gradlew test -Dbenchmark=true 로만 돌린다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("서로 다른 카트의 총계 갱신은 스레드 수에 따라 처리량이 늘어난다")
+    void addTotalsThroughputTest() throws Exception {
+        List<Member> members = new ArrayList<>();
+        List<Long> cartIds = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Member other = transactionTemplate.execute(status -> memberRepository.save(Member.builder()
+                    .nickname("처리량테스트")
+                    .build()));
+            members.add(other);
+            cartIds.add(transactionTemplate.execute(status -> cartRepository.save(Cart.builder()
+                    .member(other)
+                    .totalPrice(0L)
+                    .totalFee(0L)
+                    .totalCount(0L)
+                    .build())).getId());
+        }
+        try {
+            // 커넥션 풀과 JIT 을 데운다
+            hammer(cartIds.subList(0, 4));
+
+            Map<Integer, Long> throughput = new LinkedHashMap<>();
+            for (int threadCount : new int[]{1, 4, 16}) {
+                long elapsed = hammer(cartIds.subList(0, threadCount));
+                int operations = threadCount * OPERATIONS_PER_THREAD;
+                throughput.put(threadCount, operations * 1000L / Math.max(elapsed, 1L));
+                log.info("threads={}, operations={}, elapsed={}ms, throughput={} ops/s",
+                        threadCount, operations, elapsed, throughput.get(threadCount));
+            }
+
+            assertThat(throughput.get(4)).isGreaterThan(throughput.get(1) * 3 / 2);
+            assertThat(throughput.get(16)).isGreaterThan(throughput.get(1) * 3 / 2);
+            // 각 카트는 자기 스레드가 더하고 뺀 값만 가진다
+            Cart first = cartRepository.findById(cartIds.get(0)).orElseThrow();
+            assertThat(first.getTotalCount()).isEqualTo(4 * expectedPerThread(1L));
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                cartRepository.deleteAllById(cartIds);
+                memberRepository.deleteAll(members);
+            });
+        }
+    }
+
+    private long expectedPerThread(long unit) {
+        long sum = 0L;
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+            sum += i % 2 == 0 ? unit * 2 : -unit;
+        }
+        return sum;
+    }
+
+    // 스레드마다 cartIds 의 같은 위치에 있는 카트를 갱신한다
+    private long hammer(List<Long> cartIds) throws Exception {
+        int threadCount = cartIds.size();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            Long cartId = cartIds.get(t);
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    long count = i % 2 == 0 ? 2L : -1L;
+                    transactionTemplate.executeWithoutResult(status ->
+                            cartRepository.addTotals(cartId, count * 1000L, count * 100L, count));
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        long begin = System.currentTimeMillis();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.currentTimeMillis() - begin;
+        executor.shutdown();
+        return elapsed;
+    }
+}
@@ -66,6 +66,10 @@ class CartProductRepositoryTest {
 
 
     private CartProduct buildCartProduct(Cart cart) {
+        return buildCartProduct(cart, "red");
+    }
+
+    private CartProduct buildCartProduct(Cart cart, String color) {
         return CartProduct.builder()
                 .cart(cart)
                 .product(products)
@@ -74,7 +78,7 @@ class CartProductRepositoryTest {
                 .productPrice(1000)
                 .productFee(1000)
                 .productSize("s")
-                .productColor("red")
+                .productColor(color)
                 .build();
     }
 
@@ -86,9 +90,16 @@ class CartProductRepositoryTest {
     }
 
     @Test
-    @DisplayName("활성화된 카트에 활성화된 상품 중 동일한 상품의 개수 조회 테스트")
-    void CountSameProductInCartTest() {
+    @DisplayName("활성화된 카트에서 동일한 상품/사이즈/색상의 상품 조회 테스트")
+    void findSameProductInCartTest() {
+        var saved = cartProductRepository.save(buildCartProduct(cart));
+
+        var same = cartProductRepository.findSameProductInCart(cart.getId(), products, "s", "red");
+        var other = cartProductRepository.findSameProductInCart(cart.getId(), products, "s", "blue");
 
+        assertThat(same).isPresent();
+        assertThat(same.get().getId()).isEqualTo(saved.getId());
+        assertThat(other).isEmpty();
     }
 
     @Test
@@ -96,7 +107,7 @@ class CartProductRepositoryTest {
     void deleteCartProductTest() {
         List<Long> deleteCartList = new ArrayList<>();
         for (int i = 0; i < 3; i++) {
-            CartProduct cartProduct = buildCartProduct(cart);
+            CartProduct cartProduct = buildCartProduct(cart, "color" + i);
             var rs = cartProductRepository.save(cartProduct);
             deleteCartList.add(rs.getId());
         }
@@ -0,0 +1,144 @@
+package io.ssafy.mallook.domain.chatgpt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.ssafy.mallook.domain.chatgpt.dto.request.QuestionDto;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.config.ChatGPTConfig;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OpenAI 대신 로컬 HTTP 서버에 요청을 보내 실제 클라이언트 설정으로 응답을 읽는지 확인한다.
+ * 스트리밍 요청에는 OpenAI 와 같은 형식의 SSE chunk 를 보낸다.
+ */
+class GptServiceTest {
+
+    private static final String COMPLETION = """
+            {"id":"chatcmpl-1","object":"chat.completion","created":0,"model":"gpt-3.5-turbo",
+             "choices":[{"index":0,"message":{"role":"assistant","content":"테스트응답"},"finish_reason":"stop"}],
+             "usage":{"prompt_tokens":1,"completion_tokens":1,"total_tokens":2}}
+            """;
+    private static final List<String> STREAM = List.of(
+            "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":0,\"model\":\"gpt-3.5-turbo\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\"},\"finish_reason\":null}]}",
+            "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":0,\"model\":\"gpt-3.5-turbo\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"테스트\"},\"finish_reason\":null}]}",
+            "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":0,\"model\":\"gpt-3.5-turbo\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"응답\"},\"finish_reason\":null}]}",
+            "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":0,\"model\":\"gpt-3.5-turbo\",\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}]}",
+            "[DONE]");
+
+    private HttpServer server;
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private volatile long delayMillis;
+    private volatile long chunkDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            sleep(delayMillis);
+            if (request.contains("\"stream\":true")) {
+                // 스트리밍 요청에는 chunk 를 하나씩 나눠 SSE 로 보낸다
+                exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    for (String chunk : STREAM) {
+                        out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                        sleep(chunkDelayMillis);
+                    }
+                }
+                return;
+            }
+            byte[] body = COMPLETION.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private GptService gptService(Duration timeout) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        return new GptService(ChatGPTConfig.openAiService("test-key", baseUrl, timeout), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("설정한 주소로 질문을 보내고 첫 번째 답변을 반환한다")
+    void askQuestionTest() {
+        String answer = gptService(Duration.ofSeconds(5))
+                .askQuestion(QuestionDto.builder().content("데님, 여름").build())
+                .answer();
+
+        assertThat(answer).isEqualTo("테스트응답");
+        assertThat(authorization.get()).isEqualTo("Bearer test-key");
+    }
+
+    @Test
+    @DisplayName("스트리밍으로 받은 토큰을 순서대로 넘기고 전체 답변을 반환한다")
+    void streamQuestionTest() {
+        List<String> tokens = new ArrayList<>();
+
+        String answer = gptService(Duration.ofSeconds(5))
+                .streamQuestion(QuestionDto.builder().content("데님, 여름").build(), Duration.ofSeconds(5), tokens::add)
+                .answer();
+
+        assertThat(tokens).containsExactly("테스트", "응답");
+        assertThat(answer).isEqualTo("테스트응답");
+    }
+
+    @Test
+    @DisplayName("응답이 timeout 보다 늦으면 예외가 발생한다")
+    void askQuestionTimeoutTest() {
+        delayMillis = 1000;
+
+        assertThatThrownBy(() -> gptService(Duration.ofMillis(200))
+                .askQuestion(QuestionDto.builder().content("데님").build()))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("토큰이 계속 와도 제한 시간 안에 답변이 끝나지 않으면 스트림을 끊고 예외가 발생한다")
+    void streamQuestionDeadlineTest() {
+        chunkDelayMillis = 400;
+        List<String> tokens = new ArrayList<>();
+
+        assertThatThrownBy(() -> gptService(Duration.ofSeconds(5))
+                .streamQuestion(QuestionDto.builder().content("데님").build(), Duration.ofMillis(600), tokens::add))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SCRIPT_SENTENCE_TIMEOUT);
+        assertThat(tokens).containsExactly("테스트");
+    }
+}
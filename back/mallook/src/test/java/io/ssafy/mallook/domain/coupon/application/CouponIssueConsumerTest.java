@@ -0,0 +1,145 @@
+package io.ssafy.mallook.domain.coupon.application;
+
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponBulkRepository;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponIssueDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueConsumerTest {
+
+    @Mock
+    private CouponRedisDao couponRedisDao;
+    @Mock
+    private MemberCouponBulkRepository memberCouponBulkRepository;
+    @Mock
+    private MemberCouponRedisDao memberCouponRedisDao;
+
+    private CouponIssueConsumer couponIssueConsumer;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueConsumer = new CouponIssueConsumer(couponRedisDao, memberCouponBulkRepository, memberCouponRedisDao);
+        ReflectionTestUtils.setField(couponIssueConsumer, "consumerName", "worker-1");
+        ReflectionTestUtils.setField(couponIssueConsumer, "batchSize", 500);
+        // pending 메시지 처리는 끝난 상태로 시작
+        ReflectionTestUtils.setField(couponIssueConsumer, "pending", false);
+    }
+
+    private MapRecord<String, Object, Object> buildRecord(String id, UUID memberId, Long couponId) {
+        return StreamRecords.<String, Object, Object>mapBacked(Map.of(
+                        CouponRedisDao.FIELD_MEMBER_ID, memberId.toString(),
+                        CouponRedisDao.FIELD_COUPON_ID, couponId.toString()))
+                .withStreamKey(CouponRedisDao.ISSUE_STREAM)
+                .withId(RecordId.of(id));
+    }
+
+    @Test
+    @DisplayName("stream 메시지를 한 번에 저장하고, 중복 메시지는 하나로 합친 뒤 모두 ack 한다")
+    void drainOnceTest() {
+        UUID memberId = UUID.randomUUID();
+        var records = List.of(
+                buildRecord("1-0", memberId, 1L),
+                buildRecord("2-0", memberId, 1L),
+                buildRecord("3-0", UUID.randomUUID(), 1L));
+        given(couponRedisDao.readIssues("worker-1", 500, false)).willReturn(records);
+        given(memberCouponBulkRepository.insertIfAbsent(anyList())).willReturn(2);
+
+        int processed = couponIssueConsumer.drainOnce();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MemberCouponIssueDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memberCouponBulkRepository, times(1)).insertIfAbsent(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(processed).isEqualTo(3);
+        verify(couponRedisDao, times(1))
+                .ackIssues(List.of(RecordId.of("1-0"), RecordId.of("2-0"), RecordId.of("3-0")));
+        verify(memberCouponRedisDao, times(1)).evictClaimedCouponIds(anyList());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 ack 하지 않고 다음 주기에 pending 메시지부터 다시 읽는다")
+    void drainOnceFailTest() {
+        var records = List.of(buildRecord("1-0", UUID.randomUUID(), 1L));
+        given(couponRedisDao.readIssues("worker-1", 500, false)).willReturn(records);
+        given(memberCouponBulkRepository.insertIfAbsent(anyList()))
+                .willThrow(new DataIntegrityViolationException("fail"));
+
+        couponIssueConsumer.drainOnce();
+
+        verify(couponRedisDao, never()).ackIssues(anyList());
+        given(couponRedisDao.readIssues("worker-1", 500, true)).willReturn(records);
+        willReturn(1).given(memberCouponBulkRepository).insertIfAbsent(anyList());
+
+        couponIssueConsumer.drainOnce();
+
+        verify(couponRedisDao, times(1)).ackIssues(List.of(RecordId.of("1-0")));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 발급 메시지를 다시 처리하면 row 를 바꾸지 않고 ack 한다")
+    void drainOnceReplayTest() {
+        var records = List.of(buildRecord("1-0", UUID.randomUUID(), 1L));
+        given(couponRedisDao.readIssues("worker-1", 500, false)).willReturn(records);
+        given(memberCouponBulkRepository.insertIfAbsent(anyList())).willReturn(0);
+
+        int processed = couponIssueConsumer.drainOnce();
+
+        assertThat(processed).isEqualTo(1);
+        verify(couponRedisDao, times(1)).ackIssues(List.of(RecordId.of("1-0")));
+    }
+
+    @Test
+    @DisplayName("시작할 때 consumer group 을 만들지 못했으면 다음 주기에 다시 만든 뒤 읽는다")
+    void drainRetriesGroupTest() {
+        willThrow(new RedisSystemException("connection refused", null))
+                .willDoNothing()
+                .given(couponRedisDao).createIssueGroup();
+        couponIssueConsumer.init();
+        given(couponRedisDao.readIssues("worker-1", 500, false)).willReturn(List.of());
+
+        couponIssueConsumer.drain();
+        couponIssueConsumer.drain();
+
+        verify(couponRedisDao, times(2)).createIssueGroup();
+        verify(couponRedisDao, times(2)).readIssues("worker-1", 500, false);
+    }
+
+    @Test
+    @DisplayName("종료된 consumer 의 pending 메시지를 가져오면 다음 주기에 pending 부터 읽는다")
+    void reclaimTest() {
+        ReflectionTestUtils.setField(couponIssueConsumer, "claimIdleMillis", 60000L);
+        given(couponRedisDao.claimStaleIssues("worker-1", Duration.ofMinutes(1), 500)).willReturn(3);
+        given(couponRedisDao.readIssues("worker-1", 500, true)).willReturn(List.of());
+        given(couponRedisDao.readIssues("worker-1", 500, false)).willReturn(List.of());
+
+        couponIssueConsumer.reclaim();
+        couponIssueConsumer.drainOnce();
+
+        verify(couponRedisDao).readIssues("worker-1", 500, true);
+    }
+}
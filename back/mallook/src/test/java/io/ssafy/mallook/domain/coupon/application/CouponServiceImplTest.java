@@ -0,0 +1,156 @@
+package io.ssafy.mallook.domain.coupon.application;
+
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
+import io.ssafy.mallook.domain.coupon.dao.CouponRepository;
+import io.ssafy.mallook.domain.coupon.dto.response.CouponRes;
+import io.ssafy.mallook.domain.coupon.entity.CouponType;
+import io.ssafy.mallook.domain.grade.entity.Level;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.global.batch.dao.CouponGrantRedisDao;
+import io.ssafy.mallook.global.batch.dto.CouponGrantRequestDto;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponServiceImplTest {
+
+    @Mock
+    private CouponRedisDao couponRedisDao;
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+    @Mock
+    private MemberCouponRedisDao memberCouponRedisDao;
+    @Mock
+    private CouponGrantRedisDao couponGrantRedisDao;
+
+    @InjectMocks
+    private CouponServiceImpl couponService;
+
+    private final Long couponId = 1L;
+    private final UUID memberId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("재고가 남아 있으면 쿠폰을 발급한다")
+    void decreaseCouponTest() {
+        given(couponRedisDao.issue(couponId, memberId)).willReturn(CouponRedisDao.ISSUED);
+
+        assertThatCode(() -> couponService.decreaseCoupon(couponId, memberId)).doesNotThrowAnyException();
+        verify(couponRedisDao, times(1)).issue(couponId, memberId);
+        verify(memberCouponRedisDao, times(1)).addClaimedCouponId(memberId, couponId);
+    }
+
+    @Test
+    @DisplayName("재고가 소진되면 예외가 발생하고 저장하지 않는다")
+    void decreaseCouponSoldOutTest() {
+        given(couponRedisDao.issue(couponId, memberId)).willReturn(CouponRedisDao.SOLD_OUT);
+
+        assertThatThrownBy(() -> couponService.decreaseCoupon(couponId, memberId))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SOLD_OUT_COUPON);
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 회원은 예외가 발생하고 저장하지 않는다")
+    void decreaseCouponDuplicateTest() {
+        given(couponRedisDao.issue(couponId, memberId)).willReturn(CouponRedisDao.DUPLICATE);
+
+        assertThatThrownBy(() -> couponService.decreaseCoupon(couponId, memberId))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DUPLICATE_COUPON);
+    }
+
+    private CouponRes buildCouponRes(Long id) {
+        return new CouponRes(id, "쿠폰" + id, null, null, CouponType.RATIO);
+    }
+
+    @Test
+    @DisplayName("캐시된 발급 쿠폰을 메모리에서 걸러내고, 한 페이지를 채울 만큼만 더 읽는다")
+    void findCouponListTest() {
+        given(memberCouponRedisDao.getClaimedCouponIds(memberId)).willReturn(Optional.of(Set.of(4L, 2L)));
+        given(couponRepository.findCouponsBefore(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(buildCouponRes(5L), buildCouponRes(4L), buildCouponRes(3L),
+                        buildCouponRes(2L), buildCouponRes(1L)));
+
+        Slice<CouponRes> result = couponService.findCouponListFirst(PageRequest.of(0, 2), memberId);
+
+        assertThat(result.getContent()).extracting(CouponRes::id).containsExactly(5L, 3L);
+        assertThat(result.hasNext()).isTrue();
+        verify(couponRepository, times(1)).findCouponsBefore(Long.MAX_VALUE, PageRequest.of(0, 5));
+        verify(couponRepository, never()).findCouponBy(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발급 쿠폰 캐시가 없으면 DB 에서 읽어 캐시한다")
+    void findCouponListCacheMissTest() {
+        given(memberCouponRedisDao.getClaimedCouponIds(memberId)).willReturn(Optional.empty());
+        given(memberCouponRepository.findCouponIdsByMemberId(memberId)).willReturn(List.of(1L));
+        given(couponRepository.findCouponsBefore(eq(10L), any(Pageable.class)))
+                .willReturn(List.of(buildCouponRes(3L), buildCouponRes(1L)));
+
+        Slice<CouponRes> result = couponService.findCouponList(PageRequest.of(0, 20), 10L, memberId);
+
+        assertThat(result.getContent()).extracting(CouponRes::id).containsExactly(3L);
+        assertThat(result.hasNext()).isFalse();
+        verify(memberCouponRedisDao, times(1)).saveClaimedCouponIds(memberId, Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("발급받은 쿠폰이 많으면 NOT EXISTS 쿼리로 조회한다")
+    void findCouponListManyClaimsTest() {
+        Set<Long> claimed = LongStream.rangeClosed(1, 500).boxed().collect(Collectors.toSet());
+        given(memberCouponRedisDao.getClaimedCouponIds(memberId)).willReturn(Optional.of(claimed));
+        Pageable pageable = PageRequest.of(0, 20);
+
+        couponService.findCouponList(pageable, 1000L, memberId);
+
+        verify(couponRepository, times(1)).findCouponBy(pageable, 1000L, memberId);
+        verify(couponRepository, never()).findCouponsBefore(any(), any());
+    }
+
+    @Test
+    @DisplayName("등급별 쿠폰 지급 요청을 큐에 넣고, 없는 쿠폰이면 예외가 발생한다")
+    void requestGrantTest() {
+        given(couponRepository.existsById(couponId)).willReturn(true);
+        given(couponRepository.existsById(2L)).willReturn(false);
+
+        String requestId = couponService.requestGrant(couponId, Level.LEVEL3);
+
+        ArgumentCaptor<CouponGrantRequestDto> captor = ArgumentCaptor.forClass(CouponGrantRequestDto.class);
+        verify(couponGrantRedisDao, times(1)).enqueue(captor.capture());
+        assertThat(captor.getValue().requestId()).isEqualTo(requestId);
+        assertThat(captor.getValue().couponId()).isEqualTo(couponId);
+        assertThat(captor.getValue().level()).isEqualTo(Level.LEVEL3);
+        assertThatThrownBy(() -> couponService.requestGrant(2L, Level.LEVEL3))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_FOUND_COUPON);
+    }
+}
@@ -0,0 +1,90 @@
+package io.ssafy.mallook.domain.coupon.application;
+
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
+import io.ssafy.mallook.global.config.ExecutorConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockBroadcasterTest {
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+    @Mock
+    private CouponRedisDao couponRedisDao;
+
+    private ThreadPoolTaskExecutor couponStockSender;
+    private CouponStockBroadcaster broadcaster;
+
+    private final Long couponId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        couponStockSender = ExecutorConfig.executor("coupon-stock-", 4, Integer.MAX_VALUE, 0);
+        couponStockSender.initialize();
+        broadcaster = new CouponStockBroadcaster(listenerContainer, couponRedisDao, couponStockSender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        couponStockSender.shutdown();
+    }
+
+    private void publish(MessageListener listener, int stock) {
+        byte[] channel = (CouponRedisDao.STOCK_CHANNEL + couponId).getBytes(StandardCharsets.UTF_8);
+        listener.onMessage(new DefaultMessage(channel, String.valueOf(stock).getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰의 구독자가 여러 명이어도 Redis 채널은 한 번만 구독하고, 마지막 구독자가 나가면 해제한다")
+    void subscribeOncePerCouponTest() {
+        given(couponRedisDao.getStock(couponId)).willReturn(10);
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+
+        broadcaster.register(couponId, first);
+        broadcaster.register(couponId, second);
+
+        verify(listenerContainer, times(1)).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        broadcaster.unregister(couponId, first);
+        verify(listenerContainer, never()).removeMessageListener(any(MessageListener.class));
+        broadcaster.unregister(couponId, second);
+        verify(listenerContainer, times(1)).removeMessageListener(any(MessageListener.class));
+    }
+
+    @Test
+    @DisplayName("flush 주기 사이에 받은 재고 변경은 최신 값 하나로 합쳐 전송한다")
+    void coalesceUpdatesTest() throws Exception {
+        given(couponRedisDao.getStock(couponId)).willReturn(10);
+        SseEmitter emitter = mock(SseEmitter.class);
+        broadcaster.register(couponId, emitter);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(ChannelTopic.class));
+
+        publish(listener.getValue(), 9);
+        publish(listener.getValue(), 8);
+        publish(listener.getValue(), 7);
+        broadcaster.flush();
+        broadcaster.flush();
+
+        // 구독 시점의 재고 1번 + flush 1번
+        verify(emitter, timeout(1000).times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+}
@@ -0,0 +1,144 @@
+package io.ssafy.mallook.domain.coupon.dao;
+
+import io.ssafy.mallook.domain.coupon.dto.response.CouponClaimStatsRes;
+import io.ssafy.mallook.global.util.UuidConverter;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis 가 필요한 부하 테스트
+ * ./gradlew test --tests '*CouponIssueLoadTest' -Dcoupon.load-test.redis-host=localhost
+ */
+@Log4j2
+@EnabledIfSystemProperty(named = "coupon.load-test.redis-host", matches = ".+")
+class CouponIssueLoadTest {
+
+    private static final int STOCK = 1_000;
+    private static final int CLAIMS_PER_THREAD = 500;
+    private static final int THREADS_PER_NODE = 16;
+    private static final int PIPELINE_SIZE = 10_000;
+
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        factories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    /**
+     * 발급 script 는 Redis 한 대에서 차례로 실행되므로 노드를 늘려도 Redis 가 포화되면 처리량이 늘지 않는다.
+     * 처리량은 기록만 하고, 확인하는 것은 노드 수와 상관없이 재고만큼만 발급되는지다.
+     */
+    @Test
+    @DisplayName("API 노드 수에 따른 쿠폰 발급 처리량을 기록하고 재고만큼만 발급되는지 확인한다")
+    void issueThroughputTest() throws Exception {
+        long couponId = System.currentTimeMillis();
+        for (int nodes : new int[]{1, 2, 4}) {
+            // 노드마다 독립된 커넥션을 사용해 여러 API 서버를 흉내낸다
+            List<CouponRedisDao> daos = new ArrayList<>();
+            for (int i = 0; i < nodes; i++) {
+                daos.add(new CouponRedisDao(newTemplate()));
+            }
+            long targetCoupon = couponId + nodes;
+            daos.get(0).initStock(targetCoupon, STOCK, LocalDateTime.now().plusMinutes(10));
+
+            AtomicLong issued = new AtomicLong();
+            long elapsed = hammer(daos, targetCoupon, issued);
+
+            long claims = (long) nodes * THREADS_PER_NODE * CLAIMS_PER_THREAD;
+            log.info("nodes={}, claims={}, elapsed={}ms, throughput={} claims/s",
+                    nodes, claims, elapsed, claims * 1000L / Math.max(elapsed, 1L));
+            assertThat(issued.get()).isEqualTo(STOCK);
+            assertThat(daos.get(0).getStock(targetCoupon)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("발급 회원 저장소에 대량의 회원을 기록한 뒤 메모리 사용량과 조회 지연을 측정한다")
+    void claimRegistryFootprintTest() {
+        int claims = Integer.getInteger("coupon.load-test.claims", 10_000_000);
+        long couponId = System.currentTimeMillis();
+        StringRedisTemplate template = newTemplate();
+        CouponRedisDao dao = new CouponRedisDao(template);
+        try {
+            for (int offset = 0; offset < claims; offset += PIPELINE_SIZE) {
+                int size = Math.min(PIPELINE_SIZE, claims - offset);
+                template.executePipelined((RedisCallback<Object>) connection -> {
+                    for (int i = 0; i < size; i++) {
+                        UUID memberId = UUID.randomUUID();
+                        connection.setCommands().sAdd(
+                                CouponRedisDao.claimKey(couponId, memberId).getBytes(StandardCharsets.UTF_8),
+                                UuidConverter.toBytes(memberId));
+                    }
+                    return null;
+                });
+            }
+
+            CouponClaimStatsRes stats = dao.getClaimStats(couponId, 1_000);
+            log.info("claims={}, shards={}, memory={}bytes, bytesPerClaim={}, avgLookup={}us",
+                    stats.claimCount(), stats.shardCount(), stats.memoryBytes(),
+                    stats.bytesPerClaim(), stats.avgLookupMicros());
+            assertThat(stats.claimCount()).isEqualTo(claims);
+        } finally {
+            template.delete(CouponRedisDao.claimKeys(couponId));
+        }
+    }
+
+    private StringRedisTemplate newTemplate() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                System.getProperty("coupon.load-test.redis-host"),
+                Integer.getInteger("coupon.load-test.redis-port", 6379));
+        factory.afterPropertiesSet();
+        factories.add(factory);
+        return new StringRedisTemplate(factory);
+    }
+
+    private long hammer(List<CouponRedisDao> daos, long couponId, AtomicLong issued) throws Exception {
+        int threadCount = daos.size() * THREADS_PER_NODE;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            CouponRedisDao dao = daos.get(t % daos.size());
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                for (int i = 0; i < CLAIMS_PER_THREAD; i++) {
+                    if (dao.issue(couponId, UUID.randomUUID()) == CouponRedisDao.ISSUED) {
+                        issued.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        long begin = System.currentTimeMillis();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.currentTimeMillis() - begin;
+        executor.shutdown();
+        return elapsed;
+    }
+}
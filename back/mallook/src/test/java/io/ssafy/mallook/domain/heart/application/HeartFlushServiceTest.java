@@ -0,0 +1,118 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartJdbcDao;
+import io.ssafy.mallook.domain.heart.dao.HeartRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartCountChangedEvent;
+import io.ssafy.mallook.domain.heart.dto.HeartDeltaBatchDto;
+import io.ssafy.mallook.domain.heart.dto.HeartEventDto;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeartFlushServiceTest {
+
+    @Mock
+    private HeartRedisDao heartRedisDao;
+    @Mock
+    private HeartJdbcDao heartJdbcDao;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HeartFlushService heartFlushService;
+
+    @BeforeEach
+    void setUp() {
+        heartFlushService = new HeartFlushService(heartRedisDao, heartJdbcDao, new TransactionTemplate(transactionManager),
+                eventPublisher);
+    }
+
+    @Test
+    @DisplayName("대상별로 합산된 증감을 반영한 뒤 반영용 key 를 지운다")
+    void flushDeltas() {
+        Map<Long, Long> deltas = Map.of(1L, 120L, 2L, -1L);
+        given(heartRedisDao.drainDeltas(HeartTarget.STYLE)).willReturn(Optional.of(new HeartDeltaBatchDto("b1", deltas)));
+        given(heartJdbcDao.markApplied("b1")).willReturn(1);
+
+        heartFlushService.flushDeltas(HeartTarget.STYLE);
+
+        verify(heartJdbcDao).addHeartCounts(HeartTarget.STYLE, deltas);
+        verify(eventPublisher).publishEvent(new HeartCountChangedEvent(HeartTarget.STYLE, deltas));
+        verify(heartRedisDao).completeDeltas(HeartTarget.STYLE);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 증감을 남겨 두고 다음 주기에 다시 반영한다")
+    void flushDeltasFailure() {
+        Map<Long, Long> deltas = Map.of(1L, 3L);
+        given(heartRedisDao.drainDeltas(HeartTarget.SCRIPT)).willReturn(Optional.of(new HeartDeltaBatchDto("b1", deltas)));
+        given(heartJdbcDao.markApplied("b1")).willReturn(1);
+        willThrow(new QueryTimeoutException("timeout")).given(heartJdbcDao).addHeartCounts(HeartTarget.SCRIPT, deltas);
+
+        assertThatThrownBy(() -> heartFlushService.flushDeltas(HeartTarget.SCRIPT))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(heartRedisDao, never()).completeDeltas(any());
+    }
+
+    @Test
+    @DisplayName("반영한 뒤 Redis 에서 지우지 못한 묶음은 다시 더하지 않고 반영용 key 만 지운다")
+    void flushDeltasAlreadyApplied() {
+        Map<Long, Long> deltas = Map.of(1L, 3L);
+        given(heartRedisDao.drainDeltas(HeartTarget.STYLE)).willReturn(Optional.of(new HeartDeltaBatchDto("b1", deltas)));
+        given(heartJdbcDao.markApplied("b1")).willReturn(0);
+
+        heartFlushService.flushDeltas(HeartTarget.STYLE);
+
+        verify(heartJdbcDao, never()).addHeartCounts(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(heartRedisDao).completeDeltas(HeartTarget.STYLE);
+    }
+
+    @Test
+    @DisplayName("반영할 증감이 없으면 DB 를 건드리지 않는다")
+    void flushDeltasEmpty() {
+        given(heartRedisDao.drainDeltas(HeartTarget.STYLE)).willReturn(Optional.empty());
+
+        heartFlushService.flushDeltas(HeartTarget.STYLE);
+
+        verifyNoInteractions(heartJdbcDao, transactionManager);
+    }
+
+    @Test
+    @DisplayName("같은 회원, 대상의 이벤트는 마지막 이벤트만 반영한다")
+    void flushEvents() {
+        UUID memberA = UUID.randomUUID();
+        UUID memberB = UUID.randomUUID();
+        given(heartRedisDao.peekEvents(eq(HeartTarget.STYLE), anyInt())).willReturn(List.of(
+                memberA + ":1:1",
+                memberB + ":1:1",
+                memberA + ":1:-1",
+                "broken"));
+
+        heartFlushService.flushEvents(HeartTarget.STYLE);
+
+        verify(heartJdbcDao).delete(HeartTarget.STYLE, List.of(new HeartEventDto(memberA, 1L, -1)));
+        verify(heartJdbcDao).insertIgnore(HeartTarget.STYLE, List.of(new HeartEventDto(memberB, 1L, 1)));
+        verify(heartRedisDao).removeEvents(HeartTarget.STYLE, 4);
+    }
+}
@@ -0,0 +1,107 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
+import io.ssafy.mallook.domain.heart.script_heart.dao.ScriptHeartRepository;
+import io.ssafy.mallook.domain.heart.style_heart.dao.StyleHeartRepository;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeartRecorderTest {
+
+    @Mock
+    private HeartRedisDao heartRedisDao;
+    @Mock
+    private StyleHeartRepository styleHeartRepository;
+    @Mock
+    private ScriptHeartRepository scriptHeartRepository;
+
+    @InjectMocks
+    private HeartRecorder heartRecorder;
+
+    private final UUID memberId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("좋아요는 Redis 에만 기록하고 DB 를 조회하지 않는다")
+    void like() {
+        given(heartRedisDao.like(HeartTarget.STYLE, memberId, 1L)).willReturn(HeartRedisDao.APPLIED);
+
+        heartRecorder.like(HeartTarget.STYLE, memberId, 1L);
+
+        verifyNoInteractions(styleHeartRepository, scriptHeartRepository);
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 set 이 없으면 DB 에서 채운 뒤 다시 기록한다")
+    void likeAfterLoad() {
+        given(heartRedisDao.like(HeartTarget.STYLE, memberId, 1L))
+                .willReturn(HeartRedisDao.NOT_LOADED, HeartRedisDao.APPLIED);
+        List<HeartTimelineDto> timeline = List.of(new HeartTimelineDto(2L, 1000L), new HeartTimelineDto(3L, 2000L));
+        given(styleHeartRepository.findStyleTimelineByMemberId(memberId)).willReturn(timeline);
+
+        heartRecorder.like(HeartTarget.STYLE, memberId, 1L);
+
+        verify(heartRedisDao).loadLiked(HeartTarget.STYLE, memberId, timeline);
+        verify(heartRedisDao, times(2)).like(HeartTarget.STYLE, memberId, 1L);
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 대상이면 DUPLICATE_LIKE 예외가 발생한다")
+    void likeDuplicate() {
+        given(heartRedisDao.like(HeartTarget.SCRIPT, memberId, 1L)).willReturn(HeartRedisDao.UNCHANGED);
+
+        assertThatThrownBy(() -> heartRecorder.like(HeartTarget.SCRIPT, memberId, 1L))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_LIKE);
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 timeline 이 없으면 DB 에서 채운 뒤 최근 순으로 조회한다")
+    void getTimelineAfterLoad() {
+        List<HeartTimelineDto> page = List.of(new HeartTimelineDto(3L, 2000L));
+        given(heartRedisDao.getTimeline(HeartTarget.STYLE, memberId, Long.MAX_VALUE, null, 20))
+                .willReturn(Optional.empty(), Optional.of(page));
+        given(styleHeartRepository.findStyleTimelineByMemberId(memberId)).willReturn(page);
+
+        assertThat(heartRecorder.getTimeline(HeartTarget.STYLE, memberId, Long.MAX_VALUE, null, 20)).isEqualTo(page);
+        verify(heartRedisDao).loadLiked(HeartTarget.STYLE, memberId, page);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 대상을 취소하면 NOT_FOUND_LIKE 예외가 발생한다")
+    void unlikeNotFound() {
+        given(heartRedisDao.unlike(HeartTarget.SCRIPT, memberId, 1L))
+                .willReturn(HeartRedisDao.NOT_LOADED, HeartRedisDao.UNCHANGED);
+        given(scriptHeartRepository.findScriptTimelineByMemberId(memberId)).willReturn(List.of());
+
+        assertThatThrownBy(() -> heartRecorder.unlike(HeartTarget.SCRIPT, memberId, 1L))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_LIKE);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부는 아직 DB 에 반영되지 않은 좋아요도 포함한다")
+    void isLiked() {
+        given(heartRedisDao.isLiked(HeartTarget.SCRIPT, memberId, 1L)).willReturn(HeartRedisDao.APPLIED);
+
+        assertThat(heartRecorder.isLiked(HeartTarget.SCRIPT, memberId, 1L)).isTrue();
+        verifyNoInteractions(scriptHeartRepository);
+    }
+}
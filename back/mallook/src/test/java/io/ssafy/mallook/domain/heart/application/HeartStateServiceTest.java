@@ -0,0 +1,76 @@
+package io.ssafy.mallook.domain.heart.application;
+
+import io.ssafy.mallook.domain.heart.dao.HeartRedisDao;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.script_heart.dao.ScriptHeartRepository;
+import io.ssafy.mallook.domain.heart.style_heart.dao.StyleHeartRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeartStateServiceTest {
+
+    @Mock
+    private HeartRedisDao heartRedisDao;
+    @Mock
+    private StyleHeartRepository styleHeartRepository;
+    @Mock
+    private ScriptHeartRepository scriptHeartRepository;
+
+    @InjectMocks
+    private HeartStateService heartStateService;
+
+    private final UUID memberId = UUID.randomUUID();
+    private final List<Long> targetIds = List.of(1L, 2L, 3L);
+
+    @Test
+    @DisplayName("회원 좋아요 set 이 있으면 DB 를 조회하지 않는다")
+    void findLikedIdsFromRedis() {
+        given(heartRedisDao.findLiked(HeartTarget.STYLE, memberId, targetIds)).willReturn(Optional.of(Set.of(2L)));
+
+        assertThat(heartStateService.findLikedIds(HeartTarget.STYLE, memberId, targetIds)).containsExactly(2L);
+        verifyNoInteractions(styleHeartRepository);
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 set 이 없으면 IN 쿼리 한 번으로 조회한다")
+    void findLikedIdsFromDatabase() {
+        given(heartRedisDao.findLiked(HeartTarget.SCRIPT, memberId, targetIds)).willReturn(Optional.empty());
+        given(scriptHeartRepository.findScriptIdsByMemberIdAndScriptIdIn(memberId, targetIds)).willReturn(List.of(1L, 3L));
+
+        assertThat(heartStateService.findLikedIds(HeartTarget.SCRIPT, memberId, targetIds)).containsExactlyInAnyOrder(1L, 3L);
+        verify(scriptHeartRepository, times(1)).findScriptIdsByMemberIdAndScriptIdIn(memberId, targetIds);
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓸 수 없으면 DB 에서 조회한다")
+    void findLikedIdsWhenRedisFails() {
+        given(heartRedisDao.findLiked(HeartTarget.STYLE, memberId, targetIds))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(styleHeartRepository.findStyleIdsByMemberIdAndStyleIdIn(memberId, targetIds)).willReturn(List.of());
+
+        assertThat(heartStateService.findLikedIds(HeartTarget.STYLE, memberId, targetIds)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그인하지 않았거나 목록이 비어 있으면 조회하지 않는다")
+    void findLikedIdsWithoutMember() {
+        assertThat(heartStateService.findLikedIds(HeartTarget.STYLE, null, targetIds)).isEmpty();
+        assertThat(heartStateService.findLikedIds(HeartTarget.STYLE, memberId, List.of())).isEmpty();
+        verifyNoInteractions(heartRedisDao, styleHeartRepository, scriptHeartRepository);
+    }
+}
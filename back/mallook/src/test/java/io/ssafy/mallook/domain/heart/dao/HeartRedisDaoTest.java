@@ -0,0 +1,36 @@
+package io.ssafy.mallook.domain.heart.dao;
+
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeartRedisDaoTest {
+
+    // ZREVRANGEBYSCORE 결과처럼 시각이 같으면 id 문자열의 역순이다
+    private final List<String> rows = List.of(
+            "9", "2000", "12", "2000", "10", "2000", "5", "1000", "7", "500");
+
+    @Test
+    @DisplayName("같은 시각에 좋아요한 대상은 cursor 항목 다음부터 이어서 반환한다")
+    void toTimelineSameMillis() {
+        List<HeartTimelineDto> first = HeartRedisDao.toTimeline(rows, Long.MAX_VALUE, null, 2);
+        HeartTimelineDto last = first.get(first.size() - 1);
+        List<HeartTimelineDto> second = HeartRedisDao.toTimeline(rows, last.likedAt(), last.targetId(), 2);
+
+        assertThat(first).extracting(HeartTimelineDto::targetId).containsExactly(9L, 12L);
+        assertThat(second).extracting(HeartTimelineDto::targetId).containsExactly(10L, 5L);
+        assertThat(second).extracting(HeartTimelineDto::likedAt).containsExactly(2000L, 1000L);
+    }
+
+    @Test
+    @DisplayName("cursorId 가 없으면 시각이 cursor 보다 이른 대상만 반환한다")
+    void toTimelineWithoutCursorId() {
+        assertThat(HeartRedisDao.toTimeline(rows, 2000L, null, 5))
+                .extracting(HeartTimelineDto::targetId)
+                .containsExactly(5L, 7L);
+    }
+}
@@ -0,0 +1,39 @@
+package io.ssafy.mallook.domain.heart.dao;
+
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HeartTrendRedisDaoTest {
+
+    @Test
+    @DisplayName("같은 5분 구간의 좋아요는 같은 key 에 쌓인다")
+    void bucketKey() {
+        Instant start = Instant.ofEpochSecond(HeartTrendRedisDao.BUCKET_SECONDS * 1000);
+
+        long bucket = HeartTrendRedisDao.bucketOf(start);
+
+        assertThat(HeartTrendRedisDao.bucketOf(start.plusSeconds(299))).isEqualTo(bucket);
+        assertThat(HeartTrendRedisDao.bucketOf(start.plusSeconds(300))).isEqualTo(bucket + 1);
+        assertThat(HeartTrendRedisDao.bucketKey(HeartTarget.STYLE, bucket)).isEqualTo("heart-trend:style:bucket:1000");
+    }
+
+    @Test
+    @DisplayName("가중치는 현재 구간이 1 이고 1시간마다 절반으로 줄어든다")
+    void decayWeights() {
+        double[] weights = HeartTrendRedisDao.decayWeights();
+
+        assertThat(weights).hasSize(HeartTrendRedisDao.WINDOW_BUCKETS);
+        assertThat(weights[0]).isEqualTo(1D);
+        assertThat(weights[12]).isCloseTo(0.5D, within(1e-9));
+        assertThat(weights[24]).isCloseTo(0.25D, within(1e-9));
+        for (int age = 1; age < weights.length; age++) {
+            assertThat(weights[age]).isLessThan(weights[age - 1]);
+        }
+    }
+}
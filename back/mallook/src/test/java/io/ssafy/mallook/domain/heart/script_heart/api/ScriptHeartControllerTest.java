@@ -42,7 +42,7 @@ public class ScriptHeartControllerTest {
     @WithMockCustomUser(id = "123e4567-e89b-12d3-a456-426614174000", role = "USER")
     void getLikedScriptList() throws Exception {
         UUID id = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
-        given(scriptHeartService.getLikeScriptList(null, id, Pageable.unpaged()))
+        given(scriptHeartService.getLikeScriptList(null, null, id, Pageable.unpaged()))
                 .willReturn(new PageImpl<>(Collections.emptyList()));
 
         mockMvc.perform(get("/api/scripts/hearts")
@@ -1,28 +1,33 @@
 package io.ssafy.mallook.domain.heart.script_heart.application;
 
+import io.ssafy.mallook.domain.heart.application.HeartCardService;
+import io.ssafy.mallook.domain.heart.application.HeartRecorder;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.dto.HeartTimelineDto;
 import io.ssafy.mallook.domain.heart.dto.request.LikeDto;
 import io.ssafy.mallook.domain.heart.script_heart.dao.ScriptHeartRepository;
-import io.ssafy.mallook.domain.heart.script_heart.entity.ScriptHeart;
-import io.ssafy.mallook.domain.member.dao.MemberRepository;
-import io.ssafy.mallook.domain.member.entity.Member;
 import io.ssafy.mallook.domain.script.dao.ScriptRepository;
-import io.ssafy.mallook.domain.script.entity.Script;
+import io.ssafy.mallook.domain.script.dto.response.ScriptListDto;
+import io.ssafy.mallook.global.common.code.ErrorCode;
 import io.ssafy.mallook.global.exception.BaseExceptionHandler;
-import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
-import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,73 +37,94 @@ class ScriptHeartServiceImplTest {
     private ScriptHeartRepository scriptHeartRepository;
 
     @Mock
-    private MemberRepository memberRepository;
+    private ScriptRepository scriptRepository;
 
     @Mock
-    private ScriptRepository scriptRepository;
+    private HeartRecorder heartRecorder;
+
+    @Mock
+    private HeartCardService heartCardService;
 
     @InjectMocks
     private ScriptHeartServiceImpl scriptHeartService;
 
-    private Member member;
-    private Script script;
-
-    @BeforeEach
-    void setUp() {
-        member = mock(Member.class);
-        script = mock(Script.class);
-    }
-
     @Test
+    @DisplayName("좋아요 timeline 에서 한 페이지를 읽고 캐시에 없는 카드만 DB 에서 만든다")
     void getLikeScriptListTest() {
-        when(scriptHeartRepository.findByIdLessThanAndMemberOrderByIdDesc(any(Long.class), any(Member.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.emptyList()));
-        when(memberRepository.getReferenceById(any(UUID.class))).thenReturn(member);
-
-        scriptHeartService.getLikeScriptList(1L, UUID.randomUUID(), Pageable.unpaged());
-
-        verify(scriptHeartRepository, times(1)).findByIdLessThanAndMemberOrderByIdDesc(any(Long.class), any(Member.class), any(Pageable.class));
+        UUID memberId = UUID.randomUUID();
+        List<HeartTimelineDto> timeline = List.of(
+                new HeartTimelineDto(3L, 3000L), new HeartTimelineDto(2L, 2000L), new HeartTimelineDto(1L, 1000L));
+        given(heartRecorder.getTimeline(HeartTarget.SCRIPT, memberId, Long.MAX_VALUE, null, 3)).willReturn(timeline);
+        // 2번 스크립트는 삭제되어 카드를 만들 수 없다
+        given(heartCardService.getCards(eq(HeartTarget.SCRIPT), eq(List.of(3L, 2L)), eq(ScriptListDto.class), any()))
+                .willReturn(Map.of(3L, card(3L)));
+
+        Slice<ScriptListDto> result = scriptHeartService.getLikeScriptList(Long.MAX_VALUE, null, memberId, PageRequest.of(0, 2));
+
+        assertThat(result.getContent()).extracting(ScriptListDto::id).containsExactly(3L);
+        assertThat(result.getContent().get(0).likedAt()).isEqualTo(3000L);
+        assertThat(result.getContent().get(0).liked()).isTrue();
+        assertThat(result.hasNext()).isTrue();
+        verify(scriptHeartRepository, never()).findByIdLessThanAndMemberOrderByIdDesc(anyLong(), any(), any());
     }
 
     @Test
     void likeScriptTest() {
-        when(memberRepository.getReferenceById(any(UUID.class))).thenReturn(member);
-        when(scriptRepository.getReferenceById(anyLong())).thenReturn(script);
-        when(scriptHeartRepository.findByMemberAndScript(any(Member.class), any(Script.class))).thenReturn(Optional.empty());
+        UUID memberId = UUID.randomUUID();
+        given(scriptRepository.existsById(1L)).willReturn(true);
 
-        scriptHeartService.likeScript(UUID.randomUUID(), new LikeDto(1L));
+        scriptHeartService.likeScript(memberId, new LikeDto(1L));
 
-        verify(scriptHeartRepository, times(1)).save(any());
+        verify(heartRecorder, times(1)).like(HeartTarget.SCRIPT, memberId, 1L);
+        verify(scriptHeartRepository, never()).save(any());
     }
 
     @Test
     void likeScriptDuplicateTest() {
-        when(memberRepository.getReferenceById(any(UUID.class))).thenReturn(member);
-        when(scriptRepository.getReferenceById(anyLong())).thenReturn(script);
-        when(scriptHeartRepository.findByMemberAndScript(any(Member.class), any(Script.class))).thenReturn(Optional.of(mock(ScriptHeart.class)));
+        given(scriptRepository.existsById(1L)).willReturn(true);
+        doThrow(new BaseExceptionHandler(ErrorCode.DUPLICATE_LIKE))
+                .when(heartRecorder).like(any(HeartTarget.class), any(UUID.class), anyLong());
 
         assertThatThrownBy(() -> scriptHeartService.likeScript(UUID.randomUUID(), new LikeDto(1L)))
                 .isInstanceOf(BaseExceptionHandler.class);
     }
 
+    @Test
+    @DisplayName("없거나 삭제된 스크립트는 좋아요를 기록하지 않는다")
+    void likeScriptNotFoundTest() {
+        given(scriptRepository.existsById(1L)).willReturn(false);
+
+        assertThatThrownBy(() -> scriptHeartService.likeScript(UUID.randomUUID(), new LikeDto(1L)))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_FOUND_SCRIPT);
+        verifyNoInteractions(heartRecorder);
+    }
+
     @Test
     void unlikeScriptTest() {
-        when(memberRepository.getReferenceById(any(UUID.class))).thenReturn(member);
-        when(scriptRepository.getReferenceById(anyLong())).thenReturn(script);
-        when(scriptHeartRepository.findByMemberAndScript(any(Member.class), any(Script.class))).thenReturn(Optional.of(mock(ScriptHeart.class)));
+        UUID memberId = UUID.randomUUID();
 
-        scriptHeartService.unlikeScript(UUID.randomUUID(), new LikeDto(1L));
+        scriptHeartService.unlikeScript(memberId, new LikeDto(1L));
 
-        verify(scriptHeartRepository, times(1)).deleteById(any());
+        verify(heartRecorder, times(1)).unlike(HeartTarget.SCRIPT, memberId, 1L);
+        verify(scriptHeartRepository, never()).deleteById(any());
     }
 
     @Test
     void unlikeScriptNotFoundTest() {
-        when(memberRepository.getReferenceById(any(UUID.class))).thenReturn(member);
-        when(scriptRepository.getReferenceById(anyLong())).thenReturn(script);
-        when(scriptHeartRepository.findByMemberAndScript(any(Member.class), any(Script.class))).thenReturn(Optional.empty());
+        doThrow(new BaseExceptionHandler(ErrorCode.NOT_FOUND_LIKE))
+                .when(heartRecorder).unlike(any(HeartTarget.class), any(UUID.class), anyLong());
 
         assertThatThrownBy(() -> scriptHeartService.unlikeScript(UUID.randomUUID(), new LikeDto(1L)))
                 .isInstanceOf(BaseExceptionHandler.class);
     }
+
+    private ScriptListDto card(Long id) {
+        return ScriptListDto.builder()
+                .id(id)
+                .name("스크립트" + id)
+                .heartCount(0)
+                .build();
+    }
 }
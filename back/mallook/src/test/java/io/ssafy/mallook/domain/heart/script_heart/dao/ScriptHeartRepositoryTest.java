@@ -122,7 +122,6 @@ class ScriptHeartRepositoryTest {
                 .name("테스트용 스크립트")
                 .member(member)
                 .heartCount(0)
-                .totalLike(0)
                 .build();
     }
 }
\ No newline at end of file
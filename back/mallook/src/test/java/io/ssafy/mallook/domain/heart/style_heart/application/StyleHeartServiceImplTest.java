@@ -1,11 +1,17 @@
 package io.ssafy.mallook.domain.heart.style_heart.application;
 
+import io.ssafy.mallook.domain.heart.application.HeartRecorder;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.heart.dto.request.LikeDto;
 import io.ssafy.mallook.domain.heart.style_heart.dao.StyleHeartRepository;
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
 import io.ssafy.mallook.domain.member.entity.Member;
 import io.ssafy.mallook.domain.style.dao.StyleRepository;
 import io.ssafy.mallook.domain.style.entity.Style;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,6 +21,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +37,9 @@ class StyleHeartServiceImplTest {
     @Mock
     private StyleRepository styleRepository;
 
+    @Mock
+    private HeartRecorder heartRecorder;
+
     @InjectMocks
     private StyleHeartServiceImpl styleHeartService;
 
@@ -53,12 +64,33 @@ class StyleHeartServiceImplTest {
         verify(styleHeartRepository, times(1)).findMaxHeartId();
     }
 
+    @Test
+    void likeStyleTest() {
+        UUID memberId = UUID.randomUUID();
+        given(styleRepository.existsById(1L)).willReturn(true);
+
+        styleHeartService.likeStyle(memberId, new LikeDto(1L));
+
+        verify(heartRecorder, times(1)).like(HeartTarget.STYLE, memberId, 1L);
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 스타일은 좋아요를 기록하지 않는다")
+    void likeStyleNotFoundTest() {
+        given(styleRepository.existsById(1L)).willReturn(false);
+
+        assertThatThrownBy(() -> styleHeartService.likeStyle(UUID.randomUUID(), new LikeDto(1L)))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_FOUND_ERROR);
+        verifyNoInteractions(heartRecorder);
+    }
+
     private Style buildStyle(Member member) {
         return Style.builder()
                 .name("테스트용 제목")
                 .member(member)
                 .heartCount(0L)
-                .totalLike(0)
                 .build();
     }
 }
@@ -81,7 +81,6 @@ class StyleHeartRepositoryTest {
                 .name("테스트용 제목")
                 .member(member)
                 .heartCount(0L)
-                .totalLike(0)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package io.ssafy.mallook.domain.member_coupon.application;
+
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponBulkRepository;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.domain.member_coupon.entity.MemberCoupon;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCouponServiceImplTest {
+
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+    @Mock
+    private MemberCouponBulkRepository memberCouponBulkRepository;
+    @Mock
+    private MemberCouponRedisDao memberCouponRedisDao;
+
+    @InjectMocks
+    private MemberCouponServiceImpl memberCouponService;
+
+    private final UUID memberId = UUID.randomUUID();
+    private final Long couponId = 1L;
+
+    @Test
+    @DisplayName("사용한 쿠폰을 다시 등록하면 새 row 를 만들지 않고 기존 row 를 되살린다")
+    void saveMyCouponAfterUse() {
+        given(memberCouponRepository.existsByMember_IdAndCoupon_Id(memberId, couponId)).willReturn(false);
+        given(memberCouponBulkRepository.restore(memberId, couponId)).willReturn(1);
+
+        memberCouponService.saveMyCoupon(memberId, couponId);
+
+        verify(memberCouponRepository, never()).save(any(MemberCoupon.class));
+        verify(memberCouponRedisDao).evictClaimedCouponIds(List.of(memberId));
+    }
+
+    @Test
+    @DisplayName("처음 등록하는 쿠폰은 새로 저장한다")
+    void saveMyCoupon() {
+        given(memberCouponRepository.existsByMember_IdAndCoupon_Id(memberId, couponId)).willReturn(false);
+        given(memberCouponBulkRepository.restore(memberId, couponId)).willReturn(0);
+
+        memberCouponService.saveMyCoupon(memberId, couponId);
+
+        verify(memberCouponRepository).save(any(MemberCoupon.class));
+    }
+
+    @Test
+    @DisplayName("보유 중인 쿠폰을 다시 등록하거나 동시에 등록하면 DUPLICATE_COUPON 을 반환한다")
+    void saveMyCouponDuplicate() {
+        given(memberCouponRepository.existsByMember_IdAndCoupon_Id(memberId, couponId)).willReturn(true, false);
+        given(memberCouponBulkRepository.restore(memberId, couponId)).willReturn(0);
+        given(memberCouponRepository.save(any(MemberCoupon.class))).willThrow(new DataIntegrityViolationException("uk"));
+
+        assertThatThrownBy(() -> memberCouponService.saveMyCoupon(memberId, couponId))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DUPLICATE_COUPON);
+        assertThatThrownBy(() -> memberCouponService.saveMyCoupon(memberId, couponId))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DUPLICATE_COUPON);
+        verify(memberCouponRedisDao, never()).evictClaimedCouponIds(any());
+    }
+}
@@ -2,6 +2,7 @@ package io.ssafy.mallook.domain.orders.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ssafy.mallook.config.security.WithMockCustomUser;
+import io.ssafy.mallook.domain.orders.application.OrderQuoteService;
 import io.ssafy.mallook.domain.orders.application.OrderService;
 import io.ssafy.mallook.domain.orders.dto.request.OrderCreateDto;
 import io.ssafy.mallook.domain.orders.dto.request.OrderDeleteDto;
@@ -33,6 +34,9 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderQuoteService orderQuoteService;
+
     private String url = "/api/orders";
 
     @Test
@@ -0,0 +1,153 @@
+package io.ssafy.mallook.domain.orders.application;
+
+import io.ssafy.mallook.domain.cart.dao.CartRepository;
+import io.ssafy.mallook.domain.cart.dto.response.CartDetailRes;
+import io.ssafy.mallook.domain.coupon.entity.CouponType;
+import io.ssafy.mallook.domain.grade.util.DiscountDiplomacy;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.domain.member_coupon.dto.MemberCouponTermsDto;
+import io.ssafy.mallook.domain.orders.dto.request.OrderDirectQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
+import io.ssafy.mallook.domain.product.entity.Products;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import io.ssafy.mallook.global.util.HmacSigner;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderQuoteServiceImplTest {
+
+    @Mock
+    private CartRepository cartRepository;
+    @Mock
+    private ProductsRepository productsRepository;
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+    @Mock
+    private MemberCouponRedisDao memberCouponRedisDao;
+    @Mock
+    private DiscountDiplomacy discountDiplomacy;
+
+    private OrderQuoteServiceImpl orderQuoteService;
+
+    private final UUID memberId = UUID.randomUUID();
+    private final ObjectId productId = new ObjectId();
+
+    @BeforeEach
+    void setUp() {
+        orderQuoteService = new OrderQuoteServiceImpl(cartRepository, productsRepository, memberCouponRepository,
+                memberCouponRedisDao, discountDiplomacy, new HmacSigner("test-secret"));
+    }
+
+    private CartDetailRes buildCartDetail(Long cartProductId, int storedPrice, int count) {
+        return new CartDetailRes(1L, cartProductId, productId.toHexString(), storedPrice, count,
+                "테스트옷", "image", "s", "red", 3000);
+    }
+
+    private Products buildProduct(int price) {
+        Products product = Mockito.mock(Products.class);
+        given(product.getId()).willReturn(productId);
+        given(product.getPrice()).willReturn(price);
+        return product;
+    }
+
+    @Test
+    @DisplayName("현재 상품 가격으로 쿠폰과 등급 할인을 적용한 견적을 계산한다")
+    void quoteTest() {
+        given(cartRepository.findProductsInCart(memberId))
+                .willReturn(List.of(buildCartDetail(10L, 5000, 2)));
+        given(productsRepository.findAllById(anyIterable())).willReturn(List.of(buildProduct(10000)));
+        given(memberCouponRedisDao.getTerms(memberId, 7L)).willReturn(Optional.empty());
+        given(memberCouponRepository.findTerms(memberId, 7L)).willReturn(Optional.of(
+                new MemberCouponTermsDto(7L, 1L, CouponType.RATIO, 20L, Long.MAX_VALUE)));
+        given(discountDiplomacy.discount(memberId)).willReturn(2L);
+
+        OrderQuoteRes quote = orderQuoteService.quote(memberId, new OrderQuoteReq(7L, null));
+
+        // 20000원 - 쿠폰 20%(4000원) - 등급 2%(320원)
+        assertThat(quote.subtotalPrice()).isEqualTo(20000L);
+        assertThat(quote.couponDiscount()).isEqualTo(4000L);
+        assertThat(quote.gradeDiscount()).isEqualTo(320L);
+        assertThat(quote.totalPrice()).isEqualTo(15680L);
+        assertThat(quote.totalFee()).isEqualTo(3000L);
+        assertThat(quote.totalCount()).isEqualTo(2L);
+        assertThat(quote.signature()).isNotBlank();
+        verify(productsRepository, times(1)).findAllById(anyIterable());
+        verify(memberCouponRedisDao, times(1)).saveTerms(eq(memberId), any(MemberCouponTermsDto.class));
+    }
+
+    @Test
+    @DisplayName("서명된 견적은 검증을 통과하고, 금액을 바꾸면 거부된다")
+    void verifyTest() {
+        given(cartRepository.findProductsInCart(memberId))
+                .willReturn(List.of(buildCartDetail(10L, 5000, 1)));
+        given(productsRepository.findAllById(anyIterable())).willReturn(List.of(buildProduct(5000)));
+        given(discountDiplomacy.discount(memberId)).willReturn(0L);
+
+        OrderQuoteRes quote = orderQuoteService.quote(memberId, new OrderQuoteReq(null, List.of(10L)));
+        OrderQuoteRes tampered = quote.toBuilder().totalPrice(1L).build();
+
+        assertThat(orderQuoteService.verify(memberId, quote)).isEqualTo(quote);
+        assertThatThrownBy(() -> orderQuoteService.verify(memberId, tampered))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_ORDER_QUOTE);
+        assertThatThrownBy(() -> orderQuoteService.verify(UUID.randomUUID(), quote))
+                .isInstanceOf(BaseExceptionHandler.class);
+    }
+
+    @Test
+    @DisplayName("직접 구매 견적은 현재 상품 가격과 회원의 쿠폰으로 계산하고 서명한다")
+    void quoteDirectTest() {
+        Products product = Mockito.mock(Products.class);
+        given(product.getPrice()).willReturn(10000);
+        given(product.getFee()).willReturn(3000);
+        given(productsRepository.findById(productId.toHexString())).willReturn(Optional.of(product));
+        given(memberCouponRedisDao.getTerms(memberId, 7L)).willReturn(Optional.empty());
+        given(memberCouponRepository.findTerms(memberId, 7L)).willReturn(Optional.of(
+                new MemberCouponTermsDto(7L, 1L, CouponType.RATIO, 20L, Long.MAX_VALUE)));
+        given(discountDiplomacy.discount(memberId)).willReturn(2L);
+
+        OrderQuoteRes quote = orderQuoteService.quoteDirect(memberId, new OrderDirectQuoteReq(7L, productId.toHexString(), 2));
+
+        // 20000원 - 쿠폰 20%(4000원) - 등급 2%(320원)
+        assertThat(quote.totalPrice()).isEqualTo(15680L);
+        assertThat(quote.totalFee()).isEqualTo(3000L);
+        assertThat(quote.lines()).singleElement().satisfies(line -> assertThat(line.cartProductId()).isNull());
+        assertThat(orderQuoteService.verify(memberId, quote)).isEqualTo(quote);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 쿠폰으로는 직접 구매 견적을 낼 수 없다")
+    void quoteDirectOtherMemberCouponTest() {
+        Products product = Mockito.mock(Products.class);
+        given(product.getPrice()).willReturn(10000);
+        given(productsRepository.findById(productId.toHexString())).willReturn(Optional.of(product));
+        given(memberCouponRedisDao.getTerms(memberId, 7L)).willReturn(Optional.empty());
+        given(memberCouponRepository.findTerms(memberId, 7L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderQuoteService.quoteDirect(memberId, new OrderDirectQuoteReq(7L, productId.toHexString(), 1)))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_FOUND_COUPON);
+    }
+}
@@ -2,14 +2,30 @@ package io.ssafy.mallook.domain.orders.application;
 
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
 import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRedisDao;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.domain.orders.dao.OrderHistoryRepository;
 import io.ssafy.mallook.domain.orders.dao.OrderRepository;
 import io.ssafy.mallook.domain.orders.dto.request.OrderCreateDto;
 import io.ssafy.mallook.domain.orders.dto.request.OrderDeleteDto;
+import io.ssafy.mallook.domain.orders.dto.request.OrderDirectInsertReq;
+import io.ssafy.mallook.domain.orders.dto.request.OrderDirectQuoteReq;
+import io.ssafy.mallook.domain.orders.dto.request.ProductHistoryDto;
 import io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderListDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteLineDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderQuoteRes;
 import io.ssafy.mallook.domain.orders.entity.Orders;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
+import io.ssafy.mallook.domain.product.entity.Products;
+import io.ssafy.mallook.domain.product_history.dao.ProductHistoryRepository;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -25,6 +41,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceImplTest {
@@ -35,6 +52,24 @@ class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Mock
+    private ProductsRepository productsRepository;
+
+    @Mock
+    private ProductHistoryRepository productHistoryRepository;
+
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+
+    @Mock
+    private MemberCouponRedisDao memberCouponRedisDao;
+
+    @Mock
+    private OrderQuoteService orderQuoteService;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -60,30 +95,30 @@ class OrderServiceImplTest {
 
     @Test
     void getOrderList() {
-        UUID id = member.getId();
+        UUID id = UUID.randomUUID();
         boolean hasNext = false;
         Pageable pageable = PageRequest.of(0, 2);
-        Member proxyMember = memberRepository.getReferenceById(id);
         Long cursor = 21L;
-        List<Orders> list = new ArrayList<>();
+        List<OrderListDto> list = new ArrayList<>();
 
-        Slice<Orders> emptyPage = new SliceImpl<>(list, pageable, hasNext);
-        Mockito.when(orderRepository.findByIdLessThanAndMemberOrderByIdDesc(cursor, proxyMember, pageable))
+        Slice<OrderListDto> emptyPage = new SliceImpl<>(list, pageable, hasNext);
+        Mockito.when(orderHistoryRepository.findOrderList(id, cursor, pageable))
                 .thenReturn(emptyPage);
         orderService.getOrderList(cursor, id, pageable);
 
-        Mockito.verify(orderRepository, Mockito.times(1)).findByIdLessThanAndMemberOrderByIdDesc(cursor, proxyMember, pageable);
-        Mockito.verify(memberRepository, Mockito.times(2)).getReferenceById(id);
+        Mockito.verify(orderHistoryRepository, Mockito.times(1)).findOrderList(id, cursor, pageable);
+        Mockito.verify(memberRepository, Mockito.never()).getReferenceById(id);
     }
 
     @Test
     void getOrderDetail() {
-        Long id = orders.getId();
+        Long id = 1L;
 
-        Mockito.when(orderRepository.findById(id)).thenReturn(Optional.of(orders));
+        Mockito.when(orderHistoryRepository.findOrderDetail(id)).thenReturn(Optional.of(OrderDetailDto.toDto(orders)));
         OrderDetailDto result = orderService.getOrderDetail(id);
 
-        Mockito.verify(orderRepository, Mockito.times(1)).findById(id);
+        Mockito.verify(orderHistoryRepository, Mockito.times(1)).findOrderDetail(id);
+        Mockito.verify(orderRepository, Mockito.never()).findById(id);
         assertThat(result).isNotNull();
     }
 
@@ -106,4 +141,69 @@ class OrderServiceImplTest {
 
         Mockito.verify(orderRepository, Mockito.times(1)).deleteOrder(Mockito.anyList());
     }
-}
\ No newline at end of file
+
+    private final String productId = "6604f5dd5fc901aa6386394d";
+
+    private OrderQuoteRes directQuote(Long memberCouponId, int count) {
+        return OrderQuoteRes.builder()
+                .lines(List.of(OrderQuoteLineDto.builder().productId(productId).price(10000).count(count).fee(3000).build()))
+                .memberCouponId(memberCouponId)
+                .totalPrice(15680L)
+                .totalFee(3000L)
+                .totalCount((long) count)
+                .build();
+    }
+
+    private OrderDirectInsertReq directReq(Long memberCouponId, int count, OrderQuoteRes quote) {
+        // 클라이언트가 보낸 총액은 쓰지 않는다
+        return new OrderDirectInsertReq(1L, 0L, memberCouponId, 1L,
+                new ProductHistoryDto(productId, count, 100, "셔츠", "s", "red"), quote);
+    }
+
+    @Test
+    @DisplayName("직접 구매는 클라이언트 총액 대신 서버 견적으로 주문하고 회원의 쿠폰을 사용 처리한다")
+    void insertDirectOrder() {
+        UUID id = UUID.randomUUID();
+        Products product = Mockito.mock(Products.class);
+        Mockito.when(orderQuoteService.quoteDirect(id, new OrderDirectQuoteReq(7L, productId, 2))).thenReturn(directQuote(7L, 2));
+        Mockito.when(memberCouponRepository.useMyCoupon(id, 7L)).thenReturn(1);
+        Mockito.when(orderRepository.save(Mockito.any(Orders.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(productsRepository.findById(productId)).thenReturn(Optional.of(product));
+
+        orderService.insertDirectOrder(id, directReq(7L, 2, null));
+
+        ArgumentCaptor<Orders> saved = ArgumentCaptor.forClass(Orders.class);
+        Mockito.verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getTotalPrice()).isEqualTo(15680L);
+        assertThat(saved.getValue().getTotalFee()).isEqualTo(3000L);
+        Mockito.verify(memberCouponRedisDao).deleteTerms(id, 7L);
+    }
+
+    @Test
+    @DisplayName("직접 구매에 다른 회원의 쿠폰을 쓰면 주문하지 않는다")
+    void insertDirectOrderOtherMemberCoupon() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(orderQuoteService.quoteDirect(id, new OrderDirectQuoteReq(7L, productId, 1))).thenReturn(directQuote(7L, 1));
+        Mockito.when(memberCouponRepository.useMyCoupon(id, 7L)).thenReturn(0);
+
+        assertThatThrownBy(() -> orderService.insertDirectOrder(id, directReq(7L, 1, null)))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_FOUND_COUPON);
+        Mockito.verify(orderRepository, Mockito.never()).save(Mockito.any(Orders.class));
+    }
+
+    @Test
+    @DisplayName("서명된 견적과 주문 상품 개수가 다르면 거부한다")
+    void insertDirectOrderQuoteMismatch() {
+        UUID id = UUID.randomUUID();
+        OrderQuoteRes quote = directQuote(null, 1);
+        Mockito.when(orderQuoteService.verify(id, quote)).thenReturn(quote);
+
+        assertThatThrownBy(() -> orderService.insertDirectOrder(id, directReq(null, 3, quote)))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_ORDER_QUOTE);
+        Mockito.verify(orderRepository, Mockito.never()).save(Mockito.any(Orders.class));
+    }
+}
@@ -0,0 +1,167 @@
+package io.ssafy.mallook.domain.orders.dao;
+
+import io.ssafy.mallook.domain.member.dao.MemberRepository;
+import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderListDto;
+import io.ssafy.mallook.domain.orders.entity.Orders;
+import io.ssafy.mallook.domain.product_history.dao.ProductHistoryRepository;
+import io.ssafy.mallook.domain.product_history.entity.ProductHistory;
+import io.ssafy.mallook.global.batch.dao.ArchiveJdbcDao;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles(profiles = "test")
+@Import({OrderHistoryRepository.class, ArchiveJdbcDao.class})
+class OrderHistoryRepositoryTest {
+
+    private static final List<String> MONTHS = List.of("202312", "202401");
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private ArchiveJdbcDao archiveJdbcDao;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductHistoryRepository productHistoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+
+    // 오래된 순서의 주문 id. 0 은 202312, 1~2 는 202401 아카이브, 3~4 는 hot 테이블에 있다
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // ensureArchiveTable 의 create ... select 는 MySQL 문법이라 같은 컬럼으로 직접 만든다.
+        // DDL 은 암묵적 commit 을 일으키므로 데이터를 넣기 전에 만든다
+        MONTHS.forEach(month -> List.of("orders", "product_history").forEach(table ->
+                jdbcTemplate.getJdbcTemplate().execute("create table if not exists "
+                        + ArchiveJdbcDao.archiveTable(table, month) + " as select "
+                        + ArchiveJdbcDao.ARCHIVE_COLUMNS.get(table) + " from " + table + " where 1 = 0")));
+
+        member = memberRepository.save(new Member());
+        for (int i = 0; i < 5; i++) {
+            Orders orders = orderRepository.save(buildOrders(member, i));
+            productHistoryRepository.save(buildProductHistory(orders, i, 0));
+            productHistoryRepository.save(buildProductHistory(orders, i, 1));
+            orderIds.add(orders.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        archiveJdbcDao.moveOrders("202312", orderIds.subList(0, 1));
+        archiveJdbcDao.moveOrders("202401", orderIds.subList(1, 3));
+    }
+
+    private Orders buildOrders(Member member, int index) {
+        return Orders.builder()
+                .totalPrice(1000L * (index + 1))
+                .totalFee(500L)
+                .totalCount(2L)
+                .member(member)
+                .build();
+    }
+
+    private ProductHistory buildProductHistory(Orders orders, int orderIndex, int index) {
+        return ProductHistory.builder()
+                .productCount(1)
+                .productPrice(1000)
+                .productName("상품" + orderIndex + "-" + index)
+                .productImage("image" + orderIndex)
+                .productSize("s")
+                .productColor("red")
+                .orders(orders)
+                .build();
+    }
+
+    private List<Long> ids(Slice<OrderListDto> slice) {
+        return slice.getContent().stream().map(OrderListDto::id).toList();
+    }
+
+    @Test
+    @DisplayName("hot 테이블의 마지막 페이지는 아카이브에 남은 주문이 있으면 hasNext 가 true 다")
+    void findOrderListHotLastPage() {
+        Slice<OrderListDto> result = orderHistoryRepository
+                .findOrderList(member.getId(), Long.MAX_VALUE, PageRequest.of(0, 2));
+
+        assertThat(ids(result)).containsExactly(orderIds.get(4), orderIds.get(3));
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("hot 과 아카이브에 걸친 페이지는 id 역순으로 이어지고 월 테이블마다 첫 상품을 붙인다")
+    void findOrderListAcrossBoundary() {
+        Slice<OrderListDto> result = orderHistoryRepository
+                .findOrderList(member.getId(), orderIds.get(4), PageRequest.of(0, 2));
+
+        assertThat(ids(result)).containsExactly(orderIds.get(3), orderIds.get(2));
+        assertThat(result.getContent()).extracting(OrderListDto::productName)
+                .containsExactly("상품3-0", "상품2-0");
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("아카이브만 읽는 페이지는 여러 월 테이블의 주문을 id 역순으로 합치고 마지막에 hasNext 가 false 다")
+    void findOrderListArchiveOnly() {
+        Slice<OrderListDto> second = orderHistoryRepository
+                .findOrderList(member.getId(), orderIds.get(3), PageRequest.of(0, 2));
+        Slice<OrderListDto> last = orderHistoryRepository
+                .findOrderList(member.getId(), orderIds.get(1), PageRequest.of(0, 2));
+
+        assertThat(ids(second)).containsExactly(orderIds.get(2), orderIds.get(1));
+        assertThat(second.getContent()).extracting(OrderListDto::productName)
+                .containsExactly("상품2-0", "상품1-0");
+        assertThat(second.hasNext()).isTrue();
+        assertThat(ids(last)).containsExactly(orderIds.get(0));
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 상세는 hot 테이블에 없으면 orders_archive_index 의 월 테이블에서 읽는다")
+    void findOrderDetailFallback() {
+        Optional<OrderDetailDto> hot = orderHistoryRepository.findOrderDetail(orderIds.get(4));
+        Optional<OrderDetailDto> archived = orderHistoryRepository.findOrderDetail(orderIds.get(0));
+
+        assertThat(hot).isPresent();
+        assertThat(hot.get().totalPrice()).isEqualTo(5000L);
+        assertThat(archived).isPresent();
+        assertThat(archived.get().totalPrice()).isEqualTo(1000L);
+        assertThat(orderHistoryRepository.existsByIdAndMemberId(orderIds.get(0), member.getId())).isTrue();
+        assertThat(orderRepository.findById(orderIds.get(0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("어디에도 없는 주문은 빈 값을 반환한다")
+    void findOrderDetailMissing() {
+        assertThat(orderHistoryRepository.findOrderDetail(orderIds.get(4) + 100)).isEmpty();
+    }
+}
@@ -2,9 +2,16 @@ package io.ssafy.mallook.domain.orders.dao;
 
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
 import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.orders.dto.response.OrderDetailDto;
+import io.ssafy.mallook.domain.orders.dto.response.OrderListDto;
 import io.ssafy.mallook.domain.orders.entity.Orders;
+import io.ssafy.mallook.domain.product_history.dao.ProductHistoryRepository;
+import io.ssafy.mallook.domain.product_history.entity.ProductHistory;
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +42,9 @@ class OrderRepositoryTest {
 
     private Orders orders;
 
+    @Autowired
+    private ProductHistoryRepository productHistoryRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -58,6 +68,66 @@ class OrderRepositoryTest {
                 .build();
     }
 
+    private ProductHistory buildProductHistory(Orders orders, int index) {
+        return ProductHistory.builder()
+                .productCount(1)
+                .productPrice(1000)
+                .productName("상품" + index)
+                .productImage("image" + index)
+                .productSize("s")
+                .productColor("red")
+                .orders(orders)
+                .build();
+    }
+
+    private Statistics clearStatistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("주문 목록 한 페이지는 주문 수와 상관없이 한 번의 쿼리로 조회된다")
+    void findOrderListStatementCount() {
+        Member member = memberRepository.save(new Member());
+        for (int i = 0; i < 20; i++) {
+            Orders saved = orderRepository.save(buildOrders(member));
+            for (int j = 0; j < 3; j++) {
+                productHistoryRepository.save(buildProductHistory(saved, j));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = clearStatistics();
+
+        Slice<OrderListDto> result = orderRepository.findOrderList(member.getId(), Long.MAX_VALUE, PageRequest.of(0, 20));
+
+        assertThat(result.getContent()).hasSize(20);
+        assertThat(result.getContent()).allMatch(order -> order.productName().equals("상품0"));
+        assertThat(result.getContent().get(0).id()).isGreaterThan(result.getContent().get(19).id());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("주문 상세는 한 번의 쿼리로 조회된다")
+    void findOrderDetailStatementCount() {
+        Member member = memberRepository.save(new Member());
+        Orders saved = orderRepository.save(buildOrders(member));
+        productHistoryRepository.save(buildProductHistory(saved, 0));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = clearStatistics();
+
+        Optional<OrderDetailDto> result = orderRepository.findOrderDetail(saved.getId());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().totalPrice()).isEqualTo(1000L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
     @Test
     void findAllByMember() {
         Member member = Mockito.mock(Member.class);
@@ -2,9 +2,9 @@ package io.ssafy.mallook.domain.script.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ssafy.mallook.config.security.WithMockCustomUser;
-import io.ssafy.mallook.domain.product.application.ProductService;
 import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
 import io.ssafy.mallook.domain.product.dto.response.ProductsPageRes;
+import io.ssafy.mallook.domain.script.application.ScriptJobService;
 import io.ssafy.mallook.domain.script.application.ScriptService;
 import io.ssafy.mallook.domain.script.dto.request.ScriptCreatDto;
 import io.ssafy.mallook.domain.script.dto.request.ScriptDeleteListDto;
@@ -40,7 +40,7 @@ class ScriptControllerTest {
     private ScriptService scriptService;
 
     @MockBean
-    private ProductService productService;
+    private ScriptJobService scriptJobService;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -58,7 +58,7 @@ class ScriptControllerTest {
                         .heartCount(100)
                         .build());
         Slice<ScriptListDto> expectedSlice = new SliceImpl<>(scriptList, pageable, false);
-        given(scriptService.getScriptList(cursor, pageable)).willReturn(expectedSlice);
+        given(scriptService.getScriptList(cursor, pageable, UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))).willReturn(expectedSlice);
 
         mockMvc.perform(get("/api/scripts/all")
                         .param("cursor", String.valueOf(cursor)))
@@ -78,7 +78,7 @@ class ScriptControllerTest {
         UUID principalId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));
         List<ScriptListDto> scriptList = List.of(
-                new ScriptListDto(1L, "스크립트1", 100, "작성자1", "img", "등급")
+                new ScriptListDto(1L, "스크립트1", 100, "작성자1", "img", "등급", false, null)
         );
         Slice<ScriptListDto> expectedSlice = new SliceImpl<>(scriptList, pageable, false);
 
@@ -101,7 +101,7 @@ class ScriptControllerTest {
     @WithMockCustomUser(id = "123e4567-e89b-12d3-a456-426614174000", role = "USER")
     void getLatestScriptTest() throws Exception {
         UUID principalId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
-        ScriptListDto mockScriptListDto = new ScriptListDto(1L, "스크립트1", 100, "작성자1", "이미지", "등급");
+        ScriptListDto mockScriptListDto = new ScriptListDto(1L, "스크립트1", 100, "작성자1", "이미지", "등급", null, null);
 
         given(scriptService.getLatestScript(principalId)).willReturn(mockScriptListDto);
 
@@ -126,7 +126,6 @@ class ScriptControllerTest {
                 .nextCursor("nextCursorValue")
                 .build();
 
-        given(productService.getLastMongoProductsId()).willReturn("lastMongoProductsId");
         given(scriptService.getRecommendProductDetail(scriptId, cursor, PageRequest.of(0, 12, Sort.by(Sort.Direction.DESC, "id"))))
                 .willReturn(productsPageRes);
 
@@ -192,7 +191,8 @@ class ScriptControllerTest {
                 .build();
 
         // given
-        scriptService.createScript(scriptCreateDto, UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        given(scriptJobService.submit(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), scriptCreateDto))
+                .willReturn("job-1");
         // when & then
         mockMvc.perform(post("/api/scripts")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -202,7 +202,7 @@ class ScriptControllerTest {
                 // JSON 응답의 특정 필드를 검증합니다.
                 .andExpect(jsonPath("$.status").value(201))
                 .andExpect(jsonPath("$.message").value("INSERT SUCCESS"))
-                .andExpect(jsonPath("$.result").value("스크립트가 생성되었습니다."));
+                .andExpect(jsonPath("$.result").value("job-1"));
     }
 
     @Test
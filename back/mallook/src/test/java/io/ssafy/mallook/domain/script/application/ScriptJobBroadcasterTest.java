@@ -0,0 +1,140 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.script.dao.ScriptJobRedisDao;
+import io.ssafy.mallook.domain.script.dto.ScriptJobDto;
+import io.ssafy.mallook.domain.script.dto.ScriptJobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScriptJobBroadcasterTest {
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+    @Mock
+    private ScriptJobRedisDao scriptJobRedisDao;
+
+    private ScriptJobBroadcaster broadcaster;
+
+    private final String jobId = "job-1";
+    private final ScriptJobDto running = new ScriptJobDto(jobId, UUID.randomUUID(), ScriptJobStatus.RUNNING, null);
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ScriptJobBroadcaster(listenerContainer, scriptJobRedisDao);
+    }
+
+    private void publish(MessageListener listener, long start, String token) {
+        publish(listener, start, ScriptJobRedisDao.TOKEN_SEPARATOR, token);
+    }
+
+    private void publish(MessageListener listener, long start, char separator, String text) {
+        byte[] channel = (ScriptJobRedisDao.TOKEN_CHANNEL + jobId).getBytes(StandardCharsets.UTF_8);
+        listener.onMessage(new DefaultMessage(channel, (start + String.valueOf(separator) + text).getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private List<String> sentEvents(SseEmitter emitter) throws Exception {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeastOnce()).send(events.capture());
+        return events.getAllValues().stream()
+                .map(event -> event.build().stream()
+                        .map(data -> data.getData().toString())
+                        .collect(Collectors.joining()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("구독 전 내용을 먼저 보내고, 이후 토큰은 중복을 빼고 시작 위치 순서대로 보낸다")
+    void relayTokensTest() throws Exception {
+        given(scriptJobRedisDao.getContent(jobId)).willReturn("데님");
+        given(scriptJobRedisDao.find(jobId)).willReturn(Optional.of(running));
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        broadcaster.register(running, emitter);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(ChannelTopic.class));
+        // "데님" 은 6 byte, "셔츠" 도 6 byte
+        publish(listener.getValue(), 0, "데님");
+        publish(listener.getValue(), 12, "룩");
+        publish(listener.getValue(), 6, "셔츠");
+
+        assertThat(sentEvents(emitter)).containsExactly(
+                "event:token\ndata:데님\n\n",
+                "event:token\ndata:셔츠\n\n",
+                "event:token\ndata:룩\n\n");
+    }
+
+    @Test
+    @DisplayName("대체 문장은 그 앞의 토큰을 모두 보낸 뒤 reset 이벤트로 보내고, 늦게 온 토큰은 버린다")
+    void resetTest() throws Exception {
+        given(scriptJobRedisDao.getContent(jobId)).willReturn("데님");
+        given(scriptJobRedisDao.find(jobId)).willReturn(Optional.of(running));
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        broadcaster.register(running, emitter);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(ChannelTopic.class));
+        publish(listener.getValue(), 12, ScriptJobRedisDao.RESET_SEPARATOR, "대체 문장");
+        publish(listener.getValue(), 6, "셔츠");
+        publish(listener.getValue(), 18, "룩");
+
+        assertThat(sentEvents(emitter)).containsExactly(
+                "event:token\ndata:데님\n\n",
+                "event:token\ndata:셔츠\n\n",
+                "event:reset\ndata:대체 문장\n\n");
+    }
+
+    @Test
+    @DisplayName("내용이 이미 바뀐 작업을 구독하면 받다 만 내용 대신 대체 문장을 보낸다")
+    void registerAfterResetTest() throws Exception {
+        given(scriptJobRedisDao.getResetContent(jobId)).willReturn(Optional.of("대체 문장"));
+        given(scriptJobRedisDao.find(jobId)).willReturn(Optional.of(running));
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        broadcaster.register(running, emitter);
+
+        assertThat(sentEvents(emitter)).containsExactly("event:reset\ndata:대체 문장\n\n");
+        verify(scriptJobRedisDao, never()).getContent(jobId);
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 완료 이벤트를 보내고 연결을 닫은 뒤 토큰 채널 구독을 해제한다")
+    void finishTest() throws Exception {
+        given(scriptJobRedisDao.getContent(jobId)).willReturn("");
+        given(scriptJobRedisDao.find(jobId)).willReturn(Optional.of(running));
+        SseEmitter emitter = mock(SseEmitter.class);
+        broadcaster.init();
+        ArgumentCaptor<MessageListener> doneListener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(doneListener.capture(), eq(new ChannelTopic(ScriptJobRedisDao.DONE_CHANNEL)));
+        broadcaster.register(running, emitter);
+
+        given(scriptJobRedisDao.find(jobId))
+                .willReturn(Optional.of(new ScriptJobDto(jobId, running.memberId(), ScriptJobStatus.DONE, 7L)));
+        doneListener.getValue().onMessage(new DefaultMessage(
+                ScriptJobRedisDao.DONE_CHANNEL.getBytes(StandardCharsets.UTF_8), jobId.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+        verify(listenerContainer).removeMessageListener(any(MessageListener.class));
+    }
+}
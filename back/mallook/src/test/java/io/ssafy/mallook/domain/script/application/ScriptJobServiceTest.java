@@ -0,0 +1,261 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.script.dao.ScriptJobRedisDao;
+import io.ssafy.mallook.domain.script.dto.ScriptJobDto;
+import io.ssafy.mallook.domain.script.dto.ScriptJobStatus;
+import io.ssafy.mallook.domain.script.dto.request.ScriptCreatDto;
+import io.ssafy.mallook.domain.script.dto.request.ScriptDeleteListDto;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.config.ExecutorConfig;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScriptJobServiceTest {
+
+    @Mock
+    private ScriptSentencePool scriptSentencePool;
+    @Mock
+    private ScriptService scriptService;
+    @Mock
+    private ScriptImagePicker scriptImagePicker;
+    @Mock
+    private ScriptJobRedisDao scriptJobRedisDao;
+    @Mock
+    private ScriptJobBroadcaster scriptJobBroadcaster;
+
+    private ThreadPoolTaskExecutor scriptJobExecutor;
+    private ScriptJobService scriptJobService;
+
+    private final UUID memberId = UUID.randomUUID();
+    private final ScriptCreatDto scriptCreateDto = ScriptCreatDto.builder()
+            .keywordsList(List.of("데님", "여름"))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        scriptJobExecutor = ExecutorConfig.executor("script-job-", 1, 1, 0);
+        scriptJobExecutor.initialize();
+        scriptJobService = new ScriptJobService(scriptSentencePool, scriptService, scriptImagePicker, scriptJobRedisDao,
+                scriptJobBroadcaster, scriptJobExecutor);
+        ReflectionTestUtils.setField(scriptJobService, "staleAfterMillis", 120000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scriptJobExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("문장 토큰을 도착하는 대로 기록하고, 문장이 완성되면 스크립트를 저장해 작업을 완료로 기록한다")
+    void submitTest() {
+        given(scriptJobRedisDao.start(anyString())).willReturn(true);
+        given(scriptJobRedisDao.isRunning(anyString())).willReturn(true);
+        given(scriptJobRedisDao.complete(anyString(), eq(7L))).willReturn(true);
+        given(scriptSentencePool.generate(eq(scriptCreateDto.keywordsList()), any(), any()))
+                .willAnswer(invocation -> {
+                    Consumer<String> onToken = invocation.getArgument(1);
+                    onToken.accept("테스트");
+                    onToken.accept("응답");
+                    return "테스트응답";
+                });
+        given(scriptImagePicker.pick(scriptCreateDto.keywordsList())).willReturn(List.of("a.jpg"));
+        given(scriptService.saveScript(memberId, scriptCreateDto, "테스트응답", List.of("a.jpg"))).willReturn(7L);
+
+        String jobId = scriptJobService.submit(memberId, scriptCreateDto);
+
+        verify(scriptJobRedisDao).create(jobId, memberId);
+        verify(scriptJobRedisDao, timeout(1000)).complete(jobId, 7L);
+        InOrder inOrder = inOrder(scriptJobRedisDao, scriptService);
+        inOrder.verify(scriptJobRedisDao).appendToken(jobId, "테스트");
+        inOrder.verify(scriptJobRedisDao).appendToken(jobId, "응답");
+        inOrder.verify(scriptService).saveScript(memberId, scriptCreateDto, "테스트응답", List.of("a.jpg"));
+        verify(scriptJobRedisDao, never()).fail(jobId);
+    }
+
+    @Test
+    @DisplayName("받다 만 토큰을 대체 문장으로 바꾸면 내용을 바꿔 기록하고 대체 문장으로 스크립트를 저장한다")
+    void submitResetTest() {
+        given(scriptJobRedisDao.start(anyString())).willReturn(true);
+        given(scriptJobRedisDao.isRunning(anyString())).willReturn(true);
+        given(scriptJobRedisDao.complete(anyString(), eq(7L))).willReturn(true);
+        given(scriptSentencePool.generate(eq(scriptCreateDto.keywordsList()), any(), any()))
+                .willAnswer(invocation -> {
+                    Consumer<String> onToken = invocation.getArgument(1);
+                    Consumer<String> onReset = invocation.getArgument(2);
+                    onToken.accept("테스트");
+                    onReset.accept("대체 문장");
+                    return "대체 문장";
+                });
+        given(scriptImagePicker.pick(scriptCreateDto.keywordsList())).willReturn(List.of("a.jpg"));
+        given(scriptService.saveScript(memberId, scriptCreateDto, "대체 문장", List.of("a.jpg"))).willReturn(7L);
+
+        String jobId = scriptJobService.submit(memberId, scriptCreateDto);
+
+        verify(scriptJobRedisDao, timeout(1000)).complete(jobId, 7L);
+        InOrder inOrder = inOrder(scriptJobRedisDao);
+        inOrder.verify(scriptJobRedisDao).appendToken(jobId, "테스트");
+        inOrder.verify(scriptJobRedisDao).resetContent(jobId, "대체 문장");
+        inOrder.verify(scriptJobRedisDao).complete(jobId, 7L);
+    }
+
+    @Test
+    @DisplayName("문장을 만들지 못하면 스크립트를 저장하지 않고 작업을 실패로 기록한다")
+    void submitFailTest() {
+        given(scriptJobRedisDao.start(anyString())).willReturn(true);
+        given(scriptSentencePool.generate(any(), any(), any())).willThrow(new RuntimeException("redis"));
+
+        String jobId = scriptJobService.submit(memberId, scriptCreateDto);
+
+        verify(scriptJobRedisDao, timeout(1000)).fail(jobId);
+        verify(scriptService, never()).saveScript(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중에 실패로 바뀐 작업은 문장을 만들지 않는다")
+    void submitStaleBeforeStartTest() {
+        given(scriptJobRedisDao.start(anyString())).willReturn(false);
+
+        String jobId = scriptJobService.submit(memberId, scriptCreateDto);
+
+        verify(scriptJobRedisDao, timeout(1000)).start(jobId);
+        verify(scriptSentencePool, after(200).never()).generate(any(), any(), any());
+        verify(scriptJobRedisDao, never()).fail(jobId);
+    }
+
+    @Test
+    @DisplayName("문장을 만드는 동안 실패로 바뀐 작업은 스크립트를 저장하지 않는다")
+    void submitStaleWhileRunningTest() {
+        given(scriptJobRedisDao.start(anyString())).willReturn(true);
+        given(scriptSentencePool.generate(any(), any(), any())).willReturn("테스트응답");
+        given(scriptJobRedisDao.isRunning(anyString())).willReturn(false);
+
+        String jobId = scriptJobService.submit(memberId, scriptCreateDto);
+
+        verify(scriptJobRedisDao, timeout(1000)).isRunning(jobId);
+        verify(scriptService, after(200).never()).saveScript(any(), any(), any(), any());
+        verify(scriptJobRedisDao, never()).complete(anyString(), any());
+        verify(scriptJobRedisDao, never()).fail(jobId);
+    }
+
+    @Test
+    @DisplayName("저장한 뒤 완료로 바꾸지 못하면 저장한 스크립트를 지운다")
+    void submitStaleAfterSaveTest() {
+        given(scriptJobRedisDao.start(anyString())).willReturn(true);
+        given(scriptSentencePool.generate(any(), any(), any())).willReturn("테스트응답");
+        given(scriptImagePicker.pick(scriptCreateDto.keywordsList())).willReturn(List.of("a.jpg"));
+        given(scriptJobRedisDao.isRunning(anyString())).willReturn(true);
+        given(scriptService.saveScript(memberId, scriptCreateDto, "테스트응답", List.of("a.jpg"))).willReturn(7L);
+        given(scriptJobRedisDao.complete(anyString(), eq(7L))).willReturn(false);
+
+        String jobId = scriptJobService.submit(memberId, scriptCreateDto);
+
+        verify(scriptService, timeout(1000)).deleteScript(new ScriptDeleteListDto(List.of(7L)));
+        verify(scriptJobRedisDao).complete(jobId, 7L);
+        verify(scriptJobRedisDao, never()).fail(jobId);
+    }
+
+    @Test
+    @DisplayName("작업자와 대기열이 모두 차면 기다리지 않고 거절하고 작업 기록을 지운다")
+    void submitRejectedTest() throws Exception {
+        given(scriptJobRedisDao.start(anyString())).willReturn(true);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        given(scriptSentencePool.generate(any(), any(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "테스트응답";
+        });
+
+        scriptJobService.submit(memberId, scriptCreateDto);
+        started.await();
+        scriptJobService.submit(memberId, scriptCreateDto);
+
+        assertThatThrownBy(() -> scriptJobService.submit(memberId, scriptCreateDto))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOO_MANY_SCRIPT_JOBS);
+        verify(scriptJobRedisDao, times(1)).delete(anyString());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("다른 회원의 작업은 조회할 수 없다")
+    void getJobOtherMemberTest() {
+        given(scriptJobRedisDao.find("job-1"))
+                .willReturn(Optional.of(new ScriptJobDto("job-1", UUID.randomUUID(), ScriptJobStatus.DONE, 1L)));
+
+        assertThatThrownBy(() -> scriptJobService.getJob(memberId, "job-1"))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_FOUND_SCRIPT_JOB);
+    }
+
+    @Test
+    @DisplayName("맡은 작업이 없으면 heartbeat 를 남기지 않고, 실행 중인 작업에는 heartbeat 를 남긴다")
+    void heartbeatTest() throws Exception {
+        given(scriptJobRedisDao.start(anyString())).willReturn(true);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        given(scriptSentencePool.generate(any(), any(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "테스트응답";
+        });
+
+        scriptJobService.heartbeat();
+        verify(scriptJobRedisDao, never()).heartbeat(any());
+
+        String jobId = scriptJobService.submit(memberId, scriptCreateDto);
+        started.await();
+        scriptJobService.heartbeat();
+
+        verify(scriptJobRedisDao).heartbeat(Set.of(jobId));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 끊긴 작업은 조회할 때 실패로 바꿔 반환한다")
+    void getJobStaleTest() {
+        given(scriptJobRedisDao.find("job-1"))
+                .willReturn(Optional.of(new ScriptJobDto("job-1", memberId, ScriptJobStatus.RUNNING, null)));
+        given(scriptJobRedisDao.failIfStale(eq("job-1"), anyLong())).willReturn(true);
+
+        assertThat(scriptJobService.getJob(memberId, "job-1").status()).isEqualTo(ScriptJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 이어지는 작업은 상태를 그대로 반환하고, 끝난 작업은 heartbeat 를 확인하지 않는다")
+    void getJobAliveTest() {
+        given(scriptJobRedisDao.find("job-1"))
+                .willReturn(Optional.of(new ScriptJobDto("job-1", memberId, ScriptJobStatus.RUNNING, null)));
+        given(scriptJobRedisDao.failIfStale(eq("job-1"), anyLong())).willReturn(false);
+        given(scriptJobRedisDao.find("job-2"))
+                .willReturn(Optional.of(new ScriptJobDto("job-2", memberId, ScriptJobStatus.DONE, 1L)));
+
+        assertThat(scriptJobService.getJob(memberId, "job-1").status()).isEqualTo(ScriptJobStatus.RUNNING);
+        assertThat(scriptJobService.getJob(memberId, "job-2").status()).isEqualTo(ScriptJobStatus.DONE);
+        verify(scriptJobRedisDao, never()).failIfStale(eq("job-2"), anyLong());
+    }
+}
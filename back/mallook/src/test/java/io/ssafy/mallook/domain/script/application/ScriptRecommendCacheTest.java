@@ -0,0 +1,99 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.product.dao.CatalogVersionRedisDao;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsCustomRepository;
+import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
+import io.ssafy.mallook.domain.script.dao.ScriptRecommendRedisDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScriptRecommendCacheTest {
+
+    @Mock
+    private ProductsCustomRepository productsCustomRepository;
+    @Mock
+    private ScriptRecommendRedisDao scriptRecommendRedisDao;
+    @Mock
+    private CatalogVersionRedisDao catalogVersionRedisDao;
+
+    @InjectMocks
+    private ScriptRecommendCache scriptRecommendCache;
+
+    @Test
+    @DisplayName("키워드 순서, 공백, 중복이 달라도 같은 key 를 쓴다")
+    void normalize() {
+        assertThat(ScriptRecommendCache.normalize(List.of(" 캐주얼", "데님", "캐주얼", " ")))
+                .containsExactly("데님", "캐주얼");
+    }
+
+    @Test
+    @DisplayName("Redis 에도 없으면 Mongo 에서 읽어 두 단계에 모두 넣고, 다음 요청은 노드 메모리에서 읽는다")
+    void getRanked() {
+        List<ProductsListDto> products = List.of(product("2"), product("1"));
+        given(catalogVersionRedisDao.getVersion()).willReturn(3L);
+        given(scriptRecommendRedisDao.get("3:데님,캐주얼")).willReturn(Optional.empty());
+        given(productsCustomRepository.findRankedByKeywords(List.of("데님", "캐주얼"), null, ScriptRecommendCache.MAX_RANKED))
+                .willReturn(products);
+
+        assertThat(scriptRecommendCache.getRanked(List.of("캐주얼", "데님"))).isEqualTo(products);
+        assertThat(scriptRecommendCache.getRanked(List.of("데님", "캐주얼", "데님"))).isEqualTo(products);
+
+        verify(scriptRecommendRedisDao).save("3:데님,캐주얼", products);
+        verify(scriptRecommendRedisDao, times(1)).get(anyString());
+        verify(productsCustomRepository, times(1)).findRankedByKeywords(anyList(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("같은 key 를 동시에 놓치면 한 요청만 Mongo 를 조회한다")
+    void singleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(catalogVersionRedisDao.getVersion()).willReturn(0L);
+        given(scriptRecommendRedisDao.get("0:데님")).willReturn(Optional.empty());
+        given(productsCustomRepository.findRankedByKeywords(List.of("데님"), null, ScriptRecommendCache.MAX_RANKED))
+                .willAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(product("1"));
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<List<ProductsListDto>> first = executor.submit(() -> scriptRecommendCache.getRanked(List.of("데님")));
+            loading.await(5, TimeUnit.SECONDS);
+            List<Future<List<ProductsListDto>>> waiting = List.of(
+                    executor.submit(() -> scriptRecommendCache.getRanked(List.of("데님"))),
+                    executor.submit(() -> scriptRecommendCache.getRanked(List.of("데님"))));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).hasSize(1);
+            for (Future<List<ProductsListDto>> future : waiting) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).hasSize(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(productsCustomRepository, times(1)).findRankedByKeywords(anyList(), any(), anyInt());
+    }
+
+    private ProductsListDto product(String id) {
+        return ProductsListDto.builder().id(id).build();
+    }
+}
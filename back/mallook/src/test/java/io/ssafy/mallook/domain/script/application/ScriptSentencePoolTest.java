@@ -0,0 +1,182 @@
+package io.ssafy.mallook.domain.script.application;
+
+import io.ssafy.mallook.domain.chatgpt.dto.request.QuestionDto;
+import io.ssafy.mallook.domain.chatgpt.dto.response.GptResponseDto;
+import io.ssafy.mallook.domain.chatgpt.service.GptService;
+import io.ssafy.mallook.domain.script.dao.ScriptSentenceRedisDao;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScriptSentencePoolTest {
+
+    @Mock
+    private GptService gptService;
+    @Mock
+    private ScriptSentenceRedisDao scriptSentenceRedisDao;
+
+    @InjectMocks
+    private ScriptSentencePool scriptSentencePool;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scriptSentencePool, "deadlineMillis", 3000L);
+    }
+
+    private final List<String> full = List.of("문장1", "문장2", "문장3", "문장4", "문장5");
+
+    @Test
+    @DisplayName("첫 키워드는 자리를 지키고, 나머지 키워드는 공백과 중복을 지운 뒤 정렬한다")
+    void normalize() {
+        assertThat(ScriptSentencePool.normalize(List.of(" 캐주얼", "여름", "데님 ", "여름", "")))
+                .containsExactly("캐주얼", "데님", "여름");
+        assertThat(ScriptSentencePool.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문장이 다 모인 조합은 GPT 를 부르지 않고, 노드에 둔 목록에서 고른다")
+    void generateFromPool() {
+        given(scriptSentenceRedisDao.getSentences("캐주얼,데님,여름")).willReturn(full);
+        List<String> tokens = new ArrayList<>();
+        List<String> resets = new ArrayList<>();
+
+        String first = scriptSentencePool.generate(List.of("캐주얼", "여름", "데님"), tokens::add, resets::add);
+        String second = scriptSentencePool.generate(List.of("캐주얼", "데님", "여름"), tokens::add, resets::add);
+
+        assertThat(full).contains(first, second);
+        assertThat(tokens).containsExactly(first, second);
+        verify(scriptSentenceRedisDao, times(1)).getSentences("캐주얼,데님,여름");
+        verifyNoInteractions(gptService);
+    }
+
+    @Test
+    @DisplayName("문장이 모자라면 GPT 로 만든 문장을 토큰 단위로 넘기고 목록에 더한다")
+    void generateWithGpt() {
+        given(scriptSentenceRedisDao.getSentences("데님")).willReturn(List.of("문장1"));
+        given(gptService.streamQuestion(eq(QuestionDto.builder().content("데님").build()), eq(Duration.ofMillis(3000)), any()))
+                .willAnswer(invocation -> {
+                    Consumer<String> onToken = invocation.getArgument(2);
+                    onToken.accept("새 ");
+                    onToken.accept("문장");
+                    return GptResponseDto.builder().answer("새 문장").build();
+                });
+        List<String> tokens = new ArrayList<>();
+        List<String> resets = new ArrayList<>();
+
+        String sentence = scriptSentencePool.generate(List.of("데님"), tokens::add, resets::add);
+
+        assertThat(sentence).isEqualTo("새 문장");
+        assertThat(tokens).containsExactly("새 ", "문장");
+        verify(scriptSentenceRedisDao).add("데님", "새 문장", ScriptSentencePool.POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("GPT 호출이 실패하면 모인 문장을 쓰고, 하나도 없으면 템플릿 문장을 쓴다")
+    void generateFallback() {
+        given(scriptSentenceRedisDao.getSentences("데님")).willReturn(List.of("문장1"));
+        given(scriptSentenceRedisDao.getSentences("린넨,여름")).willReturn(List.of());
+        given(gptService.streamQuestion(any(QuestionDto.class), any(), any())).willThrow(new RuntimeException("timeout"));
+        List<String> tokens = new ArrayList<>();
+        List<String> resets = new ArrayList<>();
+
+        String pooled = scriptSentencePool.generate(List.of("데님"), tokens::add, resets::add);
+        String templated = scriptSentencePool.generate(List.of("린넨", "여름"), tokens::add, resets::add);
+
+        assertThat(pooled).isEqualTo("문장1");
+        assertThat(templated).startsWith("린넨").contains("여름").endsWith("코디가 당신에게 어울려요");
+        assertThat(tokens).containsExactly(pooled, templated);
+        assertThat(resets).isEmpty();
+        verify(scriptSentenceRedisDao, never()).add(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("토큰을 받다가 제한 시간을 넘기면 대체 문장을 reset 으로 넘겨 받다 만 내용을 바꾼다")
+    void generateResetAfterDeadline() {
+        given(scriptSentenceRedisDao.getSentences("데님")).willReturn(List.of("문장1"));
+        given(gptService.streamQuestion(any(QuestionDto.class), any(), any())).willAnswer(invocation -> {
+            Consumer<String> onToken = invocation.getArgument(2);
+            onToken.accept("받다 만 ");
+            throw new BaseExceptionHandler(ErrorCode.SCRIPT_SENTENCE_TIMEOUT);
+        });
+        List<String> tokens = new ArrayList<>();
+        List<String> resets = new ArrayList<>();
+
+        String sentence = scriptSentencePool.generate(List.of("데님"), tokens::add, resets::add);
+
+        assertThat(sentence).isEqualTo("문장1");
+        assertThat(tokens).containsExactly("받다 만 ");
+        assertThat(resets).containsExactly("문장1");
+        verify(scriptSentenceRedisDao, never()).add(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("미리 채울 때는 기존 스크립트 문장을 먼저 넣고 모자란 만큼만 GPT 를 부른다")
+    void warm() {
+        given(scriptSentenceRedisDao.getSentences("데님"))
+                .willReturn(List.of("문장1", "문장2", "문장3"))
+                .willReturn(List.of("문장1", "문장2", "문장3", "문장4"))
+                .willReturn(full);
+        given(gptService.askQuestion(QuestionDto.builder().content("데님").build()))
+                .willReturn(GptResponseDto.builder().answer("문장4").build())
+                .willReturn(GptResponseDto.builder().answer("문장5").build());
+
+        int calls = scriptSentencePool.warm(List.of("데님"), List.of("문장1", "문장2", "문장3"), 10);
+
+        assertThat(calls).isEqualTo(2);
+        verify(scriptSentenceRedisDao).add("데님", "문장4", ScriptSentencePool.POOL_SIZE);
+        verify(scriptSentenceRedisDao).add("데님", "문장5", ScriptSentencePool.POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("미리 채울 때 이미 있는 문장이 거듭 나오면 그 조합은 그만 채운다")
+    void warmStopsOnDuplicates() {
+        given(scriptSentenceRedisDao.getSentences("데님")).willReturn(List.of("문장1"));
+        given(gptService.askQuestion(QuestionDto.builder().content("데님").build()))
+                .willReturn(GptResponseDto.builder().answer("문장1").build());
+
+        int calls = scriptSentencePool.warm(List.of("데님"), List.of(), 100);
+
+        assertThat(calls).isEqualTo(ScriptSentencePool.MAX_DUPLICATES);
+        verify(scriptSentenceRedisDao, never()).add(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("미리 채울 때 새 문장이 나와도 한 조합에 정한 횟수까지만 GPT 를 부른다")
+    void warmStopsAtAttemptLimit() {
+        given(scriptSentenceRedisDao.getSentences("데님")).willReturn(List.of());
+        given(gptService.askQuestion(QuestionDto.builder().content("데님").build()))
+                .willReturn(GptResponseDto.builder().answer("새 문장").build());
+
+        int calls = scriptSentencePool.warm(List.of("데님"), List.of(), 100);
+
+        assertThat(calls).isEqualTo(ScriptSentencePool.MAX_WARM_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("미리 채울 때 GPT 호출이 실패하면 예외를 넘기지 않고 이 조합만 건너뛴다")
+    void warmSkipsOnFailure() {
+        given(scriptSentenceRedisDao.getSentences("데님")).willReturn(List.of());
+        given(gptService.askQuestion(any(QuestionDto.class))).willThrow(new RuntimeException("timeout"));
+
+        int calls = scriptSentencePool.warm(List.of("데님"), List.of(), 100);
+
+        assertThat(calls).isEqualTo(1);
+    }
+}
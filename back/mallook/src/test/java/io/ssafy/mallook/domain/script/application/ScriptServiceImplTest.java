@@ -1,18 +1,23 @@
 package io.ssafy.mallook.domain.script.application;
 
-import io.ssafy.mallook.domain.chatgpt.dto.request.QuestionDto;
-import io.ssafy.mallook.domain.chatgpt.dto.response.GptResponseDto;
-import io.ssafy.mallook.domain.chatgpt.service.GptService;
+import io.ssafy.mallook.domain.heart.application.HeartCardService;
+import io.ssafy.mallook.domain.heart.application.HeartStateService;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
 import io.ssafy.mallook.domain.member.dao.MemberRepository;
 import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.product.dto.response.ProductsListDto;
+import io.ssafy.mallook.domain.product.dto.response.ProductsPageRes;
 import io.ssafy.mallook.domain.script.dao.ScriptRepository;
 import io.ssafy.mallook.domain.script.dto.request.ScriptCreatDto;
 import io.ssafy.mallook.domain.script.dto.request.ScriptDeleteListDto;
 import io.ssafy.mallook.domain.script.entity.Script;
+import io.ssafy.mallook.global.common.code.ErrorCode;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,8 +28,11 @@ import org.springframework.data.domain.SliceImpl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -41,7 +49,13 @@ class ScriptServiceImplTest {
     private ScriptServiceImpl scriptService;
 
     @Mock
-    private GptService gptService;
+    private HeartStateService heartStateService;
+
+    @Mock
+    private HeartCardService heartCardService;
+
+    @Mock
+    private ScriptRecommendCache scriptRecommendCache;
 
     private Script script;
     private Member member;
@@ -53,6 +67,15 @@ class ScriptServiceImplTest {
         script = buildScript(member);
     }
 
+    private ProductsListDto product(String id) {
+        return ProductsListDto.builder().id(id).build();
+    }
+
+    // cursor 로 쓰이므로 ObjectId 형식(24자리 hex)으로 만든다
+    private String productId(int n) {
+        return String.format("%024d", n);
+    }
+
     private Script buildScript(Member member) {
         return Script.builder()
                 .name("테스트용 스크립트")
@@ -98,8 +121,8 @@ class ScriptServiceImplTest {
 //    }
 
     @Test
-    @DisplayName("스크립트 생성 api 테스트")
-    void createScript() {
+    @DisplayName("생성된 내용과 대표 이미지로 스크립트를 저장한다")
+    void saveScript() {
         // given
         List<String> keywordList = new ArrayList<>();
         keywordList.add("예쁜");
@@ -108,17 +131,60 @@ class ScriptServiceImplTest {
                 .keywordsList(keywordList)
                 .build();
         UUID id = member.getId();
-        GptResponseDto fakeResponse = GptResponseDto.builder()
-                .answer("테스트응답")
-                .build();
-
-        given(gptService.askQuestion(any(QuestionDto.class)))
-                .willReturn(fakeResponse);
+        given(scriptRepository.save(any(Script.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
-        scriptService.createScript(scriptCreateDto, id);
+        scriptService.saveScript(id, scriptCreateDto, "테스트응답", List.of("a.jpg", "b.jpg", "c.jpg"));
         // then
-        verify(scriptRepository, times(1)).save(any(Script.class));
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getName()).isEqualTo("테스트응답");
+        assertThat(captor.getValue().getImageUrl()).isEqualTo("a.jpg");
+        assertThat(captor.getValue().getAlternateImageList()).containsExactly("b.jpg", "c.jpg");
+    }
+
+    @Test
+    @DisplayName("키워드에 맞는 상품이 없으면 대표 이미지 없이 스크립트를 만든다")
+    void saveScriptWithoutImage() {
+        ScriptCreatDto scriptCreateDto = ScriptCreatDto.builder()
+                .keywordsList(List.of("없는키워드"))
+                .build();
+        given(scriptRepository.save(any(Script.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        scriptService.saveScript(member.getId(), scriptCreateDto, "테스트응답", List.of());
+
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getImageUrl()).isNull();
+        assertThat(captor.getValue().pickImageUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("추천 상품은 캐시된 목록에서 cursor 다음부터 한 페이지를 읽는다")
+    void getRecommendProductDetail() {
+        Script keywordScript = Script.builder().id(1L).member(member).keywordList(List.of("데님")).build();
+        given(scriptRepository.findById(1L)).willReturn(Optional.of(keywordScript));
+        given(scriptRecommendCache.getRanked(List.of("데님"))).willReturn(List.of(
+                product(productId(5)), product(productId(4)), product(productId(3)), product(productId(2)),
+                product(productId(1))));
+
+        ProductsPageRes first = scriptService.getRecommendProductDetail(1L, null, PageRequest.of(0, 2));
+        ProductsPageRes last = scriptService.getRecommendProductDetail(1L, productId(2), PageRequest.of(0, 2));
+
+        assertThat(first.content()).extracting(ProductsListDto::id).containsExactly(productId(5), productId(4));
+        assertThat(first.nextCursor()).isEqualTo(productId(4));
+        assertThat(last.content()).extracting(ProductsListDto::id).containsExactly(productId(1));
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("ObjectId 형식이 아닌 cursor 는 상품을 읽기 전에 거절한다")
+    void getRecommendProductDetailInvalidCursor() {
+        assertThatThrownBy(() -> scriptService.getRecommendProductDetail(1L, "not-an-id", PageRequest.of(0, 2)))
+                .isInstanceOf(BaseExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PRODUCT_CURSOR);
+        verifyNoInteractions(scriptRepository, scriptRecommendCache);
     }
 
     @Test
@@ -133,6 +199,7 @@ class ScriptServiceImplTest {
 
         // Then
         verify(scriptRepository, times(1)).deleteScript(anyList());
+        verify(heartCardService, times(1)).evictAfterCommit(HeartTarget.SCRIPT, deleteList);
     }
 }
 
@@ -48,7 +48,6 @@ class ScriptRepositoryTest {
                 .name("테스트용 스크립트")
                 .member(member)
                 .heartCount(0)
-                .totalLike(0)
                 .build();
     }
 
@@ -0,0 +1,130 @@
+package io.ssafy.mallook.domain.style.application;
+
+import io.ssafy.mallook.domain.heart.dto.HeartCountChangedEvent;
+import io.ssafy.mallook.domain.heart.dto.HeartTarget;
+import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
+import io.ssafy.mallook.domain.product.entity.Products;
+import io.ssafy.mallook.domain.style.dao.StyleRepository;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleCardRepository;
+import io.ssafy.mallook.domain.style.dto.StyleChangedEvent;
+import io.ssafy.mallook.domain.style.dto.response.StyledWorldCupDto;
+import io.ssafy.mallook.domain.style.entity.Style;
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+import io.ssafy.mallook.domain.style_product.dao.StyleProductRepository;
+import io.ssafy.mallook.domain.style_product.entity.StyleProduct;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StyleCardProjectorTest {
+
+    @Mock
+    private StyleRepository styleRepository;
+    @Mock
+    private StyleProductRepository styleProductRepository;
+    @Mock
+    private ProductsRepository productsRepository;
+    @Mock
+    private StyleCardRepository styleCardRepository;
+
+    @InjectMocks
+    private StyleCardProjector styleCardProjector;
+
+    @Test
+    @DisplayName("상품을 한 번에 조회해 카드를 만들고, 없어진 상품은 뺀다")
+    void toCards() {
+        Member member = mock(Member.class);
+        given(member.getNickname()).willReturn("작성자");
+        Style style = Style.builder().id(1L).name("코디").heartCount(3L).member(member).build();
+        given(styleProductRepository.findByStyleIdIn(List.of(1L)))
+                .willReturn(List.of(StyleProduct.builder().style(style).products("missing").build()));
+        given(productsRepository.findAllById(Set.of("missing"))).willReturn(List.of());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<StyleCard> cards = styleCardProjector.toCards(List.of(style), now);
+
+        assertThat(cards).hasSize(1);
+        assertThat(cards.get(0).getMemberNickname()).isEqualTo("작성자");
+        assertThat(cards.get(0).getHeartCount()).isEqualTo(3L);
+        assertThat(cards.get(0).getProducts()).isEmpty();
+        assertThat(cards.get(0).getProjectedAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("카드에 상품 키워드, 카테고리, 브랜드를 구분한 feature 토큰을 담는다")
+    void toCardFeatures() {
+        Member member = mock(Member.class);
+        Style style = Style.builder().id(1L).name("코디").heartCount(0L).member(member).build();
+        Products product = mock(Products.class);
+        given(product.getId()).willReturn(new ObjectId());
+        given(product.getKeywords()).willReturn(List.of("데님", "데님"));
+        given(product.getMainCategory()).willReturn("상의");
+        given(product.getSubCategory()).willReturn("셔츠");
+        given(product.getBrandName()).willReturn("몰룩");
+
+        StyleCard card = styleCardProjector.toCard(style, List.of(product), LocalDateTime.now());
+
+        assertThat(card.getFeatures()).containsExactly("k:데님", "k:데님", "c:상의", "c:상의/셔츠", "b:몰룩");
+    }
+
+    @Test
+    @DisplayName("월드컵 카드의 키워드는 상품 순서대로 중복 없이 5개까지 담는다")
+    void toWorldCupCards() {
+        Member member = mock(Member.class);
+        Style style = Style.builder().id(1L).name("코디").heartCount(3L).member(member).build();
+        String firstId = new ObjectId().toHexString();
+        String secondId = new ObjectId().toHexString();
+        Products first = mock(Products.class);
+        Products second = mock(Products.class);
+        given(first.getId()).willReturn(new ObjectId(firstId));
+        given(first.getKeywords()).willReturn(List.of("캐주얼", "데님", "여름"));
+        given(second.getId()).willReturn(new ObjectId(secondId));
+        given(second.getKeywords()).willReturn(List.of("데님", "셔츠", "린넨", "화이트"));
+        given(styleProductRepository.findByStyleIdIn(List.of(1L))).willReturn(List.of(
+                StyleProduct.builder().style(style).products(firstId).build(),
+                StyleProduct.builder().style(style).products(secondId).build()));
+        given(productsRepository.findAllById(Set.of(firstId, secondId))).willReturn(List.of(second, first));
+
+        List<StyledWorldCupDto> cards = styleCardProjector.toWorldCupCards(List.of(style));
+
+        assertThat(cards).hasSize(1);
+        assertThat(cards.get(0).keywordList()).containsExactly("캐주얼", "데님", "여름", "셔츠", "린넨");
+    }
+
+    @Test
+    @DisplayName("조회되지 않는 스타일은 카드를 지운다")
+    void onStyleChangedDeleted() {
+        given(styleRepository.findByIdIn(List.of(2L))).willReturn(List.of());
+
+        styleCardProjector.onStyleChanged(new StyleChangedEvent(List.of(2L)));
+
+        verify(styleCardRepository).upsertAll(List.of());
+        verify(styleCardRepository).deleteByIdIn(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("스크립트 좋아요 수 반영은 스타일 카드에 영향을 주지 않는다")
+    void onHeartCountChanged() {
+        styleCardProjector.onHeartCountChanged(new HeartCountChangedEvent(HeartTarget.SCRIPT, Map.of(1L, 1L)));
+        styleCardProjector.onHeartCountChanged(new HeartCountChangedEvent(HeartTarget.STYLE, Map.of(2L, -1L)));
+
+        verify(styleCardRepository, times(1)).incrementHeartCounts(any());
+        verify(styleCardRepository).incrementHeartCounts(Map.of(2L, -1L));
+    }
+}
@@ -0,0 +1,175 @@
+package io.ssafy.mallook.domain.style.application;
+
+import io.ssafy.mallook.domain.heart.application.HeartStateService;
+import io.ssafy.mallook.domain.member.dao.MemberRepository;
+import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.product.dao.mongo.ProductsRepository;
+import io.ssafy.mallook.domain.product.entity.Products;
+import io.ssafy.mallook.domain.style.dao.StyleRepository;
+import io.ssafy.mallook.domain.style.dao.mongo.StyleCardRepository;
+import io.ssafy.mallook.domain.style.dto.request.StyleInsertReq;
+import io.ssafy.mallook.domain.style.dto.response.StyleListRes;
+import io.ssafy.mallook.domain.style.dto.response.StyleRes;
+import io.ssafy.mallook.domain.style.entity.Style;
+import io.ssafy.mallook.domain.style.entity.StyleCard;
+import io.ssafy.mallook.domain.style_product.dao.StyleProductJdbcDao;
+import io.ssafy.mallook.global.exception.BaseExceptionHandler;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StyleServiceImplTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private StyleRepository styleRepository;
+    @Mock
+    private ProductsRepository productsRepository;
+    @Mock
+    private StyleCardRepository styleCardRepository;
+    @Mock
+    private StyleCardProjector styleCardProjector;
+    @Mock
+    private StyleProductJdbcDao styleProductJdbcDao;
+    @Mock
+    private SimilarStyleService similarStyleService;
+    @Mock
+    private HeartStateService heartStateService;
+
+    @InjectMocks
+    private StyleServiceImpl styleService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("없는 상품이 포함되면 스타일을 저장하지 않는다")
+    void saveStyleWithMissingProduct() {
+        String productId = new ObjectId().toHexString();
+        Products product = product(productId);
+        given(productsRepository.findAllById(List.of(productId, "missing"))).willReturn(List.of(product));
+
+        assertThatThrownBy(() -> styleService.saveStyle(UUID.randomUUID(),
+                new StyleInsertReq("코디", List.of(productId, "missing"), "img")))
+                .isInstanceOf(BaseExceptionHandler.class);
+        verify(styleRepository, never()).save(any());
+        verify(styleProductJdbcDao, never()).insertAll(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("상품을 한 번에 확인하고 style_product 를 한 번에 저장한 뒤 커밋되면 카드를 저장한다")
+    void saveStyle() {
+        TransactionSynchronizationManager.initSynchronization();
+        UUID memberId = UUID.randomUUID();
+        String productId = new ObjectId().toHexString();
+        Member member = mock(Member.class);
+        Style saved = Style.builder().id(10L).name("코디").heartCount(0L).member(member).build();
+        StyleCard card = StyleCard.builder().id(10L).build();
+        Products product = product(productId);
+        given(productsRepository.findAllById(List.of(productId))).willReturn(List.of(product));
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(styleRepository.save(any(Style.class))).willReturn(saved);
+        given(styleCardProjector.toCard(eq(saved), anyList(), any())).willReturn(card);
+
+        // 같은 상품은 한 번만 저장한다
+        styleService.saveStyle(memberId, new StyleInsertReq("코디", List.of(productId, productId), "img"));
+
+        verify(styleProductJdbcDao).insertAll(10L, List.of(productId));
+        verify(styleCardRepository, never()).save(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(styleCardRepository).save(card);
+    }
+
+    @Test
+    @DisplayName("유사 스타일을 가까운 순서대로 카드에서 읽고, 삭제된 스타일은 건너뛴다")
+    void getSimilarStyles() {
+        given(similarStyleService.findSimilarIds(1L, 10)).willReturn(List.of(3L, 2L, 4L));
+        given(styleCardRepository.findAllById(List.of(3L, 2L, 4L))).willReturn(List.of(
+                StyleCard.builder().id(2L).name("코디2").build(),
+                StyleCard.builder().id(3L).name("코디3").build()));
+
+        List<StyleListRes> result = styleService.getSimilarStyles(1L, 10);
+
+        assertThat(result).extracting(StyleListRes::id).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("카드 컬렉션이 비어 있으면 DB 의 스타일을 카드로 만들어 피드를 보여준다")
+    void findStyleListBeforeSeed() {
+        Pageable pageable = PageRequest.ofSize(2);
+        List<Style> styles = List.of(Style.builder().id(5L).build(), Style.builder().id(4L).build());
+        given(styleCardRepository.findByIdLessThanOrderByIdDesc(anyLong(), any())).willReturn(new SliceImpl<>(List.of()));
+        given(styleCardRepository.count()).willReturn(0L);
+        given(styleRepository.findStylesByIdLessThan(any(), eq(Long.MAX_VALUE)))
+                .willReturn(new SliceImpl<>(styles, pageable, true));
+        given(styleCardProjector.toCards(eq(styles), any())).willReturn(List.of(
+                StyleCard.builder().id(5L).name("코디5").build(),
+                StyleCard.builder().id(4L).name("코디4").build()));
+
+        Slice<StyleRes> result = styleService.findStyleListFirst(pageable, UUID.randomUUID());
+
+        assertThat(result.getContent()).extracting(StyleRes::id).containsExactly(5L, 4L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("카드가 있으면 마지막 페이지가 비어도 DB 를 읽지 않는다")
+    void findStyleListAfterSeed() {
+        given(styleCardRepository.findByIdLessThanOrderByIdDesc(eq(3L), any())).willReturn(new SliceImpl<>(List.of()));
+        given(styleCardRepository.count()).willReturn(10L);
+
+        Slice<StyleRes> result = styleService.findStyleList(PageRequest.ofSize(2), 2L, UUID.randomUUID());
+
+        assertThat(result.getContent()).isEmpty();
+        verifyNoInteractions(styleRepository, styleCardProjector);
+    }
+
+    @Test
+    @DisplayName("카드가 채워진 것을 한 번 확인하면 빈 페이지마다 카드 수를 세지 않는다")
+    void findStyleListCountsOnce() {
+        given(styleCardRepository.findByIdLessThanOrderByIdDesc(eq(3L), any())).willReturn(new SliceImpl<>(List.of()));
+        given(styleCardRepository.count()).willReturn(10L);
+
+        styleService.findStyleList(PageRequest.ofSize(2), 2L, UUID.randomUUID());
+        styleService.findStyleList(PageRequest.ofSize(2), 2L, UUID.randomUUID());
+
+        verify(styleCardRepository, times(1)).count();
+        verifyNoInteractions(styleRepository, styleCardProjector);
+    }
+
+    private Products product(String id) {
+        Products products = mock(Products.class);
+        given(products.getId()).willReturn(new ObjectId(id));
+        return products;
+    }
+}
@@ -53,7 +53,6 @@ class StyleRepositoryTest {
                 .name("테스트용 제목")
                 .member(member)
                 .heartCount(0L)
-                .totalLike(0)
                 .build();
     }
 
@@ -0,0 +1,149 @@
+package io.ssafy.mallook.global.batch.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ssafy.mallook.domain.coupon.dao.CouponRedisDao;
+import io.ssafy.mallook.global.batch.dao.CouponExpiryJdbcDao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponExpiryBatchConfigTest {
+
+    @Mock
+    private CouponExpiryJdbcDao couponExpiryJdbcDao;
+    @Mock
+    private CouponRedisDao couponRedisDao;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Tasklet tasklet;
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        tasklet = new CouponExpiryBatchConfig(couponExpiryJdbcDao, couponRedisDao, meterRegistry).couponExpiryTasklet();
+        StepExecution stepExecution = new StepExecution("couponExpiryJob_expiry", new JobExecution(1L));
+        contribution = stepExecution.createStepContribution();
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+        // tasklet 트랜잭션 대신 동기화만 열어 afterCommit 을 직접 부른다
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private double expiredRows(String table) {
+        return meterRegistry.counter("coupon.expiry.rows", "table", table).count();
+    }
+
+    @Test
+    @DisplayName("발급 내역이 남아 있으면 쿠폰보다 먼저 1000 개씩 만료시키고 다시 실행한다")
+    void expireMemberCouponsFirst() throws Exception {
+        given(couponExpiryJdbcDao.findExpiredCouponIds(any(), eq(100))).willReturn(List.of(1L, 2L));
+        given(couponExpiryJdbcDao.findLiveMemberCouponIds(List.of(1L, 2L), 1000)).willReturn(List.of(10L, 11L));
+        given(couponExpiryJdbcDao.expireMemberCoupons(eq(List.of(10L, 11L)), any())).willReturn(2);
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        verify(couponExpiryJdbcDao, never()).expireCoupons(anyList(), any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        assertThat(contribution.getWriteCount()).isEqualTo(2L);
+        assertThat(expiredRows("member_coupon")).isEqualTo(2.0);
+        assertThat(expiredRows("coupon")).isZero();
+    }
+
+    @Test
+    @DisplayName("발급 내역을 모두 만료시킨 뒤에 쿠폰을 만료시키고, Redis 는 커밋된 뒤에만 지운다")
+    void expireCouponsThenPurgeAfterCommit() throws Exception {
+        given(couponExpiryJdbcDao.findExpiredCouponIds(any(), eq(100))).willReturn(List.of(1L, 2L));
+        given(couponExpiryJdbcDao.findLiveMemberCouponIds(List.of(1L, 2L), 1000))
+                .willReturn(List.of(10L), List.of());
+        given(couponExpiryJdbcDao.expireMemberCoupons(eq(List.of(10L)), any())).willReturn(1);
+        given(couponExpiryJdbcDao.expireCoupons(eq(List.of(1L, 2L)), any())).willReturn(2);
+
+        RepeatStatus first = tasklet.execute(contribution, chunkContext);
+        RepeatStatus second = tasklet.execute(contribution, chunkContext);
+
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(second).isEqualTo(RepeatStatus.FINISHED);
+        InOrder inOrder = inOrder(couponExpiryJdbcDao);
+        inOrder.verify(couponExpiryJdbcDao).expireMemberCoupons(eq(List.of(10L)), any());
+        inOrder.verify(couponExpiryJdbcDao).expireCoupons(eq(List.of(1L, 2L)), any());
+        verify(couponRedisDao, never()).purge(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(couponRedisDao).purge(1L);
+        verify(couponRedisDao).purge(2L);
+        assertThat(expiredRows("member_coupon")).isEqualTo(1.0);
+        assertThat(expiredRows("coupon")).isEqualTo(2.0);
+        assertThat(chunkContext.getStepContext().getStepExecution().getExecutionContext()
+                .getLong("expiredCoupons")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 Redis 의 재고를 지우지 않는다")
+    void noPurgeOnRollback() throws Exception {
+        given(couponExpiryJdbcDao.findExpiredCouponIds(any(), eq(100))).willReturn(List.of(1L));
+        given(couponExpiryJdbcDao.findLiveMemberCouponIds(List.of(1L), 1000)).willReturn(List.of());
+        given(couponExpiryJdbcDao.expireCoupons(eq(List.of(1L)), any())).willReturn(1);
+
+        tasklet.execute(contribution, chunkContext);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(couponRedisDao, never()).purge(any());
+    }
+
+    @Test
+    @DisplayName("만료된 쿠폰이 한 번에 읽는 수만큼 있으면 남은 쿠폰을 위해 다시 실행한다")
+    void continueWhenCouponBatchIsFull() throws Exception {
+        List<Long> couponIds = LongStream.rangeClosed(1, 100).boxed().toList();
+        given(couponExpiryJdbcDao.findExpiredCouponIds(any(), eq(100))).willReturn(couponIds);
+        given(couponExpiryJdbcDao.findLiveMemberCouponIds(couponIds, 1000)).willReturn(List.of());
+        given(couponExpiryJdbcDao.expireCoupons(eq(couponIds), any())).willReturn(100);
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(expiredRows("coupon")).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("만료된 쿠폰이 없으면 아무것도 바꾸지 않고 끝낸다")
+    void finishWhenNothingExpired() throws Exception {
+        given(couponExpiryJdbcDao.findExpiredCouponIds(any(), eq(100))).willReturn(List.of());
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+        verify(couponExpiryJdbcDao).findExpiredCouponIds(any(), eq(100));
+        verifyNoMoreInteractions(couponExpiryJdbcDao);
+        verifyNoInteractions(couponRedisDao);
+    }
+}
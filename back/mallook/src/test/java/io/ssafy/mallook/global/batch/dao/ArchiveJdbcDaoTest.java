@@ -0,0 +1,31 @@
+package io.ssafy.mallook.global.batch.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveJdbcDaoTest {
+
+    @Test
+    @DisplayName("아카이브로 옮길 때 insert 와 select 모두 컬럼을 명시한다")
+    void copySqlListsColumns() {
+        String sql = ArchiveJdbcDao.copySql("member_coupon", "202401", "id in (:ids)");
+
+        assertThat(sql).isEqualTo("insert into member_coupon_archive_202401"
+                + " (id, member_id, coupon_id, status, created_at, updated_at)"
+                + " select id, member_id, coupon_id, status, created_at, updated_at"
+                + " from member_coupon where id in (:ids)");
+        assertThat(sql).doesNotContain("*");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 테이블이나 잘못된 월은 거절한다")
+    void copySqlRejectsUnknownTable() {
+        assertThatThrownBy(() -> ArchiveJdbcDao.copySql("member", "202401", "id in (:ids)"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ArchiveJdbcDao.copySql("orders", "2024-1", "id in (:ids)"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package io.ssafy.mallook.global.batch.dao;
+
+import io.ssafy.mallook.domain.coupon.dao.CouponRepository;
+import io.ssafy.mallook.domain.coupon.entity.Coupon;
+import io.ssafy.mallook.domain.coupon.entity.CouponType;
+import io.ssafy.mallook.domain.member.dao.MemberRepository;
+import io.ssafy.mallook.domain.member.entity.Member;
+import io.ssafy.mallook.domain.member_coupon.dao.MemberCouponRepository;
+import io.ssafy.mallook.domain.member_coupon.entity.MemberCoupon;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles(profiles = "test")
+@Import(CouponExpiryJdbcDao.class)
+class CouponExpiryJdbcDaoTest {
+
+    @Autowired
+    private CouponExpiryJdbcDao couponExpiryJdbcDao;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberCouponRepository memberCouponRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final List<Long> expiredCouponIds = new ArrayList<>();
+    private Long liveCouponId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            expiredCouponIds.add(couponRepository.save(buildCoupon(now.minusDays(1))).getId());
+        }
+        liveCouponId = couponRepository.save(buildCoupon(now.plusDays(1))).getId();
+        entityManager.flush();
+    }
+
+    private Coupon buildCoupon(LocalDateTime expiredTime) {
+        return Coupon.builder()
+                .name("만료 테스트 쿠폰")
+                .type(CouponType.MONEY)
+                .amount(1000L)
+                .expiredTime(expiredTime)
+                .build();
+    }
+
+    private List<Long> issue(Long couponId, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Member member = memberRepository.save(Member.builder().nickname("회원" + i).build());
+            ids.add(memberCouponRepository.save(MemberCoupon.builder()
+                    .member(member)
+                    .coupon(entityManager.getReference(Coupon.class, couponId))
+                    .build()).getId());
+        }
+        entityManager.flush();
+        return ids;
+    }
+
+    private Timestamp timestamp() {
+        return Timestamp.valueOf(now);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 살아 있는 쿠폰만 id 순서로 limit 개까지 읽는다")
+    void findExpiredCouponIds() {
+        couponExpiryJdbcDao.expireCoupons(List.of(expiredCouponIds.get(0)), timestamp());
+
+        assertThat(couponExpiryJdbcDao.findExpiredCouponIds(timestamp(), 1))
+                .containsExactly(expiredCouponIds.get(1));
+        assertThat(couponExpiryJdbcDao.findExpiredCouponIds(timestamp(), 10))
+                .containsExactly(expiredCouponIds.get(1), expiredCouponIds.get(2))
+                .doesNotContain(liveCouponId);
+    }
+
+    @Test
+    @DisplayName("발급 내역은 한 번에 limit 개까지만 읽고, 만료시키면 다음 chunk 에서 읽지 않는다")
+    void expireMemberCouponsInChunks() {
+        List<Long> memberCouponIds = issue(expiredCouponIds.get(0), 3);
+        List<Long> liveMemberCouponIds = issue(liveCouponId, 1);
+
+        List<Long> firstChunk = couponExpiryJdbcDao.findLiveMemberCouponIds(expiredCouponIds, 2);
+        int expired = couponExpiryJdbcDao.expireMemberCoupons(firstChunk, timestamp());
+        List<Long> secondChunk = couponExpiryJdbcDao.findLiveMemberCouponIds(expiredCouponIds, 2);
+
+        assertThat(firstChunk).containsExactlyElementsOf(memberCouponIds.subList(0, 2));
+        assertThat(expired).isEqualTo(2);
+        assertThat(secondChunk).containsExactly(memberCouponIds.get(2));
+        assertThat(couponExpiryJdbcDao.findLiveMemberCouponIds(List.of(liveCouponId), 10))
+                .containsExactlyElementsOf(liveMemberCouponIds);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 row 는 다시 세지 않는다")
+    void expireTwice() {
+        List<Long> memberCouponIds = issue(expiredCouponIds.get(0), 2);
+
+        assertThat(couponExpiryJdbcDao.expireMemberCoupons(memberCouponIds, timestamp())).isEqualTo(2);
+        assertThat(couponExpiryJdbcDao.expireMemberCoupons(memberCouponIds, timestamp())).isZero();
+        assertThat(couponExpiryJdbcDao.expireCoupons(expiredCouponIds, timestamp())).isEqualTo(3);
+        assertThat(couponExpiryJdbcDao.expireCoupons(expiredCouponIds, timestamp())).isZero();
+        assertThat(couponExpiryJdbcDao.findExpiredCouponIds(timestamp(), 10)).isEmpty();
+    }
+}
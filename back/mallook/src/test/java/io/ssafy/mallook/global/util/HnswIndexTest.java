@@ -0,0 +1,164 @@
+package io.ssafy.mallook.global.util;
+
+import io.ssafy.mallook.domain.style.application.StyleEmbedder;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Log4j2
+class HnswIndexTest {
+
+    private static final int K = 10;
+    // 벤치마크에서 ef 가 MIN_BENCHMARK_EF 이상이면 지켜야 하는 recall@10
+    private static final double MIN_BENCHMARK_RECALL = 0.9;
+    private static final int MIN_BENCHMARK_EF = 64;
+    // 벤치마크에서 HNSW 검색이 전수 비교보다 최소 몇 배 빨라야 하는지
+    private static final double MIN_SPEEDUP = 10.0;
+
+    @Test
+    @DisplayName("가장 가까운 벡터를 유사도 순으로 찾는다")
+    void search() {
+        HnswIndex index = new HnswIndex(2, 3, 4, 10, 1L);
+        index.add(1L, new float[]{1, 0});
+        index.add(2L, new float[]{0, 1});
+        index.add(3L, new float[]{0.8f, 0.6f});
+
+        List<HnswIndex.Result> results = index.search(new float[]{1, 0}, 2, 10);
+
+        assertThat(results).extracting(HnswIndex.Result::id).containsExactly(1L, 3L);
+        assertThat(index.vectorOf(2L)).isPresent();
+        assertThat(index.vectorOf(4L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 id 를 두 번 추가할 수 없다")
+    void addDuplicate() {
+        HnswIndex index = new HnswIndex(2, 2, 4, 10, 1L);
+        index.add(1L, new float[]{1, 0});
+
+        assertThatThrownBy(() -> index.add(1L, new float[]{0, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스타일 벡터에서 전수 비교와 결과가 거의 같다")
+    void recall() {
+        List<float[]> vectors = styleVectors(5_000, 1L);
+        HnswIndex index = build(vectors);
+
+        Report report = measure(index, vectors, 200, 64, new Random(2L));
+
+        assertThat(report.recall()).isGreaterThanOrEqualTo(0.95);
+    }
+
+    /**
+     * 10만, 100만 스타일에서 전수 비교 대비 recall@10 과 검색 시간을 기록하고,
+     * ef 가 MIN_BENCHMARK_EF 이상이면 recall@10 이 MIN_BENCHMARK_RECALL 이상인지, 검색이 전수 비교보다 MIN_SPEEDUP 배 이상 빠른지 확인한다.
+     * 100만 개는 heap 이 2GB 이상 필요하다. ./gradlew test -Dbenchmark=true --tests '*HnswIndexTest'
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("10만, 100만 스타일 벤치마크")
+    void benchmark() {
+        for (int size : new int[]{100_000, 1_000_000}) {
+            List<float[]> vectors = styleVectors(size, 1L);
+            long startedAt = System.nanoTime();
+            HnswIndex index = build(vectors);
+            long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            for (int ef : new int[]{32, 64, 128}) {
+                Report report = measure(index, vectors, 200, ef, new Random(2L));
+                double speedup = report.bruteMillis() / report.hnswMillis();
+                log.info(String.format("styles=%d build=%dms ef=%d recall@%d=%.3f hnsw=%.3fms brute=%.3fms speedup=%.1fx",
+                        size, buildMillis, ef, K, report.recall(), report.hnswMillis(), report.bruteMillis(), speedup));
+
+                assertThat(speedup).as("styles=%d ef=%d speedup", size, ef).isGreaterThanOrEqualTo(MIN_SPEEDUP);
+                if (ef >= MIN_BENCHMARK_EF) {
+                    assertThat(report.recall()).as("styles=%d ef=%d recall", size, ef)
+                            .isGreaterThanOrEqualTo(MIN_BENCHMARK_RECALL);
+                }
+            }
+        }
+    }
+
+    private HnswIndex build(List<float[]> vectors) {
+        HnswIndex index = new HnswIndex(StyleEmbedder.DIMENSION, vectors.size(), 16, 100, 42L);
+        for (int i = 0; i < vectors.size(); i++) {
+            index.add(i, vectors.get(i));
+        }
+        return index;
+    }
+
+    // 같은 벡터가 여러 개면 전수 비교 결과와 순서가 달라질 수 있으므로 유사도 k 번째 값으로 맞았는지 본다
+    private Report measure(HnswIndex index, List<float[]> vectors, int queries, int ef, Random random) {
+        double hits = 0;
+        long hnswNanos = 0;
+        long bruteNanos = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = vectors.get(random.nextInt(vectors.size()));
+
+            long startedAt = System.nanoTime();
+            List<HnswIndex.Result> found = index.search(query, K, ef);
+            hnswNanos += System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            PriorityQueue<Double> best = new PriorityQueue<>();
+            for (float[] vector : vectors) {
+                double similarity = HnswIndex.similarity(query, vector);
+                if (best.size() < K) {
+                    best.add(similarity);
+                } else if (similarity > best.peek()) {
+                    best.poll();
+                    best.add(similarity);
+                }
+            }
+            bruteNanos += System.nanoTime() - startedAt;
+
+            double kth = best.peek();
+            hits += found.stream().filter(result -> result.similarity() >= kth - 1e-6).count();
+        }
+        return new Report(hits / (queries * K), hnswNanos / 1e6 / queries, bruteNanos / 1e6 / queries);
+    }
+
+    /**
+     * 상품 4~6개로 된 스타일을 흉내 낸다. 스타일마다 하나의 주제에서 키워드, 카테고리, 브랜드를 주로 고른다.
+     */
+    private List<float[]> styleVectors(int size, long seed) {
+        Random random = new Random(seed);
+        int topics = Math.max(size / 200, 10);
+        List<List<String>> styles = new ArrayList<>(size);
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        StyleEmbedder embedder = new StyleEmbedder();
+        for (int i = 0; i < size; i++) {
+            int topic = random.nextInt(topics);
+            List<String> features = new ArrayList<>();
+            int products = 4 + random.nextInt(3);
+            for (int p = 0; p < products; p++) {
+                for (int k = 0; k < 3; k++) {
+                    int keyword = random.nextDouble() < 0.8 ? topic * 20 + random.nextInt(20) : random.nextInt(topics * 20);
+                    features.add("k:" + keyword);
+                }
+                features.add("c:" + random.nextInt(10) + "/" + random.nextInt(50));
+                features.add("b:" + (random.nextDouble() < 0.5 ? topic : random.nextInt(topics)));
+            }
+            embedder.countDocumentFrequency(features, documentFrequency);
+            styles.add(features);
+        }
+        return styles.stream()
+                .map(features -> embedder.embed(features, documentFrequency, size))
+                .toList();
+    }
+
+    private record Report(double recall, double hnswMillis, double bruteMillis) {
+    }
+}
@@ -16,6 +16,10 @@ import axios from "axios";
 import ResultModal from "@/app/worldcup/_components/ResultModal";
 import LoadingModal from "@/app/worldcup/_components/LoadingModal";
 
+// 스크립트 생성 작업이 끝났는지 1초마다, 최대 2분 동안 확인한다
+const SCRIPT_JOB_POLL_INTERVAL = 1000;
+const SCRIPT_JOB_POLL_LIMIT = 120;
+
 interface WorldCupProps {
   url: string | StaticImageData;
   index: number | null;
@@ -38,7 +42,7 @@ export default function WorldCupStartPage() {
 
   const [isLoading, setIsLoading] = useState(false);
   const [isResult, setIsResult] = useState(false);
-  const [isCreate, setIsCreate] = useState(false);
+  const [scriptJobId, setScriptJobId] = useState("");
 
   const [resultScript, setResultScript] = useState<Script>({
     id: 0,
@@ -454,21 +458,28 @@ export default function WorldCupStartPage() {
         }
       }
     ).then((res) => {
-      setIsCreate(true);
+      // 생성 요청은 작업 id 만 돌려준다. 스크립트는 작업이 끝난 뒤에 조회한다
+      setScriptJobId(res.data.result);
     })
   }
 
-  const getResultScript = () => {
-    axios.get(
-      `${API_URL}/api/scripts`,
-      {
-        headers: {
-          Authorization: `Bearer ${userToken.accessToken}`,
-        }
+  const getResultScript = async (jobId: string) => {
+    const headers = {Authorization: `Bearer ${userToken.accessToken}`};
+    for (let i = 0; i < SCRIPT_JOB_POLL_LIMIT; i++) {
+      const job = await axios.get(`${API_URL}/api/scripts/jobs/${jobId}`, {headers});
+      const {status, scriptId} = job.data.result;
+      if (status === "DONE") {
+        const script = await axios.get(`${API_URL}/api/scripts/${scriptId}`, {headers});
+        setResultScript({...script.data.result, id: scriptId});
+        return;
       }
-    ).then((res) => {
-      setResultScript(res.data.result.content[0])
-    })
+      if (status === "FAILED") {
+        break;
+      }
+      await UseSleep(SCRIPT_JOB_POLL_INTERVAL);
+    }
+    setIsLoading(false);
+    alert("스크립트를 만들지 못했습니다. 다시 시도해주세요.");
   }
 
   const goResult = async (data: WorldCupData) => {
@@ -489,10 +500,10 @@ export default function WorldCupStartPage() {
   }, [worldCupResult]);
 
   useEffect(() => {
-    if (isCreate) {
-      getResultScript();
+    if (scriptJobId) {
+      getResultScript(scriptJobId);
     }
-  }, [isCreate]);
+  }, [scriptJobId]);
 
   useEffect(() => {
     if (resultScript.id) {